@@ -0,0 +1,49 @@
+package org.sidoh.wwf_api.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sidoh.wwf_api.Bag;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for Bag. Every game starts by seeding a bag and then pulls every tile out of it over
+ * the course of the game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BagBenchmark {
+  private long seed = 0;
+
+  /**
+   * Seed a new bag and empty it one tile at a time
+   */
+  @Benchmark
+  public void pullAllTiles(Blackhole blackhole) {
+    Bag bag = new Bag(seed++);
+
+    while (bag.tilesLeft()) {
+      blackhole.consume(bag.pullTile());
+    }
+  }
+
+  /**
+   * Seed a new bag and list its tiles in pull order, as is done when building a GameState
+   */
+  @Benchmark
+  public Object remainingTilesInPullOrder() {
+    return new Bag(seed++).getRemainingTilesInPullOrder();
+  }
+}
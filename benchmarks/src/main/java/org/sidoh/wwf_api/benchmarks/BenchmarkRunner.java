@@ -0,0 +1,31 @@
+package org.sidoh.wwf_api.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for the benchmark jar. Accepts the usual JMH command line options, but always
+ * enables the GC profiler so that allocation rates (gc.alloc.rate.norm) are reported next to
+ * timings.
+ *
+ * <pre>
+ *   java -jar target/benchmarks.jar                   # everything
+ *   java -jar target/benchmarks.jar BoardBenchmark    # a single class
+ *   java -jar target/benchmarks.jar -p game=synthetic # a single input
+ * </pre>
+ */
+public class BenchmarkRunner {
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    CommandLineOptions commandLine = new CommandLineOptions(args);
+
+    new Runner(new OptionsBuilder()
+      .parent(commandLine)
+      .addProfiler(GCProfiler.class)
+      .build())
+      .run();
+  }
+}
@@ -0,0 +1,90 @@
+package org.sidoh.wwf_api.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sidoh.wwf_api.game_state.GameStateHelper;
+import org.sidoh.wwf_api.game_state.Move;
+import org.sidoh.wwf_api.game_state.WordsWithFriendsBoard;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.types.api.MoveData;
+import org.sidoh.wwf_api.types.api.MoveType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for WordsWithFriendsBoard.playWord, both placing tiles (move) and only scoring them
+ * (scoreMove).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+  @Param({"4673715966", "4683202983", "4685541559", Fixtures.SYNTHETIC})
+  public String game;
+
+  private List<Move> plays;
+  private WordsWithFriendsBoard midGameBoard;
+  private Move midGamePlay;
+
+  @Setup
+  public void setup() {
+    GameStateHelper stateHelper = GameStateHelper.getInstance();
+    GameState state = Fixtures.loadGame(game);
+    WordsWithFriendsBoard board = new WordsWithFriendsBoard();
+
+    plays = new ArrayList<Move>();
+
+    for (MoveData moveData : state.getAllMoves()) {
+      if (moveData.getMoveType() == MoveType.PLAY) {
+        Move move = stateHelper.buildGameStateMove(moveData, board);
+        board.move(move);
+        plays.add(move);
+      }
+    }
+
+    int middle = plays.size() / 2;
+    midGameBoard = new WordsWithFriendsBoard();
+
+    for (Move move : plays.subList(0, middle)) {
+      midGameBoard.move(move.clone());
+    }
+
+    midGamePlay = plays.get(middle);
+  }
+
+  /**
+   * Place and score every play in the game on an empty board
+   */
+  @Benchmark
+  public WordsWithFriendsBoard replayGame() {
+    WordsWithFriendsBoard board = new WordsWithFriendsBoard();
+
+    for (Move move : plays) {
+      board.move(move);
+    }
+
+    return board;
+  }
+
+  /**
+   * Score a single play halfway through the game without placing it
+   */
+  @Benchmark
+  public Move.Result scoreMove() {
+    return midGameBoard.scoreMove(midGamePlay);
+  }
+}
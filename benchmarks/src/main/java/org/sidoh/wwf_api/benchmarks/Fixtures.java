@@ -0,0 +1,154 @@
+package org.sidoh.wwf_api.benchmarks;
+
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+import org.apache.thrift.TException;
+import org.sidoh.wwf_api.simulation.RandomPlacementPolicy;
+import org.sidoh.wwf_api.simulation.SelfPlayDriver;
+import org.sidoh.wwf_api.types.api.ChatMessage;
+import org.sidoh.wwf_api.types.api.GameMeta;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.types.api.MoveData;
+import org.sidoh.wwf_api.types.api.MoveType;
+import org.sidoh.wwf_api.types.api.User;
+import org.sidoh.wwf_api.util.ThriftSerializationHelper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Games used as benchmark inputs. Named games are the binary fixtures from the main project's
+ * test resources, which are bundled into the benchmark jar. "synthetic" is a game played by
+ * SelfPlayDriver, which exercises SWAPs and longer games than the fixtures do.
+ */
+public class Fixtures {
+  public static final String SYNTHETIC = "synthetic";
+
+  private static final long SYNTHETIC_SEED = 42;
+
+  private Fixtures() { }
+
+  /**
+   * @param name the id of a fixture (e.g., "4673715966") or SYNTHETIC
+   * @return a fresh copy of the game
+   */
+  public static GameState loadGame(String name) {
+    if (SYNTHETIC.equals(name)) {
+      return new SelfPlayDriver(new RandomPlacementPolicy(), new RandomPlacementPolicy()).playGame(SYNTHETIC_SEED);
+    }
+
+    String resource = String.format("/game_states/%s.bin", name);
+    InputStream stream = Fixtures.class.getResourceAsStream(resource);
+
+    if (stream == null) {
+      throw new IllegalArgumentException("No such fixture: " + resource);
+    }
+
+    try {
+      try {
+        return ThriftSerializationHelper.getInstance().deserialize(stream, new GameState());
+      }
+      finally {
+        stream.close();
+      }
+    }
+    catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    catch (TException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Render a game the way the WWF API would return it from /games/[id]. This is the inverse of
+   * ResponseParser.parseGameState as far as it's needed to benchmark the parser.
+   *
+   * @param state
+   * @return
+   */
+  public static String toResponseJson(GameState state) {
+    GameMeta meta = state.getMeta();
+    JSONObject game = new JSONObject();
+
+    game.put("id", state.getId());
+    game.put("created_at", meta.getCreatedAt());
+    game.put("created_by_user_id", meta.getCreatedByUserId());
+    game.put("is_matchmaking", meta.isMatchmaking());
+    game.put("is_over", meta.isOver());
+    game.put("random_seed", meta.getRandomSeed());
+    game.put("opponent_present", meta.isOpponentPresent());
+    game.put("current_move_user_id", meta.getCurrentMoveUserId());
+    game.put("unread_chat_ids", new JSONArray());
+
+    JSONArray users = new JSONArray();
+    for (User user : meta.getUsersById().values()) {
+      JSONObject userJson = new JSONObject();
+      userJson.put("id", user.getId());
+      userJson.put("name", user.getName());
+      users.add(userJson);
+    }
+    game.put("users", users);
+
+    JSONArray moves = new JSONArray();
+    for (MoveData move : state.getAllMoves()) {
+      moves.add(toJson(move));
+    }
+    game.put("moves", moves);
+
+    JSONArray chats = new JSONArray();
+    if (state.isSetChatMessages()) {
+      for (ChatMessage chat : state.getChatMessages()) {
+        JSONObject chatJson = new JSONObject();
+        chatJson.put("code", chat.getCode());
+        chatJson.put("created_at", chat.getCreatedAt());
+        chatJson.put("game_id", chat.getGameId());
+        chatJson.put("id", chat.getId());
+        chatJson.put("message", chat.getMessage());
+        chatJson.put("user_id", chat.getUserId());
+        chats.add(chatJson);
+      }
+    }
+    game.put("chat_messages", chats);
+
+    JSONObject response = new JSONObject();
+    response.put("game", game);
+
+    return response.toJSONString();
+  }
+
+  private static JSONObject toJson(MoveData move) {
+    JSONObject json = new JSONObject();
+
+    json.put("board_checksum", move.getBoardChecksum());
+    json.put("created_at", move.getCreatedAt());
+    json.put("game_id", move.getGameId());
+    json.put("id", move.getId());
+    json.put("move_index", move.getMoveIndex());
+    json.put("move_type", MoveType.PLAY.name().toLowerCase());
+    json.put("points", move.getPoints());
+    json.put("promoted", move.getPromoted());
+    json.put("text", move.isSetText() ? move.getText() : "(null)");
+
+    JSONArray words = new JSONArray();
+    if (move.isSetWords()) {
+      words.addAll(move.getWords());
+    }
+    json.put("words", words);
+
+    if (move.getMoveType() == MoveType.PLAY && move.isSetPlayStartPosition()) {
+      json.put("from_x", move.getPlayStartPosition().getX());
+      json.put("from_y", move.getPlayStartPosition().getY());
+      json.put("to_x", move.getPlayEndPosition().getX());
+      json.put("to_y", move.getPlayEndPosition().getY());
+    }
+    else {
+      json.put("from_x", move.getMoveType() == MoveType.SWAP ? 101 : 0);
+      json.put("from_y", 0);
+      json.put("to_x", 0);
+      json.put("to_y", 0);
+    }
+
+    return json;
+  }
+}
@@ -0,0 +1,45 @@
+package org.sidoh.wwf_api.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sidoh.wwf_api.parser.ResponseParser;
+import org.sidoh.wwf_api.types.api.GameState;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for ResponseParser.parseGameState on JSON rendered from the fixtures.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseParserBenchmark {
+  @Param({"4673715966", "4683202983", "4685541559", Fixtures.SYNTHETIC})
+  public String game;
+
+  private final ResponseParser parser = new ResponseParser();
+  private String json;
+
+  @Setup
+  public void setup() {
+    json = Fixtures.toResponseJson(Fixtures.loadGame(game));
+  }
+
+  @Benchmark
+  public GameState parseGameState() {
+    return parser.parseGameState(new StringReader(json));
+  }
+}
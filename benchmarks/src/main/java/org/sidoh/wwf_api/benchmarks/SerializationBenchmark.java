@@ -0,0 +1,102 @@
+package org.sidoh.wwf_api.benchmarks;
+
+import org.apache.thrift.TException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.util.ThriftSerializationHelper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for ThriftSerializationHelper round trips of fully reconstructed game states. The
+ * concurrent benchmarks share the singleton helper between threads, the way ApiServer's workers do,
+ * so they show whether its per-thread buffers scale.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+  @Param({"4673715966", "4683202983", "4685541559", Fixtures.SYNTHETIC})
+  public String game;
+
+  private final ThriftSerializationHelper serializer = ThriftSerializationHelper.getInstance();
+  private GameState state;
+  private byte[] serialized;
+
+  @Setup
+  public void setup() throws TException {
+    state = Fixtures.loadGame(game);
+    serialized = serializer.serialize(state);
+  }
+
+  @Benchmark
+  public byte[] serialize() throws TException {
+    return serializer.serialize(state);
+  }
+
+  @Benchmark
+  public GameState deserialize() throws IOException, TException {
+    return serializer.deserialize(new ByteArrayInputStream(serialized), new GameState());
+  }
+
+  @Benchmark
+  public GameState roundTrip() throws IOException, TException {
+    return serializer.deserialize(new ByteArrayInputStream(serializer.serialize(state)), new GameState());
+  }
+
+  /**
+   * Round trips on as many threads as there are processors. Compare with roundTrip.
+   */
+  @Benchmark
+  @Threads(Threads.MAX)
+  public GameState concurrentRoundTrip(ThreadState thread) throws TException {
+    return serializer.deserialize(serializer.serialize(thread.state), new GameState());
+  }
+
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(2)
+  public byte[] mixedSerialize(ThreadState thread) throws TException {
+    return serializer.serialize(thread.state);
+  }
+
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(2)
+  public GameState mixedDeserialize(ThreadState thread) throws TException {
+    return serializer.deserialize(thread.serialized, new GameState());
+  }
+
+  /**
+   * Each thread works on its own copy of the game
+   */
+  @State(Scope.Thread)
+  public static class ThreadState {
+    private GameState state;
+    private byte[] serialized;
+
+    @Setup
+    public void setup(SerializationBenchmark benchmark) {
+      state = benchmark.state.deepCopy();
+      serialized = benchmark.serialized.clone();
+    }
+  }
+}
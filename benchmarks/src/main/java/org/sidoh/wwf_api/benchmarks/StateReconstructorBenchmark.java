@@ -0,0 +1,55 @@
+package org.sidoh.wwf_api.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sidoh.wwf_api.StateReconstructor;
+import org.sidoh.wwf_api.types.api.GameState;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for StateReconstructor.reconstructState, which runs for every game fetched from the
+ * API.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StateReconstructorBenchmark {
+  @Param({"4673715966", "4683202983", "4685541559", Fixtures.SYNTHETIC})
+  public String game;
+
+  private final StateReconstructor reconstructor = new StateReconstructor();
+  private GameState state;
+
+  @Setup
+  public void setup() {
+    state = Fixtures.loadGame(game);
+
+    // Leave only what the API returns
+    state.unsetRacks();
+    state.unsetBoard();
+    state.unsetScores();
+    state.unsetRemainingTiles();
+  }
+
+  /**
+   * reconstructState overwrites the fields it computes, so the same state can be reused between
+   * invocations.
+   */
+  @Benchmark
+  public GameState reconstructState() {
+    return reconstructor.reconstructState(state);
+  }
+}
@@ -0,0 +1,62 @@
+package org.sidoh.wwf_api;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+import com.google.common.hash.Hashing;
+
+/**
+ * An oauth token along with when it stops working
+ */
+public class AccessToken {
+  /**
+   * Expiry of tokens that Facebook didn't give an expiry for
+   */
+  public static final long NEVER_EXPIRES = Long.MAX_VALUE;
+
+  private final String token;
+  private final long expiresAtMillis;
+
+  /**
+   * @param token
+   * @param expiresAtMillis when the token expires, in milliseconds since the epoch
+   */
+  public AccessToken(String token, long expiresAtMillis) {
+    this.token = Preconditions.checkNotNull(token, "token");
+    this.expiresAtMillis = expiresAtMillis;
+  }
+
+  public String getToken() {
+    return token;
+  }
+
+  public long getExpiresAtMillis() {
+    return expiresAtMillis;
+  }
+
+  /**
+   * @param nowMillis
+   * @return true if the token has expired or will within marginMillis
+   */
+  public boolean expiresWithin(long nowMillis, long marginMillis) {
+    return expiresAtMillis != NEVER_EXPIRES && nowMillis + marginMillis >= expiresAtMillis;
+  }
+
+  /**
+   * Identify a token in logs without revealing it
+   *
+   * @param token
+   * @return the first few hex digits of the token's SHA-256 hash
+   */
+  public static String fingerprint(String token) {
+    if (token == null) {
+      return "null";
+    }
+
+    return "token:" + Hashing.sha256().hashString(token, Charsets.UTF_8).toString().substring(0, 8);
+  }
+
+  @Override
+  public String toString() {
+    return "AccessToken(expires at " + (expiresAtMillis == NEVER_EXPIRES ? "never" : expiresAtMillis) + ")";
+  }
+}
@@ -5,11 +5,13 @@ import com.gargoylesoftware.htmlunit.Page;
 import com.gargoylesoftware.htmlunit.WebClient;
 import com.gargoylesoftware.htmlunit.html.HtmlForm;
 import com.gargoylesoftware.htmlunit.html.HtmlPage;
+import com.google.common.base.CharMatcher;
+import com.google.common.base.Charsets;
+import com.google.common.io.BaseEncoding;
 import net.minidev.json.JSONObject;
 import net.minidev.json.JSONValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import sun.misc.BASE64Decoder;
 
 import java.io.Console;
 import java.io.IOException;
@@ -24,7 +26,11 @@ import java.util.regex.Pattern;
  */
 public class AccessTokenRetriever {
   private static final Logger LOG = LoggerFactory.getLogger(AccessTokenRetriever.class);
-  private static final BASE64Decoder BASE_64_DECODER = new BASE64Decoder();
+
+  /**
+   * Signed requests are encoded with URL-safe base64, without padding
+   */
+  private static final BaseEncoding SIGNED_REQUEST_ENCODING = BaseEncoding.base64Url().omitPadding();
 
   private static final String LOGIN_FORM_ID = "login_form";
   private static final String LOGIN_FORM_SUBMIT_BUTTON_VALUE = "Log In";
@@ -36,15 +42,22 @@ public class AccessTokenRetriever {
     private final String password;
     private final WebClient client;
 
-    private Context(String username, String password) {
-      java.util.logging.Logger.getLogger("com.gargoylesoftware.htmlunit").setLevel(Level.OFF);
-
+    private Context(String username, String password, WebClient client) {
       this.username = username;
       this.password = password;
-      this.client = new WebClient(BrowserVersion.FIREFOX_2);
+      this.client = client;
     }
   }
 
+  /**
+   * @return a new browser to log in with. these are expensive, so reuse them where possible.
+   */
+  public WebClient createClient() {
+    java.util.logging.Logger.getLogger("com.gargoylesoftware.htmlunit").setLevel(Level.OFF);
+
+    return new WebClient(BrowserVersion.FIREFOX_2);
+  }
+
   /**
    * Retrieves access token by prompting user for facebook login credentials and calling
    * getAccessToken(String, String).
@@ -67,8 +80,38 @@ public class AccessTokenRetriever {
    * @return access token for the user. if user hasn't authorized WWF, this will return null.
    */
   public String getAccessToken(String username, String password) throws IOException {
-    Context callContext = new Context(username, password);
-    WebClient client = callContext.client;
+    AccessToken token = retrieve(username, password);
+
+    return token == null ? null : token.getToken();
+  }
+
+  /**
+   * Log in with a new browser and retrieve the access token along with its expiry
+   *
+   * @param username
+   * @param password
+   * @return the token, or null if the user hasn't authorized WWF
+   * @throws IOException
+   */
+  public AccessToken retrieve(String username, String password) throws IOException {
+    return retrieve(createClient(), username, password);
+  }
+
+  /**
+   * Log in with an existing browser and retrieve the access token along with its expiry. The
+   * browser's cookies are cleared first, so it can be reused for different users, but it shouldn't
+   * be used by more than one thread at a time.
+   *
+   * @param client
+   * @param username
+   * @param password
+   * @return the token, or null if the user hasn't authorized WWF
+   * @throws IOException
+   */
+  public AccessToken retrieve(WebClient client, String username, String password) throws IOException {
+    Context callContext = new Context(username, password, client);
+
+    client.getWebConnection().getState().clearCookies();
 
     LOG.info("Logging into facebook...");
 
@@ -78,10 +121,7 @@ public class AccessTokenRetriever {
       HtmlPage result = (HtmlPage) client.getPage("https://apps.facebook.com/wordswithfriends/");
       Matcher matcher = SIGNED_REQUEST_REGEX.matcher(result.asXml());
       if ( matcher.find() ) {
-        JSONObject signedObject = (JSONObject) JSONValue.parse(new String(BASE_64_DECODER.decodeBuffer(matcher.group(1))));
-        String accessToken = (String)signedObject.get("oauth_token");
-
-        return accessToken;
+        return parseSignedRequest(decodeSignedRequestPayload(matcher.group(1)));
       }
       else {
         throw new RuntimeException("Couldn't find signed request in source");
@@ -92,6 +132,36 @@ public class AccessTokenRetriever {
     }
   }
 
+  /**
+   * @param encoded the part of a signed request after the signature
+   * @return the decoded JSON payload
+   */
+  protected static String decodeSignedRequestPayload(String encoded) {
+    return new String(SIGNED_REQUEST_ENCODING.decode(CharMatcher.is('=').trimTrailingFrom(encoded)), Charsets.UTF_8);
+  }
+
+  /**
+   * @param payload the decoded JSON payload of a signed request
+   * @return the oauth token and its expiry, or null if there's no token (the signed request only
+   * has one once the user has authorized WWF). Facebook gives the expiry in seconds, and 0 (or no
+   * expiry at all) for tokens that don't expire.
+   */
+  protected static AccessToken parseSignedRequest(String payload) {
+    JSONObject signedObject = (JSONObject) JSONValue.parse(payload);
+    String token = (String) signedObject.get("oauth_token");
+
+    if (token == null || token.isEmpty()) {
+      return null;
+    }
+
+    Number expires = (Number) signedObject.get("expires");
+    long expiresAtMillis = (expires == null || expires.longValue() == 0)
+      ? AccessToken.NEVER_EXPIRES
+      : expires.longValue() * 1000L;
+
+    return new AccessToken(token, expiresAtMillis);
+  }
+
   /**
    * Login to Facebook by finding the login form on the front page, filling it out, and
    * submitting it.
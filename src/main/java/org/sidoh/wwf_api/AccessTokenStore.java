@@ -0,0 +1,408 @@
+package org.sidoh.wwf_api;
+
+import com.gargoylesoftware.htmlunit.WebClient;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Keeps access tokens for many Facebook accounts so that logging in (which takes seconds and a
+ * whole headless browser) only happens when a token is about to expire. Tokens are kept in memory
+ * and persisted to a file along with their expiry, so they survive restarts.
+ * </p>
+ * <p>
+ * Accounts are registered with their credentials. Each registered account's token is refreshed in
+ * the background some time before it expires. Refreshes share a small pool of browsers that are
+ * reused from one login to the next, and at most that many logins run at once. getAccessToken
+ * returns a cached token immediately, and only logs in on the calling thread if there's no usable
+ * token yet.
+ * </p>
+ * <p>
+ * Credentials are only kept in memory. The token file holds live tokens, so it's made readable
+ * only by its owner. Thread-safe.
+ * </p>
+ */
+public class AccessTokenStore implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(AccessTokenStore.class);
+
+  public static final int DEFAULT_MAX_CLIENTS = 2;
+  public static final long DEFAULT_REFRESH_MARGIN_MILLIS = 10 * 60 * 1000;
+
+  /**
+   * How long to wait before trying again after a failed background refresh
+   */
+  public static final long RETRY_DELAY_MILLIS = 60 * 1000;
+
+  /**
+   * How long to wait for a busy browser before checking whether one can be created instead
+   */
+  private static final long CLIENT_WAIT_MILLIS = 1000;
+
+  private final File file;
+  private final AccessTokenRetriever retriever;
+  private final int maxClients;
+  private final long refreshMarginMillis;
+  private final ScheduledExecutorService refresher;
+  private final BlockingQueue<WebClient> clients = new LinkedBlockingQueue<WebClient>();
+  private final AtomicInteger numClients = new AtomicInteger();
+  private final ConcurrentMap<String, Credentials> credentials = new ConcurrentHashMap<String, Credentials>();
+  private final ConcurrentMap<String, AccessToken> tokens = new ConcurrentHashMap<String, AccessToken>();
+  private final ConcurrentMap<String, ScheduledFuture<?>> refreshes = new ConcurrentHashMap<String, ScheduledFuture<?>>();
+
+  /**
+   * @param file where tokens are persisted. loaded if it exists.
+   * @throws IOException if the file exists but can't be read
+   */
+  public AccessTokenStore(File file) throws IOException {
+    this(file, new AccessTokenRetriever(), DEFAULT_MAX_CLIENTS, DEFAULT_REFRESH_MARGIN_MILLIS);
+  }
+
+  /**
+   * @param file where tokens are persisted, or null to only keep them in memory
+   * @param retriever logs in to get tokens
+   * @param maxClients maximum number of browsers, and so of logins running at once
+   * @param refreshMarginMillis refresh tokens this long before they expire
+   * @throws IOException if the file exists but can't be read
+   */
+  public AccessTokenStore(File file, AccessTokenRetriever retriever, int maxClients, long refreshMarginMillis)
+    throws IOException {
+    this.file = file;
+    this.retriever = retriever;
+    this.maxClients = maxClients;
+    this.refreshMarginMillis = refreshMarginMillis;
+    this.refresher = Executors.newScheduledThreadPool(maxClients,
+      new ThreadFactoryBuilder().setNameFormat("token-refresher-%d").setDaemon(true).build());
+
+    if (file != null && file.exists()) {
+      load();
+    }
+  }
+
+  /**
+   * Register an account's credentials and start keeping its token fresh. A persisted token that's
+   * still good is used until it's due for a refresh.
+   *
+   * @param username
+   * @param password
+   */
+  public void register(String username, String password) {
+    credentials.put(username, new Credentials(username, password));
+    AccessToken token = tokens.get(username);
+
+    scheduleRefresh(username, token == null ? 0 : getRefreshDelay(token));
+  }
+
+  /**
+   * Stop refreshing an account's token and forget it
+   *
+   * @param username
+   * @throws IOException if the token file can't be written
+   */
+  public void unregister(String username) throws IOException {
+    Credentials account = credentials.remove(username);
+
+    if (account != null) {
+      // Wait for a refresh that's in progress, so it can't store the token after it's removed
+      synchronized (account) {
+        tokens.remove(username);
+      }
+    }
+    else {
+      tokens.remove(username);
+    }
+
+    ScheduledFuture<?> refresh = refreshes.remove(username);
+    if (refresh != null) {
+      refresh.cancel(false);
+    }
+
+    save();
+  }
+
+  /**
+   * @param username
+   * @return a token for the account. cached tokens are returned right away. if there's no token
+   * that hasn't expired, this logs in on the calling thread.
+   * @throws IOException if logging in fails
+   * @throws IllegalArgumentException if there's no usable token and the account isn't registered
+   */
+  public String getAccessToken(String username) throws IOException {
+    AccessToken token = tokens.get(username);
+
+    if (token != null && !token.expiresWithin(currentTimeMillis(), 0)) {
+      return token.getToken();
+    }
+
+    return refresh(username, 0).getToken();
+  }
+
+  /**
+   * @param username
+   * @param provider
+   * @return a provider for the account using its current token
+   * @throws IOException
+   */
+  public StatefulApiProvider getProvider(String username, ApiProvider provider) throws IOException {
+    return new StatefulApiProvider(getAccessToken(username), provider);
+  }
+
+  /**
+   * @param username
+   * @return the cached token and its expiry, or null if there isn't one
+   */
+  public AccessToken getCachedToken(String username) {
+    return tokens.get(username);
+  }
+
+  /**
+   * Stop refreshing tokens
+   */
+  @Override
+  public void close() {
+    refresher.shutdownNow();
+  }
+
+  protected long currentTimeMillis() {
+    return System.currentTimeMillis();
+  }
+
+  /**
+   * Log in and store the new token, unless another thread already got one that's good for longer
+   * than marginMillis
+   *
+   * @param username
+   * @param marginMillis
+   * @return
+   * @throws IOException
+   */
+  protected AccessToken refresh(String username, long marginMillis) throws IOException {
+    Credentials account = credentials.get(username);
+
+    if (account == null) {
+      throw new IllegalArgumentException("no credentials registered for " + username);
+    }
+
+    // One login per account at a time. Whoever waited behind it can use its token.
+    synchronized (account) {
+      AccessToken token = tokens.get(username);
+
+      if (token != null && !token.expiresWithin(currentTimeMillis(), marginMillis)) {
+        return token;
+      }
+
+      WebClient client = borrowClient();
+      try {
+        token = retriever.retrieve(client, account.username, account.password);
+      }
+      finally {
+        clients.add(client);
+      }
+
+      if (token == null) {
+        throw new IOException("no access token for " + username + ". has the account authorized WWF?");
+      }
+
+      // The account may have been unregistered (or registered again) while logging in
+      if (credentials.get(username) == account) {
+        tokens.put(username, token);
+        save();
+
+        LOG.info("refreshed access token for {}, {}", username, token);
+      }
+
+      return token;
+    }
+  }
+
+  /**
+   * @param username
+   * @param delayMillis if negative, the token doesn't need refreshing
+   */
+  private void scheduleRefresh(final String username, long delayMillis) {
+    if (delayMillis < 0 || !credentials.containsKey(username) || refresher.isShutdown()) {
+      return;
+    }
+
+    ScheduledFuture<?> refresh = refresher.schedule(new Runnable() {
+      @Override
+      public void run() {
+        if (!credentials.containsKey(username)) {
+          return;
+        }
+
+        try {
+          AccessToken token = refresh(username, refreshMarginMillis);
+          scheduleRefresh(username, getRefreshDelay(token));
+        }
+        catch (Exception e) {
+          LOG.warn("couldn't refresh access token for " + username + ". will retry.", e);
+          scheduleRefresh(username, RETRY_DELAY_MILLIS);
+        }
+      }
+    }, delayMillis, TimeUnit.MILLISECONDS);
+
+    ScheduledFuture<?> previous = refreshes.put(username, refresh);
+    if (previous != null && previous != refresh) {
+      previous.cancel(false);
+    }
+  }
+
+  /**
+   * @param token
+   * @return how long to wait before refreshing the token, or -1 if it never expires
+   */
+  private long getRefreshDelay(AccessToken token) {
+    if (token.getExpiresAtMillis() == AccessToken.NEVER_EXPIRES) {
+      return -1;
+    }
+
+    return Math.max(0, token.getExpiresAtMillis() - refreshMarginMillis - currentTimeMillis());
+  }
+
+  /**
+   * @return an idle browser, creating one if there are fewer than maxClients. waits for one to be
+   * returned otherwise.
+   */
+  private WebClient borrowClient() throws IOException {
+    while (true) {
+      WebClient client = clients.poll();
+
+      if (client != null) {
+        return client;
+      }
+
+      int created = numClients.get();
+
+      if (created < maxClients) {
+        if (numClients.compareAndSet(created, created + 1)) {
+          return createClient();
+        }
+
+        continue;
+      }
+
+      // Waits a bounded time, since a slot can also free up when creating a browser fails
+      try {
+        client = clients.poll(CLIENT_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("interrupted waiting for a browser");
+      }
+
+      if (client != null) {
+        return client;
+      }
+    }
+  }
+
+  /**
+   * Create a browser for a slot that's already been counted in numClients. The slot is given back
+   * if that fails.
+   *
+   * @return
+   */
+  private WebClient createClient() {
+    boolean created = false;
+
+    try {
+      WebClient client = retriever.createClient();
+      created = true;
+      return client;
+    }
+    finally {
+      if (!created) {
+        numClients.decrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * Tokens are stored as properties of the form username=expiresAtMillis token
+   */
+  private synchronized void load() throws IOException {
+    Properties properties = new Properties();
+    InputStream in = new FileInputStream(file);
+
+    try {
+      properties.load(in);
+    }
+    finally {
+      in.close();
+    }
+
+    for (String username : properties.stringPropertyNames()) {
+      String[] parts = properties.getProperty(username).split(" ", 2);
+
+      try {
+        tokens.put(username, new AccessToken(parts[1], Long.parseLong(parts[0])));
+      }
+      catch (RuntimeException e) {
+        LOG.warn("ignoring malformed token for {} in {}", username, file);
+      }
+    }
+
+    LOG.info("loaded {} access tokens from {}", tokens.size(), file);
+  }
+
+  /**
+   * Write every token to a temporary file and move it into place, so a crash never leaves a
+   * partially written file behind
+   */
+  private synchronized void save() throws IOException {
+    if (file == null) {
+      return;
+    }
+
+    Properties properties = new Properties();
+    for (Map.Entry<String, AccessToken> entry : tokens.entrySet()) {
+      properties.setProperty(entry.getKey(), entry.getValue().getExpiresAtMillis() + " " + entry.getValue().getToken());
+    }
+
+    File temp = new File(file.getPath() + ".tmp");
+    OutputStream out = new FileOutputStream(temp);
+
+    try {
+      temp.setReadable(false, false);
+      temp.setReadable(true, true);
+      properties.store(out, "access tokens");
+    }
+    finally {
+      out.close();
+    }
+
+    if (!temp.renameTo(file) && !(file.delete() && temp.renameTo(file))) {
+      throw new IOException("couldn't replace " + file);
+    }
+  }
+
+  private static class Credentials {
+    private final String username;
+    private final String password;
+
+    public Credentials(String username, String password) {
+      this.username = username;
+      this.password = password;
+    }
+  }
+}
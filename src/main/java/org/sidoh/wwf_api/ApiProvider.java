@@ -2,6 +2,8 @@ package org.sidoh.wwf_api;
 
 import com.google.common.collect.Sets;
 import org.sidoh.wwf_api.game_state.WordsWithFriendsBoard;
+import org.sidoh.wwf_api.metrics.MetricsRecorder;
+import org.sidoh.wwf_api.metrics.NoopMetricsRecorder;
 import org.sidoh.wwf_api.parser.ParserException;
 import org.sidoh.wwf_api.parser.ResponseParser;
 import org.sidoh.wwf_api.types.api.ChatMessage;
@@ -28,12 +30,50 @@ public class ApiProvider {
   private final RequestGenerator requestGenerator;
 
   public ApiProvider() {
-    this.comm = new Communication();
-    this.parser = new ResponseParser();
-    this.stateReconstructor = new StateReconstructor();
+    this(NoopMetricsRecorder.getInstance());
+  }
+
+  /**
+   * @param metrics receives timings for every request, parse and state reconstruction. See
+   *                HistogramMetricsRecorder.
+   */
+  public ApiProvider(MetricsRecorder metrics) {
+    this(metrics, 0);
+  }
+
+  /**
+   * @param metrics receives timings for every request, parse and state reconstruction
+   * @param timeoutMillis connect and read timeout for requests to Zynga. 0 means no timeout.
+   */
+  public ApiProvider(MetricsRecorder metrics, int timeoutMillis) {
+    this(metrics, new Communication(metrics, timeoutMillis));
+  }
+
+  /**
+   * @param metrics receives timings for every parse and state reconstruction
+   * @param comm used to make requests. See Communication for rate limiting and retries.
+   */
+  public ApiProvider(MetricsRecorder metrics, Communication comm) {
+    this.comm = comm;
+    this.parser = new ResponseParser(metrics);
+    this.stateReconstructor = new StateReconstructor(metrics);
     this.requestGenerator = new RequestGenerator();
   }
 
+  /**
+   * For providers that wrap another one. Shares the wrapped provider's client and parser rather
+   * than building a second set, so anything a subclass doesn't override still goes to the same
+   * upstream as the wrapped provider.
+   *
+   * @param delegate
+   */
+  protected ApiProvider(ApiProvider delegate) {
+    this.comm = delegate.comm;
+    this.parser = delegate.parser;
+    this.stateReconstructor = delegate.stateReconstructor;
+    this.requestGenerator = delegate.requestGenerator;
+  }
+
   /**
    * Return a list of chat messages assigned to a particular game
    *
@@ -0,0 +1,42 @@
+package org.sidoh.wwf_api;
+
+/**
+ * Thrown when Zynga responds to a request with an error status code. The status code and whatever
+ * Zynga sent back in the body are kept so callers can tell an expired token from a missing game
+ * from a server that's having a bad day.
+ */
+public class ApiResponseException extends ApiRequestException {
+  private final int statusCode;
+  private final String body;
+
+  public ApiResponseException(int statusCode, String body) {
+    super("Zynga responded with HTTP " + statusCode + (body == null ? "" : ": " + body));
+    this.statusCode = statusCode;
+    this.body = body;
+  }
+
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  /**
+   * @return the body of the response, or null if there wasn't one
+   */
+  public String getBody() {
+    return body;
+  }
+
+  /**
+   * @return true if the access token was rejected. retrying won't help.
+   */
+  public boolean isUnauthorized() {
+    return statusCode == 401 || statusCode == 403;
+  }
+
+  /**
+   * @return true if the same request might succeed later (server errors and throttling)
+   */
+  public boolean isRetryable() {
+    return statusCode >= 500;
+  }
+}
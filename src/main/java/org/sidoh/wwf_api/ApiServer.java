@@ -3,68 +3,119 @@ package org.sidoh.wwf_api;
 import org.apache.thrift.TException;
 import org.apache.thrift.server.THsHaServer;
 import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TFramedTransport;
 import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.apache.thrift.transport.TServerSocket;
 import org.apache.thrift.transport.TTransportException;
+import org.sidoh.wwf_api.game_state.GameStateHelper;
+import org.sidoh.wwf_api.game_state.Move;
+import org.sidoh.wwf_api.game_state.PlayFinder;
+import org.sidoh.wwf_api.metrics.NoopMetricsRecorder;
+import org.sidoh.wwf_api.polling.ActivityPollPolicy;
+import org.sidoh.wwf_api.polling.PollScheduler;
+import org.sidoh.wwf_api.ratelimit.RequestRateLimiter;
 import org.sidoh.wwf_api.types.api.ChatMessage;
+import org.sidoh.wwf_api.types.api.DictionaryLookupResult;
 import org.sidoh.wwf_api.types.api.GameIndex;
 import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.types.api.GameStateResult;
 import org.sidoh.wwf_api.types.api.GameType;
+import org.sidoh.wwf_api.types.api.GameUpdates;
 import org.sidoh.wwf_api.types.api.MoveSubmission;
+import org.sidoh.wwf_api.types.api.MoveType;
 import org.sidoh.wwf_api.types.api.NewGameParams;
+import org.sidoh.wwf_api.types.api.ScoredPlay;
+import org.sidoh.wwf_api.types.api.UnseenChatsResult;
 import org.sidoh.wwf_api.types.api.WwfApi;
+import org.sidoh.wwf_api.types.game_state.Tile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public class ApiServer {
   private static final Logger LOG = LoggerFactory.getLogger(ApiServer.class);
 
-  private static class WwfApiHandler implements WwfApi.Iface {
-    private static final ApiProvider PROVIDER = new ApiProvider();
+  static class WwfApiHandler implements WwfApi.Iface {
+    private static final GameStateHelper stateHelper = GameStateHelper.getInstance();
+
+    private final ApiProvider provider;
+    private final ExecutorService batchExecutor;
+    private final GameUpdatePoller updatePoller;
+    private final long maxWaitMillis;
+
+    /**
+     * @param provider provider used to make upstream calls
+     * @param batchExecutor runs the individual upstream calls that make up a batch request. This
+     *                      should not be the server's worker pool, since the worker handling the
+     *                      batch blocks until all of them finish.
+     * @param updatePoller tracks game updates for waitForGameUpdates
+     * @param maxWaitMillis longest a waitForGameUpdates call can block a worker
+     */
+    public WwfApiHandler(ApiProvider provider, ExecutorService batchExecutor, GameUpdatePoller updatePoller, long maxWaitMillis) {
+      this.provider = provider;
+      this.batchExecutor = batchExecutor;
+      this.updatePoller = updatePoller;
+      this.maxWaitMillis = maxWaitMillis;
+    }
 
     @Override
     public List<ChatMessage> getUnseenChats(String accessToken, long gameId) throws TException {
-      return PROVIDER.getUnreadChats(accessToken, gameId);
+      return provider.getUnreadChats(accessToken, gameId);
     }
 
     @Override
     public List<String> dictionaryLookup(String accessToken, List<String> words) throws TException {
-      return PROVIDER.dictionaryLookup(accessToken, words);
+      return provider.dictionaryLookup(accessToken, words);
     }
 
     @Override
     public GameIndex getGameIndex(String accessToken) throws TException {
-      return PROVIDER.getGameIndex(accessToken);
+      return provider.getGameIndex(accessToken);
     }
 
     @Override
     public GameIndex getGamesWithUpdates(String accessToken, int timestamp) throws TException {
-      return PROVIDER.getGamesWithUpdates(accessToken, timestamp);
+      return provider.getGamesWithUpdates(accessToken, timestamp);
     }
 
     @Override
     public GameState getGameState(String accessToken, long gameId) throws TException {
-      return PROVIDER.getGameState(accessToken, gameId);
+      return provider.getGameState(accessToken, gameId);
     }
 
     @Override
     public GameState makeMove(String accessToken, GameState currentState, MoveSubmission move) throws TException {
-      return PROVIDER.makeMove(accessToken, currentState, move );
+      return provider.makeMove(accessToken, currentState, move );
     }
 
     @Override
     public void createMatchmakingGame(String accessToken, NewGameParams params) throws TException {
       if (params.getGameType() == GameType.MATCHMAKING) {
-        PROVIDER.createRandomGame(accessToken);
+        provider.createRandomGame(accessToken);
       }
       else if (params.getGameType() == GameType.SEARCH) {
         if (params.getParams().isSetFbId()) {
-          PROVIDER.createFacebookGame(accessToken, params.getParams().getFbId());
+          provider.createFacebookGame(accessToken, params.getParams().getFbId());
         }
         else {
-          PROVIDER.createZyngaGame(accessToken, params.getParams().getZyngaId());
+          provider.createZyngaGame(accessToken, params.getParams().getZyngaId());
         }
       }
       else {
@@ -74,20 +125,320 @@ public class ApiServer {
 
     @Override
     public ChatMessage sendChatMessage(String accessToken, long gameId, String message) throws TException {
-      return PROVIDER.submitChatMessage(accessToken, gameId, message);
+      return provider.submitChatMessage(accessToken, gameId, message);
+    }
+
+    @Override
+    public List<GameStateResult> getGameStates(final String accessToken, List<Long> gameIds) throws TException {
+      List<Callable<GameStateResult>> calls = new ArrayList<Callable<GameStateResult>>(gameIds.size());
+
+      for (final Long gameId : gameIds) {
+        calls.add(new Callable<GameStateResult>() {
+          @Override
+          public GameStateResult call() {
+            GameStateResult result = new GameStateResult().setGameId(gameId);
+
+            try {
+              result.setState(provider.getGameState(accessToken, gameId));
+            }
+            catch (RuntimeException e) {
+              LOG.warn("couldn't fetch game state for game " + gameId, e);
+              result.setError(e.toString());
+            }
+
+            return result;
+          }
+        });
+      }
+
+      return invokeAll(calls);
+    }
+
+    @Override
+    public List<UnseenChatsResult> getUnseenChatsForGames(final String accessToken, List<Long> gameIds) throws TException {
+      List<Callable<UnseenChatsResult>> calls = new ArrayList<Callable<UnseenChatsResult>>(gameIds.size());
+
+      for (final Long gameId : gameIds) {
+        calls.add(new Callable<UnseenChatsResult>() {
+          @Override
+          public UnseenChatsResult call() {
+            UnseenChatsResult result = new UnseenChatsResult().setGameId(gameId);
+
+            try {
+              result.setChats(provider.getUnreadChats(accessToken, gameId));
+            }
+            catch (RuntimeException e) {
+              LOG.warn("couldn't fetch unseen chats for game " + gameId, e);
+              result.setError(e.toString());
+            }
+
+            return result;
+          }
+        });
+      }
+
+      return invokeAll(calls);
+    }
+
+    @Override
+    public List<DictionaryLookupResult> dictionaryLookups(final String accessToken, List<List<String>> wordLists) throws TException {
+      List<Callable<DictionaryLookupResult>> calls = new ArrayList<Callable<DictionaryLookupResult>>(wordLists.size());
+
+      for (final List<String> words : wordLists) {
+        calls.add(new Callable<DictionaryLookupResult>() {
+          @Override
+          public DictionaryLookupResult call() {
+            DictionaryLookupResult result = new DictionaryLookupResult();
+
+            try {
+              result.setInvalidWords(provider.dictionaryLookup(accessToken, words));
+            }
+            catch (RuntimeException e) {
+              LOG.warn("couldn't look up words " + words, e);
+              result.setError(e.toString());
+            }
+
+            return result;
+          }
+        });
+      }
+
+      return invokeAll(calls);
+    }
+
+    @Override
+    public ScoredPlay scorePlay(String accessToken, long gameId, MoveSubmission move) throws TException {
+      return scorePlayInState(provider.getGameState(accessToken, gameId), move);
+    }
+
+    @Override
+    public ScoredPlay scorePlayInState(GameState state, MoveSubmission move) throws TException {
+      if (move.getType() != MoveType.PLAY) {
+        throw new IllegalArgumentException("only plays can be scored, not " + move.getType());
+      }
+
+      Move play = stateHelper.buildGameStateMove(move);
+      stateHelper.createBoardFromState(state).scoreMove(play);
+
+      return toScoredPlay(play);
+    }
+
+    @Override
+    public List<ScoredPlay> findPlays(String accessToken, long gameId, List<Tile> rack, List<String> words, int maxResults)
+      throws TException {
+      return findPlaysInState(provider.getGameState(accessToken, gameId), rack, words, maxResults);
+    }
+
+    @Override
+    public List<ScoredPlay> findPlaysInState(GameState state, List<Tile> rack, List<String> words, int maxResults)
+      throws TException {
+      if (rack == null || rack.isEmpty()) {
+        rack = stateHelper.getCurrentPlayerRack(state).getTiles();
+
+        if (rack == null) {
+          throw new IllegalArgumentException("no rack provided, and the current player's rack isn't known");
+        }
+      }
+
+      List<Move> plays = new PlayFinder(stateHelper.createBoardFromState(state)).findPlays(rack, words);
+
+      if (maxResults > 0 && plays.size() > maxResults) {
+        plays = plays.subList(0, maxResults);
+      }
+
+      List<ScoredPlay> results = new ArrayList<ScoredPlay>(plays.size());
+
+      for (Move play : plays) {
+        results.add(toScoredPlay(play));
+      }
+
+      return results;
+    }
+
+    @Override
+    public GameUpdates waitForGameUpdates(String accessToken, long cursor, int timeoutMillis) throws TException {
+      try {
+        return updatePoller.waitForUpdates(accessToken, cursor, Math.min(timeoutMillis, maxWaitMillis));
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new TException(e);
+      }
+    }
+
+    private static ScoredPlay toScoredPlay(Move play) {
+      return new ScoredPlay()
+        .setMove(stateHelper.createMoveSubmissionFromPlay(play))
+        .setScore(play.getResult().getScore())
+        .setMainWord(play.getResult().getMainWord())
+        .setWords(play.getResult().getResultingWords());
+    }
+
+    /**
+     * Run the calls concurrently and wait for all of them to finish. The calls are expected to
+     * catch their own failures, so the results come back in the same order as the calls.
+     *
+     * @param calls
+     * @param <T>
+     * @return
+     * @throws TException
+     */
+    private <T> List<T> invokeAll(List<Callable<T>> calls) throws TException {
+      List<T> results = new ArrayList<T>(calls.size());
+
+      try {
+        for (Future<T> future : batchExecutor.invokeAll(calls)) {
+          results.add(future.get());
+        }
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new TException(e);
+      }
+      catch (ExecutionException e) {
+        throw new TException(e.getCause());
+      }
+
+      return results;
     }
   }
 
-  public static void main(String[] args) throws TTransportException {
+  public static void main(String[] args) throws TTransportException, IOException {
+    if (args.length < 1) {
+      System.err.println("Usage: ApiServer <port> [config.properties]");
+      System.exit(1);
+    }
+
     int port = Integer.parseInt(args[0]);
+    ApiServerConfig config = args.length > 1
+      ? ApiServerConfig.fromFile(args[1])
+      : new ApiServerConfig();
 
-    WwfApi.Iface handler = new WwfApiHandler();
-    WwfApi.Processor<WwfApi.Iface> processor = new WwfApi.Processor<WwfApi.Iface>(handler);
-    TNonblockingServerSocket transport = new TNonblockingServerSocket(port);
-    TServer server = new THsHaServer(new THsHaServer.Args(transport).processor(processor));
+    TServer server = buildServer(port, config);
 
-    LOG.info("starting server on port {}", port);
+    LOG.info("starting {} server on port {} with {} workers",
+      new Object[] { config.getServerType(), port, config.getWorkerThreads() });
 
     server.serve();
   }
+
+  /**
+   * Build a server using the provided settings
+   *
+   * @param port
+   * @param config
+   * @return
+   * @throws TTransportException
+   */
+  public static TServer buildServer(int port, ApiServerConfig config) throws TTransportException {
+    config.validate();
+
+    Communication comm = new Communication(NoopMetricsRecorder.getInstance(),
+      config.getUpstreamTimeoutMillis(),
+      new RequestRateLimiter(config.getTokenRequestsPerSecond(), config.getHostRequestsPerSecond()),
+      new RetryPolicy(config.getUpstreamMaxAttempts(),
+        RetryPolicy.DEFAULT_BASE_DELAY_MILLIS,
+        RetryPolicy.DEFAULT_MAX_DELAY_MILLIS,
+        new Random()));
+
+    ApiProvider provider = new CachingApiProvider(
+      new ApiProvider(NoopMetricsRecorder.getInstance(), comm),
+      config.getCacheTtlMillis(),
+      TimeUnit.MILLISECONDS);
+
+    PollScheduler pollScheduler = new PollScheduler(
+      Executors.newFixedThreadPool(config.getPollThreads()),
+      new ActivityPollPolicy(config.getPollMinIntervalMillis(), config.getPollMaxIntervalMillis()),
+      config.getPollThreads());
+    pollScheduler.start();
+
+    GameUpdatePoller updatePoller = new GameUpdatePoller(provider, pollScheduler);
+
+    WwfApi.Iface handler = new WwfApiHandler(provider,
+      Executors.newFixedThreadPool(config.getBatchThreads()),
+      updatePoller,
+      config.getLongPollTimeoutMillis());
+    WwfApi.Processor<WwfApi.Iface> processor = new WwfApi.Processor<WwfApi.Iface>(handler);
+
+    switch (config.getServerType()) {
+      case HSHA: {
+        THsHaServer.Args args = new THsHaServer.Args(
+          new TNonblockingServerSocket(port, config.getClientTimeoutMillis()));
+
+        args.maxReadBufferBytes = config.getMaxFrameBytes();
+
+        return new THsHaServer(args
+          .executorService(buildExecutor(config))
+          .processor(processor));
+      }
+      case THREADED_SELECTOR: {
+        TThreadedSelectorServer.Args args = new TThreadedSelectorServer.Args(
+          new TNonblockingServerSocket(port, config.getClientTimeoutMillis()));
+
+        args.maxReadBufferBytes = config.getMaxFrameBytes();
+
+        return new TThreadedSelectorServer(args
+          .selectorThreads(config.getSelectorThreads())
+          .executorService(buildExecutor(config))
+          .processor(processor));
+      }
+      case THREAD_POOL:
+        return new TThreadPoolServer(new TThreadPoolServer.Args(new TServerSocket(port, config.getClientTimeoutMillis()))
+          .minWorkerThreads(config.getWorkerThreads())
+          .maxWorkerThreads(config.getWorkerThreads())
+          .transportFactory(new TFramedTransport.Factory(config.getMaxFrameBytes()))
+          .processor(processor));
+      default:
+        throw new IllegalArgumentException("unsupported server type: " + config.getServerType());
+    }
+  }
+
+  /**
+   * Build the worker pool for the non-blocking servers. The queue is bounded, so requests that
+   * arrive while every worker is stuck on a slow upstream call are handled according to the load
+   * shedding policy instead of piling up. Requests are handed to the pool by selector threads, so
+   * the BLOCK policy only waits for block_timeout_millis before dropping the request.
+   *
+   * @param config
+   * @return
+   */
+  protected static ExecutorService buildExecutor(ApiServerConfig config) {
+    RejectedExecutionHandler rejectionHandler;
+
+    if (config.getLoadSheddingPolicy() == ApiServerConfig.LoadSheddingPolicy.BLOCK) {
+      final long timeoutMillis = config.getBlockTimeoutMillis();
+
+      rejectionHandler = new RejectedExecutionHandler() {
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+          try {
+            if (executor.isShutdown() || !executor.getQueue().offer(runnable, timeoutMillis, TimeUnit.MILLISECONDS)) {
+              LOG.warn("no room in the queue after {} ms. shedding request.", timeoutMillis);
+              throw new RejectedExecutionException("server overloaded");
+            }
+          }
+          catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException(e);
+          }
+        }
+      };
+    }
+    else {
+      rejectionHandler = new RejectedExecutionHandler() {
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+          LOG.warn("all {} workers are busy and the queue is full. shedding request.", executor.getMaximumPoolSize());
+          throw new RejectedExecutionException("server overloaded");
+        }
+      };
+    }
+
+    return new ThreadPoolExecutor(
+      config.getWorkerThreads(),
+      config.getWorkerThreads(),
+      60, TimeUnit.SECONDS,
+      new ArrayBlockingQueue<Runnable>(config.getQueueSize()),
+      rejectionHandler);
+  }
 }
@@ -0,0 +1,449 @@
+package org.sidoh.wwf_api;
+
+import com.google.common.base.Joiner;
+import org.sidoh.wwf_api.polling.ActivityPollPolicy;
+import org.sidoh.wwf_api.ratelimit.RequestRateLimiter;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * <p>
+ * Settings for ApiServer. Every upstream call blocks a worker thread until Zynga responds, so the
+ * worker pool needs to be much larger than the number of cores, and something has to give when
+ * Zynga is slow. Settings can be loaded from a properties file:
+ * </p>
+ * <pre>
+ *   wwf_api.server.type = threaded_selector
+ *   wwf_api.server.selector_threads = 2
+ *   wwf_api.server.worker_threads = 64
+ *   wwf_api.server.queue_size = 256
+ *   wwf_api.server.max_frame_bytes = 16777216
+ *   wwf_api.server.client_timeout_millis = 30000
+ *   wwf_api.server.upstream_timeout_millis = 10000
+ *   wwf_api.server.load_shedding = reject
+ *   wwf_api.server.block_timeout_millis = 100
+ *   wwf_api.server.cache_ttl_millis = 5000
+ *   wwf_api.server.batch_threads = 16
+ *   wwf_api.server.poll_threads = 4
+ *   wwf_api.server.poll_min_interval_millis = 2000
+ *   wwf_api.server.poll_max_interval_millis = 60000
+ *   wwf_api.server.long_poll_timeout_millis = 30000
+ *   wwf_api.server.token_requests_per_second = 2
+ *   wwf_api.server.host_requests_per_second = 50
+ *   wwf_api.server.upstream_max_attempts = 3
+ * </pre>
+ */
+public class ApiServerConfig {
+  private static final String PREFIX = "wwf_api.server.";
+
+  /**
+   * Thrift server implementations. All of them use framed transport, so clients don't need to
+   * change when this does.
+   */
+  public static enum ServerType {
+    /**
+     * One selector thread and a pool of worker threads
+     */
+    HSHA,
+
+    /**
+     * A thread for accepting connections, several selector threads and a pool of worker threads
+     */
+    THREADED_SELECTOR,
+
+    /**
+     * Blocking I/O with one thread per connection. Thrift's thread pool server builds its own
+     * worker pool, so queue_size and load_shedding can't be applied and are rejected (see
+     * validate). Connections beyond worker_threads wait to be accepted.
+     */
+    THREAD_POOL
+  }
+
+  /**
+   * What to do with a request when all of the workers are busy and the queue is full (typically
+   * because Zynga is responding slowly).
+   */
+  public static enum LoadSheddingPolicy {
+    /**
+     * Drop the request. The client's connection is closed and it can retry later.
+     */
+    REJECT,
+
+    /**
+     * Wait up to block_timeout_millis for room in the queue, then drop the request. The wait happens
+     * on a selector thread, which can't do network I/O for any client in the meantime, so the
+     * timeout should be short.
+     */
+    BLOCK
+  }
+
+  public static final int DEFAULT_QUEUE_SIZE = 256;
+  public static final int DEFAULT_BLOCK_TIMEOUT_MILLIS = 100;
+
+  private ServerType serverType = ServerType.HSHA;
+  private int selectorThreads = 2;
+  private int workerThreads = 32;
+  private int queueSize = DEFAULT_QUEUE_SIZE;
+  private int maxFrameBytes = 16 * 1024 * 1024;
+  private int clientTimeoutMillis = 0;
+  private int upstreamTimeoutMillis = 30000;
+  private LoadSheddingPolicy loadSheddingPolicy = LoadSheddingPolicy.REJECT;
+  private int blockTimeoutMillis = DEFAULT_BLOCK_TIMEOUT_MILLIS;
+  private long cacheTtlMillis = CachingApiProvider.DEFAULT_TTL_MILLIS;
+  private int batchThreads = 16;
+  private int pollThreads = 4;
+  private long pollMinIntervalMillis = ActivityPollPolicy.DEFAULT_MIN_DELAY_MILLIS;
+  private long pollMaxIntervalMillis = ActivityPollPolicy.DEFAULT_MAX_DELAY_MILLIS;
+  private long longPollTimeoutMillis = 30000;
+  private double tokenRequestsPerSecond = RequestRateLimiter.DEFAULT_TOKEN_REQUESTS_PER_SECOND;
+  private double hostRequestsPerSecond = RequestRateLimiter.DEFAULT_HOST_REQUESTS_PER_SECOND;
+  private int upstreamMaxAttempts = RetryPolicy.DEFAULT_MAX_ATTEMPTS;
+
+  /**
+   * Names of the queue settings that were set explicitly, so that validate can reject them for
+   * THREAD_POOL servers even when they're set to their defaults
+   */
+  private final Set<String> queueSettings = new TreeSet<String>();
+
+  /**
+   * Read settings from a properties file. Anything that isn't specified keeps its default.
+   *
+   * @param path
+   * @return
+   * @throws IOException
+   */
+  public static ApiServerConfig fromFile(String path) throws IOException {
+    Properties properties = new Properties();
+    InputStream stream = new FileInputStream(path);
+
+    try {
+      properties.load(stream);
+    }
+    finally {
+      stream.close();
+    }
+
+    return fromProperties(properties);
+  }
+
+  /**
+   * Read settings from properties. Anything that isn't specified keeps its default.
+   *
+   * @param properties
+   * @return
+   */
+  public static ApiServerConfig fromProperties(Properties properties) {
+    ApiServerConfig config = new ApiServerConfig();
+
+    String type = properties.getProperty(PREFIX + "type");
+    if (type != null) {
+      config.setServerType(ServerType.valueOf(type.trim().toUpperCase()));
+    }
+
+    String policy = properties.getProperty(PREFIX + "load_shedding");
+    if (policy != null) {
+      config.setLoadSheddingPolicy(LoadSheddingPolicy.valueOf(policy.trim().toUpperCase()));
+    }
+
+    // Only set when they're specified. See validate.
+    if (properties.getProperty(PREFIX + "queue_size") != null) {
+      config.setQueueSize(getInt(properties, "queue_size", config.getQueueSize()));
+    }
+
+    if (properties.getProperty(PREFIX + "block_timeout_millis") != null) {
+      config.setBlockTimeoutMillis(getInt(properties, "block_timeout_millis", config.getBlockTimeoutMillis()));
+    }
+
+    config.setSelectorThreads(getInt(properties, "selector_threads", config.getSelectorThreads()));
+    config.setWorkerThreads(getInt(properties, "worker_threads", config.getWorkerThreads()));
+    config.setMaxFrameBytes(getInt(properties, "max_frame_bytes", config.getMaxFrameBytes()));
+    config.setClientTimeoutMillis(getInt(properties, "client_timeout_millis", config.getClientTimeoutMillis()));
+    config.setUpstreamTimeoutMillis(getInt(properties, "upstream_timeout_millis", config.getUpstreamTimeoutMillis()));
+    config.setCacheTtlMillis(getLong(properties, "cache_ttl_millis", config.getCacheTtlMillis()));
+    config.setBatchThreads(getInt(properties, "batch_threads", config.getBatchThreads()));
+    config.setPollThreads(getInt(properties, "poll_threads", config.getPollThreads()));
+    config.setPollMinIntervalMillis(getLong(properties, "poll_min_interval_millis", config.getPollMinIntervalMillis()));
+    config.setPollMaxIntervalMillis(getLong(properties, "poll_max_interval_millis", config.getPollMaxIntervalMillis()));
+    config.setLongPollTimeoutMillis(getLong(properties, "long_poll_timeout_millis", config.getLongPollTimeoutMillis()));
+    config.setTokenRequestsPerSecond(getDouble(properties, "token_requests_per_second", config.getTokenRequestsPerSecond()));
+    config.setHostRequestsPerSecond(getDouble(properties, "host_requests_per_second", config.getHostRequestsPerSecond()));
+    config.setUpstreamMaxAttempts(getInt(properties, "upstream_max_attempts", config.getUpstreamMaxAttempts()));
+
+    return config.validate();
+  }
+
+  /**
+   * Check that the settings make sense together. THREAD_POOL servers can't use a bounded queue or
+   * a load shedding policy, so setting any of them at all is an error rather than being silently
+   * ignored.
+   *
+   * @return this
+   * @throws IllegalArgumentException
+   */
+  public ApiServerConfig validate() {
+    if (serverType == ServerType.THREAD_POOL && !queueSettings.isEmpty()) {
+      throw new IllegalArgumentException(Joiner.on(", ").join(queueSettings) + " don't apply to "
+        + ServerType.THREAD_POOL + " servers");
+    }
+
+    return this;
+  }
+
+  public ServerType getServerType() {
+    return serverType;
+  }
+
+  public ApiServerConfig setServerType(ServerType serverType) {
+    this.serverType = serverType;
+    return this;
+  }
+
+  public int getSelectorThreads() {
+    return selectorThreads;
+  }
+
+  /**
+   * @param selectorThreads number of threads doing network I/O. only used by THREADED_SELECTOR.
+   * @return this
+   */
+  public ApiServerConfig setSelectorThreads(int selectorThreads) {
+    this.selectorThreads = selectorThreads;
+    return this;
+  }
+
+  public int getWorkerThreads() {
+    return workerThreads;
+  }
+
+  /**
+   * @param workerThreads number of threads handling requests. this bounds the number of concurrent
+   *                      upstream calls.
+   * @return this
+   */
+  public ApiServerConfig setWorkerThreads(int workerThreads) {
+    this.workerThreads = workerThreads;
+    return this;
+  }
+
+  public int getQueueSize() {
+    return queueSize;
+  }
+
+  /**
+   * @param queueSize number of requests that can wait for a worker before the load shedding policy
+   *                  kicks in
+   * @return this
+   */
+  public ApiServerConfig setQueueSize(int queueSize) {
+    this.queueSize = queueSize;
+    this.queueSettings.add("queue_size");
+    return this;
+  }
+
+  public int getMaxFrameBytes() {
+    return maxFrameBytes;
+  }
+
+  /**
+   * @param maxFrameBytes largest request the server will read
+   * @return this
+   */
+  public ApiServerConfig setMaxFrameBytes(int maxFrameBytes) {
+    this.maxFrameBytes = maxFrameBytes;
+    return this;
+  }
+
+  public int getClientTimeoutMillis() {
+    return clientTimeoutMillis;
+  }
+
+  /**
+   * @param clientTimeoutMillis socket timeout for client connections. 0 means no timeout.
+   * @return this
+   */
+  public ApiServerConfig setClientTimeoutMillis(int clientTimeoutMillis) {
+    this.clientTimeoutMillis = clientTimeoutMillis;
+    return this;
+  }
+
+  public int getUpstreamTimeoutMillis() {
+    return upstreamTimeoutMillis;
+  }
+
+  /**
+   * @param upstreamTimeoutMillis connect and read timeout for requests to Zynga. 0 means no timeout.
+   * @return this
+   */
+  public ApiServerConfig setUpstreamTimeoutMillis(int upstreamTimeoutMillis) {
+    this.upstreamTimeoutMillis = upstreamTimeoutMillis;
+    return this;
+  }
+
+  public LoadSheddingPolicy getLoadSheddingPolicy() {
+    return loadSheddingPolicy;
+  }
+
+  public ApiServerConfig setLoadSheddingPolicy(LoadSheddingPolicy loadSheddingPolicy) {
+    this.loadSheddingPolicy = loadSheddingPolicy;
+    this.queueSettings.add("load_shedding");
+    return this;
+  }
+
+  public int getBlockTimeoutMillis() {
+    return blockTimeoutMillis;
+  }
+
+  /**
+   * @param blockTimeoutMillis with the BLOCK load shedding policy, longest a selector thread waits
+   *                           for room in the queue before dropping a request
+   * @return this
+   */
+  public ApiServerConfig setBlockTimeoutMillis(int blockTimeoutMillis) {
+    this.blockTimeoutMillis = blockTimeoutMillis;
+    this.queueSettings.add("block_timeout_millis");
+    return this;
+  }
+
+  public long getCacheTtlMillis() {
+    return cacheTtlMillis;
+  }
+
+  /**
+   * @param cacheTtlMillis how long to cache upstream responses (see CachingApiProvider)
+   * @return this
+   */
+  public ApiServerConfig setCacheTtlMillis(long cacheTtlMillis) {
+    this.cacheTtlMillis = cacheTtlMillis;
+    return this;
+  }
+
+  public int getBatchThreads() {
+    return batchThreads;
+  }
+
+  /**
+   * @param batchThreads number of threads shared by batch requests (getGameStates, etc.) for making
+   *                     upstream calls concurrently
+   * @return this
+   */
+  public ApiServerConfig setBatchThreads(int batchThreads) {
+    this.batchThreads = batchThreads;
+    return this;
+  }
+
+  public int getPollThreads() {
+    return pollThreads;
+  }
+
+  /**
+   * @param pollThreads number of threads polling Zynga for game updates (see GameUpdatePoller). this
+   *                    is also the most polls that can be in flight at once.
+   * @return this
+   */
+  public ApiServerConfig setPollThreads(int pollThreads) {
+    this.pollThreads = pollThreads;
+    return this;
+  }
+
+  public long getPollMinIntervalMillis() {
+    return pollMinIntervalMillis;
+  }
+
+  /**
+   * @param pollMinIntervalMillis shortest time between polls for game updates for an account. see
+   *                              ActivityPollPolicy for how the interval is chosen.
+   * @return this
+   */
+  public ApiServerConfig setPollMinIntervalMillis(long pollMinIntervalMillis) {
+    this.pollMinIntervalMillis = pollMinIntervalMillis;
+    return this;
+  }
+
+  public long getPollMaxIntervalMillis() {
+    return pollMaxIntervalMillis;
+  }
+
+  /**
+   * @param pollMaxIntervalMillis longest time between polls for game updates for an account
+   * @return this
+   */
+  public ApiServerConfig setPollMaxIntervalMillis(long pollMaxIntervalMillis) {
+    this.pollMaxIntervalMillis = pollMaxIntervalMillis;
+    return this;
+  }
+
+  public long getLongPollTimeoutMillis() {
+    return longPollTimeoutMillis;
+  }
+
+  /**
+   * @param longPollTimeoutMillis longest a waitForGameUpdates call can wait. every waiting call
+   *                              holds a worker thread, so worker_threads should leave room for them.
+   * @return this
+   */
+  public ApiServerConfig setLongPollTimeoutMillis(long longPollTimeoutMillis) {
+    this.longPollTimeoutMillis = longPollTimeoutMillis;
+    return this;
+  }
+
+  public double getTokenRequestsPerSecond() {
+    return tokenRequestsPerSecond;
+  }
+
+  /**
+   * @param tokenRequestsPerSecond most requests per second sent to Zynga for a single access token
+   * @return this
+   */
+  public ApiServerConfig setTokenRequestsPerSecond(double tokenRequestsPerSecond) {
+    this.tokenRequestsPerSecond = tokenRequestsPerSecond;
+    return this;
+  }
+
+  public double getHostRequestsPerSecond() {
+    return hostRequestsPerSecond;
+  }
+
+  /**
+   * @param hostRequestsPerSecond most requests per second sent to Zynga for all access tokens
+   *                              together
+   * @return this
+   */
+  public ApiServerConfig setHostRequestsPerSecond(double hostRequestsPerSecond) {
+    this.hostRequestsPerSecond = hostRequestsPerSecond;
+    return this;
+  }
+
+  public int getUpstreamMaxAttempts() {
+    return upstreamMaxAttempts;
+  }
+
+  /**
+   * @param upstreamMaxAttempts most times a failed GET request to Zynga is tried, including the
+   *                            first. see RetryPolicy.
+   * @return this
+   */
+  public ApiServerConfig setUpstreamMaxAttempts(int upstreamMaxAttempts) {
+    this.upstreamMaxAttempts = upstreamMaxAttempts;
+    return this;
+  }
+
+  private static int getInt(Properties properties, String key, int defaultValue) {
+    String value = properties.getProperty(PREFIX + key);
+    return value == null ? defaultValue : Integer.parseInt(value.trim());
+  }
+
+  private static long getLong(Properties properties, String key, long defaultValue) {
+    String value = properties.getProperty(PREFIX + key);
+    return value == null ? defaultValue : Long.parseLong(value.trim());
+  }
+
+  private static double getDouble(Properties properties, String key, double defaultValue) {
+    String value = properties.getProperty(PREFIX + key);
+    return value == null ? defaultValue : Double.parseDouble(value.trim());
+  }
+}
@@ -38,6 +38,7 @@ public class Bag {
   private final List<Tile> tiles;
   private final MersenneTwister twister;
   private final long seed;
+  private int numPulls;
 
   /**
    *
@@ -90,6 +91,7 @@ public class Bag {
    * @return the removed tile
    */
   public Tile pullTile() {
+    numPulls++;
     return tiles.remove((int) (twister.nextUnsignedI32() % tiles.size()));
   }
 
@@ -130,15 +132,52 @@ public class Bag {
     return Lists.newArrayList(tiles);
   }
 
+  /**
+   *
+   * @return the number of tiles left in the bag
+   */
+  public int getNumRemainingTiles() {
+    return tiles.size();
+  }
+
   /**
    * Returns list of tiles in the order they'll be pulled off of (assuming none are returned)
    *
    * @return
    */
   public List<Tile> getRemainingTilesInPullOrder() {
+    return copy().pullTiles(tiles.size());
+  }
+
+  /**
+   * Returns an independent copy of this bag. Pulling tiles from the copy will produce the same
+   * tiles in the same order as this bag would, but won't affect this bag.
+   *
+   * @return
+   */
+  public Bag copy() {
     Bag copy = new Bag(seed, (MersenneTwister)twister.clone(), Lists.newArrayList(tiles));
+    copy.numPulls = numPulls;
 
-    return copy.pullTiles(tiles.size());
+    return copy;
+  }
+
+  /**
+   *
+   * @return the seed used for the PRNG
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Number of tiles that have been pulled from this bag. Each pull consumes exactly one value from
+   * the PRNG, so this together with the seed determines the PRNG's state.
+   *
+   * @return
+   */
+  public int getNumPulls() {
+    return numPulls;
   }
 
   /**
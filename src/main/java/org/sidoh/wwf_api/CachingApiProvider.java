@@ -0,0 +1,216 @@
+package org.sidoh.wwf_api;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.sidoh.wwf_api.parser.ParserException;
+import org.sidoh.wwf_api.types.api.ChatMessage;
+import org.sidoh.wwf_api.types.api.GameIndex;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.types.api.MoveSubmission;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Wraps an ApiProvider and caches game indexes, game states and unread chats for a short time.
+ * Entries are keyed by access token (and game id where applicable), so different accounts never
+ * see each other's data. This is meant for ApiServer, where several clients may poll the same
+ * account.
+ * </p>
+ * <p>
+ * Concurrent requests for the same entry share a single upstream call. Making a move or sending a
+ * chat message invalidates the cached data for that game and the account's game index.
+ * </p>
+ * <p>
+ * Cached objects are shared between callers and should not be modified.
+ * </p>
+ */
+public class CachingApiProvider extends ApiProvider {
+  /**
+   * Default amount of time to keep responses around
+   */
+  public static final long DEFAULT_TTL_MILLIS = 5000;
+
+  private final ApiProvider delegate;
+  private final Cache<String, GameIndex> gameIndexes;
+  private final Cache<String, GameState> gameStates;
+  private final Cache<String, List<ChatMessage>> unreadChats;
+
+  public CachingApiProvider(ApiProvider delegate) {
+    this(delegate, DEFAULT_TTL_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * @param delegate provider used to make upstream calls
+   * @param ttl how long to keep responses around
+   * @param unit unit for ttl
+   */
+  public CachingApiProvider(ApiProvider delegate, long ttl, TimeUnit unit) {
+    super(delegate);
+    this.delegate = delegate;
+    this.gameIndexes = CacheBuilder.newBuilder().expireAfterWrite(ttl, unit).build();
+    this.gameStates = CacheBuilder.newBuilder().expireAfterWrite(ttl, unit).build();
+    this.unreadChats = CacheBuilder.newBuilder().expireAfterWrite(ttl, unit).build();
+  }
+
+  @Override
+  public List<ChatMessage> getUnreadChats(final String accessToken, final long gameId) throws ApiRequestException, ParserException {
+    return get(unreadChats, getKey(accessToken, gameId), new Callable<List<ChatMessage>>() {
+      @Override
+      public List<ChatMessage> call() {
+        return delegate.getUnreadChats(accessToken, gameId);
+      }
+    });
+  }
+
+  @Override
+  public GameIndex getGameIndex(final String accessToken) throws ApiRequestException, ParserException {
+    return get(gameIndexes, accessToken, new Callable<GameIndex>() {
+      @Override
+      public GameIndex call() {
+        return delegate.getGameIndex(accessToken);
+      }
+    });
+  }
+
+  @Override
+  public GameState getGameState(final String accessToken, final long gameId) throws ApiRequestException, ParserException {
+    return get(gameStates, getKey(accessToken, gameId), new Callable<GameState>() {
+      @Override
+      public GameState call() {
+        return delegate.getGameState(accessToken, gameId);
+      }
+    });
+  }
+
+  /**
+   * Partial indexes depend on the timestamp, so they're not cached. They're small anyway.
+   */
+  @Override
+  public GameIndex getGamesWithUpdates(String accessToken, int timestamp) throws ApiRequestException, ParserException {
+    return delegate.getGamesWithUpdates(accessToken, timestamp);
+  }
+
+  @Override
+  public GameState makeMove(String accessToken, GameState state, MoveSubmission move)
+    throws ApiRequestException, ParserException, MoveValidationException {
+    invalidateGame(accessToken, state.getId());
+
+    GameState newState = delegate.makeMove(accessToken, state, move);
+
+    // Replace anything a concurrent request cached while the move was in flight
+    gameStates.put(getKey(accessToken, state.getId()), newState);
+
+    return newState;
+  }
+
+  @Override
+  public ChatMessage submitChatMessage(String accessToken, long gameId, String message)
+    throws ApiRequestException, ParserException {
+    try {
+      return delegate.submitChatMessage(accessToken, gameId, message);
+    }
+    finally {
+      invalidateGame(accessToken, gameId);
+    }
+  }
+
+  @Override
+  public void createRandomGame(String accessToken) throws ApiRequestException, ParserException {
+    delegate.createRandomGame(accessToken);
+    gameIndexes.invalidate(accessToken);
+  }
+
+  @Override
+  public void createFacebookGame(String accessToken, long userId) throws ApiRequestException, ParserException {
+    delegate.createFacebookGame(accessToken, userId);
+    gameIndexes.invalidate(accessToken);
+  }
+
+  @Override
+  public void createZyngaGame(String accessToken, long userId) throws ApiRequestException, ParserException {
+    delegate.createZyngaGame(accessToken, userId);
+    gameIndexes.invalidate(accessToken);
+  }
+
+  @Override
+  public List<String> dictionaryLookup(String accessToken, List<String> words)
+    throws ApiRequestException, ParserException {
+    return delegate.dictionaryLookup(accessToken, words);
+  }
+
+  /**
+   * Drop everything cached for a game, along with the index of the account it belongs to.
+   *
+   * @param accessToken
+   * @param gameId
+   */
+  public void invalidateGame(String accessToken, long gameId) {
+    String key = getKey(accessToken, gameId);
+
+    gameStates.invalidate(key);
+    unreadChats.invalidate(key);
+    gameIndexes.invalidate(accessToken);
+  }
+
+  /**
+   * Drop everything cached for an account
+   *
+   * @param accessToken
+   */
+  public void invalidateAccount(String accessToken) {
+    String prefix = accessToken + "/";
+
+    gameIndexes.invalidate(accessToken);
+    removeWithPrefix(gameStates, prefix);
+    removeWithPrefix(unreadChats, prefix);
+  }
+
+  private static void removeWithPrefix(Cache<String, ?> cache, String prefix) {
+    Iterator<String> keys = cache.asMap().keySet().iterator();
+
+    while (keys.hasNext()) {
+      if (keys.next().startsWith(prefix)) {
+        keys.remove();
+      }
+    }
+  }
+
+  /**
+   * Load a value through the cache, unwrapping exceptions thrown by the loader. Concurrent calls
+   * for the same key wait for a single load.
+   *
+   * @param cache
+   * @param key
+   * @param loader
+   * @param <V>
+   * @return
+   */
+  private static <V> V get(Cache<String, V> cache, String key, Callable<V> loader) {
+    try {
+      return cache.get(key, loader);
+    }
+    catch (ExecutionException e) {
+      throw new ApiRequestException(e.getCause());
+    }
+    catch (UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+    catch (ExecutionError e) {
+      throw (Error) e.getCause();
+    }
+  }
+
+  private static String getKey(String accessToken, long gameId) {
+    return accessToken + "/" + gameId;
+  }
+}
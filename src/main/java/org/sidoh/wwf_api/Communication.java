@@ -1,16 +1,21 @@
 package org.sidoh.wwf_api;
 
+import com.google.common.base.Charsets;
 import com.google.common.base.Joiner;
 import com.google.common.collect.Multimap;
 import org.sidoh.wwf_api.game_state.GameStateHelper;
+import org.sidoh.wwf_api.metrics.MeteredInputStream;
+import org.sidoh.wwf_api.metrics.MetricsRecorder;
+import org.sidoh.wwf_api.metrics.NoopMetricsRecorder;
+import org.sidoh.wwf_api.ratelimit.RequestRateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedReader;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
@@ -25,7 +30,19 @@ import java.util.Map;
 import java.util.Set;
 
 /**
+ * <p>
  * Responsible for sending pre-formatted requests to Zynga's servers and returning the raw results.
+ * </p>
+ * <p>
+ * Requests are spaced out by a RequestRateLimiter so we stay under Zynga's limits instead of
+ * finding them. GET requests that fail with connection errors, server errors or throttling are
+ * retried according to a RetryPolicy. POST requests are never retried, since they may have gone
+ * through. Error responses are reported as ApiResponseException (ThrottledException for HTTP 429).
+ * </p>
+ * <p>
+ * Response bodies are returned as raw bytes, which Zynga sends as UTF-8. ResponseParser parses them
+ * without decoding them to characters first.
+ * </p>
  */
 public class Communication {
   private static final Logger LOG = LoggerFactory.getLogger(Communication.class);
@@ -62,6 +79,55 @@ public class Communication {
    */
   private static final String USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_7_4) AppleWebKit/536.11 (KHTML, like Gecko) Chrome/20.0.1132.47 Safari/536.11";
 
+  /**
+   * Prefix for the names of metrics recorded for each request. The rest of the name is the
+   * endpoint (see getEndpointName).
+   */
+  public static final String METRIC_PREFIX = "http.";
+
+  private final MetricsRecorder metrics;
+  private final int timeoutMillis;
+  private final RequestRateLimiter rateLimiter;
+  private final RetryPolicy retryPolicy;
+
+  public Communication() {
+    this(NoopMetricsRecorder.getInstance());
+  }
+
+  /**
+   * @param metrics receives the latency, size and errors of every request
+   */
+  public Communication(MetricsRecorder metrics) {
+    this(metrics, 0);
+  }
+
+  /**
+   * Requests aren't rate limited. Use the four argument constructor with a RequestRateLimiter to
+   * limit them.
+   *
+   * @param metrics receives the latency, size and errors of every request
+   * @param timeoutMillis connect and read timeout for every request. 0 means no timeout.
+   */
+  public Communication(MetricsRecorder metrics, int timeoutMillis) {
+    this(metrics, timeoutMillis, RequestRateLimiter.UNLIMITED, new RetryPolicy());
+  }
+
+  /**
+   * @param metrics receives the latency, size and errors of every request
+   * @param timeoutMillis connect and read timeout for every request. 0 means no timeout.
+   * @param rateLimiter decides how long to wait before each request. host limits only cover the
+   *                    requests that go through the same limiter, so it should be shared by
+   *                    everything talking to Zynga from this process. RequestRateLimiter.UNLIMITED
+   *                    never waits.
+   * @param retryPolicy decides whether and when failed GET requests are retried
+   */
+  public Communication(MetricsRecorder metrics, int timeoutMillis, RequestRateLimiter rateLimiter, RetryPolicy retryPolicy) {
+    this.metrics = metrics;
+    this.timeoutMillis = timeoutMillis;
+    this.rateLimiter = rateLimiter;
+    this.retryPolicy = retryPolicy;
+  }
+
   /**
    * Fetch all unread chats for a particular game
    *
@@ -70,7 +136,7 @@ public class Communication {
    * @return
    * @throws ApiRequestException
    */
-  public Reader getUnreadChats(String authToken, long gameId) throws ApiRequestException {
+  public InputStream getUnreadChats(String authToken, long gameId) throws ApiRequestException {
     return makeRequest( getUnreadChatsUrl(gameId), authToken );
   }
 
@@ -82,7 +148,7 @@ public class Communication {
    * @return
    * @throws ApiRequestException
    */
-  public Reader getGameIndex(String authToken) throws ApiRequestException {
+  public InputStream getGameIndex(String authToken) throws ApiRequestException {
     return makeRequest( getIndexUrl(), authToken );
   }
 
@@ -95,7 +161,7 @@ public class Communication {
    * @return
    * @throws ApiRequestException
    */
-  public Reader getGameState(long gameId, String authToken) throws ApiRequestException {
+  public InputStream getGameState(long gameId, String authToken) throws ApiRequestException {
     return makeRequest( getGameUrl(gameId), authToken );
   }
 
@@ -109,7 +175,7 @@ public class Communication {
    * @return
    * @throws ApiRequestException
    */
-  public Reader dictionaryLookup(List<String> words, String authToken) throws ApiRequestException {
+  public InputStream dictionaryLookup(List<String> words, String authToken) throws ApiRequestException {
     String requestUrl = Joiner.on(';').join(words).toLowerCase();
 
     // This is a bit of a silly bug on Zynga's end... if you send this request with a word list
@@ -129,8 +195,8 @@ public class Communication {
    * @param timestamp
    * @throws ApiRequestException
    */
-  public Reader getGamesWithUpdates(String accessToken, int timestamp) throws ApiRequestException {
-    String formattedTimestamp = GameStateHelper.TIMESTAMP_DATE_FORMAT.format(new Date(timestamp * 1000L));
+  public InputStream getGamesWithUpdates(String accessToken, int timestamp) throws ApiRequestException {
+    String formattedTimestamp = GameStateHelper.getTimestampDateFormat().format(new Date(timestamp * 1000L));
     URL url = getGamesWithUpdatesUrl(formattedTimestamp);
 
     return makeRequest( url, accessToken );
@@ -145,7 +211,7 @@ public class Communication {
    * @return
    * @throws ApiRequestException
    */
-  public Reader makeMove( String authToken, Multimap<RequestGenerator.MoveRequestParam, Object> params ) throws ApiRequestException {
+  public InputStream makeMove( String authToken, Multimap<RequestGenerator.MoveRequestParam, Object> params ) throws ApiRequestException {
     String postData = buildPostData(params);
 
     return postRequest(getMoveUrl(), authToken, postData);
@@ -160,7 +226,7 @@ public class Communication {
    * @return
    * @throws ApiRequestException
    */
-  public Reader createRandomGame(String authToken) throws ApiRequestException {
+  public InputStream createRandomGame(String authToken) throws ApiRequestException {
     return postRequest(getIndexUrl(), authToken, "create_type=Matchmaking");
   }
 
@@ -172,7 +238,7 @@ public class Communication {
    * @return
    * @throws ApiRequestException
    */
-  public Reader createFacebookGame(String authToken, long userId) throws ApiRequestException {
+  public InputStream createFacebookGame(String authToken, long userId) throws ApiRequestException {
     return postRequest( getIndexUrl(), authToken, "create_type=Search&opponent_fb_id=".concat(String.valueOf(userId)) );
   }
 
@@ -184,7 +250,7 @@ public class Communication {
    * @param userId
    * @return
    */
-  public Reader createZyngaGame(String authToken, long userId) {
+  public InputStream createZyngaGame(String authToken, long userId) {
     return postRequest( getIndexUrl(), authToken, "create_type=Search&opponent_id=".concat(String.valueOf(userId)) );
   }
 
@@ -197,7 +263,7 @@ public class Communication {
    * @return
    * @throws ApiRequestException
    */
-  public Reader submitChatMessage(String authToken, long gameId, String message) throws ApiRequestException {
+  public InputStream submitChatMessage(String authToken, long gameId, String message) throws ApiRequestException {
     return postRequest( getChatUrl(), authToken, "chat_message", "game_id", gameId, "code", 0, "message", message);
   }
 
@@ -211,7 +277,7 @@ public class Communication {
    * @return
    * @throws ApiRequestException
    */
-  protected Reader postRequest(URL url, String authToken, String paramsKey,
+  protected InputStream postRequest(URL url, String authToken, String paramsKey,
                                Object... keyValues) throws ApiRequestException {
     StringBuilder postData = new StringBuilder();
 
@@ -238,7 +304,11 @@ public class Communication {
    * @return
    * @throws ApiRequestException
    */
-  protected Reader postRequest(URL url, String authToken, String data) throws ApiRequestException {
+  protected InputStream postRequest(URL url, String authToken, String data) throws ApiRequestException {
+    String metricName = METRIC_PREFIX + getEndpointName(url);
+    acquirePermit(url, authToken);
+    long start = System.nanoTime();
+
     try {
       HttpURLConnection connection = (HttpURLConnection) url.openConnection();
 
@@ -246,33 +316,21 @@ public class Communication {
       connection.setDoOutput(true);
       connection.setDoInput(true);
       setHeaders(connection, authToken);
+      setTimeouts(connection);
 
       DataOutputStream out = new DataOutputStream(connection.getOutputStream());
-      out.write(data.getBytes());
+      out.write(data.getBytes(Charsets.UTF_8));
       out.flush();
       out.close();
 
       connection.connect();
+      checkResponse(connection, metricName);
 
-      // TODO: figure this out... which response codes are actually errors?
-      if (connection.getResponseCode() <= 350) {
-        return new InputStreamReader(connection.getInputStream());
-      }
-      else {
-        LOG.info("Failed to post request. Server returned: " + connection.getResponseCode());
-
-        BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getErrorStream()));
-        String line = reader.readLine();
-        while (line != null) {
-          LOG.info(line);
-          line = reader.readLine();
-        }
-
-        throw new RuntimeException("couldn't post request!");
-      }
+      return new MeteredInputStream(connection.getInputStream(), metrics, metricName, start);
     }
     catch (IOException e) {
-      throw new RuntimeException(e);
+      metrics.recordError(metricName);
+      throw new ApiRequestException(e);
     }
   }
 
@@ -305,29 +363,202 @@ public class Communication {
   }
 
   /**
-   * Send an HTTP GET request.
+   * Send an HTTP GET request, retrying if the retry policy allows. Only errors that happen before
+   * the response body starts arriving are retried.
    *
    * @param url
    * @param authToken
    * @return
    * @throws ApiRequestException
    */
-  protected Reader makeRequest(URL url, String authToken) throws ApiRequestException {
+  protected InputStream makeRequest(URL url, String authToken) throws ApiRequestException {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return sendGetRequest(url, authToken);
+      }
+      catch (ApiRequestException e) {
+        long delay = retryPolicy.getRetryDelayMillis(attempt, e);
+
+        if (delay < 0) {
+          throw e;
+        }
+
+        LOG.info("Request to {} failed ({}). Retrying in {}ms.", new Object[] { getEndpointName(url), e.getMessage(), delay });
+
+        try {
+          Thread.sleep(delay);
+        }
+        catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          throw e;
+        }
+      }
+    }
+  }
+
+  /**
+   * Send a single HTTP GET request.
+   *
+   * @param url
+   * @param authToken
+   * @return
+   * @throws ApiRequestException
+   */
+  protected InputStream sendGetRequest(URL url, String authToken) throws ApiRequestException {
+    String metricName = METRIC_PREFIX + getEndpointName(url);
+    acquirePermit(url, authToken);
+    long start = System.nanoTime();
+
     try {
       URLConnection connection = url.openConnection();
 
       connection.setDoOutput(true);
       connection.setDoInput(true);
       setHeaders(connection, authToken);
+      setTimeouts(connection);
       connection.connect();
 
-      return new InputStreamReader(connection.getInputStream());
+      if (connection instanceof HttpURLConnection) {
+        checkResponse((HttpURLConnection) connection, metricName);
+      }
+
+      return new MeteredInputStream(connection.getInputStream(), metrics, metricName, start);
     }
     catch (IOException e) {
+      metrics.recordError(metricName);
       throw new ApiRequestException(e);
     }
   }
 
+  /**
+   * Wait until the rate limiter allows a request.
+   *
+   * @param url
+   * @param authToken
+   * @throws ApiRequestException if interrupted while waiting
+   */
+  protected void acquirePermit(URL url, String authToken) throws ApiRequestException {
+    try {
+      rateLimiter.acquire(url.getHost(), authToken);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiRequestException("interrupted while waiting for the rate limiter", e);
+    }
+  }
+
+  /**
+   * Throw an exception describing the response if its status code indicates an error.
+   *
+   * @param connection a connection that's already been sent
+   * @param metricName
+   * @throws IOException
+   * @throws ApiResponseException
+   */
+  protected void checkResponse(HttpURLConnection connection, String metricName) throws IOException {
+    int code = connection.getResponseCode();
+
+    if (code < 400) {
+      return;
+    }
+
+    metrics.recordError(metricName);
+    String body = readErrorBody(connection);
+
+    if (code == ThrottledException.STATUS_CODE) {
+      throw new ThrottledException(body, getRetryAfterMillis(connection));
+    }
+
+    throw new ApiResponseException(code, body);
+  }
+
+  /**
+   * @param connection
+   * @return milliseconds the Retry-After header asks us to wait, or -1 if it isn't there or isn't a
+   * number of seconds
+   */
+  protected static long getRetryAfterMillis(URLConnection connection) {
+    String value = connection.getHeaderField("Retry-After");
+
+    if (value != null) {
+      try {
+        return Long.parseLong(value.trim()) * 1000;
+      }
+      catch (NumberFormatException e) {
+        // Could be an HTTP date. Not worth parsing.
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * @param connection
+   * @return the body of an error response, or null if there isn't one
+   */
+  private static String readErrorBody(HttpURLConnection connection) {
+    InputStream stream = connection.getErrorStream();
+
+    if (stream == null) {
+      return null;
+    }
+
+    StringBuilder body = new StringBuilder();
+
+    try {
+      BufferedReader reader = new BufferedReader(new InputStreamReader(stream, Charsets.UTF_8));
+
+      try {
+        String line = reader.readLine();
+        while (line != null) {
+          body.append(line);
+          line = reader.readLine();
+        }
+      }
+      finally {
+        reader.close();
+      }
+    }
+    catch (IOException e) {
+      LOG.debug("couldn't read error response", e);
+    }
+
+    return body.toString();
+  }
+
+  /**
+   * Get a name for the endpoint a URL refers to that's suitable for grouping metrics. IDs are
+   * replaced with "{id}" and query strings and dictionary lookup words are dropped, e.g.:
+   * "games/{id}.json", "games.json", "word_or_not".
+   *
+   * @param url
+   * @return
+   */
+  protected static String getEndpointName(URL url) {
+    String path = url.getPath();
+    String basePath = getUrl(BASE_URL).getPath();
+
+    if (path.startsWith(basePath)) {
+      path = path.substring(basePath.length());
+    }
+
+    if (path.startsWith("word_or_not/")) {
+      return "word_or_not";
+    }
+
+    return path.replaceAll("/\\d+", "/{id}");
+  }
+
+  /**
+   * Apply the configured connect and read timeouts to a request.
+   *
+   * @param connection
+   */
+  protected void setTimeouts(URLConnection connection) {
+    connection.setConnectTimeout(timeoutMillis);
+    connection.setReadTimeout(timeoutMillis);
+  }
+
   /**
    * Sets headers for a given HTTP request. These include the user agent, auth token, and some
    * metadata required by Zynga.
@@ -0,0 +1,212 @@
+package org.sidoh.wwf_api;
+
+import org.sidoh.wwf_api.types.api.GameIndex;
+import org.sidoh.wwf_api.types.api.GameMeta;
+import org.sidoh.wwf_api.types.api.GameState;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * <p>
+ * Fetches the full state of every game in a GameIndex, several at a time. This replaces the
+ * usual loop that calls getGameState for one game after another.
+ * </p>
+ * <p>
+ * At most parallelism games are fetched at once, and the next fetch only starts once a finished
+ * one has been handed to the callback. A slow callback therefore slows the fetching down instead
+ * of letting results pile up. Callbacks are called on the thread that called walk, one at a time,
+ * so they don't need to be thread-safe. Games are delivered either in the order they appear in
+ * the index, or in whatever order they finish.
+ * </p>
+ */
+public class GameIndexWalker {
+  public static final int DEFAULT_PARALLELISM = 8;
+
+  /**
+   * Order games are handed to the callback in
+   */
+  public enum Order {
+    /**
+     * The order of the index. A slow game holds up the ones after it.
+     */
+    INDEX,
+
+    /**
+     * Whichever game finishes first
+     */
+    COMPLETION
+  }
+
+  /**
+   * Receives games as they're fetched
+   */
+  public interface Callback {
+    void onGame(GameMeta meta, GameState state);
+
+    /**
+     * Called instead of onGame if fetching a game failed. The walk continues with the other games.
+     *
+     * @param meta
+     * @param e
+     */
+    void onError(GameMeta meta, Exception e);
+  }
+
+  private final ExecutorService executor;
+  private final int parallelism;
+  private final Order order;
+
+  public GameIndexWalker(ExecutorService executor) {
+    this(executor, DEFAULT_PARALLELISM, Order.INDEX);
+  }
+
+  /**
+   * @param executor runs the fetches. should have at least parallelism threads to get the full
+   *                 benefit.
+   * @param parallelism maximum number of games being fetched (or waiting to be delivered) at once
+   * @param order
+   */
+  public GameIndexWalker(ExecutorService executor, int parallelism, Order order) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism must be at least 1");
+    }
+
+    this.executor = executor;
+    this.parallelism = parallelism;
+    this.order = order;
+  }
+
+  /**
+   * Fetch every game in the index and hand it to the callback. Returns once every game has been
+   * delivered.
+   *
+   * @param provider
+   * @param index
+   * @param callback
+   * @return the number of games fetched successfully
+   * @throws InterruptedException if interrupted. fetches in progress are cancelled.
+   */
+  public int walk(StatefulApiProvider provider, GameIndex index, Callback callback) throws InterruptedException {
+    Iterator<GameMeta> games = index.getGames().iterator();
+
+    return order == Order.INDEX
+      ? walkInOrder(provider, games, callback)
+      : walkByCompletion(provider, games, callback);
+  }
+
+  private int walkInOrder(StatefulApiProvider provider, Iterator<GameMeta> games, Callback callback)
+    throws InterruptedException {
+    Deque<Fetch> window = new ArrayDeque<Fetch>(parallelism);
+    int fetched = 0;
+
+    try {
+      while (games.hasNext() || !window.isEmpty()) {
+        while (window.size() < parallelism && games.hasNext()) {
+          Fetch fetch = new Fetch(provider, games.next());
+          fetch.future = executor.submit(fetch);
+          window.addLast(fetch);
+        }
+
+        // Leave the head in the window until it's delivered so it's cancelled if we're interrupted
+        // while waiting on it
+        Fetch head = window.getFirst();
+        if (deliver(head, callback)) {
+          fetched++;
+        }
+        window.removeFirst();
+      }
+    }
+    finally {
+      for (Fetch fetch : window) {
+        fetch.future.cancel(true);
+      }
+    }
+
+    return fetched;
+  }
+
+  private int walkByCompletion(StatefulApiProvider provider, Iterator<GameMeta> games, Callback callback)
+    throws InterruptedException {
+    CompletionService<GameState> completion = new ExecutorCompletionService<GameState>(executor);
+    Deque<Fetch> inFlight = new ArrayDeque<Fetch>(parallelism);
+    int fetched = 0;
+
+    try {
+      while (games.hasNext() || !inFlight.isEmpty()) {
+        while (inFlight.size() < parallelism && games.hasNext()) {
+          Fetch fetch = new Fetch(provider, games.next());
+          fetch.future = completion.submit(fetch);
+          inFlight.addLast(fetch);
+        }
+
+        Future<GameState> done = completion.take();
+        Iterator<Fetch> fetches = inFlight.iterator();
+
+        while (fetches.hasNext()) {
+          Fetch fetch = fetches.next();
+
+          if (fetch.future == done) {
+            fetches.remove();
+
+            if (deliver(fetch, callback)) {
+              fetched++;
+            }
+            break;
+          }
+        }
+      }
+    }
+    finally {
+      for (Fetch fetch : inFlight) {
+        fetch.future.cancel(true);
+      }
+    }
+
+    return fetched;
+  }
+
+  /**
+   * Wait for a fetch and hand its result to the callback
+   *
+   * @return true if the fetch succeeded
+   */
+  private static boolean deliver(Fetch fetch, Callback callback) throws InterruptedException {
+    GameState state;
+
+    try {
+      state = fetch.future.get();
+    }
+    catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      callback.onError(fetch.meta, cause instanceof Exception ? (Exception) cause : e);
+      return false;
+    }
+
+    callback.onGame(fetch.meta, state);
+    return true;
+  }
+
+  private static class Fetch implements Callable<GameState> {
+    private final StatefulApiProvider provider;
+    private final GameMeta meta;
+    private Future<GameState> future;
+
+    public Fetch(StatefulApiProvider provider, GameMeta meta) {
+      this.provider = provider;
+      this.meta = meta;
+    }
+
+    @Override
+    public GameState call() {
+      return provider.getGameState(meta.getId());
+    }
+  }
+}
@@ -0,0 +1,217 @@
+package org.sidoh.wwf_api;
+
+import org.sidoh.wwf_api.polling.PollListener;
+import org.sidoh.wwf_api.polling.PollScheduler;
+import org.sidoh.wwf_api.types.api.GameMeta;
+import org.sidoh.wwf_api.types.api.GameUpdates;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * Polls Zynga for game updates on behalf of clients that are waiting for them. Each access token
+ * is registered with a PollScheduler once no matter how many clients are waiting on it, so N
+ * clients cost one upstream poll. The scheduler's policy decides how often each token is polled.
+ * Tokens are dropped once nobody has asked about them for a while.
+ * </p>
+ * <p>
+ * Clients keep track of what they've seen with a cursor. Every change to a game bumps the token's
+ * version, and waitForUpdates returns the latest metadata of every game that changed after the
+ * provided cursor.
+ * </p>
+ */
+public class GameUpdatePoller {
+  private static final Logger LOG = LoggerFactory.getLogger(GameUpdatePoller.class);
+
+  public static final long DEFAULT_IDLE_MILLIS = 10 * 60 * 1000;
+
+  private final ApiProvider provider;
+  private final PollScheduler scheduler;
+  private final long idleMillis;
+  private final ConcurrentMap<String, Subscription> subscriptions = new ConcurrentHashMap<String, Subscription>();
+
+  public GameUpdatePoller(ApiProvider provider, PollScheduler scheduler) {
+    this(provider, scheduler, DEFAULT_IDLE_MILLIS);
+  }
+
+  /**
+   * @param provider used to poll for updates. if this is a CachingApiProvider, cached data for
+   *                 games that change is invalidated.
+   * @param scheduler decides when to poll. should be started by the caller.
+   * @param idleMillis stop polling for a token after nobody has asked about it for this long
+   */
+  public GameUpdatePoller(ApiProvider provider, PollScheduler scheduler, long idleMillis) {
+    this.provider = provider;
+    this.scheduler = scheduler;
+    this.idleMillis = idleMillis;
+  }
+
+  /**
+   * Wait for games visible to the provided access token to change. Starts polling for the token if
+   * nobody else is already.
+   *
+   * @param accessToken
+   * @param cursor the cursor returned by the previous call, or 0 to only see changes made after
+   *               this call
+   * @param timeoutMillis maximum amount of time to wait
+   * @return changed games and the cursor to use next time. the list of games is empty if nothing
+   * changed before the timeout.
+   * @throws InterruptedException
+   */
+  public GameUpdates waitForUpdates(String accessToken, long cursor, long timeoutMillis) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + timeoutMillis;
+
+    while (true) {
+      Subscription subscription = subscribe(accessToken);
+
+      synchronized (subscription) {
+        // It may have gone idle and been dropped before we got its monitor. Updating lastRequestedAt
+        // while holding the monitor keeps onPoll from dropping it now.
+        if (subscriptions.get(accessToken) != subscription) {
+          continue;
+        }
+
+        subscription.lastRequestedAt = System.currentTimeMillis();
+
+        // Versions start over if the server restarts. Treat a cursor from the future as a new client.
+        if (cursor > subscription.version) {
+          cursor = 0;
+        }
+
+        if (cursor == 0) {
+          cursor = subscription.version;
+        }
+
+        long remaining = deadline - System.currentTimeMillis();
+        while (subscription.version <= cursor && remaining > 0) {
+          subscription.wait(remaining);
+          remaining = deadline - System.currentTimeMillis();
+        }
+
+        return subscription.getUpdatesAfter(cursor);
+      }
+    }
+  }
+
+  /**
+   * Stop polling for an access token. Clients waiting on it time out normally.
+   *
+   * @param accessToken
+   */
+  public void unsubscribe(String accessToken) {
+    synchronized (subscriptions) {
+      Subscription subscription = subscriptions.remove(accessToken);
+
+      if (subscription != null) {
+        scheduler.unregister(subscription.account);
+      }
+    }
+  }
+
+  /**
+   * @return the number of access tokens being polled
+   */
+  public int getNumSubscriptions() {
+    return subscriptions.size();
+  }
+
+  /**
+   * Find or start the subscription for a token. New subscriptions are registered with the scheduler
+   * before they're published, so unsubscribe always has an account to unregister. Creating and
+   * removing subscriptions is guarded by the subscriptions map's monitor.
+   *
+   * @param accessToken
+   * @return
+   */
+  protected Subscription subscribe(String accessToken) {
+    Subscription subscription = subscriptions.get(accessToken);
+
+    if (subscription == null) {
+      synchronized (subscriptions) {
+        subscription = subscriptions.get(accessToken);
+
+        if (subscription == null) {
+          subscription = new Subscription(accessToken);
+          subscription.account = scheduler.register(new StatefulApiProvider(accessToken, provider), subscription);
+          subscriptions.put(accessToken, subscription);
+
+          LOG.debug("started polling for updates for {}", AccessToken.fingerprint(accessToken));
+        }
+      }
+    }
+
+    return subscription;
+  }
+
+  /**
+   * Update state for a single access token. Guarded by the subscription's monitor, which waiting
+   * clients also wait on.
+   */
+  protected class Subscription implements PollListener {
+    private final String accessToken;
+    private final Map<Long, GameMeta> games = new HashMap<Long, GameMeta>();
+    private final Map<Long, Long> gameVersions = new HashMap<Long, Long>();
+    private volatile PollScheduler.Account account;
+    private long version = 0;
+    private long lastRequestedAt = System.currentTimeMillis();
+
+    public Subscription(String accessToken) {
+      this.accessToken = accessToken;
+    }
+
+    @Override
+    public synchronized void onPoll(PollScheduler.Account account, List<GameMeta> changed) {
+      if (System.currentTimeMillis() - lastRequestedAt > idleMillis) {
+        synchronized (subscriptions) {
+          subscriptions.remove(accessToken, this);
+          scheduler.unregister(account);
+        }
+
+        LOG.debug("stopped polling for updates for {} after it went idle", AccessToken.fingerprint(accessToken));
+      }
+      else if (!changed.isEmpty()) {
+        update(changed);
+      }
+    }
+
+    /**
+     * Record changed games and wake up any waiting clients
+     *
+     * @param changed
+     */
+    protected synchronized void update(List<GameMeta> changed) {
+      version++;
+
+      for (GameMeta meta : changed) {
+        games.put(meta.getId(), meta);
+        gameVersions.put(meta.getId(), version);
+
+        // Whatever is cached for this game is out of date now
+        if (provider instanceof CachingApiProvider) {
+          ((CachingApiProvider) provider).invalidateGame(accessToken, meta.getId());
+        }
+      }
+
+      notifyAll();
+    }
+
+    protected synchronized GameUpdates getUpdatesAfter(long cursor) {
+      List<GameMeta> changed = new ArrayList<GameMeta>();
+
+      for (Map.Entry<Long, Long> entry : gameVersions.entrySet()) {
+        if (entry.getValue() > cursor) {
+          changed.add(games.get(entry.getKey()));
+        }
+      }
+
+      return new GameUpdates().setCursor(version).setGames(changed);
+    }
+  }
+}
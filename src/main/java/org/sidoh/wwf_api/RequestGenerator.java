@@ -69,32 +69,57 @@ public class RequestGenerator {
    * @return multimap because some keys can be repeated.
    */
   public Multimap<MoveRequestParam, Object> generateMoveParams(GameState gameState, MoveSubmission move) {
-    Multimap<MoveRequestParam, Object> params = LinkedHashMultimap.create();
-
     // Create a board to fiddle with. (needed for computing checksums, etc.)
     WordsWithFriendsBoard board = stateHelper.createBoardFromState(gameState);
+    Move gameMove = null;
+
+    // Make move - need to do so to accurately compute checksum, etc.
+    if (move.getType() == MoveType.PLAY) {
+      gameMove = stateHelper.buildGameStateMove(move);
+      board.move(gameMove);
+    }
+
+    return generateMoveParams(gameState.getId(),
+      gameState.getAllMovesSize(),
+      gameState.getRemainingTiles().size(),
+      board,
+      move,
+      gameMove);
+  }
+
+  /**
+   * Generates all of the relevant POST params for a move call when the move has already been made
+   * on a board. This avoids rebuilding the board from a GameState, which is useful when the caller
+   * is keeping its own board around (e.g., MutableGameState).
+   *
+   * @param gameId
+   * @param moveIndex index of the move being made (i.e., the number of moves made before it)
+   * @param numRemainingTiles number of tiles in the bag before the move was made
+   * @param board board with the move already made
+   * @param move
+   * @param gameMove the move that was made on the board. only needed if move is a PLAY.
+   * @return multimap because some keys can be repeated.
+   */
+  public Multimap<MoveRequestParam, Object> generateMoveParams(long gameId, int moveIndex, int numRemainingTiles,
+                                                               WordsWithFriendsBoard board, MoveSubmission move,
+                                                               Move gameMove) {
+    Multimap<MoveRequestParam, Object> params = LinkedHashMultimap.create();
 
     // Always need the game id, checksum, promoted, and move index, regardless of move type.
     // Can't always compute the checksum right away... need to wait until after play to compute
     // same for promoted.
-    params.put(MoveRequestParam.GAME_ID, gameState.getId());
-    params.put(MoveRequestParam.MOVE_INDEX, gameState.getAllMovesSize());
+    params.put(MoveRequestParam.GAME_ID, gameId);
+    params.put(MoveRequestParam.MOVE_INDEX, moveIndex);
 
     // PLAY is definitely the most complicated of the bunch...
     if (move.getType() == MoveType.PLAY) {
-      Move gameMove = stateHelper.buildGameStateMove(move);
-
-      // Make move - need to do so to accurately compute checksum, etc.
-      board.move(gameMove);
-
       // Call helper method to compute some of the request params related to the
       // play parameters
       PlayParams playParams = buildPlayParams(gameMove, board);
 
       params.put(MoveRequestParam.BOARD_CHECKSUM, computeBoardChecksum(board));
       params.put(MoveRequestParam.POINTS, gameMove.getResult().getScore());
-      params.put(MoveRequestParam.MOVE_INDEX, gameState.getAllMoves().size());
-      params.put(MoveRequestParam.PROMOTED, computePromotedValue(gameState, gameMove));
+      params.put(MoveRequestParam.PROMOTED, computePromotedValue(numRemainingTiles, gameMove));
       params.put(MoveRequestParam.FROM_X, playParams.getFromX());
       params.put(MoveRequestParam.FROM_Y, playParams.getFromY());
       params.put(MoveRequestParam.TO_X, playParams.getToX());
@@ -139,7 +164,7 @@ public class RequestGenerator {
 
     // This still needs to be filled in for non-play moves.
     if (! params.containsKey(MoveRequestParam.PROMOTED))
-      params.put(MoveRequestParam.PROMOTED, computePromotedValue(gameState, null));
+      params.put(MoveRequestParam.PROMOTED, computePromotedValue(numRemainingTiles, null));
 
     fillDefaultValues(params, MoveRequestParam.class);
 
@@ -161,7 +186,7 @@ public class RequestGenerator {
   }
 
   /**
-   * Compute the checksum. Note that any tiles placed on the board should have IDs that match
+   * Get the checksum. Note that any tiles placed on the board should have IDs that match
    * what the WWF API expects. In other words, only play tiles on the board if they're created
    * through the API.
    *
@@ -169,27 +194,7 @@ public class RequestGenerator {
    * @return
    */
   protected static int computeBoardChecksum(WordsWithFriendsBoard board) {
-    int a = 0;
-    int b = 0;
-
-    for (int row = 0; row < WordsWithFriendsBoard.DIMENSIONS; row++) {
-      for (int col = 0; col < WordsWithFriendsBoard.DIMENSIONS; col++) {
-        Tile tile = board.getSlot(row, col).getTile();
-        int value = tile == null ? -1 : tile.getId();
-
-        a ^= value;
-
-        if (value != 0) {
-          a ^= 1 << b;
-        }
-
-        if (++b == 32) {
-          b = 0;
-        }
-      }
-    }
-
-    return a;
+    return board.getChecksum();
   }
 
   /**
@@ -253,15 +258,15 @@ public class RequestGenerator {
    *
    * promoted: this.tiles.length == 1 && this.words.length > 1 ? 3 : this.orientation() == "horizontal" ? 1 : 2,
    *
-   * @param state
+   * @param numRemainingTiles number of tiles in the bag before the move
    * @param move
    * @return
    */
-  protected static int computePromotedValue(GameState state, Move move) {
+  protected static int computePromotedValue(int numRemainingTiles, Move move) {
     int numPlayedTiles = move == null ? 0 : move.getTiles().size();
     int numResultingWords = move == null ? 0 : move.getResult().getResultingWords().size();
 
-    if ( ((state.getRemainingTiles().size() - numPlayedTiles) == 1) && numResultingWords > 1 ) {
+    if ( ((numRemainingTiles - numPlayedTiles) == 1) && numResultingWords > 1 ) {
       return 3;
     }
     else if (move != null && move.getOrientation() == WordOrientation.HORIZONTAL) {
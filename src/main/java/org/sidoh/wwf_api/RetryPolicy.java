@@ -0,0 +1,90 @@
+package org.sidoh.wwf_api;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * <p>
+ * Decides whether a failed request should be retried and how long to wait first. Communication
+ * only retries requests that are safe to repeat (GETs). A POST that timed out may well have been
+ * processed, and submitting the same move twice is worse than reporting the error.
+ * </p>
+ * <p>
+ * Connection errors, server errors and throttling are retried. Waits grow exponentially with each
+ * attempt and are picked at random between zero and the cap for that attempt ("full jitter"), so
+ * clients that failed together don't retry together. If Zynga says how long to wait, we wait at
+ * least that long.
+ * </p>
+ */
+public class RetryPolicy {
+  public static final int DEFAULT_MAX_ATTEMPTS = 3;
+  public static final long DEFAULT_BASE_DELAY_MILLIS = 250;
+  public static final long DEFAULT_MAX_DELAY_MILLIS = 10000;
+
+  /**
+   * Never retries
+   */
+  public static final RetryPolicy NONE = new RetryPolicy(1, 0, 0, new Random());
+
+  private final int maxAttempts;
+  private final long baseDelayMillis;
+  private final long maxDelayMillis;
+  private final Random random;
+
+  public RetryPolicy() {
+    this(DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_DELAY_MILLIS, DEFAULT_MAX_DELAY_MILLIS, new Random());
+  }
+
+  /**
+   * @param maxAttempts most times a request is tried, including the first
+   * @param baseDelayMillis cap on the wait before the first retry. doubles for every retry after.
+   * @param maxDelayMillis cap on the wait before any retry
+   * @param random source of jitter
+   */
+  public RetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis, Random random) {
+    this.maxAttempts = maxAttempts;
+    this.baseDelayMillis = baseDelayMillis;
+    this.maxDelayMillis = maxDelayMillis;
+    this.random = random;
+  }
+
+  /**
+   * @param attempt number of attempts made so far (1 after the first failure)
+   * @param e the error from the last attempt
+   * @return how long to wait before trying again, or -1 if the request shouldn't be retried
+   */
+  public long getRetryDelayMillis(int attempt, ApiRequestException e) {
+    if (attempt >= maxAttempts || !isRetryable(e)) {
+      return -1;
+    }
+
+    long cap = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 30));
+    long delay;
+
+    synchronized (random) {
+      delay = (long) (random.nextDouble() * cap);
+    }
+
+    if (e instanceof ThrottledException) {
+      delay = Math.max(delay, ((ThrottledException) e).getRetryAfterMillis());
+    }
+
+    return delay;
+  }
+
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * @param e
+   * @return true if the request that caused the error might succeed if tried again
+   */
+  protected static boolean isRetryable(ApiRequestException e) {
+    if (e instanceof ApiResponseException) {
+      return ((ApiResponseException) e).isRetryable();
+    }
+
+    return e.getCause() instanceof IOException;
+  }
+}
@@ -0,0 +1,248 @@
+package org.sidoh.wwf_api;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.sidoh.wwf_api.metrics.MetricsRecorder;
+import org.sidoh.wwf_api.ratelimit.RequestRateLimiter;
+import org.sidoh.wwf_api.types.api.GameIndex;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * <p>
+ * Drives many accounts from one process. Every account gets a Session, which works like a
+ * StatefulApiProvider, but all sessions share a single ApiProvider and a single worker pool. That
+ * means one Communication (so one rate limiter and retry policy), one set of caches and one bounded
+ * set of threads no matter how many accounts there are. HttpURLConnection already pools keep-alive
+ * connections per host across the whole JVM, so sharing a provider shares those too.
+ * </p>
+ * <p>
+ * Sessions can run calls in the background on the shared workers, and runForAll runs a task for
+ * every open session at once. Thread-safe.
+ * </p>
+ */
+public class SessionManager {
+  private static final Logger LOG = LoggerFactory.getLogger(SessionManager.class);
+
+  public static final int DEFAULT_WORKER_THREADS = 16;
+
+  private final ApiProvider provider;
+  private final ExecutorService workers;
+  private final boolean ownsWorkers;
+  private final ConcurrentMap<String, Session> sessions = new ConcurrentHashMap<String, Session>();
+
+  public SessionManager(MetricsRecorder metrics) {
+    this(metrics, new RequestRateLimiter(), DEFAULT_WORKER_THREADS);
+  }
+
+  /**
+   * Build the shared provider: a caching provider over a single Communication.
+   *
+   * @param metrics receives metrics for every upstream request
+   * @param rateLimiter spaces out requests for every account
+   * @param workerThreads size of the shared worker pool
+   */
+  public SessionManager(MetricsRecorder metrics, RequestRateLimiter rateLimiter, int workerThreads) {
+    this(new CachingApiProvider(new ApiProvider(metrics, new Communication(metrics, 0, rateLimiter, new RetryPolicy()))),
+      Executors.newFixedThreadPool(workerThreads,
+        new ThreadFactoryBuilder().setNameFormat("session-worker-%d").setDaemon(true).build()),
+      true);
+  }
+
+  /**
+   * @param provider makes calls for every session
+   * @param workers runs background calls for every session. isn't shut down by shutdown.
+   */
+  public SessionManager(ApiProvider provider, ExecutorService workers) {
+    this(provider, workers, false);
+  }
+
+  private SessionManager(ApiProvider provider, ExecutorService workers, boolean ownsWorkers) {
+    this.provider = provider;
+    this.workers = workers;
+    this.ownsWorkers = ownsWorkers;
+  }
+
+  /**
+   * @param accessToken
+   * @return the account's session, which is opened if it isn't already
+   */
+  public Session open(String accessToken) {
+    Session session = sessions.get(accessToken);
+
+    if (session == null) {
+      Session newSession = new Session(accessToken);
+      session = sessions.putIfAbsent(accessToken, newSession);
+
+      if (session == null) {
+        session = newSession;
+        LOG.debug("opened session for {}", AccessToken.fingerprint(accessToken));
+      }
+    }
+
+    return session;
+  }
+
+  /**
+   * @param accessToken
+   * @return the account's session, or null if it isn't open
+   */
+  public Session get(String accessToken) {
+    return sessions.get(accessToken);
+  }
+
+  /**
+   * Close an account's session and drop anything cached for it. Background calls that were
+   * already submitted still run.
+   *
+   * @param accessToken
+   */
+  public void close(String accessToken) {
+    Session session = sessions.remove(accessToken);
+
+    if (session != null) {
+      session.closed = true;
+
+      if (provider instanceof CachingApiProvider) {
+        ((CachingApiProvider) provider).invalidateAccount(accessToken);
+      }
+
+      LOG.debug("closed session for {}", AccessToken.fingerprint(accessToken));
+    }
+  }
+
+  /**
+   * @return every open session
+   */
+  public Collection<Session> getSessions() {
+    return new ArrayList<Session>(sessions.values());
+  }
+
+  /**
+   * @return the number of open sessions
+   */
+  public int size() {
+    return sessions.size();
+  }
+
+  /**
+   * @return the provider shared by every session
+   */
+  public ApiProvider getProvider() {
+    return provider;
+  }
+
+  /**
+   * Run a task for every open session on the shared workers
+   *
+   * @param task
+   * @param <T>
+   * @return the result of each task, by access token
+   */
+  public <T> Map<String, Future<T>> runForAll(SessionTask<T> task) {
+    Map<String, Future<T>> results = new LinkedHashMap<String, Future<T>>();
+
+    for (Session session : getSessions()) {
+      results.put(session.getAccessToken(), session.submit(task));
+    }
+
+    return results;
+  }
+
+  /**
+   * Close every session. The worker pool is shut down if the manager created it.
+   */
+  public void shutdown() {
+    for (String accessToken : new ArrayList<String>(sessions.keySet())) {
+      close(accessToken);
+    }
+
+    if (ownsWorkers) {
+      workers.shutdown();
+    }
+  }
+
+  /**
+   * Something to do with a session
+   *
+   * @param <T>
+   */
+  public interface SessionTask<T> {
+    T run(Session session) throws Exception;
+  }
+
+  /**
+   * A view of the manager for a single account
+   */
+  public class Session extends StatefulApiProvider {
+    private volatile boolean closed = false;
+
+    protected Session(String accessToken) {
+      super(accessToken, provider);
+    }
+
+    /**
+     * @return true if the session has been closed. calls still work, but the session is no longer
+     * tracked by the manager.
+     */
+    public boolean isClosed() {
+      return closed;
+    }
+
+    /**
+     * Run a task for this session on the shared workers
+     *
+     * @param task
+     * @param <T>
+     * @return
+     */
+    public <T> Future<T> submit(final SessionTask<T> task) {
+      return workers.submit(new Callable<T>() {
+        @Override
+        public T call() throws Exception {
+          return task.run(Session.this);
+        }
+      });
+    }
+
+    /**
+     * Fetch the game index on the shared workers
+     *
+     * @return
+     */
+    public Future<GameIndex> getGameIndexAsync() {
+      return submit(new SessionTask<GameIndex>() {
+        @Override
+        public GameIndex run(Session session) {
+          return session.getGameIndex();
+        }
+      });
+    }
+
+    /**
+     * Fetch a game on the shared workers
+     *
+     * @param gameId
+     * @return
+     */
+    public Future<GameState> getGameStateAsync(final long gameId) {
+      return submit(new SessionTask<GameState>() {
+        @Override
+        public GameState run(Session session) {
+          return session.getGameState(gameId);
+        }
+      });
+    }
+  }
+}
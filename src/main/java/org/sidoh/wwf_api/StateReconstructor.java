@@ -2,7 +2,10 @@ package org.sidoh.wwf_api;
 
 import com.google.common.collect.Lists;
 import org.sidoh.wwf_api.game_state.GameStateHelper;
+import org.sidoh.wwf_api.game_state.InvalidGameStateException;
 import org.sidoh.wwf_api.game_state.WordsWithFriendsBoard;
+import org.sidoh.wwf_api.metrics.MetricsRecorder;
+import org.sidoh.wwf_api.metrics.NoopMetricsRecorder;
 import org.sidoh.wwf_api.types.api.*;
 import org.sidoh.wwf_api.types.game_state.Tile;
 import org.slf4j.Logger;
@@ -22,6 +25,34 @@ public class StateReconstructor {
 
   private static final GameStateHelper stateHelper = GameStateHelper.getInstance();
 
+  /**
+   * Name of the metric recording time spent in reconstructState
+   */
+  public static final String RECONSTRUCT_METRIC = "reconstruct";
+
+  private final MetricsRecorder metrics;
+  private final boolean validateChecksums;
+
+  public StateReconstructor() {
+    this(NoopMetricsRecorder.getInstance());
+  }
+
+  public StateReconstructor(MetricsRecorder metrics) {
+    this(metrics, false);
+  }
+
+  /**
+   * @param metrics receives the time spent reconstructing each state
+   * @param validateChecksums if true, compare each move's board checksum with the checksum of the
+   *                          reconstructed board after the move, and throw an
+   *                          InvalidGameStateException as soon as one doesn't match. catches
+   *                          reconstructions that have gone out of sync with the server.
+   */
+  public StateReconstructor(MetricsRecorder metrics, boolean validateChecksums) {
+    this.metrics = metrics;
+    this.validateChecksums = validateChecksums;
+  }
+
   /**
    * Reconstructs the game state from a list of rules. This includes which tiles have
    * been played and both player's racks.
@@ -29,6 +60,17 @@ public class StateReconstructor {
    * @param state
    */
   public GameState reconstructState(GameState state) {
+    long start = System.nanoTime();
+
+    try {
+      return reconstruct(state);
+    }
+    finally {
+      metrics.recordTime(RECONSTRUCT_METRIC, System.nanoTime() - start);
+    }
+  }
+
+  protected GameState reconstruct(GameState state) {
     GameMeta meta = state.getMeta();
     Bag bag = new Bag(meta.getRandomSeed());
 
@@ -168,6 +210,11 @@ public class StateReconstructor {
         bag.returnTiles(returnedTiles);
       }
 
+      if (validateChecksums && move.isSetBoardChecksum() && move.getBoardChecksum() != scoringBoard.getChecksum()) {
+        throw new InvalidGameStateException("board checksum doesn't match after move " + move.getId()
+          + ". saw: " + move.getBoardChecksum() + ", expected: " + scoringBoard.getChecksum());
+      }
+
       // swap players
       User tmp = currentUser;
       currentUser = otherUser;
@@ -175,7 +222,7 @@ public class StateReconstructor {
     }
 
     state.setRacks(tiles);
-    state.setBoard(scoringBoard.getStorage().getSlots());
+    state.setBoard(scoringBoard.getStorage().deepCopy().getSlots());
     state.setScores(scores.getCounts());
     state.setRemainingTiles(bag.getRemainingTilesInPullOrder());
 
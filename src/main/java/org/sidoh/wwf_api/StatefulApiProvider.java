@@ -19,11 +19,26 @@ import java.util.List;
 public class StatefulApiProvider {
   private static final Logger LOG = LoggerFactory.getLogger(StatefulApiProvider.class);
 
-  private static final ApiProvider PROVIDER = new ApiProvider();
+  private static final ApiProvider DEFAULT_PROVIDER = new ApiProvider();
+
+  private final ApiProvider provider;
   private final String accessToken;
 
   public StatefulApiProvider(String accessToken) {
+    this(accessToken, DEFAULT_PROVIDER);
+  }
+
+  /**
+   * @param accessToken
+   * @param provider the provider to make calls with (e.g., one constructed with a MetricsRecorder)
+   */
+  public StatefulApiProvider(String accessToken, ApiProvider provider) {
     this.accessToken = accessToken;
+    this.provider = provider;
+  }
+
+  public String getAccessToken() {
+    return accessToken;
   }
 
   /**
@@ -34,7 +49,7 @@ public class StatefulApiProvider {
    * @throws ApiRequestException, ParserException
    */
   public List<ChatMessage> getUnreadChats(long gameId) throws ApiRequestException, ParserException {
-    return PROVIDER.getUnreadChats(accessToken, gameId);
+    return provider.getUnreadChats(accessToken, gameId);
   }
 
   /**
@@ -44,7 +59,7 @@ public class StatefulApiProvider {
    * @throws ApiRequestException, ParserException
    */
   public GameIndex getGameIndex() throws ApiRequestException, ParserException {
-    return PROVIDER.getGameIndex(accessToken);
+    return provider.getGameIndex(accessToken);
   }
 
   /**
@@ -55,7 +70,7 @@ public class StatefulApiProvider {
    * @throws ApiRequestException, ParserException
    */
   public GameState getGameState(long gameId) throws ApiRequestException, ParserException {
-    return PROVIDER.getGameState(accessToken, gameId);
+    return provider.getGameState(accessToken, gameId);
   }
 
   /**
@@ -68,7 +83,7 @@ public class StatefulApiProvider {
    */
   public GameState makeMove(GameState state, MoveSubmission move)
     throws ApiRequestException, MoveValidationException, ParserException {
-    return PROVIDER.makeMove(accessToken, state, move);
+    return provider.makeMove(accessToken, state, move);
   }
 
   /**
@@ -77,7 +92,7 @@ public class StatefulApiProvider {
    * @throws ApiRequestException, ParserException
    */
   public void createRandomGame() throws ApiRequestException, ParserException {
-    PROVIDER.createRandomGame(accessToken);
+    provider.createRandomGame(accessToken);
   }
 
   /**
@@ -87,7 +102,7 @@ public class StatefulApiProvider {
    * @throws ApiRequestException, ParserException
    */
   public void createFacebookGame(long userId) throws ApiRequestException, ParserException {
-    PROVIDER.createFacebookGame(accessToken, userId);
+    provider.createFacebookGame(accessToken, userId);
   }
 
   /**
@@ -97,7 +112,7 @@ public class StatefulApiProvider {
    * @throws ApiRequestException, ParserException
    */
   public void createZyngaGame(long userId) throws ApiRequestException, ParserException {
-    PROVIDER.createZyngaGame(accessToken, userId);
+    provider.createZyngaGame(accessToken, userId);
   }
 
   /**
@@ -109,7 +124,7 @@ public class StatefulApiProvider {
    * @throws ApiRequestException, ParserException
    */
   public ChatMessage submitChatMessage(long gameId, String message) throws ApiRequestException, ParserException {
-    return PROVIDER.submitChatMessage(accessToken, gameId, message);
+    return provider.submitChatMessage(accessToken, gameId, message);
   }
 
   /**
@@ -120,7 +135,7 @@ public class StatefulApiProvider {
    * @throws ApiRequestException, ParserException
    */
   public List<String> dictionaryLookup(List<String> words) throws ApiRequestException, ParserException {
-    return PROVIDER.dictionaryLookup(accessToken, words);
+    return provider.dictionaryLookup(accessToken, words);
   }
 
   /**
@@ -132,6 +147,6 @@ public class StatefulApiProvider {
    * @throws ApiRequestException, ParserException
    */
   public GameIndex getGamesWithUpdates(int timestamp) throws ApiRequestException, ParserException {
-    return PROVIDER.getGamesWithUpdates(accessToken, timestamp);
+    return provider.getGamesWithUpdates(accessToken, timestamp);
   }
 }
@@ -0,0 +1,32 @@
+package org.sidoh.wwf_api;
+
+/**
+ * Thrown when Zynga responds with HTTP 429, meaning we're sending requests too quickly.
+ */
+public class ThrottledException extends ApiResponseException {
+  public static final int STATUS_CODE = 429;
+
+  private final long retryAfterMillis;
+
+  /**
+   * @param body
+   * @param retryAfterMillis how long Zynga asked us to wait, or -1 if it didn't say
+   */
+  public ThrottledException(String body, long retryAfterMillis) {
+    super(STATUS_CODE, body);
+    this.retryAfterMillis = retryAfterMillis;
+  }
+
+  /**
+   * @return how long Zynga asked us to wait before trying again (from the Retry-After header), or
+   * -1 if it didn't say
+   */
+  public long getRetryAfterMillis() {
+    return retryAfterMillis;
+  }
+
+  @Override
+  public boolean isRetryable() {
+    return true;
+  }
+}
@@ -0,0 +1,269 @@
+package org.sidoh.wwf_api.archive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Layout of archive segments. Everything is big-endian. A segment is:
+ * </p>
+ * <pre>
+ *   header:  int magic, byte version
+ *   entries, each starting with a type byte:
+ *     record:  byte 1, long gameId, int length, length bytes of compact thrift
+ *              byte 4, long gameId, int length, length bytes of CompactGameCodec output
+ *     index:   byte 2, int count, long previousIndexOffset (-1 for the first), count x (long gameId, long recordOffset)
+ *   trailer: byte 3, long lastIndexOffset, int magic
+ * </pre>
+ * <p>
+ * An index block is written every few records, covering the records since the previous block.
+ * The trailer is written when a segment is sealed, and lets readers find every record by following
+ * the chain of index blocks back from the end instead of reading the whole segment. A segment
+ * without a trailer (the writer crashed) is scanned record by record instead, and a partially
+ * written record at the end is ignored.
+ * </p>
+ */
+final class ArchiveFormat {
+  private static final Logger LOG = LoggerFactory.getLogger(ArchiveFormat.class);
+
+  /**
+   * "WWFA"
+   */
+  static final int MAGIC = 0x57574641;
+  static final byte VERSION = 1;
+  static final int HEADER_BYTES = 4 + 1;
+
+  static final byte RECORD = 1;
+  static final byte INDEX = 2;
+  static final byte TRAILER = 3;
+  static final byte MOVES_RECORD = 4;
+
+  static final int RECORD_HEADER_BYTES = 1 + 8 + 4;
+  static final int INDEX_HEADER_BYTES = 1 + 4 + 8;
+  static final int INDEX_ENTRY_BYTES = 8 + 8;
+  static final int TRAILER_BYTES = 1 + 8 + 4;
+
+  private static final String SEGMENT_PREFIX = "segment-";
+  private static final String SEGMENT_SUFFIX = ".wwfa";
+
+  /**
+   * Record locations pack the segment number into the high bits and the offset into the low bits
+   */
+  private static final int OFFSET_BITS = 40;
+  private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+
+  private ArchiveFormat() { }
+
+  static String getSegmentName(int number) {
+    return String.format("%s%08d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX);
+  }
+
+  static int getSegmentNumber(File segment) {
+    String name = segment.getName();
+    return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+  }
+
+  /**
+   * @param directory
+   * @return segments in the directory, oldest first
+   */
+  static List<File> listSegments(File directory) {
+    File[] files = directory.listFiles(new FilenameFilter() {
+      @Override
+      public boolean accept(File dir, String name) {
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+      }
+    });
+
+    if (files == null) {
+      return new ArrayList<File>();
+    }
+
+    Arrays.sort(files);
+    return new ArrayList<File>(Arrays.asList(files));
+  }
+
+  static long getLocation(int segment, long offset) {
+    return ((long) segment << OFFSET_BITS) | offset;
+  }
+
+  static int getSegment(long location) {
+    return (int) (location >>> OFFSET_BITS);
+  }
+
+  static long getOffset(long location) {
+    return location & OFFSET_MASK;
+  }
+
+  /**
+   * Find every record in a segment and add its location to a map. Records that appear more than
+   * once keep the location of the last copy.
+   *
+   * @param channel
+   * @param segment position of the segment in the archive, used to build locations
+   * @param locations
+   * @throws IOException if the segment isn't an archive segment
+   */
+  static void readIndex(FileChannel channel, int segment, Map<Long, Long> locations) throws IOException {
+    long size = channel.size();
+    ByteBuffer header = read(channel, 0, HEADER_BYTES);
+
+    if (header.getInt() != MAGIC) {
+      throw new IOException("not an archive segment");
+    }
+
+    if (header.get() != VERSION) {
+      throw new IOException("unsupported archive version");
+    }
+
+    long lastIndexOffset = findLastIndex(channel, size);
+
+    if (lastIndexOffset != -1) {
+      readIndexChain(channel, segment, lastIndexOffset, locations);
+    }
+    else {
+      scan(channel, segment, size, locations);
+    }
+  }
+
+  /**
+   * @param channel
+   * @param size
+   * @return offset of the last index block according to the trailer, or -1 if the segment wasn't
+   * sealed
+   * @throws IOException
+   */
+  private static long findLastIndex(FileChannel channel, long size) throws IOException {
+    if (size < HEADER_BYTES + TRAILER_BYTES) {
+      return -1;
+    }
+
+    ByteBuffer trailer = read(channel, size - TRAILER_BYTES, TRAILER_BYTES);
+    byte type = trailer.get();
+    long offset = trailer.getLong();
+    int magic = trailer.getInt();
+
+    if (type != TRAILER || magic != MAGIC || offset < HEADER_BYTES || offset >= size - TRAILER_BYTES) {
+      return -1;
+    }
+
+    return offset;
+  }
+
+  private static void readIndexChain(FileChannel channel, int segment, long offset, Map<Long, Long> locations)
+    throws IOException {
+    List<long[]> blocks = new ArrayList<long[]>();
+
+    while (offset != -1) {
+      ByteBuffer header = read(channel, offset, INDEX_HEADER_BYTES);
+
+      if (header.get() != INDEX) {
+        throw new IOException("corrupt index chain at offset " + offset);
+      }
+
+      int count = header.getInt();
+      long previous = header.getLong();
+      ByteBuffer entries = read(channel, offset + INDEX_HEADER_BYTES, count * INDEX_ENTRY_BYTES);
+      long[] block = new long[count * 2];
+
+      entries.asLongBuffer().get(block);
+      blocks.add(block);
+      offset = previous;
+    }
+
+    // The chain runs newest to oldest. Apply it oldest first so later copies win.
+    for (int i = blocks.size() - 1; i >= 0; i--) {
+      long[] block = blocks.get(i);
+
+      for (int j = 0; j < block.length; j += 2) {
+        locations.put(block[j], getLocation(segment, block[j + 1]));
+      }
+    }
+  }
+
+  private static void scan(FileChannel channel, int segment, long size, Map<Long, Long> locations) throws IOException {
+    long offset = HEADER_BYTES;
+
+    while (offset < size) {
+      if (size - offset < 1) {
+        break;
+      }
+
+      byte type = read(channel, offset, 1).get();
+
+      if (isRecord(type)) {
+        if (size - offset < RECORD_HEADER_BYTES) {
+          break;
+        }
+
+        ByteBuffer header = read(channel, offset, RECORD_HEADER_BYTES);
+        header.get();
+        long gameId = header.getLong();
+        int length = header.getInt();
+
+        if (length < 0 || offset + RECORD_HEADER_BYTES + length > size) {
+          break;
+        }
+
+        locations.put(gameId, getLocation(segment, offset));
+        offset += RECORD_HEADER_BYTES + length;
+      }
+      else if (type == INDEX) {
+        if (size - offset < INDEX_HEADER_BYTES) {
+          break;
+        }
+
+        ByteBuffer header = read(channel, offset, INDEX_HEADER_BYTES);
+        header.get();
+        offset += INDEX_HEADER_BYTES + (long) header.getInt() * INDEX_ENTRY_BYTES;
+      }
+      else {
+        break;
+      }
+    }
+
+    if (offset < size) {
+      LOG.warn("ignoring {} bytes of partially written data at the end of segment {}", size - offset, segment);
+    }
+  }
+
+  /**
+   * @param type
+   * @return true if entries of this type hold a game
+   */
+  static boolean isRecord(byte type) {
+    return type == RECORD || type == MOVES_RECORD;
+  }
+
+  /**
+   * Read exactly length bytes from a channel.
+   *
+   * @param channel
+   * @param offset
+   * @param length
+   * @return a buffer positioned at the start of the data
+   * @throws IOException if the channel ends first
+   */
+  static ByteBuffer read(FileChannel channel, long offset, int length) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, offset + buffer.position()) == -1) {
+        throw new IOException("unexpected end of segment");
+      }
+    }
+
+    buffer.flip();
+    return buffer;
+  }
+}
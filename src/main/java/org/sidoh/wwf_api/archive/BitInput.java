@@ -0,0 +1,79 @@
+package org.sidoh.wwf_api.archive;
+
+import com.google.common.base.Charsets;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads values written by BitOutput. Reads use absolute positions, so the buffer itself isn't
+ * modified.
+ */
+class BitInput {
+  private final ByteBuffer buffer;
+  private final int start;
+  private final long bitLimit;
+  private long bitPosition = 0;
+
+  /**
+   * @param buffer data between the buffer's position and limit
+   */
+  public BitInput(ByteBuffer buffer) {
+    this.buffer = buffer;
+    this.start = buffer.position();
+    this.bitLimit = (long) buffer.remaining() << 3;
+  }
+
+  public long readBits(int count) {
+    long value = 0;
+
+    for (int i = 0; i < count; i++) {
+      value = (value << 1) | (readBit() ? 1 : 0);
+    }
+
+    return value;
+  }
+
+  public boolean readBit() {
+    if (bitPosition >= bitLimit) {
+      throw new IllegalStateException("read past the end of the data");
+    }
+
+    int b = buffer.get(start + (int) (bitPosition >>> 3));
+    boolean bit = (b & (0x80 >>> (bitPosition & 7))) != 0;
+    bitPosition++;
+
+    return bit;
+  }
+
+  public long readVarLong() {
+    long value = 0;
+
+    for (int shift = 0; ; shift += 7) {
+      long group = readBits(8);
+      value |= (group & 0x7F) << shift;
+
+      if ((group & 0x80) == 0) {
+        return value;
+      }
+    }
+  }
+
+  public long readSignedVarLong() {
+    long value = readVarLong();
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  public int readInt() {
+    return (int) readSignedVarLong();
+  }
+
+  public String readString() {
+    byte[] utf8 = new byte[(int) readVarLong()];
+
+    for (int i = 0; i < utf8.length; i++) {
+      utf8[i] = (byte) readBits(8);
+    }
+
+    return new String(utf8, Charsets.UTF_8);
+  }
+}
@@ -0,0 +1,78 @@
+package org.sidoh.wwf_api.archive;
+
+import com.google.common.base.Charsets;
+
+import java.util.Arrays;
+
+/**
+ * Writes values packed into as few bits as they need. Counterpart to BitInput.
+ */
+class BitOutput {
+  private byte[] bytes = new byte[256];
+  private long bitPosition = 0;
+
+  /**
+   * Write the low bits of a value
+   *
+   * @param value
+   * @param count number of bits to write (at most 64)
+   */
+  public void writeBits(long value, int count) {
+    for (int i = count - 1; i >= 0; i--) {
+      writeBit(((value >>> i) & 1) != 0);
+    }
+  }
+
+  public void writeBit(boolean bit) {
+    int index = (int) (bitPosition >>> 3);
+
+    if (index == bytes.length) {
+      bytes = Arrays.copyOf(bytes, bytes.length * 2);
+    }
+
+    if (bit) {
+      bytes[index] |= (byte) (0x80 >>> (bitPosition & 7));
+    }
+
+    bitPosition++;
+  }
+
+  /**
+   * Write a non-negative value in groups of seven bits, so small values are short
+   *
+   * @param value
+   */
+  public void writeVarLong(long value) {
+    while ((value & ~0x7FL) != 0) {
+      writeBits((value & 0x7F) | 0x80, 8);
+      value >>>= 7;
+    }
+
+    writeBits(value, 8);
+  }
+
+  /**
+   * Write a value that might be negative. Values near zero are short either way.
+   *
+   * @param value
+   */
+  public void writeSignedVarLong(long value) {
+    writeVarLong((value << 1) ^ (value >> 63));
+  }
+
+  public void writeString(String value) {
+    byte[] utf8 = value.getBytes(Charsets.UTF_8);
+
+    writeVarLong(utf8.length);
+    for (byte b : utf8) {
+      writeBits(b, 8);
+    }
+  }
+
+  /**
+   * @return everything written so far, padded with zeros to a whole number of bytes
+   */
+  public byte[] toByteArray() {
+    return Arrays.copyOf(bytes, (int) ((bitPosition + 7) >>> 3));
+  }
+}
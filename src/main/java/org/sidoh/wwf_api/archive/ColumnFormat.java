@@ -0,0 +1,112 @@
+package org.sidoh.wwf_api.archive;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * <p>
+ * Layout of the files written by MoveColumnWriter. Everything is big-endian. Every file starts
+ * with the same header, which is 16 bytes so that the values after it stay aligned:
+ * </p>
+ * <pre>
+ *   header: int magic, int version, long count
+ * </pre>
+ * <p>
+ * The fixed-width columns in MoveColumn hold count values each. The rest are:
+ * </p>
+ * <pre>
+ *   move_type:    count runs of (int length, int MoveType value), covering every move in order
+ *   word_offsets: count ints. move i's words are word_ids[word_offsets[i] .. word_offsets[i + 1])
+ *   word_ids:     count ints, each an index into the dictionary
+ *   dictionary:   count modified UTF-8 strings (as written by DataOutputStream.writeUTF)
+ * </pre>
+ */
+final class ColumnFormat {
+  /**
+   * "WWFC"
+   */
+  static final int MAGIC = 0x57574643;
+  static final int VERSION = 1;
+  static final int HEADER_BYTES = 4 + 4 + 8;
+
+  static final String EXTENSION = ".col";
+  static final String MOVE_TYPES = "move_type";
+  static final String WORD_OFFSETS = "word_offsets";
+  static final String WORD_IDS = "word_ids";
+  static final String DICTIONARY = "dictionary";
+
+  private ColumnFormat() { }
+
+  static File getFile(File directory, String name) {
+    return new File(directory, name + EXTENSION);
+  }
+
+  /**
+   * Write a header with a count of 0. The real count is filled in by setCount once it's known.
+   */
+  static void writeHeader(DataOutputStream out) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+    out.writeLong(0);
+  }
+
+  static void setCount(File file, long count) throws IOException {
+    RandomAccessFile raf = new RandomAccessFile(file, "rw");
+    try {
+      raf.seek(HEADER_BYTES - 8);
+      raf.writeLong(count);
+    }
+    finally {
+      raf.close();
+    }
+  }
+
+  /**
+   * Map a column file
+   *
+   * @param file
+   * @return the values after the header, and the count from the header
+   * @throws IOException if the file isn't a column or is too big to map
+   */
+  static Mapped map(File file) throws IOException {
+    RandomAccessFile raf = new RandomAccessFile(file, "r");
+    try {
+      FileChannel channel = raf.getChannel();
+
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException(file + " is too big to map");
+      }
+
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+      if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+        throw new IOException(file + " isn't a move column");
+      }
+
+      if (buffer.getInt() != VERSION) {
+        throw new IOException(file + " has an unsupported version");
+      }
+
+      long count = buffer.getLong();
+      return new Mapped(buffer.slice(), count);
+    }
+    finally {
+      raf.close();
+    }
+  }
+
+  static final class Mapped {
+    final ByteBuffer values;
+    final long count;
+
+    Mapped(ByteBuffer values, long count) {
+      this.values = values;
+      this.count = count;
+    }
+  }
+}
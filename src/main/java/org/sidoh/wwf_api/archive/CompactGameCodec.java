@@ -0,0 +1,739 @@
+package org.sidoh.wwf_api.archive;
+
+import org.sidoh.wwf_api.Bag;
+import org.sidoh.wwf_api.StateReconstructor;
+import org.sidoh.wwf_api.game_state.GameStateHelper;
+import org.sidoh.wwf_api.game_state.WordsWithFriendsBoard;
+import org.sidoh.wwf_api.types.api.ChatMessage;
+import org.sidoh.wwf_api.types.api.Coordinates;
+import org.sidoh.wwf_api.types.api.GameMeta;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.types.api.MoveData;
+import org.sidoh.wwf_api.types.api.MoveType;
+import org.sidoh.wwf_api.types.api.User;
+import org.sidoh.wwf_api.types.game_state.Tile;
+
+import java.nio.ByteBuffer;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Stores games as just what can't be derived: the random seed, the players, scores, chats and a
+ * bit-packed list of moves. The board, racks, remaining tiles and move tiles are rebuilt on read by
+ * StateReconstructor, exactly the way they're built when a game is fetched from Zynga, so they
+ * aren't stored at all. A finished game takes roughly a seventh of the space of its compact thrift
+ * serialization.
+ * </p>
+ * <p>
+ * Within a move:
+ * </p>
+ * <ul>
+ *   <li>Played tiles are 7-bit tile ids, with blank letters in 5 bits.</li>
+ *   <li>Coordinates are 4 bits each.</li>
+ *   <li>Ids and timestamps are stored as differences from the previous move.</li>
+ *   <li>Words are usually the ones the move forms on the board, so they're stored as the order
+ *   in which they appear rather than as strings.</li>
+ * </ul>
+ * <p>
+ * Anything that doesn't follow the usual pattern (an odd timestamp, move text that doesn't
+ * round-trip, words that don't match the board) is stored verbatim, so unusual values still
+ * decode exactly. Games whose derived fields weren't built by StateReconstructor can't be
+ * reproduced, though. Use roundTrips to check before relying on this encoding.
+ * </p>
+ */
+public class CompactGameCodec {
+  private static final int VERSION = 1;
+
+  private static final int MOVE_TYPE_BITS = 3;
+  private static final int COORDINATE_BITS = 4;
+  private static final int TILE_ID_BITS = 7;
+  private static final int SKIPPED_TILE = (1 << TILE_ID_BITS) - 1;
+  private static final int LETTER_BITS = 5;
+  private static final int WORD_INDEX_BITS = 4;
+  private static final int MODE_BITS = 2;
+
+  private static final String SKIPPED_TILE_INDICATOR = "*";
+
+  // How a move's text is stored
+  private static final int TEXT_UNSET = 0;
+  private static final int TEXT_TILES = 1;
+  private static final int TEXT_RAW = 2;
+
+  // How a timestamp is stored
+  private static final int TIMESTAMP_UNSET = 0;
+  private static final int TIMESTAMP_SECONDS = 1;
+  private static final int TIMESTAMP_RAW = 2;
+
+  // How the metadata's last move is stored
+  private static final int LAST_MOVE_UNSET = 0;
+  private static final int LAST_MOVE_WITHOUT_TILES = 1;
+  private static final int LAST_MOVE_WITH_TILES = 2;
+  private static final int LAST_MOVE_RAW = 3;
+
+  private static final GameStateHelper stateHelper = GameStateHelper.getInstance();
+
+  private final StateReconstructor reconstructor;
+
+  public CompactGameCodec() {
+    this(new StateReconstructor());
+  }
+
+  /**
+   * @param reconstructor used to rebuild derived fields when decoding
+   */
+  public CompactGameCodec(StateReconstructor reconstructor) {
+    this.reconstructor = reconstructor;
+  }
+
+  /**
+   * @param state a game with its moves' tiles filled in (as returned by ApiProvider.getGameState)
+   * @return the encoded game
+   */
+  public byte[] encode(GameState state) {
+    BitOutput out = new BitOutput();
+    GameMeta meta = state.getMeta();
+
+    out.writeBits(VERSION, 8);
+    out.writeSignedVarLong(state.getId());
+
+    writeOptionalLong(out, meta.getId() == state.getId() ? null : meta.getId());
+    long createdAt = writeTimestamp(out, meta.getCreatedAt(), 0);
+    out.writeSignedVarLong(meta.getCreatedByUserId());
+    writeOptionalLong(out, meta.isSetCurrentMoveUserId() ? meta.getCurrentMoveUserId() : null);
+    out.writeBit(meta.isMatchmaking());
+    out.writeBit(meta.isOver());
+    out.writeBit(meta.isOpponentPresent());
+    out.writeSignedVarLong(meta.getRandomSeed());
+
+    out.writeVarLong(meta.getUsersByIdSize());
+    for (Map.Entry<Long, User> entry : meta.getUsersById().entrySet()) {
+      User user = entry.getValue();
+
+      out.writeSignedVarLong(entry.getKey());
+      writeOptionalLong(out, user.getId() == entry.getKey() ? null : user.getId());
+      out.writeString(user.getName());
+      writeOptionalLong(out, user.isSetFbId() ? user.getFbId() : null);
+    }
+
+    out.writeVarLong(meta.getUnreadChatIdsSize());
+    for (long chatId : meta.getUnreadChatIds()) {
+      out.writeSignedVarLong(chatId);
+    }
+
+    List<MoveData> moves = state.getAllMoves();
+    WordsWithFriendsBoard board = new WordsWithFriendsBoard();
+    long previousId = 0;
+    long previousTime = createdAt;
+
+    out.writeVarLong(moves.size());
+    for (int i = 0; i < moves.size(); i++) {
+      MoveData move = moves.get(i);
+
+      previousTime = writeMove(out, move, i, state.getId(), previousId, previousTime, board);
+      previousId = move.getId();
+    }
+
+    writeLastMove(out, meta, moves, state.getId(), createdAt);
+
+    // Scores include end of game adjustments that can't be derived from the moves
+    out.writeBit(state.isSetScores());
+    if (state.isSetScores()) {
+      out.writeVarLong(state.getScoresSize());
+      for (Map.Entry<Long, Integer> entry : state.getScores().entrySet()) {
+        out.writeSignedVarLong(entry.getKey());
+        out.writeSignedVarLong(entry.getValue());
+      }
+    }
+
+    long previousChatId = 0;
+    long previousChatTime = createdAt;
+
+    out.writeVarLong(state.getChatMessagesSize());
+    for (ChatMessage chat : state.getChatMessages()) {
+      out.writeSignedVarLong(chat.getId() - previousChatId);
+      out.writeSignedVarLong(chat.getUserId());
+      writeOptionalLong(out, chat.getGameId() == state.getId() ? null : chat.getGameId());
+      out.writeSignedVarLong(chat.getCode());
+      out.writeString(chat.getMessage());
+      previousChatTime = writeTimestamp(out, chat.getCreatedAt(), previousChatTime);
+      previousChatId = chat.getId();
+    }
+
+    return out.toByteArray();
+  }
+
+  /**
+   * @param data
+   * @return the decoded game with all derived fields rebuilt
+   */
+  public GameState decode(byte[] data) {
+    return decode(ByteBuffer.wrap(data));
+  }
+
+  /**
+   * @param data encoded game between the buffer's position and limit. the buffer isn't modified.
+   * @return the decoded game with all derived fields rebuilt
+   */
+  public GameState decode(ByteBuffer data) {
+    BitInput in = new BitInput(data);
+
+    int version = (int) in.readBits(8);
+    if (version != VERSION) {
+      throw new IllegalArgumentException("unsupported compact game version: " + version);
+    }
+
+    GameState state = new GameState();
+    GameMeta meta = new GameMeta();
+    long gameId = in.readSignedVarLong();
+
+    state.setId(gameId);
+    meta.setId(readOptionalLong(in, gameId));
+
+    String[] timestamp = new String[1];
+    long createdAt = readTimestamp(in, 0, timestamp);
+    meta.setCreatedAt(timestamp[0]);
+    meta.setCreatedByUserId(in.readSignedVarLong());
+
+    if (in.readBit()) {
+      meta.setCurrentMoveUserId(in.readSignedVarLong());
+    }
+
+    meta.setMatchmaking(in.readBit());
+    meta.setOver(in.readBit());
+    meta.setOpponentPresent(in.readBit());
+    meta.setRandomSeed(in.readSignedVarLong());
+
+    int numUsers = (int) in.readVarLong();
+    meta.setUsersById(new HashMap<Long, User>());
+    for (int i = 0; i < numUsers; i++) {
+      long key = in.readSignedVarLong();
+      User user = new User().setId(readOptionalLong(in, key)).setName(in.readString());
+
+      if (in.readBit()) {
+        user.setFbId(in.readSignedVarLong());
+      }
+
+      meta.putToUsersById(key, user);
+    }
+
+    int numUnreadChats = (int) in.readVarLong();
+    meta.setUnreadChatIds(new ArrayList<Long>(numUnreadChats));
+    for (int i = 0; i < numUnreadChats; i++) {
+      meta.addToUnreadChatIds(in.readSignedVarLong());
+    }
+
+    int numMoves = (int) in.readVarLong();
+    List<MoveData> moves = new ArrayList<MoveData>(numMoves);
+    List<int[]> wordOrders = new ArrayList<int[]>(numMoves);
+    long previousId = 0;
+    long previousTime = createdAt;
+
+    for (int i = 0; i < numMoves; i++) {
+      MoveData move = new MoveData();
+
+      previousTime = readMove(in, move, i, gameId, previousId, previousTime, wordOrders);
+      previousId = move.getId();
+      moves.add(move);
+    }
+
+    int lastMoveMode = (int) in.readBits(MODE_BITS);
+    if (lastMoveMode == LAST_MOVE_RAW) {
+      MoveData lastMove = new MoveData();
+      List<int[]> unused = new ArrayList<int[]>(1);
+
+      readMove(in, lastMove, -1, gameId, 0, createdAt, unused);
+      meta.setLastMove(lastMove);
+    }
+
+    Map<Long, Integer> scores = null;
+    if (in.readBit()) {
+      int numScores = (int) in.readVarLong();
+      scores = new HashMap<Long, Integer>();
+
+      for (int i = 0; i < numScores; i++) {
+        scores.put(in.readSignedVarLong(), (int) in.readSignedVarLong());
+      }
+    }
+
+    int numChats = (int) in.readVarLong();
+    List<ChatMessage> chats = new ArrayList<ChatMessage>(numChats);
+    long previousChatId = 0;
+    long previousChatTime = createdAt;
+
+    for (int i = 0; i < numChats; i++) {
+      ChatMessage chat = new ChatMessage()
+        .setId(previousChatId + in.readSignedVarLong())
+        .setUserId(in.readSignedVarLong());
+
+      chat.setGameId(readOptionalLong(in, gameId))
+        .setCode((int) in.readSignedVarLong())
+        .setMessage(in.readString());
+
+      previousChatTime = readTimestamp(in, previousChatTime, timestamp);
+      chat.setCreatedAt(timestamp[0]);
+      previousChatId = chat.getId();
+      chats.add(chat);
+    }
+
+    state.setAllMoves(moves);
+    state.setChatMessages(chats);
+    state.setMeta(meta);
+
+    reconstructor.reconstructState(state);
+    fillDerivedWords(moves, wordOrders);
+
+    state.setScores(scores);
+
+    if (lastMoveMode == LAST_MOVE_WITH_TILES || lastMoveMode == LAST_MOVE_WITHOUT_TILES) {
+      MoveData lastMove = moves.get(moves.size() - 1).deepCopy();
+
+      if (lastMoveMode == LAST_MOVE_WITHOUT_TILES) {
+        lastMove.setTiles(null);
+      }
+
+      meta.setLastMove(lastMove);
+    }
+
+    return state;
+  }
+
+  /**
+   * @param state
+   * @return true if the state decodes to exactly the same thing after being encoded
+   */
+  public boolean roundTrips(GameState state) {
+    try {
+      return decode(encode(state)).equals(state);
+    }
+    catch (RuntimeException e) {
+      return false;
+    }
+  }
+
+  private long writeMove(BitOutput out,
+                         MoveData move,
+                         int index,
+                         long gameId,
+                         long previousId,
+                         long previousTime,
+                         WordsWithFriendsBoard board) {
+    out.writeBits(move.getMoveType().getValue(), MOVE_TYPE_BITS);
+    out.writeSignedVarLong(move.getId() - previousId);
+    writeOptionalLong(out, move.getMoveIndex() == index ? null : (long) move.getMoveIndex());
+    writeOptionalLong(out, move.getGameId() == gameId ? null : move.getGameId());
+    out.writeSignedVarLong(move.getBoardChecksum());
+    long time = writeTimestamp(out, move.getCreatedAt(), previousTime);
+    writeCoordinates(out, move.isSetPlayStartPosition() ? move.getPlayStartPosition() : null);
+    writeCoordinates(out, move.isSetPlayEndPosition() ? move.getPlayEndPosition() : null);
+    writeOptionalLong(out, move.isSetPoints() ? (long) move.getPoints() : null);
+    writeOptionalLong(out, move.isSetPromoted() ? (long) move.getPromoted() : null);
+    writeText(out, move);
+
+    // Replay plays on a board to find the words they form. This has to happen for every play,
+    // whether or not its words are stored, to keep the board in sync.
+    List<String> formed = null;
+    if (board != null && isReplayed(move)) {
+      formed = board.move(stateHelper.buildGameStateMove(move, board)).getResultingWords();
+    }
+
+    int[] order = formed == null ? null : getWordOrder(move.getWords(), formed);
+
+    out.writeBit(order != null);
+    if (order != null) {
+      out.writeVarLong(order.length);
+      for (int position : order) {
+        out.writeBits(position, WORD_INDEX_BITS);
+      }
+    }
+    else {
+      out.writeVarLong(move.getWordsSize());
+      for (String word : move.getWords()) {
+        out.writeString(word);
+      }
+    }
+
+    return time;
+  }
+
+  private long readMove(BitInput in,
+                        MoveData move,
+                        int index,
+                        long gameId,
+                        long previousId,
+                        long previousTime,
+                        List<int[]> wordOrders) {
+    move.setMoveType(MoveType.findByValue((int) in.readBits(MOVE_TYPE_BITS)));
+    move.setId(previousId + in.readSignedVarLong());
+    move.setMoveIndex((int) readOptionalLong(in, index));
+    move.setGameId(readOptionalLong(in, gameId));
+    move.setBoardChecksum((int) in.readSignedVarLong());
+
+    String[] timestamp = new String[1];
+    long time = readTimestamp(in, previousTime, timestamp);
+    move.setCreatedAt(timestamp[0]);
+
+    Coordinates start = readCoordinates(in);
+    if (start != null) {
+      move.setPlayStartPosition(start);
+    }
+
+    Coordinates end = readCoordinates(in);
+    if (end != null) {
+      move.setPlayEndPosition(end);
+    }
+
+    if (in.readBit()) {
+      move.setPoints((int) in.readSignedVarLong());
+    }
+
+    if (in.readBit()) {
+      move.setPromoted((int) in.readSignedVarLong());
+    }
+
+    readText(in, move);
+
+    List<String> words = new ArrayList<String>();
+    move.setWords(words);
+
+    if (in.readBit()) {
+      int[] order = new int[(int) in.readVarLong()];
+
+      for (int i = 0; i < order.length; i++) {
+        order[i] = (int) in.readBits(WORD_INDEX_BITS);
+      }
+
+      wordOrders.add(order);
+    }
+    else {
+      int numWords = (int) in.readVarLong();
+
+      for (int i = 0; i < numWords; i++) {
+        words.add(in.readString());
+      }
+
+      wordOrders.add(null);
+    }
+
+    return time;
+  }
+
+  private void writeLastMove(BitOutput out, GameMeta meta, List<MoveData> moves, long gameId, long createdAt) {
+    if (!meta.isSetLastMove()) {
+      out.writeBits(LAST_MOVE_UNSET, MODE_BITS);
+      return;
+    }
+
+    MoveData lastMove = meta.getLastMove();
+
+    if (!moves.isEmpty()) {
+      MoveData last = moves.get(moves.size() - 1);
+
+      if (last.equals(lastMove)) {
+        out.writeBits(LAST_MOVE_WITH_TILES, MODE_BITS);
+        return;
+      }
+      else if (last.deepCopy().setTiles(null).equals(lastMove)) {
+        out.writeBits(LAST_MOVE_WITHOUT_TILES, MODE_BITS);
+        return;
+      }
+    }
+
+    out.writeBits(LAST_MOVE_RAW, MODE_BITS);
+    writeMove(out, lastMove, -1, gameId, 0, createdAt, null);
+  }
+
+  /**
+   * Replay plays to find the words they formed, and put them in the stored order
+   */
+  private static void fillDerivedWords(List<MoveData> moves, List<int[]> wordOrders) {
+    WordsWithFriendsBoard board = new WordsWithFriendsBoard();
+
+    for (int i = 0; i < moves.size(); i++) {
+      MoveData move = moves.get(i);
+      int[] order = wordOrders.get(i);
+
+      if (isReplayed(move)) {
+        List<String> formed = board.move(stateHelper.buildGameStateMove(move, board)).getResultingWords();
+
+        if (order != null) {
+          for (int position : order) {
+            move.addToWords(formed.get(position).toLowerCase());
+          }
+        }
+      }
+      else if (order != null) {
+        throw new IllegalArgumentException("move " + i + " has derived words but wasn't a play");
+      }
+    }
+  }
+
+  /**
+   * @param move
+   * @return true if the move puts tiles on the board. mirrors the moves StateReconstructor scores.
+   */
+  private static boolean isReplayed(MoveData move) {
+    return move.getMoveType() == MoveType.PLAY && move.isSetTiles() && !move.getTiles().isEmpty();
+  }
+
+  /**
+   * @param words words as reported by Zynga (lower case, in no particular order)
+   * @param formed words formed on the board
+   * @return for each word, the position of the same word in formed, or null if the words aren't
+   * the same
+   */
+  private static int[] getWordOrder(List<String> words, List<String> formed) {
+    if (words == null || words.size() != formed.size() || formed.size() > (1 << WORD_INDEX_BITS)) {
+      return null;
+    }
+
+    int[] order = new int[words.size()];
+    boolean[] used = new boolean[formed.size()];
+
+    for (int i = 0; i < words.size(); i++) {
+      order[i] = -1;
+
+      for (int j = 0; j < formed.size(); j++) {
+        if (!used[j] && formed.get(j).toLowerCase().equals(words.get(i))) {
+          used[j] = true;
+          order[i] = j;
+          break;
+        }
+      }
+
+      if (order[i] == -1) {
+        return null;
+      }
+    }
+
+    return order;
+  }
+
+  /**
+   * Move text is a comma-separated list of tile ids, with "*" for tiles that were already on the
+   * board and the assigned letter after each blank that's played.
+   */
+  private static void writeText(BitOutput out, MoveData move) {
+    String text = move.getText();
+
+    if (text == null) {
+      out.writeBits(TEXT_UNSET, MODE_BITS);
+      return;
+    }
+
+    BitOutput tiles = new BitOutput();
+    if (writeTiles(tiles, text, move.getMoveType() == MoveType.PLAY)) {
+      out.writeBits(TEXT_TILES, MODE_BITS);
+
+      // Tiles were written into a separate buffer so they could be thrown away if the text
+      // turned out not to fit. Write them again for real.
+      writeTiles(out, text, move.getMoveType() == MoveType.PLAY);
+    }
+    else {
+      out.writeBits(TEXT_RAW, MODE_BITS);
+      out.writeString(text);
+    }
+  }
+
+  /**
+   * @return false if the text isn't in the usual format, in which case out shouldn't be used
+   */
+  private static boolean writeTiles(BitOutput out, String text, boolean play) {
+    String[] tokens = text.split(",");
+    List<Integer> codes = new ArrayList<Integer>();
+    List<Character> letters = new ArrayList<Character>();
+
+    for (int i = 0; i < tokens.length; i++) {
+      if (SKIPPED_TILE_INDICATOR.equals(tokens[i])) {
+        codes.add(SKIPPED_TILE);
+        continue;
+      }
+
+      int tileId;
+      try {
+        tileId = Integer.parseInt(tokens[i]);
+      }
+      catch (NumberFormatException e) {
+        return false;
+      }
+
+      if (tileId < 0 || tileId >= SKIPPED_TILE) {
+        return false;
+      }
+
+      Tile tile;
+      try {
+        tile = Bag.getTileWithId(tileId);
+      }
+      catch (IndexOutOfBoundsException e) {
+        return false;
+      }
+
+      codes.add(tileId);
+
+      if (play && stateHelper.tileIsBlank(tile)) {
+        if (++i >= tokens.length || tokens[i].length() != 1 || tokens[i].charAt(0) < 'a' || tokens[i].charAt(0) > 'z') {
+          return false;
+        }
+
+        letters.add(tokens[i].charAt(0));
+      }
+    }
+
+    StringBuilder rebuilt = new StringBuilder();
+    int letter = 0;
+
+    out.writeVarLong(codes.size());
+    for (int code : codes) {
+      out.writeBits(code, TILE_ID_BITS);
+
+      if (code == SKIPPED_TILE) {
+        rebuilt.append(SKIPPED_TILE_INDICATOR).append(',');
+      }
+      else {
+        rebuilt.append(code).append(',');
+
+        if (play && stateHelper.tileIsBlank(Bag.getTileWithId(code))) {
+          char c = letters.get(letter++);
+          out.writeBits(c - 'a', LETTER_BITS);
+          rebuilt.append(c).append(',');
+        }
+      }
+    }
+
+    return rebuilt.toString().equals(text);
+  }
+
+  private static void readText(BitInput in, MoveData move) {
+    int mode = (int) in.readBits(MODE_BITS);
+
+    if (mode == TEXT_RAW) {
+      move.setText(in.readString());
+    }
+    else if (mode == TEXT_TILES) {
+      boolean play = move.getMoveType() == MoveType.PLAY;
+      int numCodes = (int) in.readVarLong();
+      StringBuilder text = new StringBuilder();
+
+      for (int i = 0; i < numCodes; i++) {
+        int code = (int) in.readBits(TILE_ID_BITS);
+
+        if (code == SKIPPED_TILE) {
+          text.append(SKIPPED_TILE_INDICATOR).append(',');
+        }
+        else {
+          text.append(code).append(',');
+
+          if (play && stateHelper.tileIsBlank(Bag.getTileWithId(code))) {
+            text.append((char) ('a' + in.readBits(LETTER_BITS))).append(',');
+          }
+        }
+      }
+
+      move.setText(text.toString());
+    }
+  }
+
+  private static void writeCoordinates(BitOutput out, Coordinates coordinates) {
+    out.writeBit(coordinates != null);
+
+    if (coordinates != null) {
+      boolean small = coordinates.getX() >= 0 && coordinates.getX() < (1 << COORDINATE_BITS)
+        && coordinates.getY() >= 0 && coordinates.getY() < (1 << COORDINATE_BITS);
+
+      out.writeBit(small);
+      if (small) {
+        out.writeBits(coordinates.getX(), COORDINATE_BITS);
+        out.writeBits(coordinates.getY(), COORDINATE_BITS);
+      }
+      else {
+        out.writeSignedVarLong(coordinates.getX());
+        out.writeSignedVarLong(coordinates.getY());
+      }
+    }
+  }
+
+  private static Coordinates readCoordinates(BitInput in) {
+    if (!in.readBit()) {
+      return null;
+    }
+
+    if (in.readBit()) {
+      return new Coordinates().setX((int) in.readBits(COORDINATE_BITS)).setY((int) in.readBits(COORDINATE_BITS));
+    }
+
+    return new Coordinates().setX(in.readInt()).setY(in.readInt());
+  }
+
+  /**
+   * Write a value that usually matches something the reader already knows. A single bit is
+   * written if it's null (meaning "the usual value").
+   */
+  private static void writeOptionalLong(BitOutput out, Long value) {
+    out.writeBit(value != null);
+
+    if (value != null) {
+      out.writeSignedVarLong(value);
+    }
+  }
+
+  private static long readOptionalLong(BitInput in, long usual) {
+    return in.readBit() ? in.readSignedVarLong() : usual;
+  }
+
+  /**
+   * Timestamps are stored as seconds since the previous one if they're in Zynga's usual format
+   *
+   * @return the timestamp in seconds, or previous if it wasn't stored that way
+   */
+  private static long writeTimestamp(BitOutput out, String timestamp, long previous) {
+    if (timestamp == null) {
+      out.writeBits(TIMESTAMP_UNSET, MODE_BITS);
+      return previous;
+    }
+
+    SimpleDateFormat format = GameStateHelper.getTimestampDateFormat();
+
+    try {
+      long seconds = format.parse(timestamp).getTime() / 1000L;
+
+      if (format.format(new Date(seconds * 1000L)).equals(timestamp)) {
+        out.writeBits(TIMESTAMP_SECONDS, MODE_BITS);
+        out.writeSignedVarLong(seconds - previous);
+        return seconds;
+      }
+    }
+    catch (ParseException e) {
+      // Stored verbatim below
+    }
+
+    out.writeBits(TIMESTAMP_RAW, MODE_BITS);
+    out.writeString(timestamp);
+
+    return previous;
+  }
+
+  /**
+   * @param timestamp receives the timestamp
+   * @return the timestamp in seconds, or previous if it wasn't stored that way
+   */
+  private static long readTimestamp(BitInput in, long previous, String[] timestamp) {
+    int mode = (int) in.readBits(MODE_BITS);
+
+    if (mode == TIMESTAMP_SECONDS) {
+      long seconds = previous + in.readSignedVarLong();
+
+      timestamp[0] = GameStateHelper.getTimestampDateFormat().format(new Date(seconds * 1000L));
+
+      return seconds;
+    }
+
+    timestamp[0] = mode == TIMESTAMP_RAW ? in.readString() : null;
+    return previous;
+  }
+}
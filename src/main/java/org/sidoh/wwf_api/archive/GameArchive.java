@@ -0,0 +1,190 @@
+package org.sidoh.wwf_api.archive;
+
+import org.apache.thrift.TException;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.util.ThriftSerializationHelper;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Reads games from an archive written by GameArchiveWriter. Opening an archive loads the index of
+ * every segment into memory, after which any game can be read with a single positioned read.
+ * Games stored by their moves are replayed as they're read.
+ * </p>
+ * <p>
+ * The archive is a snapshot of what was on disk when it was opened. Games appended afterwards
+ * aren't visible until the archive is reopened. Thread-safe.
+ * </p>
+ */
+public class GameArchive implements Closeable {
+  private static final ThriftSerializationHelper serializer = ThriftSerializationHelper.getInstance();
+
+  private final CompactGameCodec codec = new CompactGameCodec();
+  private final FileChannel[] segments;
+  private final Map<Long, Long> locations = new HashMap<Long, Long>();
+
+  /**
+   * @param directory
+   * @throws IOException if a segment can't be read
+   */
+  public GameArchive(File directory) throws IOException {
+    List<File> files = ArchiveFormat.listSegments(directory);
+    segments = new FileChannel[files.size()];
+
+    try {
+      for (int i = 0; i < segments.length; i++) {
+        segments[i] = new RandomAccessFile(files.get(i), "r").getChannel();
+        ArchiveFormat.readIndex(segments[i], i, locations);
+      }
+    }
+    catch (IOException e) {
+      close();
+      throw e;
+    }
+  }
+
+  /**
+   * @param gameId
+   * @return the latest copy of the game, or null if it isn't in the archive
+   * @throws IOException
+   * @throws TException
+   */
+  public GameState get(long gameId) throws IOException, TException {
+    ByteBuffer entry = getEntry(gameId);
+    return entry == null ? null : decode(entry);
+  }
+
+  /**
+   * @param gameId
+   * @return the game serialized as compact thrift, or null if it isn't in the archive. games
+   * stored by their moves are rebuilt and serialized.
+   * @throws IOException
+   */
+  public byte[] getRecord(long gameId) throws IOException {
+    ByteBuffer entry = getEntry(gameId);
+
+    if (entry == null) {
+      return null;
+    }
+
+    if (entry.get(entry.position()) == ArchiveFormat.RECORD) {
+      ByteBuffer body = getBody(entry);
+      byte[] record = new byte[body.remaining()];
+      body.get(record);
+
+      return record;
+    }
+
+    try {
+      return serializer.serialize(decode(entry));
+    }
+    catch (TException e) {
+      throw new IOException("couldn't serialize game " + gameId, e);
+    }
+  }
+
+  /**
+   * @param gameId
+   * @return the game's whole entry (header and body), positioned at the type byte, or null if the
+   * game isn't in the archive
+   * @throws IOException if the record is corrupt
+   */
+  protected ByteBuffer getEntry(long gameId) throws IOException {
+    long location = getLocation(gameId);
+
+    if (location == -1) {
+      return null;
+    }
+
+    FileChannel channel = segments[ArchiveFormat.getSegment(location)];
+    long offset = ArchiveFormat.getOffset(location);
+    ByteBuffer header = ArchiveFormat.read(channel, offset, ArchiveFormat.RECORD_HEADER_BYTES);
+
+    if (!ArchiveFormat.isRecord(header.get()) || header.getLong() != gameId) {
+      throw new IOException("corrupt record for game " + gameId);
+    }
+
+    return ArchiveFormat.read(channel, offset, ArchiveFormat.RECORD_HEADER_BYTES + header.getInt());
+  }
+
+  /**
+   * @param entry a whole entry, positioned at the type byte
+   * @return the entry's body. shares content with the entry.
+   */
+  protected static ByteBuffer getBody(ByteBuffer entry) {
+    ByteBuffer body = entry.duplicate();
+    int start = entry.position() + ArchiveFormat.RECORD_HEADER_BYTES;
+
+    body.limit(start + entry.getInt(entry.position() + 9));
+    body.position(start);
+
+    return body.slice();
+  }
+
+  /**
+   * @param entry a whole entry, positioned at the type byte
+   * @return the game it holds, decoded according to the entry's type
+   * @throws TException
+   */
+  protected GameState decode(ByteBuffer entry) throws TException {
+    ByteBuffer body = getBody(entry);
+
+    if (entry.get(entry.position()) == ArchiveFormat.MOVES_RECORD) {
+      return codec.decode(body);
+    }
+
+    return serializer.deserialize(body, new GameState());
+  }
+
+  /**
+   * @param gameId
+   * @return where the latest copy of the game's record starts (see ArchiveFormat.getLocation), or
+   * -1 if it isn't in the archive
+   */
+  protected long getLocation(long gameId) {
+    Long location = locations.get(gameId);
+    return location == null ? -1 : location;
+  }
+
+  /**
+   * @return the archive's segments, oldest first
+   */
+  protected FileChannel[] getSegments() {
+    return segments;
+  }
+
+  public boolean contains(long gameId) {
+    return locations.containsKey(gameId);
+  }
+
+  /**
+   * @return ids of every game in the archive
+   */
+  public Set<Long> getGameIds() {
+    return Collections.unmodifiableSet(locations.keySet());
+  }
+
+  public int size() {
+    return locations.size();
+  }
+
+  @Override
+  public void close() throws IOException {
+    for (FileChannel channel : segments) {
+      if (channel != null) {
+        channel.close();
+      }
+    }
+  }
+}
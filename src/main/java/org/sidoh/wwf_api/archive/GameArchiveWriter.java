@@ -0,0 +1,276 @@
+package org.sidoh.wwf_api.archive;
+
+import org.apache.thrift.TException;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.util.ThriftSerializationHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * <p>
+ * Appends games to an archive: a directory of segment files, each holding many games as
+ * length-prefixed records (see ArchiveFormat for the layout). Writes are purely sequential. When
+ * a segment reaches its size limit it's sealed and a new one is started.
+ * </p>
+ * <p>
+ * Games are stored as compact thrift by default. With Encoding.MOVES, they're stored with
+ * CompactGameCodec instead, which keeps only the moves and rebuilds everything else when the game
+ * is read. Each game is decoded again before it's written, and games that don't come back exactly
+ * the same are stored as thrift, so the choice of encoding never changes what readers see.
+ * </p>
+ * <p>
+ * Games are never modified in place. Appending a game that's already in the archive adds a new
+ * copy, and readers see the latest one.
+ * </p>
+ * <p>
+ * A writer always starts a new segment, so existing segments are never appended to. Only one
+ * writer should use a directory at a time. Thread-safe.
+ * </p>
+ */
+public class GameArchiveWriter implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(GameArchiveWriter.class);
+
+  public static final long DEFAULT_MAX_SEGMENT_BYTES = 256 * 1024 * 1024;
+  public static final int DEFAULT_INDEX_INTERVAL = 1024;
+
+  private static final ThriftSerializationHelper serializer = ThriftSerializationHelper.getInstance();
+
+  /**
+   * How games passed to append(GameState) are stored
+   */
+  public enum Encoding {
+    /**
+     * Compact thrift. Fast to read and write.
+     */
+    THRIFT,
+
+    /**
+     * Moves only (see CompactGameCodec). Much smaller, but the game has to be replayed to read
+     * it, and writing it costs an extra decode to check the result.
+     */
+    MOVES
+  }
+
+  private final File directory;
+  private final Encoding encoding;
+  private final CompactGameCodec codec = new CompactGameCodec();
+  private final long maxSegmentBytes;
+  private final long[] pendingIds;
+  private final long[] pendingOffsets;
+
+  private int segmentNumber;
+  private DataOutputStream out;
+  private long position;
+  private long lastIndexOffset;
+  private int numPending;
+  private int numSegmentRecords;
+
+  public GameArchiveWriter(File directory) throws IOException {
+    this(directory, DEFAULT_MAX_SEGMENT_BYTES, DEFAULT_INDEX_INTERVAL);
+  }
+
+  /**
+   * @param directory where segments are written. created if it doesn't exist.
+   * @param maxSegmentBytes start a new segment rather than letting one grow past this. a single
+   *                        game larger than this still gets a segment of its own.
+   * @param indexInterval number of records between index blocks
+   * @throws IOException
+   */
+  public GameArchiveWriter(File directory, long maxSegmentBytes, int indexInterval) throws IOException {
+    this(directory, maxSegmentBytes, indexInterval, Encoding.THRIFT);
+  }
+
+  /**
+   * @param directory where segments are written. created if it doesn't exist.
+   * @param maxSegmentBytes start a new segment rather than letting one grow past this. a single
+   *                        game larger than this still gets a segment of its own.
+   * @param indexInterval number of records between index blocks
+   * @param encoding how to store games passed to append(GameState)
+   * @throws IOException
+   */
+  public GameArchiveWriter(File directory, long maxSegmentBytes, int indexInterval, Encoding encoding)
+    throws IOException {
+    this.directory = directory;
+    this.encoding = encoding;
+    this.maxSegmentBytes = maxSegmentBytes;
+    this.pendingIds = new long[indexInterval];
+    this.pendingOffsets = new long[indexInterval];
+
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("couldn't create archive directory " + directory);
+    }
+
+    List<File> segments = ArchiveFormat.listSegments(directory);
+    this.segmentNumber = segments.isEmpty()
+      ? 0
+      : ArchiveFormat.getSegmentNumber(segments.get(segments.size() - 1)) + 1;
+
+    startSegment();
+  }
+
+  /**
+   * Append a game to the archive
+   *
+   * @param state
+   * @throws IOException
+   * @throws TException
+   */
+  public void append(GameState state) throws IOException, TException {
+    if (encoding == Encoding.MOVES) {
+      byte[] record = encodeMoves(state);
+
+      if (record != null) {
+        append(ArchiveFormat.MOVES_RECORD, state.getId(), record);
+        return;
+      }
+    }
+
+    append(ArchiveFormat.RECORD, state.getId(), serializer.serialize(state));
+  }
+
+  /**
+   * Append a serialized game to the archive
+   *
+   * @param gameId
+   * @param record compact thrift serialized GameState
+   * @throws IOException
+   */
+  public void append(long gameId, byte[] record) throws IOException {
+    append(ArchiveFormat.RECORD, gameId, record);
+  }
+
+  private synchronized void append(byte type, long gameId, byte[] record) throws IOException {
+    if (out == null) {
+      throw new IOException("writer is closed");
+    }
+
+    long size = ArchiveFormat.RECORD_HEADER_BYTES + record.length;
+
+    if (numSegmentRecords > 0 && position + size + getSealBytes() > maxSegmentBytes) {
+      sealSegment();
+      segmentNumber++;
+      startSegment();
+    }
+
+    pendingIds[numPending] = gameId;
+    pendingOffsets[numPending] = position;
+    numPending++;
+    numSegmentRecords++;
+
+    out.writeByte(type);
+    out.writeLong(gameId);
+    out.writeInt(record.length);
+    out.write(record);
+    position += size;
+
+    if (numPending == pendingIds.length) {
+      writeIndex();
+    }
+  }
+
+  /**
+   * Push buffered records to the operating system. Records that have been flushed can be read by
+   * archives opened afterwards, even if the writer is never closed.
+   *
+   * @throws IOException
+   */
+  public synchronized void flush() throws IOException {
+    if (out != null) {
+      out.flush();
+    }
+  }
+
+  /**
+   * Seal the current segment. The writer can't be used afterwards.
+   *
+   * @throws IOException
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (out != null) {
+      sealSegment();
+      out = null;
+    }
+  }
+
+  /**
+   * @param state
+   * @return the game encoded with CompactGameCodec, or null if it doesn't decode to the same thing
+   */
+  private byte[] encodeMoves(GameState state) {
+    try {
+      byte[] record = codec.encode(state);
+
+      if (codec.decode(record).equals(state)) {
+        return record;
+      }
+
+      LOG.debug("game {} doesn't survive move-only encoding. storing it as thrift.", state.getId());
+    }
+    catch (RuntimeException e) {
+      LOG.debug("couldn't encode game " + state.getId() + " by its moves. storing it as thrift.", e);
+    }
+
+    return null;
+  }
+
+  private void startSegment() throws IOException {
+    File file = new File(directory, ArchiveFormat.getSegmentName(segmentNumber));
+
+    out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 64 * 1024));
+    out.writeInt(ArchiveFormat.MAGIC);
+    out.writeByte(ArchiveFormat.VERSION);
+
+    position = ArchiveFormat.HEADER_BYTES;
+    lastIndexOffset = -1;
+    numPending = 0;
+    numSegmentRecords = 0;
+
+    LOG.debug("started archive segment {}", file);
+  }
+
+  /**
+   * @return bytes that sealing the segment right now would add
+   */
+  private long getSealBytes() {
+    return ArchiveFormat.INDEX_HEADER_BYTES
+      + (long) (numPending + 1) * ArchiveFormat.INDEX_ENTRY_BYTES
+      + ArchiveFormat.TRAILER_BYTES;
+  }
+
+  private void writeIndex() throws IOException {
+    long offset = position;
+
+    out.writeByte(ArchiveFormat.INDEX);
+    out.writeInt(numPending);
+    out.writeLong(lastIndexOffset);
+
+    for (int i = 0; i < numPending; i++) {
+      out.writeLong(pendingIds[i]);
+      out.writeLong(pendingOffsets[i]);
+    }
+
+    position += ArchiveFormat.INDEX_HEADER_BYTES + (long) numPending * ArchiveFormat.INDEX_ENTRY_BYTES;
+    lastIndexOffset = offset;
+    numPending = 0;
+  }
+
+  private void sealSegment() throws IOException {
+    if (numPending > 0 || lastIndexOffset == -1) {
+      writeIndex();
+    }
+
+    out.writeByte(ArchiveFormat.TRAILER);
+    out.writeLong(lastIndexOffset);
+    out.writeInt(ArchiveFormat.MAGIC);
+    out.close();
+  }
+}
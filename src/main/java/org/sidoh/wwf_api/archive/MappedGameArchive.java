@@ -0,0 +1,92 @@
+package org.sidoh.wwf_api.archive;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * <p>
+ * A GameArchive that memory-maps its segments. Games are deserialized directly from the mapped
+ * pages, so reading one doesn't make a system call or copy the record into a byte array. This is
+ * meant for jobs that read lots of games in random order, where the operating system's page cache
+ * does a better job of keeping hot segments around than we would.
+ * </p>
+ * <p>
+ * Segments must be smaller than 2GB to be mapped, which the writer's default segment size is well
+ * under. Mapped memory is released when the buffers are garbage collected, not when the archive is
+ * closed.
+ * </p>
+ */
+public class MappedGameArchive extends GameArchive {
+  private final MappedByteBuffer[] mapped;
+
+  /**
+   * @param directory
+   * @throws IOException if a segment can't be read or is too big to map
+   */
+  public MappedGameArchive(File directory) throws IOException {
+    super(directory);
+
+    FileChannel[] segments = getSegments();
+    mapped = new MappedByteBuffer[segments.length];
+
+    try {
+      for (int i = 0; i < segments.length; i++) {
+        if (segments[i].size() > Integer.MAX_VALUE) {
+          throw new IOException("segment " + i + " is too big to map");
+        }
+
+        mapped[i] = segments[i].map(FileChannel.MapMode.READ_ONLY, 0, segments[i].size());
+      }
+    }
+    catch (IOException e) {
+      close();
+      throw e;
+    }
+  }
+
+  /**
+   * @param gameId
+   * @return a read-only view of the game serialized as compact thrift, or null if the game isn't
+   * in the archive. the view is of the mapped segment unless the game is stored by its moves, in
+   * which case it's rebuilt and serialized.
+   * @throws IOException if the record is corrupt
+   */
+  public ByteBuffer getRecordBuffer(long gameId) throws IOException {
+    ByteBuffer entry = getEntry(gameId);
+
+    if (entry == null) {
+      return null;
+    }
+
+    if (entry.get(entry.position()) == ArchiveFormat.RECORD) {
+      return getBody(entry).asReadOnlyBuffer();
+    }
+
+    return ByteBuffer.wrap(getRecord(gameId)).asReadOnlyBuffer();
+  }
+
+  @Override
+  protected ByteBuffer getEntry(long gameId) throws IOException {
+    long location = getLocation(gameId);
+
+    if (location == -1) {
+      return null;
+    }
+
+    // Duplicates have their own position and limit, so concurrent reads don't interfere
+    ByteBuffer segment = mapped[ArchiveFormat.getSegment(location)].duplicate();
+    int offset = (int) ArchiveFormat.getOffset(location);
+
+    if (!ArchiveFormat.isRecord(segment.get(offset)) || segment.getLong(offset + 1) != gameId) {
+      throw new IOException("corrupt record for game " + gameId);
+    }
+
+    segment.limit(offset + ArchiveFormat.RECORD_HEADER_BYTES + segment.getInt(offset + 9));
+    segment.position(offset);
+
+    return segment.slice();
+  }
+}
@@ -0,0 +1,62 @@
+package org.sidoh.wwf_api.archive;
+
+/**
+ * Fixed-width columns written by MoveColumnWriter. Each is a flat array with one value per move,
+ * in the order the moves were exported.
+ */
+public enum MoveColumn {
+  /**
+   * long
+   */
+  GAME_ID("game_id", 8),
+
+  /**
+   * long
+   */
+  MOVE_ID("move_id", 8),
+
+  /**
+   * int. position of the move within its game.
+   */
+  MOVE_INDEX("move_index", 4),
+
+  /**
+   * int. 0 for moves that didn't score.
+   */
+  POINTS("points", 4),
+
+  /**
+   * int. seconds since the epoch, or -1 if the timestamp couldn't be parsed.
+   */
+  CREATED_AT("created_at", 4),
+
+  /**
+   * byte. -1 for moves that weren't plays.
+   */
+  START_X("start_x", 1),
+  START_Y("start_y", 1),
+  END_X("end_x", 1),
+  END_Y("end_y", 1);
+
+  private final String name;
+  private final int width;
+
+  private MoveColumn(String name, int width) {
+    this.name = name;
+    this.width = width;
+  }
+
+  /**
+   * @return name of the column's file, without the extension
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return bytes per value
+   */
+  public int getWidth() {
+    return width;
+  }
+}
@@ -0,0 +1,244 @@
+package org.sidoh.wwf_api.archive;
+
+import org.sidoh.wwf_api.types.api.MoveType;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * Reads columns written by MoveColumnWriter. Columns are memory-mapped the first time they're
+ * asked for, so a query only touches the files for the fields it uses, and scanning a column runs
+ * at the speed the operating system can page it in.
+ * </p>
+ * <p>
+ * Columns are returned as buffers positioned at the first move. Every call returns a new view,
+ * so threads can scan the same column at once. Thread-safe.
+ * </p>
+ */
+public class MoveColumnReader {
+  private final File directory;
+  private final int numMoves;
+  private final ByteBuffer[] columns = new ByteBuffer[MoveColumn.values().length];
+  private IntBuffer moveTypeRuns;
+  private IntBuffer wordOffsets;
+  private IntBuffer wordIds;
+  private List<String> dictionary;
+
+  /**
+   * @param directory
+   * @throws IOException if the columns can't be read
+   */
+  public MoveColumnReader(File directory) throws IOException {
+    this.directory = directory;
+    this.numMoves = getIntBuffer(ColumnFormat.WORD_OFFSETS).remaining() - 1;
+  }
+
+  /**
+   * @return the number of moves in every column
+   */
+  public int size() {
+    return numMoves;
+  }
+
+  /**
+   * @param column an 8-byte column
+   * @return the column's values
+   * @throws IOException
+   */
+  public LongBuffer getLongColumn(MoveColumn column) throws IOException {
+    return getColumn(column, 8).asLongBuffer();
+  }
+
+  /**
+   * @param column a 4-byte column
+   * @return the column's values
+   * @throws IOException
+   */
+  public IntBuffer getIntColumn(MoveColumn column) throws IOException {
+    return getColumn(column, 4).asIntBuffer();
+  }
+
+  /**
+   * @param column a 1-byte column
+   * @return the column's values
+   * @throws IOException
+   */
+  public ByteBuffer getByteColumn(MoveColumn column) throws IOException {
+    return getColumn(column, 1);
+  }
+
+  /**
+   * @return move types as pairs of (number of consecutive moves, MoveType value)
+   * @throws IOException
+   */
+  public synchronized IntBuffer getMoveTypeRuns() throws IOException {
+    if (moveTypeRuns == null) {
+      moveTypeRuns = getIntBuffer(ColumnFormat.MOVE_TYPES);
+    }
+
+    return moveTypeRuns.duplicate();
+  }
+
+  /**
+   * Count moves of each type without expanding the runs
+   *
+   * @return number of moves of each type, indexed by MoveType value
+   * @throws IOException
+   */
+  public long[] countMoveTypes() throws IOException {
+    IntBuffer runs = getMoveTypeRuns();
+    long[] counts = new long[maxMoveTypeValue() + 1];
+
+    while (runs.hasRemaining()) {
+      int length = runs.get();
+      counts[runs.get()] += length;
+    }
+
+    return counts;
+  }
+
+  /**
+   * @return the type of every move, expanded from the runs
+   * @throws IOException
+   */
+  public MoveType[] getMoveTypes() throws IOException {
+    IntBuffer runs = getMoveTypeRuns();
+    MoveType[] types = new MoveType[numMoves];
+    int i = 0;
+
+    while (runs.hasRemaining()) {
+      int length = runs.get();
+      MoveType type = MoveType.findByValue(runs.get());
+
+      for (int j = 0; j < length; j++) {
+        types[i++] = type;
+      }
+    }
+
+    return types;
+  }
+
+  /**
+   * @return numMoves + 1 offsets into the word ids. move i's words are at [offsets[i], offsets[i + 1]).
+   * @throws IOException
+   */
+  public synchronized IntBuffer getWordOffsets() throws IOException {
+    if (wordOffsets == null) {
+      wordOffsets = getIntBuffer(ColumnFormat.WORD_OFFSETS);
+    }
+
+    return wordOffsets.duplicate();
+  }
+
+  /**
+   * @return indexes into the dictionary of every word formed by every move
+   * @throws IOException
+   */
+  public synchronized IntBuffer getWordIds() throws IOException {
+    if (wordIds == null) {
+      wordIds = getIntBuffer(ColumnFormat.WORD_IDS);
+    }
+
+    return wordIds.duplicate();
+  }
+
+  /**
+   * @return distinct words, indexed by word id
+   * @throws IOException
+   */
+  public synchronized List<String> getDictionary() throws IOException {
+    if (dictionary == null) {
+      File file = ColumnFormat.getFile(directory, ColumnFormat.DICTIONARY);
+      DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+
+      try {
+        if (in.readInt() != ColumnFormat.MAGIC || in.readInt() != ColumnFormat.VERSION) {
+          throw new IOException(file + " isn't a move column");
+        }
+
+        int count = (int) in.readLong();
+        List<String> words = new ArrayList<String>(count);
+
+        for (int i = 0; i < count; i++) {
+          words.add(in.readUTF());
+        }
+
+        dictionary = Collections.unmodifiableList(words);
+      }
+      finally {
+        in.close();
+      }
+    }
+
+    return dictionary;
+  }
+
+  /**
+   * @param move
+   * @return words formed by the move
+   * @throws IOException
+   */
+  public List<String> getWords(int move) throws IOException {
+    IntBuffer offsets = getWordOffsets();
+    IntBuffer ids = getWordIds();
+    List<String> dictionary = getDictionary();
+    List<String> words = new ArrayList<String>();
+
+    for (int i = offsets.get(move); i < offsets.get(move + 1); i++) {
+      words.add(dictionary.get(ids.get(i)));
+    }
+
+    return words;
+  }
+
+  private synchronized ByteBuffer getColumn(MoveColumn column, int width) throws IOException {
+    if (column.getWidth() != width) {
+      throw new IllegalArgumentException(column + " has " + column.getWidth() + "-byte values");
+    }
+
+    ByteBuffer values = columns[column.ordinal()];
+
+    if (values == null) {
+      values = checkCount(ColumnFormat.map(ColumnFormat.getFile(directory, column.getName())), width, column.getName());
+      columns[column.ordinal()] = values;
+    }
+
+    return values.duplicate();
+  }
+
+  private IntBuffer getIntBuffer(String name) throws IOException {
+    int width = ColumnFormat.MOVE_TYPES.equals(name) ? 8 : 4;
+    return checkCount(ColumnFormat.map(ColumnFormat.getFile(directory, name)), width, name).asIntBuffer();
+  }
+
+  private static ByteBuffer checkCount(ColumnFormat.Mapped mapped, int width, String name) throws IOException {
+    if (mapped.count * width > mapped.values.remaining()) {
+      throw new IOException("column " + name + " is truncated");
+    }
+
+    ByteBuffer values = mapped.values.duplicate();
+    values.limit((int) (mapped.count * width));
+
+    return values.slice();
+  }
+
+  private static int maxMoveTypeValue() {
+    int max = 0;
+
+    for (MoveType type : MoveType.values()) {
+      max = Math.max(max, type.getValue());
+    }
+
+    return max;
+  }
+}
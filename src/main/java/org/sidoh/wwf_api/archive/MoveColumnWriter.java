@@ -0,0 +1,250 @@
+package org.sidoh.wwf_api.archive;
+
+import org.apache.thrift.TException;
+import org.sidoh.wwf_api.game_state.GameStateHelper;
+import org.sidoh.wwf_api.types.api.Coordinates;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.types.api.MoveData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Exports moves into a directory of column files (see ColumnFormat), so that analytics can scan
+ * one field of millions of moves without deserializing whole games. Each field is written as a
+ * flat array of primitives. Move types are run-length encoded, and words are stored as indexes
+ * into a dictionary of distinct words.
+ * </p>
+ * <p>
+ * Columns are streamed to disk as moves are appended. Only the word dictionary is kept in memory.
+ * The files aren't valid until the writer is closed. Not thread-safe.
+ * </p>
+ */
+public class MoveColumnWriter implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(MoveColumnWriter.class);
+
+  private static final int BUFFER_BYTES = 64 * 1024;
+
+  private final File directory;
+  private final DataOutputStream[] columns = new DataOutputStream[MoveColumn.values().length];
+  private final DataOutputStream moveTypes;
+  private final DataOutputStream wordOffsets;
+  private final DataOutputStream wordIds;
+  private final Map<String, Integer> dictionary = new HashMap<String, Integer>();
+  private final List<String> words = new ArrayList<String>();
+
+  private long numMoves = 0;
+  private long numWords = 0;
+  private long numRuns = 0;
+  private int runType = -1;
+  private int runLength = 0;
+  private boolean closed = false;
+
+  /**
+   * @param directory where the columns are written. created if it doesn't exist. existing columns
+   *                  are overwritten.
+   * @throws IOException
+   */
+  public MoveColumnWriter(File directory) throws IOException {
+    this.directory = directory;
+
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("couldn't create column directory " + directory);
+    }
+
+    for (MoveColumn column : MoveColumn.values()) {
+      columns[column.ordinal()] = open(column.getName());
+    }
+
+    moveTypes = open(ColumnFormat.MOVE_TYPES);
+    wordOffsets = open(ColumnFormat.WORD_OFFSETS);
+    wordIds = open(ColumnFormat.WORD_IDS);
+  }
+
+  /**
+   * Export every game in an archive
+   *
+   * @param archive
+   * @param directory
+   * @return the number of moves exported
+   * @throws IOException
+   * @throws TException
+   */
+  public static long export(GameArchive archive, File directory) throws IOException, TException {
+    MoveColumnWriter writer = new MoveColumnWriter(directory);
+
+    try {
+      for (long gameId : archive.getGameIds()) {
+        writer.append(archive.get(gameId));
+      }
+    }
+    finally {
+      writer.close();
+    }
+
+    return writer.numMoves;
+  }
+
+  /**
+   * Append all of a game's moves
+   *
+   * @param state
+   * @throws IOException
+   */
+  public void append(GameState state) throws IOException {
+    for (MoveData move : state.getAllMoves()) {
+      append(move);
+    }
+  }
+
+  /**
+   * @param move
+   * @throws IOException
+   */
+  public void append(MoveData move) throws IOException {
+    if (closed) {
+      throw new IOException("writer is closed");
+    }
+
+    if (numMoves == 0) {
+      // Word offsets have one more entry than there are moves
+      wordOffsets.writeInt(0);
+    }
+
+    column(MoveColumn.GAME_ID).writeLong(move.getGameId());
+    column(MoveColumn.MOVE_ID).writeLong(move.getId());
+    column(MoveColumn.MOVE_INDEX).writeInt(move.getMoveIndex());
+    column(MoveColumn.POINTS).writeInt(move.isSetPoints() ? move.getPoints() : 0);
+    column(MoveColumn.CREATED_AT).writeInt(parseTimestamp(move.getCreatedAt()));
+    writeCoordinates(MoveColumn.START_X, MoveColumn.START_Y, move.getPlayStartPosition());
+    writeCoordinates(MoveColumn.END_X, MoveColumn.END_Y, move.getPlayEndPosition());
+
+    int type = move.getMoveType().getValue();
+    if (type != runType && runLength > 0) {
+      writeRun();
+    }
+    runType = type;
+    runLength++;
+
+    if (move.isSetWords()) {
+      for (String word : move.getWords()) {
+        wordIds.writeInt(getWordId(word));
+        numWords++;
+      }
+    }
+
+    if (numWords > Integer.MAX_VALUE) {
+      throw new IOException("too many words to export");
+    }
+
+    wordOffsets.writeInt((int) numWords);
+    numMoves++;
+  }
+
+  /**
+   * Finish writing the columns
+   *
+   * @throws IOException
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    if (runLength > 0) {
+      writeRun();
+    }
+
+    if (numMoves == 0) {
+      wordOffsets.writeInt(0);
+    }
+
+    for (MoveColumn column : MoveColumn.values()) {
+      finish(columns[column.ordinal()], column.getName(), numMoves);
+    }
+
+    finish(moveTypes, ColumnFormat.MOVE_TYPES, numRuns);
+    finish(wordOffsets, ColumnFormat.WORD_OFFSETS, numMoves + 1);
+    finish(wordIds, ColumnFormat.WORD_IDS, numWords);
+
+    DataOutputStream out = open(ColumnFormat.DICTIONARY);
+    for (String word : words) {
+      out.writeUTF(word);
+    }
+    finish(out, ColumnFormat.DICTIONARY, words.size());
+
+    LOG.info("exported {} moves with {} distinct words to {}", new Object[] { numMoves, words.size(), directory });
+  }
+
+  private DataOutputStream column(MoveColumn column) {
+    return columns[column.ordinal()];
+  }
+
+  private DataOutputStream open(String name) throws IOException {
+    File file = ColumnFormat.getFile(directory, name);
+    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_BYTES));
+
+    ColumnFormat.writeHeader(out);
+    return out;
+  }
+
+  private void finish(DataOutputStream out, String name, long count) throws IOException {
+    out.close();
+    ColumnFormat.setCount(ColumnFormat.getFile(directory, name), count);
+  }
+
+  private void writeRun() throws IOException {
+    moveTypes.writeInt(runLength);
+    moveTypes.writeInt(runType);
+    numRuns++;
+    runLength = 0;
+  }
+
+  private void writeCoordinates(MoveColumn x, MoveColumn y, Coordinates coordinates) throws IOException {
+    column(x).writeByte(coordinates == null ? -1 : coordinates.getX());
+    column(y).writeByte(coordinates == null ? -1 : coordinates.getY());
+  }
+
+  private int getWordId(String word) {
+    Integer id = dictionary.get(word);
+
+    if (id == null) {
+      id = words.size();
+      dictionary.put(word, id);
+      words.add(word);
+    }
+
+    return id;
+  }
+
+  /**
+   * @param timestamp
+   * @return seconds since the epoch, or -1 if the timestamp couldn't be parsed
+   */
+  private static int parseTimestamp(String timestamp) {
+    if (timestamp == null) {
+      return -1;
+    }
+
+    try {
+      return (int) (GameStateHelper.getTimestampDateFormat().parse(timestamp).getTime() / 1000L);
+    }
+    catch (ParseException e) {
+      return -1;
+    }
+  }
+}
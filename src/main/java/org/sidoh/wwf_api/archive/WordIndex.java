@@ -0,0 +1,361 @@
+package org.sidoh.wwf_api.archive;
+
+import com.google.common.base.Charsets;
+import org.sidoh.wwf_api.types.game_state.SlotModifier;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * Reads a word index written by WordIndexWriter. Answers which moves formed a word, and how often
+ * and for how many points it's been played, without touching the archive. The index is
+ * memory-mapped and only its block directory is read up front.
+ * </p>
+ * <p>
+ * Words are matched case-insensitively. Thread-safe.
+ * </p>
+ */
+public class WordIndex {
+  private final ByteBuffer data;
+  private final String[] firstWords;
+  private final int[] blockOffsets;
+  private final int[] blockLengths;
+
+  /**
+   * @param file
+   * @throws IOException if the file isn't a word index or is too big to map
+   */
+  public WordIndex(File file) throws IOException {
+    RandomAccessFile raf = new RandomAccessFile(file, "r");
+
+    try {
+      FileChannel channel = raf.getChannel();
+      long size = channel.size();
+
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException(file + " is too big to map");
+      }
+
+      if (size < WordIndexFormat.HEADER_BYTES + WordIndexFormat.TRAILER_BYTES) {
+        throw new IOException(file + " isn't a word index");
+      }
+
+      data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+    finally {
+      raf.close();
+    }
+
+    if (data.getInt(0) != WordIndexFormat.MAGIC || data.getInt(data.limit() - 4) != WordIndexFormat.MAGIC) {
+      throw new IOException(file + " isn't a word index");
+    }
+
+    if (data.get(4) != WordIndexFormat.VERSION) {
+      throw new IOException(file + " has an unsupported version");
+    }
+
+    int trailer = data.limit() - WordIndexFormat.TRAILER_BYTES;
+    int directoryOffset = (int) data.getLong(trailer);
+    int numBlocks = data.getInt(trailer + 8);
+
+    byte[] directory = new byte[trailer - directoryOffset];
+    ByteBuffer view = data.duplicate();
+    view.position(directoryOffset);
+    view.get(directory);
+
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(directory));
+    firstWords = new String[numBlocks];
+    blockOffsets = new int[numBlocks];
+    blockLengths = new int[numBlocks];
+
+    for (int i = 0; i < numBlocks; i++) {
+      firstWords[i] = in.readUTF();
+      blockOffsets[i] = (int) in.readLong();
+      blockLengths[i] = in.readInt();
+    }
+  }
+
+  /**
+   * @param word
+   * @return how often the word has been played and for how many points, or null if it never has
+   */
+  public WordStats getStats(String word) {
+    Entry entry = find(word.toLowerCase());
+    return entry == null ? null : entry.stats;
+  }
+
+  /**
+   * @param word
+   * @return every move that formed the word, ordered by game and then move. empty if the word has
+   * never been played.
+   */
+  public List<Posting> getPostings(String word) {
+    Entry entry = find(word.toLowerCase());
+    return entry == null ? Collections.<Posting>emptyList() : readPostings(entry);
+  }
+
+  /**
+   * @param word
+   * @param modifier
+   * @return moves that formed the word and placed a tile on a premium square of this kind (see
+   * Posting.placedOn)
+   */
+  public List<Posting> getPostings(String word, SlotModifier modifier) {
+    List<Posting> matching = new ArrayList<Posting>();
+
+    for (Posting posting : getPostings(word)) {
+      if (posting.placedOn(modifier)) {
+        matching.add(posting);
+      }
+    }
+
+    return matching;
+  }
+
+  /**
+   * @param prefix
+   * @return statistics for every word starting with the prefix, in sorted order
+   */
+  public List<WordStats> getStatsWithPrefix(String prefix) {
+    prefix = prefix.toLowerCase();
+    List<WordStats> stats = new ArrayList<WordStats>();
+
+    for (int block = findBlock(prefix); block < firstWords.length; block++) {
+      if (block < 0) {
+        continue;
+      }
+
+      BlockReader reader = new BlockReader(block);
+
+      while (reader.hasNext()) {
+        Entry entry = reader.next();
+        String word = entry.stats.getWord();
+
+        if (word.startsWith(prefix)) {
+          stats.add(entry.stats);
+        }
+        else if (word.compareTo(prefix) > 0) {
+          return stats;
+        }
+      }
+    }
+
+    return stats;
+  }
+
+  /**
+   * @return the number of distinct words in the index (reads every block)
+   */
+  public int size() {
+    int size = 0;
+
+    for (int block = 0; block < firstWords.length; block++) {
+      BlockReader reader = new BlockReader(block);
+
+      while (reader.hasNext()) {
+        reader.next();
+        size++;
+      }
+    }
+
+    return size;
+  }
+
+  private Entry find(String word) {
+    int block = findBlock(word);
+
+    if (block < 0) {
+      return null;
+    }
+
+    BlockReader reader = new BlockReader(block);
+
+    while (reader.hasNext()) {
+      Entry entry = reader.next();
+      int comparison = entry.stats.getWord().compareTo(word);
+
+      if (comparison == 0) {
+        return entry;
+      }
+      else if (comparison > 0) {
+        return null;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * @param word
+   * @return the block the word would be in, or -1 if it comes before every word in the index
+   */
+  private int findBlock(String word) {
+    int position = Arrays.binarySearch(firstWords, word);
+    return position >= 0 ? position : -position - 2;
+  }
+
+  private List<Posting> readPostings(Entry entry) {
+    ByteBuffer in = data.duplicate();
+    List<Posting> postings = new ArrayList<Posting>((int) entry.stats.getFrequency());
+    long gameId = 0;
+
+    in.position(entry.postingsOffset);
+    for (long i = 0; i < entry.stats.getFrequency(); i++) {
+      gameId += WordIndexFormat.readSignedVarLong(in);
+
+      postings.add(new Posting(gameId,
+        (int) WordIndexFormat.readVarLong(in),
+        (int) WordIndexFormat.readSignedVarLong(in),
+        (int) WordIndexFormat.readVarLong(in)));
+    }
+
+    return postings;
+  }
+
+  private static class Entry {
+    private final WordStats stats;
+    private final int postingsOffset;
+
+    public Entry(WordStats stats, int postingsOffset) {
+      this.stats = stats;
+      this.postingsOffset = postingsOffset;
+    }
+  }
+
+  /**
+   * Decodes the words in a block one after another, skipping over their postings
+   */
+  private class BlockReader {
+    private final ByteBuffer in;
+    private final int end;
+    private String previous = "";
+
+    public BlockReader(int block) {
+      in = data.duplicate();
+      in.position(blockOffsets[block]);
+      end = blockOffsets[block] + blockLengths[block];
+    }
+
+    public boolean hasNext() {
+      return in.position() < end;
+    }
+
+    public Entry next() {
+      int shared = (int) WordIndexFormat.readVarLong(in);
+      byte[] suffix = new byte[(int) WordIndexFormat.readVarLong(in)];
+      in.get(suffix);
+
+      String word = previous.substring(0, shared) + new String(suffix, Charsets.UTF_8);
+      long frequency = WordIndexFormat.readVarLong(in);
+      long totalPoints = WordIndexFormat.readSignedVarLong(in);
+      int postingsLength = (int) WordIndexFormat.readVarLong(in);
+      int postingsOffset = in.position();
+
+      in.position(postingsOffset + postingsLength);
+      previous = word;
+
+      return new Entry(new WordStats(word, frequency, totalPoints), postingsOffset);
+    }
+  }
+
+  /**
+   * How often a word has been played and for how many points
+   */
+  public static class WordStats {
+    private final String word;
+    private final long frequency;
+    private final long totalPoints;
+
+    public WordStats(String word, long frequency, long totalPoints) {
+      this.word = word;
+      this.frequency = frequency;
+      this.totalPoints = totalPoints;
+    }
+
+    public String getWord() {
+      return word;
+    }
+
+    /**
+     * @return number of moves that formed the word
+     */
+    public long getFrequency() {
+      return frequency;
+    }
+
+    /**
+     * @return sum of the points scored by moves that formed the word
+     */
+    public long getTotalPoints() {
+      return totalPoints;
+    }
+
+    public double getAveragePoints() {
+      return frequency == 0 ? 0 : (double) totalPoints / frequency;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("WordStats(%s, frequency: %d, average points: %.1f)", word, frequency, getAveragePoints());
+    }
+  }
+
+  /**
+   * A move that formed a word
+   */
+  public static class Posting {
+    private final long gameId;
+    private final int moveIndex;
+    private final int points;
+    private final int modifierMask;
+
+    public Posting(long gameId, int moveIndex, int points, int modifierMask) {
+      this.gameId = gameId;
+      this.moveIndex = moveIndex;
+      this.points = points;
+      this.modifierMask = modifierMask;
+    }
+
+    public long getGameId() {
+      return gameId;
+    }
+
+    public int getMoveIndex() {
+      return moveIndex;
+    }
+
+    /**
+     * @return points scored by the whole move
+     */
+    public int getPoints() {
+      return points;
+    }
+
+    /**
+     * Whether any tile placed by the move landed on a premium square of this kind. This is exact
+     * for the move's main word. A word formed across the play only crosses one of the placed
+     * tiles, so for those it may be true because of a different tile.
+     *
+     * @param modifier
+     * @return
+     */
+    public boolean placedOn(SlotModifier modifier) {
+      return (modifierMask & (1 << modifier.getValue())) != 0;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("Posting(game: %d, move: %d, points: %d)", gameId, moveIndex, points);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package org.sidoh.wwf_api.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * <p>
+ * Layout of the word index written by WordIndexWriter. Fixed-width values are big-endian, and
+ * varints are little-endian groups of seven bits (signed ones are zigzag encoded first).
+ * </p>
+ * <pre>
+ *   header:    int magic, byte version
+ *   blocks of up to blockSize words, in sorted order. each word is:
+ *     varint sharedPrefixLength, varint suffixLength, suffix (UTF-8)
+ *     varint frequency, signed varint totalPoints, varint postingsLength
+ *     postings, frequency x:
+ *       signed varint gameId (difference from the previous posting's), varint moveIndex,
+ *       signed varint points, varint modifierMask
+ *   directory: numBlocks x (UTF firstWord, long offset, int length)
+ *   trailer:   long directoryOffset, int numBlocks, int magic
+ * </pre>
+ * <p>
+ * The first word of each block is stored in full (a shared prefix of 0), so any block can be
+ * decoded on its own. The directory is small enough to keep in memory, and finding a word takes a
+ * binary search over it and a scan of one block. Postings are length-prefixed so a scan for
+ * statistics can skip them.
+ * </p>
+ */
+final class WordIndexFormat {
+  /**
+   * "WWFW"
+   */
+  static final int MAGIC = 0x57574657;
+  static final byte VERSION = 1;
+  static final int HEADER_BYTES = 4 + 1;
+  static final int TRAILER_BYTES = 8 + 4 + 4;
+
+  private WordIndexFormat() { }
+
+  static void writeVarLong(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+
+    out.write((int) value);
+  }
+
+  static void writeSignedVarLong(ByteArrayOutputStream out, long value) {
+    writeVarLong(out, (value << 1) ^ (value >> 63));
+  }
+
+  static long readVarLong(ByteBuffer in) {
+    long value = 0;
+
+    for (int shift = 0; ; shift += 7) {
+      byte b = in.get();
+      value |= (long) (b & 0x7F) << shift;
+
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+  }
+
+  static long readSignedVarLong(ByteBuffer in) {
+    long value = readVarLong(in);
+    return (value >>> 1) ^ -(value & 1);
+  }
+}
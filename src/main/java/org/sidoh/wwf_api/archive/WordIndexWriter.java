@@ -0,0 +1,301 @@
+package org.sidoh.wwf_api.archive;
+
+import com.google.common.base.Charsets;
+import org.apache.thrift.TException;
+import org.sidoh.wwf_api.game_state.GameStateHelper;
+import org.sidoh.wwf_api.game_state.Move;
+import org.sidoh.wwf_api.game_state.SlotLines;
+import org.sidoh.wwf_api.game_state.WordsWithFriendsBoard;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.types.api.MoveData;
+import org.sidoh.wwf_api.types.api.MoveType;
+import org.sidoh.wwf_api.types.game_state.Slot;
+import org.sidoh.wwf_api.types.game_state.SlotModifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>
+ * Builds a WordIndex: for every word played, the moves that formed it along with how often it's
+ * been played and the points it scored. Postings also record which premium squares the move's
+ * tiles landed on, which is worked out by replaying each game's plays on a board.
+ * </p>
+ * <p>
+ * This is an offline job. Everything is collected in memory and written out sorted when write is
+ * called. Not thread-safe.
+ * </p>
+ */
+public class WordIndexWriter {
+  private static final Logger LOG = LoggerFactory.getLogger(WordIndexWriter.class);
+
+  public static final int DEFAULT_BLOCK_SIZE = 64;
+
+  private static final GameStateHelper stateHelper = GameStateHelper.getInstance();
+
+  private final int blockSize;
+  private final Map<String, Postings> words = new TreeMap<String, Postings>();
+
+  public WordIndexWriter() {
+    this(DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * @param blockSize number of words per block. larger blocks compress better but make lookups
+   *                  scan more.
+   */
+  public WordIndexWriter(int blockSize) {
+    this.blockSize = blockSize;
+  }
+
+  /**
+   * Index every game in an archive
+   *
+   * @param archive
+   * @param file
+   * @throws IOException
+   * @throws TException
+   */
+  public static void build(GameArchive archive, File file) throws IOException, TException {
+    WordIndexWriter writer = new WordIndexWriter();
+
+    for (long gameId : archive.getGameIds()) {
+      writer.add(archive.get(gameId));
+    }
+
+    writer.write(file);
+  }
+
+  /**
+   * Index a game's words. Adding the same game twice indexes it twice.
+   *
+   * @param state a game with its moves' tiles filled in
+   */
+  public void add(GameState state) {
+    WordsWithFriendsBoard board = new WordsWithFriendsBoard();
+
+    for (MoveData move : state.getAllMoves()) {
+      int modifiers = 0;
+
+      if (move.getMoveType() == MoveType.PLAY && move.isSetTiles() && !move.getTiles().isEmpty()) {
+        Move play = stateHelper.buildGameStateMove(move, board);
+        modifiers = getModifierMask(board, play);
+        board.move(play);
+      }
+
+      if (!move.isSetWords()) {
+        continue;
+      }
+
+      for (String word : move.getWords()) {
+        String key = word.toLowerCase();
+        Postings postings = words.get(key);
+
+        if (postings == null) {
+          postings = new Postings();
+          words.put(key, postings);
+        }
+
+        postings.add(state.getId(), move.getMoveIndex(), move.isSetPoints() ? move.getPoints() : 0, modifiers);
+      }
+    }
+  }
+
+  /**
+   * @return the number of distinct words indexed so far
+   */
+  public int size() {
+    return words.size();
+  }
+
+  /**
+   * Write the index
+   *
+   * @param file
+   * @throws IOException
+   */
+  public void write(File file) throws IOException {
+    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 64 * 1024));
+    List<String> firstWords = new ArrayList<String>();
+    List<long[]> blocks = new ArrayList<long[]>();
+
+    try {
+      out.writeInt(WordIndexFormat.MAGIC);
+      out.writeByte(WordIndexFormat.VERSION);
+
+      long position = WordIndexFormat.HEADER_BYTES;
+      ByteArrayOutputStream block = new ByteArrayOutputStream();
+      ByteArrayOutputStream postingBytes = new ByteArrayOutputStream();
+      String previous = null;
+      int numInBlock = 0;
+
+      for (Map.Entry<String, Postings> entry : words.entrySet()) {
+        String word = entry.getKey();
+
+        if (numInBlock == blockSize) {
+          blocks.add(new long[] { position, block.size() });
+          position += block.size();
+          block.writeTo(out);
+          block.reset();
+          numInBlock = 0;
+        }
+
+        if (numInBlock == 0) {
+          firstWords.add(word);
+          previous = null;
+        }
+
+        int shared = previous == null ? 0 : getSharedPrefixLength(previous, word);
+        byte[] suffix = word.substring(shared).getBytes(Charsets.UTF_8);
+
+        WordIndexFormat.writeVarLong(block, shared);
+        WordIndexFormat.writeVarLong(block, suffix.length);
+        block.write(suffix, 0, suffix.length);
+
+        postingBytes.reset();
+        Postings postings = entry.getValue();
+        postings.write(postingBytes);
+
+        WordIndexFormat.writeVarLong(block, postings.size);
+        WordIndexFormat.writeSignedVarLong(block, postings.totalPoints);
+        WordIndexFormat.writeVarLong(block, postingBytes.size());
+        postingBytes.writeTo(block);
+
+        previous = word;
+        numInBlock++;
+      }
+
+      if (numInBlock > 0) {
+        blocks.add(new long[] { position, block.size() });
+        position += block.size();
+        block.writeTo(out);
+      }
+
+      for (int i = 0; i < blocks.size(); i++) {
+        out.writeUTF(firstWords.get(i));
+        out.writeLong(blocks.get(i)[0]);
+        out.writeInt((int) blocks.get(i)[1]);
+      }
+
+      out.writeLong(position);
+      out.writeInt(blocks.size());
+      out.writeInt(WordIndexFormat.MAGIC);
+    }
+    finally {
+      out.close();
+    }
+
+    LOG.info("wrote index of {} words in {} blocks to {}", new Object[] { words.size(), blocks.size(), file });
+  }
+
+  /**
+   * @param board the board before the move is made
+   * @param play
+   * @return bits (1 << SlotModifier value) for each premium square a tile is placed on
+   */
+  protected static int getModifierMask(WordsWithFriendsBoard board, Move play) {
+    int mask = 0;
+    int remaining = play.getTiles().size();
+    int index = play.getRow() * WordsWithFriendsBoard.DIMENSIONS + play.getCol();
+
+    while (remaining > 0 && index != SlotLines.NONE) {
+      Slot slot = board.getSlot(index);
+
+      if (slot.getTile() == null) {
+        if (slot.getModifier() != null && slot.getModifier() != SlotModifier.NONE) {
+          mask |= 1 << slot.getModifier().getValue();
+        }
+        remaining--;
+      }
+
+      index = WordsWithFriendsBoard.LINES.next(index, play.getOrientation());
+    }
+
+    return mask;
+  }
+
+  private static int getSharedPrefixLength(String a, String b) {
+    int length = Math.min(a.length(), b.length());
+    int i = 0;
+
+    while (i < length && a.charAt(i) == b.charAt(i)) {
+      i++;
+    }
+
+    // Don't split a surrogate pair between the prefix and the suffix
+    if (i > 0 && Character.isHighSurrogate(a.charAt(i - 1))) {
+      i--;
+    }
+
+    return i;
+  }
+
+  /**
+   * Occurrences of a single word, stored in parallel arrays to keep millions of them compact
+   */
+  private static class Postings {
+    private long[] gameIds = new long[4];
+    private int[] moveIndexes = new int[4];
+    private int[] points = new int[4];
+    private int[] modifiers = new int[4];
+    private int size = 0;
+    private long totalPoints = 0;
+
+    public void add(long gameId, int moveIndex, int movePoints, int modifierMask) {
+      if (size == gameIds.length) {
+        gameIds = Arrays.copyOf(gameIds, size * 2);
+        moveIndexes = Arrays.copyOf(moveIndexes, size * 2);
+        points = Arrays.copyOf(points, size * 2);
+        modifiers = Arrays.copyOf(modifiers, size * 2);
+      }
+
+      gameIds[size] = gameId;
+      moveIndexes[size] = moveIndex;
+      points[size] = movePoints;
+      modifiers[size] = modifierMask;
+      size++;
+      totalPoints += movePoints;
+    }
+
+    /**
+     * Write in order of game and move, which keeps the game id differences small
+     */
+    public void write(ByteArrayOutputStream out) {
+      Integer[] order = new Integer[size];
+      for (int i = 0; i < size; i++) {
+        order[i] = i;
+      }
+
+      Arrays.sort(order, new Comparator<Integer>() {
+        @Override
+        public int compare(Integer a, Integer b) {
+          if (gameIds[a] != gameIds[b]) {
+            return gameIds[a] < gameIds[b] ? -1 : 1;
+          }
+          return moveIndexes[a] - moveIndexes[b];
+        }
+      });
+
+      long previousGameId = 0;
+      for (int i : order) {
+        WordIndexFormat.writeSignedVarLong(out, gameIds[i] - previousGameId);
+        WordIndexFormat.writeVarLong(out, moveIndexes[i]);
+        WordIndexFormat.writeSignedVarLong(out, points[i]);
+        WordIndexFormat.writeVarLong(out, modifiers[i]);
+        previousGameId = gameIds[i];
+      }
+    }
+  }
+}
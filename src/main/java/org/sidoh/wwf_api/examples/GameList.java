@@ -2,9 +2,15 @@ package org.sidoh.wwf_api.examples;
 
 import org.sidoh.wwf_api.AccessTokenRetriever;
 import org.sidoh.wwf_api.ApiProvider;
+import org.sidoh.wwf_api.Communication;
+import org.sidoh.wwf_api.GameIndexWalker;
+import org.sidoh.wwf_api.RetryPolicy;
 import org.sidoh.wwf_api.StatefulApiProvider;
 import org.sidoh.wwf_api.game_state.GameStateHelper;
 import org.sidoh.wwf_api.game_state.WordsWithFriendsBoard;
+import org.sidoh.wwf_api.metrics.MetricsRecorder;
+import org.sidoh.wwf_api.metrics.NoopMetricsRecorder;
+import org.sidoh.wwf_api.ratelimit.RequestRateLimiter;
 import org.sidoh.wwf_api.types.api.GameIndex;
 import org.sidoh.wwf_api.types.api.GameMeta;
 import org.sidoh.wwf_api.types.api.GameState;
@@ -13,9 +19,11 @@ import org.sidoh.wwf_api.types.game_state.BoardStorage;
 
 import java.io.Console;
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class GameList {
-  public static void main(String[] args) throws IOException {
+  public static void main(String[] args) throws IOException, InterruptedException {
     Console console = System.console();
 
     // Retrieve access token from facebook
@@ -31,26 +39,57 @@ public class GameList {
       System.exit(1);
     }
 
-    // Retrieve list of games and display the game state for each
-    StatefulApiProvider api = new StatefulApiProvider(accessToken);
-    GameStateHelper helper = GameStateHelper.getInstance();
+    // Retrieve list of games and display the game state for each. Games are fetched several at a
+    // time. Pass the number to fetch at once as an argument (1 fetches them one by one).
+    int parallelism = args.length > 0 ? Integer.parseInt(args[0]) : GameIndexWalker.DEFAULT_PARALLELISM;
+
+    // Requests for a token are rate limited so several fetches at once don't hammer Zynga. The
+    // per-token rate stays the same however many fetches run at once, so once it's reached more
+    // parallelism doesn't make games come back any faster.
+    double requestsPerSecond = RequestRateLimiter.DEFAULT_TOKEN_REQUESTS_PER_SECOND;
+    RequestRateLimiter rateLimiter = new RequestRateLimiter();
+    MetricsRecorder metrics = NoopMetricsRecorder.getInstance();
+    StatefulApiProvider api = new StatefulApiProvider(accessToken,
+      new ApiProvider(metrics, new Communication(metrics, 0, rateLimiter, new RetryPolicy())));
+    System.out.printf("Fetching %d games at a time. The rate limiter allows %.0f requests/s, which caps the speedup.\n",
+      parallelism, requestsPerSecond);
+    final GameStateHelper helper = GameStateHelper.getInstance();
 
     GameIndex index = api.getGameIndex();
-    User me = index.getUser();
+    final User me = index.getUser();
+
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    GameIndexWalker walker = new GameIndexWalker(executor, parallelism, GameIndexWalker.Order.INDEX);
+    long start = System.currentTimeMillis();
+    int fetched;
 
-    for (GameMeta gameMeta : index.getGames()) {
-      GameState state = api.getGameState(gameMeta.getId());
+    try {
+      fetched = walker.walk(api, index, new GameIndexWalker.Callback() {
+        @Override
+        public void onGame(GameMeta gameMeta, GameState state) {
+          User opponent = helper.getOtherUser(me, state);
 
-      User opponent = helper.getOtherUser(me, state);
+          System.out.println("Game state : " + (gameMeta.isOver() ? "OVER" : "OPEN"));
+          System.out.printf("Game  : %20s vs. %20s\n", me.getName(), opponent.getName());
+          System.out.printf("Score : %20d to  %20d\n", helper.getScore(me, state), helper.getScore(opponent, state));
 
-      System.out.println("Game state : " + (gameMeta.isOver() ? "OVER" : "OPEN"));
-      System.out.printf("Game  : %20s vs. %20s\n", me.getName(), opponent.getName());
-      System.out.printf("Score : %20d to  %20d\n", helper.getScore(me, state), helper.getScore(opponent, state));
+          WordsWithFriendsBoard board = new WordsWithFriendsBoard(new BoardStorage(state.getBoard()));
+          System.out.println(board);
 
-      WordsWithFriendsBoard board = new WordsWithFriendsBoard(new BoardStorage(state.getBoard()));
-      System.out.println(board);
+          System.out.println("----------------------------------------");
+        }
 
-      System.out.println("----------------------------------------");
+        @Override
+        public void onError(GameMeta gameMeta, Exception e) {
+          System.out.println("Couldn't fetch game " + gameMeta.getId() + ": " + e.getMessage());
+        }
+      });
     }
+    finally {
+      executor.shutdown();
+    }
+
+    System.out.printf("Fetched %d games in %d ms, %d at a time (speedup capped at %.0f requests/s by the rate limiter)\n",
+      fetched, System.currentTimeMillis() - start, parallelism, requestsPerSecond);
   }
 }
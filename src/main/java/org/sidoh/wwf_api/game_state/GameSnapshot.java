@@ -0,0 +1,481 @@
+package org.sidoh.wwf_api.game_state;
+
+import org.sidoh.wwf_api.Bag;
+import org.sidoh.wwf_api.types.api.ChatMessage;
+import org.sidoh.wwf_api.types.api.GameMeta;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.types.api.MoveData;
+import org.sidoh.wwf_api.types.api.MoveType;
+import org.sidoh.wwf_api.types.game_state.SlotModifier;
+import org.sidoh.wwf_api.types.game_state.Tile;
+import org.sidoh.wwf_api.types.game_state.WordOrientation;
+import org.sidoh.wwf_api.util.MersenneTwister;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * An immutable game state. Applying a move returns a new snapshot that shares everything the move
+ * didn't change with its predecessor:
+ * </p>
+ * <ul>
+ *   <li>The board is stored as rows. Only the rows a move places tiles in are copied.</li>
+ *   <li>Moves are kept in a persistent linked list, so recording a move is one small node.</li>
+ *   <li>Racks are small arrays. Only the moving player's rack is replaced.</li>
+ *   <li>The bag is a list of tile IDs plus a position in a PRNG sequence that's shared by every
+ *   snapshot of the same game.</li>
+ * </ul>
+ * <p>
+ * A successor costs a few hundred bytes, so it's reasonable to hold on to thousands of them (for
+ * replays, analysis or as search roots). Tiles are shared between snapshots and must not be
+ * modified. Use MutableGameState if old states don't need to be kept around.
+ * </p>
+ */
+public final class GameSnapshot {
+  private static final GameStateHelper stateHelper = GameStateHelper.getInstance();
+  private static final int DIMENSIONS = WordsWithFriendsBoard.DIMENSIONS;
+
+  /**
+   * The values a game's PRNG produces, in order. Bags pull exactly one value per tile, so a bag's
+   * state is fully described by an index into this sequence and the list of remaining tiles.
+   */
+  private static final class DrawSequence {
+    private final MersenneTwister twister;
+    private long[] values = new long[128];
+    private int size = 0;
+
+    DrawSequence(long seed) {
+      this.twister = new MersenneTwister(seed);
+    }
+
+    synchronized long get(int index) {
+      while (size <= index) {
+        if (size == values.length) {
+          values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[size++] = twister.nextUnsignedI32();
+      }
+
+      return values[index];
+    }
+  }
+
+  /**
+   * A node in a persistent list of moves. The most recent move is at the head.
+   */
+  private static final class MoveNode {
+    private final MoveData move;
+    private final MoveNode previous;
+    private final int size;
+
+    MoveNode(MoveData move, MoveNode previous) {
+      this.move = move;
+      this.previous = previous;
+      this.size = previous == null ? 1 : previous.size + 1;
+    }
+  }
+
+  /**
+   * Scores plays against a snapshot's rows, so that scoring doesn't need a board
+   */
+  private static final class RowScorer extends MoveScorer {
+    private final Tile[][] rows;
+
+    RowScorer(Tile[][] rows) {
+      this.rows = rows;
+    }
+
+    @Override
+    protected Tile getTile(int index) {
+      return rows[WordsWithFriendsBoard.getRowFromIndex(index)][WordsWithFriendsBoard.getColFromIndex(index)];
+    }
+
+    @Override
+    protected SlotModifier getModifier(int index) {
+      return WordsWithFriendsBoard.getDefaultModifier(index);
+    }
+  }
+
+  private final long id;
+  private final GameMeta meta;
+  private final long currentMoveUserId;
+  private final Tile[][] rows;
+  private final long[] userIds;
+  private final Tile[][] racks;
+  private final int[] scores;
+  private final DrawSequence draws;
+  private final int numDraws;
+  private final byte[] bagTileIds;
+  private final MoveNode lastMove;
+  private final List<ChatMessage> chatMessages;
+
+  private GameSnapshot(long id, GameMeta meta, long currentMoveUserId, Tile[][] rows,
+                       long[] userIds, Tile[][] racks, int[] scores,
+                       DrawSequence draws, int numDraws, byte[] bagTileIds,
+                       MoveNode lastMove, List<ChatMessage> chatMessages) {
+    this.id = id;
+    this.meta = meta;
+    this.currentMoveUserId = currentMoveUserId;
+    this.rows = rows;
+    this.userIds = userIds;
+    this.racks = racks;
+    this.scores = scores;
+    this.draws = draws;
+    this.numDraws = numDraws;
+    this.bagTileIds = bagTileIds;
+    this.lastMove = lastMove;
+    this.chatMessages = chatMessages;
+  }
+
+  /**
+   * Build a snapshot of the provided state. This replays the state's moves to rebuild the tile bag,
+   * so it's as expensive as GameStateHelper.applyMove. Successors are cheap.
+   *
+   * @param state the state to copy. won't be modified.
+   * @return
+   */
+  public static GameSnapshot of(GameState state) {
+    GameMeta meta = state.getMeta().deepCopy();
+
+    Tile[][] rows = new Tile[DIMENSIONS][];
+    for (int row = 0; row < DIMENSIONS; row++) {
+      rows[row] = new Tile[DIMENSIONS];
+
+      for (int col = 0; col < DIMENSIONS; col++) {
+        Tile tile = state.getBoard().get(WordsWithFriendsBoard.getIndexFromRowAndCol(row, col)).getTile();
+        rows[row][col] = tile == null ? null : tile.deepCopy();
+      }
+    }
+
+    long[] userIds = new long[state.getRacksSize()];
+    Tile[][] racks = new Tile[userIds.length][];
+    int[] scores = new int[userIds.length];
+    int i = 0;
+    for (Map.Entry<Long, List<Tile>> entry : state.getRacks().entrySet()) {
+      userIds[i] = entry.getKey();
+      racks[i] = copyTiles(entry.getValue());
+
+      Integer score = state.getScores().get(entry.getKey());
+      scores[i] = score == null ? 0 : score;
+
+      i++;
+    }
+
+    Bag bag = stateHelper.reconstructBag(state);
+    List<Tile> remaining = bag.getRemainingTiles();
+    byte[] bagTileIds = new byte[remaining.size()];
+    for (int j = 0; j < bagTileIds.length; j++) {
+      bagTileIds[j] = (byte) remaining.get(j).getId();
+    }
+
+    MoveNode lastMove = null;
+    for (MoveData move : state.getAllMoves()) {
+      lastMove = new MoveNode(move.deepCopy(), lastMove);
+    }
+
+    List<ChatMessage> chatMessages = state.isSetChatMessages()
+      ? Collections.unmodifiableList(new ArrayList<ChatMessage>(state.getChatMessages()))
+      : Collections.<ChatMessage>emptyList();
+
+    return new GameSnapshot(state.getId(),
+      meta,
+      meta.getCurrentMoveUserId(),
+      rows,
+      userIds,
+      racks,
+      scores,
+      new DrawSequence(bag.getSeed()),
+      bag.getNumPulls(),
+      bagTileIds,
+      lastMove,
+      chatMessages);
+  }
+
+  /**
+   * Apply a move made by the current player without recording any MoveData for it.
+   *
+   * @param move a PLAY, SWAP or PASS. if a PLAY hasn't been scored, it's scored against this
+   *             snapshot's rows.
+   * @return the state after the move. this snapshot isn't changed.
+   */
+  public GameSnapshot applyMove(Move move) {
+    return applyMove(move, null);
+  }
+
+  /**
+   * Apply a move made by the current player.
+   *
+   * @param move a PLAY, SWAP or PASS. if a PLAY hasn't been scored, it's scored against this
+   *             snapshot's rows.
+   * @param moveData MoveData to add to the list of moves. can be null.
+   * @return the state after the move. this snapshot isn't changed.
+   * @throws InvalidGameStateException if a PLAY runs off the board
+   */
+  public GameSnapshot applyMove(Move move, MoveData moveData) {
+    int mover = getUserIndex(currentMoveUserId);
+    int score = 0;
+    Tile[][] rows = this.rows;
+
+    if (move.getMoveType() == MoveType.PLAY) {
+      if (move.getResult() == null) {
+        move.setResult(new RowScorer(this.rows).score(move.getTiles(), move.getRow(), move.getCol(), move.getOrientation()));
+      }
+
+      score = move.getResult().getScore();
+      rows = placeTiles(move);
+    }
+    else if (move.getMoveType() != MoveType.SWAP && move.getMoveType() != MoveType.PASS) {
+      throw new RuntimeException("Unsupported move type: " + move.getMoveType());
+    }
+
+    // Draw replacements for the tiles that left the rack
+    int numPulls = Math.min(bagTileIds.length, move.getTiles().size());
+    byte[] bag = Arrays.copyOf(bagTileIds, bagTileIds.length);
+    int bagSize = bag.length;
+    Tile[] pulled = new Tile[numPulls];
+
+    for (int i = 0; i < numPulls; i++) {
+      int index = (int) (draws.get(numDraws + i) % bagSize);
+
+      pulled[i] = Bag.getTileWithId(bag[index]);
+      System.arraycopy(bag, index + 1, bag, index, bagSize - index - 1);
+      bagSize--;
+    }
+
+    if (move.getMoveType() == MoveType.SWAP) {
+      bag = Arrays.copyOf(bag, bagSize + move.getTiles().size());
+
+      for (Tile tile : move.getTiles()) {
+        bag[bagSize++] = (byte) tile.getId();
+      }
+    }
+    else {
+      bag = Arrays.copyOf(bag, bagSize);
+    }
+
+    Tile[][] racks = this.racks.clone();
+    racks[mover] = replaceTiles(racks[mover], move.getTiles(), pulled);
+
+    int[] scores = this.scores.clone();
+    scores[mover] += score;
+
+    return new GameSnapshot(id,
+      meta,
+      userIds[(mover + 1) % userIds.length],
+      rows,
+      userIds,
+      racks,
+      scores,
+      draws,
+      numDraws + numPulls,
+      bag,
+      moveData == null ? lastMove : new MoveNode(moveData, lastMove),
+      chatMessages);
+  }
+
+  /**
+   * Build a GameState reflecting this snapshot. Everything is copied.
+   *
+   * @return
+   */
+  public GameState toGameState() {
+    Map<Long, List<Tile>> racks = new HashMap<Long, List<Tile>>();
+    Map<Long, Integer> scores = new HashMap<Long, Integer>();
+
+    for (int i = 0; i < userIds.length; i++) {
+      racks.put(userIds[i], new ArrayList<Tile>(getRack(userIds[i])));
+      scores.put(userIds[i], this.scores[i]);
+    }
+
+    List<MoveData> allMoves = new ArrayList<MoveData>();
+    for (MoveData move : getAllMoves()) {
+      allMoves.add(move.deepCopy());
+    }
+
+    return new GameState()
+      .setId(id)
+      .setMeta(meta.deepCopy().setCurrentMoveUserId(currentMoveUserId))
+      .setAllMoves(allMoves)
+      .setRacks(racks)
+      .setScores(scores)
+      .setBoard(toBoard().getStorage().deepCopy().getSlots())
+      .setRemainingTiles(getRemainingTilesInPullOrder())
+      .setChatMessages(new ArrayList<ChatMessage>(chatMessages));
+  }
+
+  /**
+   * @return a new board with this snapshot's tiles on it
+   */
+  public WordsWithFriendsBoard toBoard() {
+    WordsWithFriendsBoard board = new WordsWithFriendsBoard();
+
+    for (int row = 0; row < DIMENSIONS; row++) {
+      for (int col = 0; col < DIMENSIONS; col++) {
+        Tile tile = rows[row][col];
+
+        if (tile != null) {
+          board.placeTile(row, col, tile.deepCopy());
+        }
+      }
+    }
+
+    return board;
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  /**
+   * @return the game's metadata as of when the first snapshot was made. the current player is
+   * tracked separately (see getCurrentMoveUserId). should not be modified.
+   */
+  public GameMeta getMeta() {
+    return meta;
+  }
+
+  public long getCurrentMoveUserId() {
+    return currentMoveUserId;
+  }
+
+  /**
+   * @param row
+   * @param col
+   * @return the tile at the provided location or null if there isn't one. should not be modified.
+   */
+  public Tile getTile(int row, int col) {
+    return rows[row][col];
+  }
+
+  /**
+   * @param userId
+   * @return the user's rack. the tiles should not be modified.
+   */
+  public List<Tile> getRack(long userId) {
+    return Collections.unmodifiableList(Arrays.asList(racks[getUserIndex(userId)]));
+  }
+
+  /**
+   * @return the rack of the player currently allowed to move
+   */
+  public List<Tile> getCurrentPlayerRack() {
+    return getRack(currentMoveUserId);
+  }
+
+  /**
+   * @param userId
+   * @return the user's score
+   */
+  public int getScore(long userId) {
+    return scores[getUserIndex(userId)];
+  }
+
+  public int getNumRemainingTiles() {
+    return bagTileIds.length;
+  }
+
+  /**
+   * @return tiles left in the bag in the order they'll be pulled (assuming none are returned)
+   */
+  public List<Tile> getRemainingTilesInPullOrder() {
+    List<Byte> bag = new ArrayList<Byte>(bagTileIds.length);
+    for (byte tileId : bagTileIds) {
+      bag.add(tileId);
+    }
+
+    List<Tile> tiles = new ArrayList<Tile>(bagTileIds.length);
+    for (int i = 0; !bag.isEmpty(); i++) {
+      int index = (int) (draws.get(numDraws + i) % bag.size());
+      tiles.add(Bag.getTileWithId(bag.remove(index)));
+    }
+
+    return tiles;
+  }
+
+  public int getAllMovesSize() {
+    return lastMove == null ? 0 : lastMove.size;
+  }
+
+  /**
+   * @return the recorded moves, oldest first. the MoveData instances are shared and should not be
+   * modified.
+   */
+  public List<MoveData> getAllMoves() {
+    MoveData[] moves = new MoveData[getAllMovesSize()];
+    MoveNode node = lastMove;
+
+    for (int i = moves.length - 1; i >= 0; i--) {
+      moves[i] = node.move;
+      node = node.previous;
+    }
+
+    return Arrays.asList(moves);
+  }
+
+  /**
+   * Copy only the rows a play places tiles in and put the tiles there. Occupied slots are skipped
+   * the same way WordsWithFriendsBoard.playWord skips them.
+   *
+   * @param move
+   * @return
+   * @throws InvalidGameStateException if the play runs off the board
+   */
+  private Tile[][] placeTiles(Move move) {
+    Tile[][] rows = this.rows.clone();
+    int row = move.getRow();
+    int col = move.getCol();
+    boolean horizontal = move.getOrientation() == WordOrientation.HORIZONTAL;
+
+    for (Tile tile : move.getTiles()) {
+      while (row < DIMENSIONS && col < DIMENSIONS && rows[row][col] != null) {
+        if (horizontal) col++;
+        else row++;
+      }
+
+      if (row < 0 || col < 0 || row >= DIMENSIONS || col >= DIMENSIONS) {
+        throw new InvalidGameStateException("Play starting at (" + move.getRow() + ", " + move.getCol()
+          + ") runs off the board");
+      }
+
+      if (rows[row] == this.rows[row]) {
+        rows[row] = this.rows[row].clone();
+      }
+      rows[row][col] = tile;
+    }
+
+    return rows;
+  }
+
+  private int getUserIndex(long userId) {
+    for (int i = 0; i < userIds.length; i++) {
+      if (userIds[i] == userId) {
+        return i;
+      }
+    }
+
+    throw new IllegalArgumentException("User is not in this game: " + userId);
+  }
+
+  private static Tile[] replaceTiles(Tile[] rack, List<Tile> removed, Tile[] added) {
+    List<Tile> tiles = new ArrayList<Tile>(Arrays.asList(rack));
+    stateHelper.removeTilesById(tiles, removed);
+    tiles.addAll(Arrays.asList(added));
+
+    return tiles.toArray(new Tile[tiles.size()]);
+  }
+
+  private static Tile[] copyTiles(List<Tile> tiles) {
+    Tile[] copy = new Tile[tiles.size()];
+
+    for (int i = 0; i < copy.length; i++) {
+      copy[i] = tiles.get(i).deepCopy();
+    }
+
+    return copy;
+  }
+}
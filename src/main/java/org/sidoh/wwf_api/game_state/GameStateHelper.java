@@ -17,15 +17,38 @@ import org.slf4j.LoggerFactory;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 
 public class GameStateHelper {
   private static final Logger LOG = LoggerFactory.getLogger(GameStateHelper.class);
+  public static final String TIMESTAMP_PATTERN = "yyyy-MM-dd'T'HH:mm:ss'+00:00'";
+
+  /**
+   * Not thread-safe. Use getTimestampDateFormat when the format might be used from more than one
+   * thread.
+   */
   public static final SimpleDateFormat TIMESTAMP_DATE_FORMAT
-    = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'+00:00'", Locale.GERMANY);
+    = new SimpleDateFormat(TIMESTAMP_PATTERN, Locale.GERMANY);
+
+  private static final ThreadLocal<SimpleDateFormat> TIMESTAMP_DATE_FORMATS = new ThreadLocal<SimpleDateFormat>() {
+    @Override
+    protected SimpleDateFormat initialValue() {
+      return new SimpleDateFormat(TIMESTAMP_PATTERN, Locale.GERMANY);
+    }
+  };
   private static GameStateHelper instance;
 
+  /**
+   * SimpleDateFormat isn't thread-safe, so each thread gets its own copy of TIMESTAMP_DATE_FORMAT.
+   *
+   * @return the calling thread's timestamp format
+   */
+  public static SimpleDateFormat getTimestampDateFormat() {
+    return TIMESTAMP_DATE_FORMATS.get();
+  }
+
   /**
    * Force singleton
    */
@@ -68,7 +91,7 @@ public class GameStateHelper {
    */
   public int getNumSecondsEllapsedSinceTimestamp(String timestamp) {
     try {
-      return (int) ((System.currentTimeMillis() - TIMESTAMP_DATE_FORMAT.parse(timestamp).getTime()) / 1000L);
+      return (int) ((System.currentTimeMillis() - getTimestampDateFormat().parse(timestamp).getTime()) / 1000L);
     }
     catch (ParseException e) {
       throw new RuntimeException("Couldn't parse timestamp: " + timestamp, e);
@@ -256,7 +279,7 @@ public class GameStateHelper {
       Tile tile = tiles.get(i).getTile();
 
       if (tile != null) {
-        board.getSlot(i).setTile(tile);
+        board.placeTile(i, tile);
       }
     }
   }
@@ -349,42 +372,40 @@ public class GameStateHelper {
 
   /**
    * Given a move, apply it to the GameState. This builds the resulting racks, board, scores, etc.
+   * The provided state is not modified.
+   *
+   * Note that this needs to copy the state and replay all of its moves to rebuild the tile bag. If
+   * many moves are being applied to the same game, use a MutableGameState instead.
    *
    * @param state
    * @param move
    * @return
    */
   public GameState applyMove(GameState state, Move move) {
-    state = state.deepCopy();
-
-    User moveUser = state.getMeta().getUsersById().get(state.getMeta().getCurrentMoveUserId());
+    MutableGameState mutableState = new MutableGameState(state);
+    mutableState.applyMove(move);
 
-    // Build board from current game state
-    WordsWithFriendsBoard board = createBoardFromState(state);
-    board.move(move);
-
-    // swap users
-    state.getMeta().setCurrentMoveUserId(getOtherUser(state.getMeta().getCurrentMoveUserId(), state).getId());
-
-    // pop tiles
-    Bag tileBag = reconstructBag(state);
-    List<Tile> userRack = state.getRacks().get(moveUser.getId());
-    userRack.removeAll(move.getTiles());
-    userRack.addAll(tileBag.pullTiles(Math.min(tileBag.getRemainingTiles().size(), move.getTiles().size())));
+    return mutableState.toGameState();
+  }
 
-    if (move.getMoveType() == MoveType.SWAP) {
-      tileBag.returnTiles(move.getTiles());
+  /**
+   * Remove the provided tiles from a rack. Tiles are matched by ID rather than by equality since
+   * blanks will have had their letter assigned by the time they're played.
+   *
+   * @param rack
+   * @param tiles
+   */
+  public void removeTilesById(List<Tile> rack, List<Tile> tiles) {
+    for (Tile tile : tiles) {
+      Iterator<Tile> itr = rack.iterator();
+
+      while (itr.hasNext()) {
+        if (itr.next().getId() == tile.getId()) {
+          itr.remove();
+          break;
+        }
+      }
     }
-
-    state.setRemainingTiles(tileBag.getRemainingTilesInPullOrder());
-
-    // scores
-    addToScore(moveUser, state, move.getResult().getScore());
-
-    // board
-    state.setBoard(board.getStorage().getSlots());
-
-    return state;
   }
 
   /**
@@ -0,0 +1,211 @@
+package org.sidoh.wwf_api.game_state;
+
+import org.sidoh.wwf_api.types.game_state.SlotModifier;
+import org.sidoh.wwf_api.types.game_state.Tile;
+import org.sidoh.wwf_api.types.game_state.WordOrientation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Scores plays on anything that can say which tile and modifier are in each slot. This lets
+ * GameSnapshot score against its rows without building a WordsWithFriendsBoard. Nothing is
+ * modified.
+ */
+abstract class MoveScorer {
+  private static final SlotLines LINES = WordsWithFriendsBoard.LINES;
+
+  /**
+   * @param index
+   * @return the tile in the slot, or null if it's empty
+   */
+  protected abstract Tile getTile(int index);
+
+  /**
+   * @param index
+   * @return the slot's modifier
+   */
+  protected abstract SlotModifier getModifier(int index);
+
+  /**
+   * Score a play. No validiation is done to determine whether or not the play is legal or if the
+   * resulting words are in a particular dicitonary.
+   *
+   * @param _tiles         the tiles to play
+   * @param firstLetterRow the row the first tile is played in
+   * @param firstLetterCol the column the first tile is played in
+   * @param orientation    orientation of the play (either vertical or horizontal)
+   * @return the result of the move. includes score, resulting words, etc.
+   */
+  public Move.Result score(List<Tile> _tiles, int firstLetterRow, int firstLetterCol, WordOrientation orientation) {
+    int score = 0;
+    int adjacentWordsScore = 0;
+    List<SlotModifier> wordModifiers = new LinkedList<SlotModifier>();
+    LinkedList<Tile> tiles = new LinkedList<Tile>(_tiles);
+
+    // Count the number of tiles we skip over because they're already filled.
+    int skippedSlots = 0;
+
+    String mainWord = "";
+    List<String> adjacentWords = new ArrayList<String>();
+
+    int firstIndex = WordsWithFriendsBoard.getIndexFromRowAndCol(firstLetterRow, firstLetterCol);
+
+    for (int index = firstIndex; index != SlotLines.NONE; index = LINES.next(index, orientation)) {
+      Tile existing = getTile(index);
+
+      // If there's already a tile here, don't pop tiles off.
+      // If there are no more letters, we're trying to count a suffix. Only worth doing if
+      // there are letters in this slot
+      if (existing != null) {
+        // Don't count modifiers for suffixes
+        score += existing.getValue();
+
+        // Add letter to word being formed
+        mainWord = mainWord.concat(existing.getLetter().getValue());
+
+        // Only count skipped slots if there are still things left to play
+        if (!tiles.isEmpty())
+          skippedSlots++;
+      }
+      // If there are still letters, play them.
+      else if (!tiles.isEmpty()) {
+        Tile tile = tiles.removeFirst();
+        SlotModifier modifier = getModifier(index);
+
+        // Add this letter to the word being formed
+        mainWord = mainWord.concat(tile.getLetter().getValue());
+
+        // Remember any word modifiers if we placed a tile
+        if (WordsWithFriendsBoard.isWordModifier(modifier))
+          wordModifiers.add(modifier);
+
+        // Score any adjacent words formed by placing this tile
+        Move.Result result = scoreAdjacentWord(index, tile, WordsWithFriendsBoard.opposite(orientation));
+
+        // Sanity check
+        if (result.getResultingWords().size() > 1)
+          throw new RuntimeException("# adjacent words > 1. this should never happen.");
+
+        if (result.getScore() > 0) {
+          adjacentWordsScore += result.getScore();
+          adjacentWords.add(result.getResultingWords().get(0));
+        }
+
+        // Score this letter (could be modified by letter modifier)
+        score += WordsWithFriendsBoard.getLetterScore(modifier, tile);
+      }
+      // Don't continue after getting to the end of the word
+      else {
+        break;
+      }
+    }
+
+    // Include scores from the prefix, starting with the slot before the first position of this word.
+    for (int index = LINES.previous(firstIndex, orientation); index != SlotLines.NONE; index = LINES.previous(index, orientation)) {
+      Tile existing = getTile(index);
+
+      if (existing != null) {
+        score += existing.getValue();
+
+        // Prefix word being formed
+        mainWord = existing.getLetter().getValue().concat(mainWord);
+      }
+      // finish if this slot doesn't have a tile
+      else {
+        break;
+      }
+    }
+
+    // Apply word modifiers
+    score = WordsWithFriendsBoard.getWordScore(score, wordModifiers);
+
+    // Apply bonus if all tiles were used.
+    if (_tiles.size() == WordsWithFriendsBoard.TILES_PER_PLAYER)
+      score += WordsWithFriendsBoard.ALL_TILES_BONUS;
+
+    // Ready list of formed words
+    adjacentWords.add(mainWord);
+
+    return new Move.Result(score + adjacentWordsScore, skippedSlots, mainWord, adjacentWords);
+  }
+
+  /**
+   * @param index index of the slot in question
+   * @param orientation vertical/horizontal
+   * @return true if the provided location has any tiles next to it
+   */
+  public boolean hasAdjacentTiles(int index, WordOrientation orientation) {
+    int before = LINES.previous(index, orientation);
+    int after = LINES.next(index, orientation);
+
+    return (before != SlotLines.NONE && getTile(before) != null)
+        || (after != SlotLines.NONE && getTile(after) != null);
+  }
+
+  /**
+   * <p>Scores words adjacent to a play. Example:</p>
+   * <p/>
+   * <pre>
+   *          B O P
+   *        G A M E R
+   * </pre>
+   * <p/>
+   * <p>
+   * Here, the play "BOP" off of the word "GAMER" includes adjacent words "BA", "OM", and "PE",
+   * all of which should be included in the score.
+   * </p>
+   * <p/>
+   * <p>
+   * Strictly speaking, using Move.Result is overkill, but it's convenient.
+   * </p>
+   *
+   * @param index
+   * @param tile
+   * @param orientation
+   * @return
+   */
+  private Move.Result scoreAdjacentWord(int index, Tile tile, WordOrientation orientation) {
+    // Don't bother if there aren't tiles in either direction
+    if (!hasAdjacentTiles(index, orientation))
+      return new Move.Result(0, 0, null, Collections.<String>emptyList());
+
+    SlotModifier centerModifier = getModifier(index);
+
+    String word = tile.getLetter().getValue();
+    int score = WordsWithFriendsBoard.getLetterScore(centerModifier, tile);
+
+    List<SlotModifier> wordModifiers = WordsWithFriendsBoard.isWordModifier(centerModifier)
+        ? Collections.singletonList(centerModifier)
+        : Collections.<SlotModifier>emptyList();
+
+    for (int i = LINES.next(index, orientation); i != SlotLines.NONE; i = LINES.next(i, orientation)) {
+      Tile existing = getTile(i);
+
+      if (existing != null)
+        score += existing.getValue();
+      else break;
+
+      word = word.concat(existing.getLetter().getValue());
+    }
+
+    // reverse direction
+    for (int i = LINES.previous(index, orientation); i != SlotLines.NONE; i = LINES.previous(i, orientation)) {
+      Tile existing = getTile(i);
+
+      if (existing != null)
+        score += existing.getValue();
+      else break;
+
+      word = existing.getLetter().getValue().concat(word);
+    }
+
+    return new Move.Result(
+        WordsWithFriendsBoard.getWordScore(score, wordModifiers),
+        0,    //    don't really care about main words or skipped letters for adjacent words
+        null, // --^
+        Collections.singletonList(word));
+  }
+}
@@ -0,0 +1,219 @@
+package org.sidoh.wwf_api.game_state;
+
+import org.sidoh.wwf_api.Bag;
+import org.sidoh.wwf_api.types.api.ChatMessage;
+import org.sidoh.wwf_api.types.api.GameMeta;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.types.api.MoveData;
+import org.sidoh.wwf_api.types.api.MoveType;
+import org.sidoh.wwf_api.types.game_state.Tile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * A game state that can be updated in place. Unlike GameState, this keeps a live Bag and
+ * WordsWithFriendsBoard around, so applying a move only costs as much as placing the tiles and
+ * drawing new ones. GameStateHelper.applyMove, on the other hand, has to copy the whole state and
+ * replay every move to rebuild the bag.
+ * </p>
+ * <p>
+ * This is useful for simulations and lookahead. Convert back to a GameState with toGameState when
+ * a thrift object is needed.
+ * </p>
+ */
+public class MutableGameState {
+  private static final GameStateHelper stateHelper = GameStateHelper.getInstance();
+
+  private final long id;
+  private final GameMeta meta;
+  private final WordsWithFriendsBoard board;
+  private final Bag bag;
+  private final Map<Long, List<Tile>> racks;
+  private final Map<Long, Integer> scores;
+  private final List<MoveData> allMoves;
+  private final List<ChatMessage> chatMessages;
+
+  /**
+   * Build a mutable copy of the provided state. This replays the state's moves to rebuild the tile
+   * bag, so it's as expensive as GameStateHelper.applyMove. Subsequent moves are cheap.
+   *
+   * @param state the state to copy. won't be modified.
+   */
+  public MutableGameState(GameState state) {
+    this(state.getId(),
+      state.getMeta().deepCopy(),
+      stateHelper.createBoardFromState(state),
+      stateHelper.reconstructBag(state),
+      copyRacks(state.getRacks()),
+      new HashMap<Long, Integer>(state.getScores()),
+      copyMoves(state.getAllMoves()),
+      state.isSetChatMessages()
+        ? new ArrayList<ChatMessage>(state.getChatMessages())
+        : new ArrayList<ChatMessage>());
+  }
+
+  private MutableGameState(long id, GameMeta meta, WordsWithFriendsBoard board, Bag bag,
+                           Map<Long, List<Tile>> racks, Map<Long, Integer> scores,
+                           List<MoveData> allMoves, List<ChatMessage> chatMessages) {
+    this.id = id;
+    this.meta = meta;
+    this.board = board;
+    this.bag = bag;
+    this.racks = racks;
+    this.scores = scores;
+    this.allMoves = allMoves;
+    this.chatMessages = chatMessages;
+  }
+
+  /**
+   * Apply a move made by the current player. This places tiles on the board, scores the move,
+   * refills the player's rack from the bag and passes the turn to the other player.
+   *
+   * @param move a PLAY, SWAP or PASS
+   * @return the result of the move
+   */
+  public Move.Result applyMove(Move move) {
+    long moveUserId = meta.getCurrentMoveUserId();
+    Move.Result result = board.move(move);
+
+    meta.setCurrentMoveUserId(stateHelper.getOtherUser(moveUserId, meta).getId());
+
+    List<Tile> rack = racks.get(moveUserId);
+    stateHelper.removeTilesById(rack, move.getTiles());
+    rack.addAll(bag.pullTiles(Math.min(bag.getNumRemainingTiles(), move.getTiles().size())));
+
+    if (move.getMoveType() == MoveType.SWAP) {
+      bag.returnTiles(move.getTiles());
+    }
+
+    scores.put(moveUserId, getScore(moveUserId) + result.getScore());
+
+    return result;
+  }
+
+  /**
+   * Build a GameState reflecting the current state of this game. This copies the board, racks and
+   * moves, so it shouldn't be done more often than necessary.
+   *
+   * @return
+   */
+  public GameState toGameState() {
+    return new GameState()
+      .setId(id)
+      .setMeta(meta.deepCopy())
+      .setAllMoves(copyMoves(allMoves))
+      .setRacks(copyRacks(racks))
+      .setScores(new HashMap<Long, Integer>(scores))
+      .setBoard(board.getStorage().deepCopy().getSlots())
+      .setRemainingTiles(bag.getRemainingTilesInPullOrder())
+      .setChatMessages(new ArrayList<ChatMessage>(chatMessages));
+  }
+
+  /**
+   * Returns an independent copy of this state. Costs as much as copying the board; no moves are
+   * replayed.
+   *
+   * @return
+   */
+  public MutableGameState copy() {
+    return new MutableGameState(id,
+      meta.deepCopy(),
+      board.clone(),
+      bag.copy(),
+      copyRacks(racks),
+      new HashMap<Long, Integer>(scores),
+      new ArrayList<MoveData>(allMoves),
+      new ArrayList<ChatMessage>(chatMessages));
+  }
+
+  /**
+   * Record MoveData for a move. This isn't done by applyMove since MoveData includes things that
+   * can only come from the server (IDs, timestamps, etc.).
+   *
+   * @param move
+   * @return this
+   */
+  public MutableGameState addToAllMoves(MoveData move) {
+    allMoves.add(move);
+    return this;
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  /**
+   * @return the game's metadata. changes to it are reflected in this state.
+   */
+  public GameMeta getMeta() {
+    return meta;
+  }
+
+  /**
+   * @return the live board. should not be modified except through applyMove.
+   */
+  public WordsWithFriendsBoard getBoard() {
+    return board;
+  }
+
+  public long getCurrentMoveUserId() {
+    return meta.getCurrentMoveUserId();
+  }
+
+  /**
+   * @return the rack of the player currently allowed to move. should not be modified.
+   */
+  public List<Tile> getCurrentPlayerRack() {
+    return getRack(meta.getCurrentMoveUserId());
+  }
+
+  /**
+   * @param userId
+   * @return the user's rack. should not be modified.
+   */
+  public List<Tile> getRack(long userId) {
+    return racks.get(userId);
+  }
+
+  /**
+   * @param userId
+   * @return the user's score
+   */
+  public int getScore(long userId) {
+    Integer score = scores.get(userId);
+
+    return score == null ? 0 : score;
+  }
+
+  public int getNumRemainingTiles() {
+    return bag.getNumRemainingTiles();
+  }
+
+  public int getAllMovesSize() {
+    return allMoves.size();
+  }
+
+  private static List<MoveData> copyMoves(List<MoveData> moves) {
+    List<MoveData> copy = new ArrayList<MoveData>(moves.size());
+
+    for (MoveData move : moves) {
+      copy.add(move.deepCopy());
+    }
+
+    return copy;
+  }
+
+  private static Map<Long, List<Tile>> copyRacks(Map<Long, List<Tile>> racks) {
+    Map<Long, List<Tile>> copy = new HashMap<Long, List<Tile>>();
+
+    for (Map.Entry<Long, List<Tile>> entry : racks.entrySet()) {
+      copy.put(entry.getKey(), new ArrayList<Tile>(entry.getValue()));
+    }
+
+    return copy;
+  }
+}
@@ -0,0 +1,202 @@
+package org.sidoh.wwf_api.game_state;
+
+import org.sidoh.wwf_api.types.game_state.Letter;
+import org.sidoh.wwf_api.types.game_state.Tile;
+import org.sidoh.wwf_api.types.game_state.WordOrientation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>
+ * Finds all of the ways a set of candidate words can be played on a board with the tiles in a
+ * rack. Every placement of every word along every row and column is checked against the tiles
+ * already on the board, the rack and the anchors, and the ones that fit are scored.
+ * </p>
+ * <p>
+ * No dictionary is consulted. Words formed across a play are scored and reported in the move's
+ * result, but it's up to the caller to check that they're real words.
+ * </p>
+ */
+public class PlayFinder {
+  private static final int DIMENSIONS = WordsWithFriendsBoard.DIMENSIONS;
+  private static final int CENTER = (DIMENSIONS / 2) * DIMENSIONS + DIMENSIONS / 2;
+
+  /**
+   * Orders moves by score, highest first
+   */
+  public static final Comparator<Move> BY_SCORE = new Comparator<Move>() {
+    @Override
+    public int compare(Move a, Move b) {
+      return b.getResult().getScore() - a.getResult().getScore();
+    }
+  };
+
+  private final WordsWithFriendsBoard board;
+  private final int[] anchorMasks;
+  private final boolean empty;
+
+  /**
+   * @param board the board to find plays on. it isn't modified, but it shouldn't be modified by
+   *              anything else while this is in use either.
+   */
+  public PlayFinder(WordsWithFriendsBoard board) {
+    this.board = board;
+    this.anchorMasks = board.getAnchorMasks();
+    this.empty = !board.hasTiles();
+  }
+
+  /**
+   * Find and score all of the legal placements of the provided words.
+   *
+   * @param rack tiles available to play
+   * @param words candidate words. case doesn't matter.
+   * @return moves with their results set, ordered by score (highest first)
+   */
+  public List<Move> findPlays(List<Tile> rack, Collection<String> words) {
+    List<Move> plays = new ArrayList<Move>();
+    Set<String> uniqueWords = new LinkedHashSet<String>();
+
+    for (String word : words) {
+      uniqueWords.add(word.toUpperCase());
+    }
+
+    for (String word : uniqueWords) {
+      if (word.length() < 2 || word.length() > DIMENSIONS) {
+        continue;
+      }
+
+      for (WordOrientation orientation : WordOrientation.values()) {
+        for (int line = 0; line < DIMENSIONS; line++) {
+          for (int offset = 0; offset + word.length() <= DIMENSIONS; offset++) {
+            int start = orientation == WordOrientation.HORIZONTAL
+              ? line * DIMENSIONS + offset
+              : offset * DIMENSIONS + line;
+
+            Move play = placeWord(word, start, orientation, rack);
+
+            if (play != null) {
+              board.scoreMove(play);
+              plays.add(play);
+            }
+          }
+        }
+      }
+    }
+
+    Collections.sort(plays, BY_SCORE);
+
+    return plays;
+  }
+
+  /**
+   * Try to place a word starting at the provided slot.
+   *
+   * @param word
+   * @param start index of the slot the first letter of the word goes in
+   * @param orientation
+   * @param rack
+   * @return the play, or null if the word doesn't fit there
+   */
+  protected Move placeWord(String word, int start, WordOrientation orientation, List<Tile> rack) {
+    // The word can't be directly preceded or followed by tiles, or it would be part of a longer word
+    int before = WordsWithFriendsBoard.LINES.previous(start, orientation);
+    if (before != SlotLines.NONE && board.getSlot(before).getTile() != null) {
+      return null;
+    }
+
+    boolean[] used = new boolean[rack.size()];
+    List<Tile> tiles = new ArrayList<Tile>(word.length());
+    boolean connected = false;
+    int firstPlaced = SlotLines.NONE;
+    int index = start;
+
+    for (int i = 0; i < word.length(); i++) {
+      String letter = word.substring(i, i + 1);
+      Tile existing = board.getSlot(index).getTile();
+
+      if (existing != null) {
+        if (!existing.getLetter().getValue().equalsIgnoreCase(letter)) {
+          return null;
+        }
+
+        connected = true;
+      }
+      else {
+        Tile tile = takeTile(rack, used, letter);
+
+        if (tile == null) {
+          return null;
+        }
+
+        if (firstPlaced == SlotLines.NONE) {
+          firstPlaced = index;
+        }
+
+        connected |= empty
+          ? index == CENTER
+          : (anchorMasks[WordsWithFriendsBoard.getRowFromIndex(index)] & (1 << WordsWithFriendsBoard.getColFromIndex(index))) != 0;
+
+        tiles.add(tile);
+      }
+
+      index = WordsWithFriendsBoard.LINES.next(index, orientation);
+    }
+
+    if (index != SlotLines.NONE && board.getSlot(index).getTile() != null) {
+      return null;
+    }
+
+    if (tiles.isEmpty() || !connected) {
+      return null;
+    }
+
+    return Move.play(tiles,
+      WordsWithFriendsBoard.getRowFromIndex(firstPlaced),
+      WordsWithFriendsBoard.getColFromIndex(firstPlaced),
+      orientation);
+  }
+
+  /**
+   * Take a tile for a letter from the rack. Tiles with the letter are preferred to blanks since
+   * they're worth more.
+   *
+   * @param rack
+   * @param used tracks which tiles from the rack have already been taken
+   * @param letter
+   * @return the tile (a copy with the letter assigned if it's a blank), or null if there isn't one
+   */
+  private static Tile takeTile(List<Tile> rack, boolean[] used, String letter) {
+    int blank = -1;
+
+    for (int i = 0; i < rack.size(); i++) {
+      if (used[i]) {
+        continue;
+      }
+
+      Tile tile = rack.get(i);
+
+      if (tile.getValue() == 0) {
+        if (blank == -1) {
+          blank = i;
+        }
+      }
+      else if (tile.getLetter().getValue().equalsIgnoreCase(letter)) {
+        used[i] = true;
+        return tile;
+      }
+    }
+
+    if (blank != -1) {
+      used[blank] = true;
+      return rack.get(blank).deepCopy().setLetter(new Letter().setValue(letter));
+    }
+
+    return null;
+  }
+}
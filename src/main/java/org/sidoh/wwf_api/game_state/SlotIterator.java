@@ -3,7 +3,8 @@ package org.sidoh.wwf_api.game_state;
 import org.sidoh.wwf_api.types.game_state.WordOrientation;
 
 /**
- * A convenient way to iterate over slots in play order.
+ * A convenient way to iterate over slots in play order. This boxes every index, so prefer
+ * SlotLines in code that runs once per tile.
  */
 public class SlotIterator implements Iterable<Integer> {
   private int row;
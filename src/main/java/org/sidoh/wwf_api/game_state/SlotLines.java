@@ -0,0 +1,106 @@
+package org.sidoh.wwf_api.game_state;
+
+import org.sidoh.wwf_api.types.game_state.WordOrientation;
+
+/**
+ * <p>
+ * Precomputed neighbor tables for a square board. Walking along a row or column is a lookup in a
+ * primitive array instead of going through a SlotIterator, which boxes every index and allocates
+ * a new object for each pass.
+ * </p>
+ * <p>
+ * Typical use:
+ * </p>
+ * <pre>
+ *   for (int i = lines.next(index, orientation); i != SlotLines.NONE; i = lines.next(i, orientation)) {
+ *     ...
+ *   }
+ * </pre>
+ */
+public final class SlotLines {
+  /**
+   * Returned when there's no slot in the requested direction (i.e., at the edge of the board)
+   */
+  public static final int NONE = -1;
+
+  private static final int HORIZONTAL = 0;
+  private static final int VERTICAL = 1;
+
+  private final int dimensions;
+  private final int[][] next;
+  private final int[][] previous;
+  private final int[] rows;
+  private final int[] cols;
+
+  /**
+   * @param dimensions the number of rows (and columns) on the board
+   */
+  public SlotLines(int dimensions) {
+    int numSlots = dimensions * dimensions;
+
+    this.dimensions = dimensions;
+    this.next = new int[2][numSlots];
+    this.previous = new int[2][numSlots];
+    this.rows = new int[numSlots];
+    this.cols = new int[numSlots];
+
+    for (int index = 0; index < numSlots; index++) {
+      int row = index / dimensions;
+      int col = index % dimensions;
+
+      rows[index] = row;
+      cols[index] = col;
+
+      next[HORIZONTAL][index] = col + 1 < dimensions ? index + 1 : NONE;
+      previous[HORIZONTAL][index] = col > 0 ? index - 1 : NONE;
+      next[VERTICAL][index] = row + 1 < dimensions ? index + dimensions : NONE;
+      previous[VERTICAL][index] = row > 0 ? index - dimensions : NONE;
+    }
+  }
+
+  /**
+   * @param index
+   * @param orientation
+   * @return the index of the slot after the provided one (to the right if horizontal, below if
+   * vertical), or NONE if index is at the edge of the board.
+   */
+  public int next(int index, WordOrientation orientation) {
+    return next[lineOf(orientation)][index];
+  }
+
+  /**
+   * @param index
+   * @param orientation
+   * @return the index of the slot before the provided one (to the left if horizontal, above if
+   * vertical), or NONE if index is at the edge of the board.
+   */
+  public int previous(int index, WordOrientation orientation) {
+    return previous[lineOf(orientation)][index];
+  }
+
+  /**
+   * @param index
+   * @param dir
+   * @param orientation
+   * @return the index of the neighboring slot in the provided direction, or NONE
+   */
+  public int step(int index, Direction dir, WordOrientation orientation) {
+    return dir == Direction.FORWARDS ? next(index, orientation) : previous(index, orientation);
+  }
+
+  public int getRow(int index) {
+    return rows[index];
+  }
+
+  public int getCol(int index) {
+    return cols[index];
+  }
+
+  public int getDimensions() {
+    return dimensions;
+  }
+
+  private static int lineOf(WordOrientation orientation) {
+    return orientation == WordOrientation.HORIZONTAL ? HORIZONTAL : VERTICAL;
+  }
+}
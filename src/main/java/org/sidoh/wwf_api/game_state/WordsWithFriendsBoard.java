@@ -1,5 +1,7 @@
 package org.sidoh.wwf_api.game_state;
 
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TProtocol;
 import org.sidoh.wwf_api.types.api.MoveType;
 import org.sidoh.wwf_api.types.game_state.BoardStorage;
 import org.sidoh.wwf_api.types.game_state.Slot;
@@ -11,7 +13,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -37,6 +38,16 @@ public class WordsWithFriendsBoard extends Board implements Cloneable {
    */
   public static final int DIMENSIONS = 15;
 
+  /**
+   * Neighbor tables for walking rows and columns of the board
+   */
+  public static final SlotLines LINES = new SlotLines(DIMENSIONS);
+
+  /**
+   * Bitmask with one bit set for each column of a row
+   */
+  public static final int ROW_MASK = (1 << DIMENSIONS) - 1;
+
   /**
    * Tile/word modifiers. Legend:
    * - N : none
@@ -62,6 +73,11 @@ public class WordsWithFriendsBoard extends Board implements Cloneable {
           + "NNdNNDNNNDNNdNN"
           + "NNNTNNtNtNNTNNN");
 
+  /**
+   * The modifier in each slot of a new board, by index
+   */
+  private static final SlotModifier[] MODIFIERS = getModifiers(SLOTS);
+
   /**
    * Character used to represent a blank tile
    */
@@ -100,21 +116,103 @@ public class WordsWithFriendsBoard extends Board implements Cloneable {
    */
   public static final int ALL_TILES_BONUS = 35;
 
+  /**
+   * Checksum of a board without any tiles on it
+   */
+  private static final int EMPTY_CHECKSUM = computeChecksum(Collections.<Slot>nCopies(DIMENSIONS * DIMENSIONS, new Slot()));
+
+  /**
+   * Kept up to date as tiles are placed. See getChecksum.
+   */
+  private int checksum;
+
+  /**
+   * One mask per row with bit c set if there's a tile in column c. Kept up to date as tiles are
+   * placed.
+   */
+  private final int[] occupancy = new int[DIMENSIONS];
+
+  /**
+   * Scores plays against this board's slots
+   */
+  private final MoveScorer scorer = new MoveScorer() {
+    @Override
+    protected Tile getTile(int index) {
+      return getSlot(index).getTile();
+    }
+
+    @Override
+    protected SlotModifier getModifier(int index) {
+      return getSlot(index).getModifier();
+    }
+  };
+
   /**
    * Use default values.
    */
   public WordsWithFriendsBoard() {
     super(DIMENSIONS, SLOTS);
+    attachSlots();
+    this.checksum = EMPTY_CHECKSUM;
   }
 
   /**
-   * @param storage the board
+   * @param storage the board. it's copied, so changes to it aren't reflected in this board (or
+   *                vice versa).
    */
   public WordsWithFriendsBoard(BoardStorage storage) {
-    super(storage);
+    super(copySlots(storage));
+    attachSlots();
+    this.checksum = computeChecksum();
+
+    for (int i = 0; i < DIMENSIONS * DIMENSIONS; i++) {
+      if (getSlot(i).getTile() != null) {
+        occupancy[getRowFromIndex(i)] |= 1 << getColFromIndex(i);
+      }
+    }
+  }
 
+  private WordsWithFriendsBoard(WordsWithFriendsBoard other) {
+    super(copySlots(other.storage));
+    attachSlots();
+    this.checksum = other.checksum;
+    System.arraycopy(other.occupancy, 0, occupancy, 0, DIMENSIONS);
+  }
+
+  private static BoardStorage copySlots(BoardStorage storage) {
     if (storage.getSlotsSize() != DIMENSIONS * DIMENSIONS)
       throw new InvalidGameStateException("Unepxected board dimensions");
+
+    return new BoardStorage().setSlots(new ArrayList<Slot>(storage.getSlots()));
+  }
+
+  /**
+   * Replace every slot with a BoardSlot copy so that tiles set on the slots are seen by this board
+   */
+  private void attachSlots() {
+    List<Slot> slots = storage.getSlots();
+
+    for (int i = 0; i < slots.size(); i++) {
+      slots.set(i, new BoardSlot(this, i, slots.get(i)));
+    }
+  }
+
+  /**
+   * Called whenever the tile in one of this board's slots changes
+   *
+   * @param index
+   * @param previous the tile that was in the slot, or null
+   * @param tile the tile now in the slot, or null
+   */
+  private void tileChanged(int index, Tile previous, Tile tile) {
+    checksum ^= getChecksumTerm(index, previous) ^ getChecksumTerm(index, tile);
+
+    if (tile == null) {
+      occupancy[getRowFromIndex(index)] &= ~(1 << getColFromIndex(index));
+    }
+    else {
+      occupancy[getRowFromIndex(index)] |= 1 << getColFromIndex(index);
+    }
   }
 
   /**
@@ -165,12 +263,146 @@ public class WordsWithFriendsBoard extends Board implements Cloneable {
     return getAdjacentSlots(getRowFromIndex(index), getColFromIndex(index));
   }
 
+  /**
+   * @return one mask per row with bit c set if there's a tile in column c. a copy, so changing it
+   * doesn't affect the board.
+   */
+  public int[] getRowOccupancy() {
+    return occupancy.clone();
+  }
+
+  /**
+   * @param row
+   * @return a mask with bit c set if there's a tile in column c of the row
+   */
+  public int getRowOccupancy(int row) {
+    return occupancy[row];
+  }
+
+  @Override
+  public boolean hasTiles() {
+    for (int row = 0; row < DIMENSIONS; row++) {
+      if (occupancy[row] != 0) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Find the anchors on this board: empty slots that have a tile directly above, below, left or
+   * right of them. Every play has to cover at least one anchor (except the first, which covers the
+   * center slot).
+   *
+   * @return one mask per row with bit c set if (row, c) is an anchor
+   */
+  public int[] getAnchorMasks() {
+    return getAnchorMasks(occupancy);
+  }
+
+  /**
+   * Compute anchors from row occupancy masks (see getRowOccupancy). Each row takes a handful of
+   * shifts and ORs.
+   *
+   * @param occupancy one mask per row with bit c set if there's a tile in column c
+   * @return one mask per row with bit c set if (row, c) is an anchor
+   */
+  public static int[] getAnchorMasks(int[] occupancy) {
+    int[] anchors = new int[DIMENSIONS];
+
+    for (int row = 0; row < DIMENSIONS; row++) {
+      int touching = getHorizontalNeighborMask(occupancy[row]);
+
+      if (row > 0) touching |= occupancy[row - 1];
+      if (row < DIMENSIONS - 1) touching |= occupancy[row + 1];
+
+      anchors[row] = touching & ~occupancy[row] & ROW_MASK;
+    }
+
+    return anchors;
+  }
+
+  /**
+   * @param occupancy a row occupancy mask
+   * @return a mask with bit c set if there's a tile in column c - 1 or c + 1 of the row. this is
+   * the bitwise version of hasAdjacentTiles(row, c, HORIZONTAL).
+   */
+  public static int getHorizontalNeighborMask(int occupancy) {
+    return ((occupancy << 1) | (occupancy >>> 1)) & ROW_MASK;
+  }
+
   /**
    * @return
    */
   @Override
   public WordsWithFriendsBoard clone() {
-    return new WordsWithFriendsBoard(storage.deepCopy());
+    return new WordsWithFriendsBoard(this);
+  }
+
+  /**
+   * Put a tile in a slot, replacing whatever was there, and update the checksum.
+   *
+   * @param row
+   * @param column
+   * @param tile the tile, or null to empty the slot
+   */
+  public void placeTile(int row, int column, Tile tile) {
+    placeTile(getIndexFromRowAndCol(row, column), tile);
+  }
+
+  /**
+   * Put a tile in a slot, replacing whatever was there, and update the checksum.
+   *
+   * @param index
+   * @param tile the tile, or null to empty the slot
+   */
+  public void placeTile(int index, Tile tile) {
+    getSlot(index).setTile(tile);
+  }
+
+  /**
+   * The checksum the WWF API expects with each move, which is an XOR fold over the IDs of the
+   * tiles in every slot. It's maintained as tiles are set on the board's slots, so this is cheap.
+   * Assigning Slot.tile directly or changing the ID of a tile that's already on the board isn't
+   * noticed.
+   *
+   * @return
+   */
+  public int getChecksum() {
+    return checksum;
+  }
+
+  /**
+   * @return the checksum computed from scratch from the tiles currently on the board
+   */
+  public int computeChecksum() {
+    return computeChecksum(storage.getSlots());
+  }
+
+  protected static int computeChecksum(List<Slot> slots) {
+    int checksum = 0;
+
+    for (int i = 0; i < slots.size(); i++) {
+      checksum ^= getChecksumTerm(i, slots.get(i).getTile());
+    }
+
+    return checksum;
+  }
+
+  /**
+   * Each slot contributes its tile's ID (-1 if it's empty) and, unless the ID is 0, a bit picked
+   * by the slot's position. Since the terms are XORed together, a slot's old term can be removed
+   * by XORing it in again.
+   *
+   * @param index
+   * @param tile
+   * @return
+   */
+  private static int getChecksumTerm(int index, Tile tile) {
+    int value = tile == null ? -1 : tile.getId();
+
+    return value == 0 ? value : value ^ (1 << (index % 32));
   }
 
   /**
@@ -210,7 +442,7 @@ public class WordsWithFriendsBoard extends Board implements Cloneable {
           true);
       move.setResult(result);
       return result;
-    } else if (move.getMoveType() == MoveType.SWAP) {
+    } else if (move.getMoveType() == MoveType.SWAP || move.getMoveType() == MoveType.PASS) {
       Move.Result result = new Move.Result(0, 0, null, null);
       move.setResult(result);
       return result;
@@ -248,177 +480,20 @@ public class WordsWithFriendsBoard extends Board implements Cloneable {
    * @return the result of the move. includes score, resulting words, etc.
    */
   protected Move.Result playWord(List<Tile> _tiles, int firstLetterRow, int firstLetterCol, WordOrientation orientation, boolean placeTiles) {
-    int score = 0;
-    int adjacentWordsScore = 0;
-    List<SlotModifier> wordModifiers = new LinkedList<SlotModifier>();
-    LinkedList<Tile> tiles = new LinkedList<Tile>(_tiles);
-
-    // Count the number of tiles we skip over because they're already filled.
-    int skippedSlots = 0;
-
-    String mainWord = "";
-    List<String> adjacentWords = new ArrayList<String>();
-
-    SlotIterator itr = new SlotIterator(firstLetterRow, firstLetterCol, DIMENSIONS, DIMENSIONS, orientation, Direction.FORWARDS);
-
-    for (Integer index : itr) {
-      Slot slot = getSlot(index);
-
-      // If there's already a tile here, don't pop tiles off.
-      // If there are no more letters, we're trying to count a suffix. Only worth doing if
-      // there are letters in this slot
-      if (slot.getTile() != null) {
-        // Don't count modifiers for suffixes
-        score += slot.getTile().getValue();
-
-        // Add letter to word being formed
-        mainWord = mainWord.concat(slot.getTile().getLetter().getValue());
-
-        // Only count skipped slots if there are still things left to play
-        if (!tiles.isEmpty())
-          skippedSlots++;
-      }
-      // If there are still letters, play them.
-      else if (!tiles.isEmpty()) {
-        Tile tile = tiles.removeFirst();
-
-        // Add this letter to the word being formed (do it here in case we're not allowed to set)
-        mainWord = mainWord.concat(tile.getLetter().getValue());
-
-        if (placeTiles)
-          slot.setTile(tile);
-
-        // Remember any word modifiers if we placed a tile
-        if (isWordModifier(slot.getModifier()))
-          wordModifiers.add(slot.getModifier());
-
-        // Score any adjacent words formed by placing this tile
-        Move.Result result = scoreAdjacentWord(index, tile, opposite(orientation));
-
-        // Sanity check
-        if (result.getResultingWords().size() > 1)
-          throw new RuntimeException("# adjacent words > 1. this should never happen.");
-
-        if (result.getScore() > 0) {
-          adjacentWordsScore += result.getScore();
-          adjacentWords.add(result.getResultingWords().get(0));
-        }
+    Move.Result result = scorer.score(_tiles, firstLetterRow, firstLetterCol, orientation);
 
-        // Score this letter (could be modified by letter modifier)
-        score += getLetterScore(slot, tile);
-      }
-      // Don't continue after getting to the end of the word
-      else {
-        break;
-      }
-    }
-
-    // Include scores from the prefix.
-    Iterator<Integer> prefixIterator = itr.reverse().iterator();
-
-    // There's always at least one value since we're starting at the first position of this word.
-    // We want to consider the first slot before that one.
-    prefixIterator.next();
-
-    while (prefixIterator.hasNext()) {
-      Slot slot = getSlot(prefixIterator.next());
-
-      if (slot.getTile() != null) {
-        score += slot.getTile().getValue();
+    if (placeTiles) {
+      Iterator<Tile> tiles = _tiles.iterator();
+      int index = getIndexFromRowAndCol(firstLetterRow, firstLetterCol);
 
-        // Prefix word being formed
-        mainWord = slot.getTile().getLetter().getValue().concat(mainWord);
+      // Occupied slots are skipped, the same way they are when scoring
+      for (; index != SlotLines.NONE && tiles.hasNext(); index = LINES.next(index, orientation)) {
+        if (getSlot(index).getTile() == null)
+          placeTile(index, tiles.next());
       }
-      // finish if this slot doesn't have a tile
-      else {
-        break;
-      }
-    }
-
-    // Apply word modifiers
-    score = getWordScore(score, wordModifiers);
-
-    // Apply bonus if all tiles were used.
-    if (_tiles.size() == TILES_PER_PLAYER)
-      score += ALL_TILES_BONUS;
-
-    // Ready list of formed words
-    adjacentWords.add(mainWord);
-
-    return new Move.Result(score + adjacentWordsScore, skippedSlots, mainWord, adjacentWords);
-  }
-
-  /**
-   * <p>Scores words adjacent to a play. Example:</p>
-   * <p/>
-   * <pre>
-   *          B O P
-   *        G A M E R
-   * </pre>
-   * <p/>
-   * <p>
-   * Here, the play "BOP" off of the word "GAMER" includes adjacent words "BA", "OM", and "PE",
-   * all of which should be included in the score.
-   * </p>
-   * <p/>
-   * <p>
-   * Strictly speaking, using Move.Result is overkill, but it's convenient.
-   * </p>
-   *
-   * @param index
-   * @param tile
-   * @param orientation
-   * @return
-   */
-  private Move.Result scoreAdjacentWord(Integer index, Tile tile, WordOrientation orientation) {
-    // Don't bother if there aren't tiles in either direction
-    if (!hasAdjacentTiles(index, orientation))
-      return new Move.Result(0, 0, null, Collections.<String>emptyList());
-
-    Slot centerSlot = getSlot(index);
-
-    String word = tile.getLetter().getValue();
-    int score = getLetterScore(centerSlot, tile);
-
-    List<SlotModifier> wordModifiers = isWordModifier(centerSlot.getModifier())
-        ? Collections.singletonList(centerSlot.getModifier())
-        : Collections.<SlotModifier>emptyList();
-
-    SlotIterator centerSlotStart = new SlotIterator(index, DIMENSIONS, DIMENSIONS, orientation, Direction.FORWARDS);
-    SlotIterator.Iterator itr = centerSlotStart.iterator();
-
-    // should always have next - skip current tile
-    itr.next();
-
-    while (itr.hasNext()) {
-      Slot slot = getSlot(itr.next());
-
-      if (slot.getTile() != null)
-        score += slot.getTile().getValue();
-      else break;
-
-      word = word.concat(slot.getTile().getLetter().getValue());
-    }
-
-    // reverse direction
-    itr = centerSlotStart.reverse().iterator();
-    itr.next();
-
-    while (itr.hasNext()) {
-      Slot slot = getSlot(itr.next());
-
-      if (slot.getTile() != null)
-        score += slot.getTile().getValue();
-      else break;
-
-      word = slot.getTile().getLetter().getValue().concat(word);
     }
 
-    return new Move.Result(
-        getWordScore(score, wordModifiers),
-        0,    //    don't really care about main words or skipped letters for adjacent words
-        null, // --^
-        Collections.singletonList(word));
+    return result;
   }
 
   /**
@@ -431,13 +506,7 @@ public class WordsWithFriendsBoard extends Board implements Cloneable {
    * @return true if the provided location has any tiles next to it
    */
   public boolean hasAdjacentTiles(int row, int col, WordOrientation orientation) {
-    if (orientation == WordOrientation.HORIZONTAL) {
-      return (col - 1 >= 0 && getSlot(row, col - 1).getTile() != null)
-          || (col + 1 < DIMENSIONS && getSlot(row, col + 1).getTile() != null);
-    } else {
-      return (row - 1 >= 0 && getSlot(row - 1, col).getTile() != null)
-          || (row + 1 < DIMENSIONS && getSlot(row + 1, col).getTile() != null);
-    }
+    return hasAdjacentTiles(getIndexFromRowAndCol(row, col), orientation);
   }
 
   /**
@@ -448,8 +517,8 @@ public class WordsWithFriendsBoard extends Board implements Cloneable {
    * @param orientation vertical/horizontal
    * @return true if the provided location has any tiles next to it
    */
-  public boolean hasAdjacentTiles(Integer index, WordOrientation orientation) {
-    return hasAdjacentTiles(getRowFromIndex(index), getColFromIndex(index), orientation);
+  public boolean hasAdjacentTiles(int index, WordOrientation orientation) {
+    return scorer.hasAdjacentTiles(index, orientation);
   }
 
 
@@ -480,11 +549,22 @@ public class WordsWithFriendsBoard extends Board implements Cloneable {
    * @return score earned by the tile
    */
   protected static int getLetterScore(Slot slot, Tile tile) {
+    return getLetterScore(slot.getModifier(), tile);
+  }
+
+  /**
+   * Compute the score attributable to a single tile in a play, not counting word modifiers.
+   *
+   * @param modifier the modifier of the slot the tile is to be placed in
+   * @param tile the tile to be played
+   * @return score earned by the tile
+   */
+  protected static int getLetterScore(SlotModifier modifier, Tile tile) {
     int score = tile.getValue();
 
-    if (slot.getModifier() == SlotModifier.DOUBLE_LETTER)
+    if (modifier == SlotModifier.DOUBLE_LETTER)
       score *= 2;
-    else if (slot.getModifier() == SlotModifier.TRIPLE_LETTER)
+    else if (modifier == SlotModifier.TRIPLE_LETTER)
       score *= 3;
 
     return score;
@@ -513,12 +593,30 @@ public class WordsWithFriendsBoard extends Board implements Cloneable {
     }
   }
 
+  /**
+   * @param index a location on the board
+   * @return the modifier in that slot on a new board
+   */
+  public static SlotModifier getDefaultModifier(int index) {
+    return MODIFIERS[index];
+  }
+
+  private static SlotModifier[] getModifiers(Iterable<SlotBuilder> slots) {
+    List<SlotModifier> modifiers = new ArrayList<SlotModifier>();
+
+    for (SlotBuilder slot : slots) {
+      modifiers.add(slot.build().getModifier());
+    }
+
+    return modifiers.toArray(new SlotModifier[modifiers.size()]);
+  }
+
   /**
    * @param index a location on the board
    * @return the row the location refers to
    */
   public static int getRowFromIndex(int index) {
-    return index / DIMENSIONS;
+    return LINES.getRow(index);
   }
 
   /**
@@ -526,7 +624,7 @@ public class WordsWithFriendsBoard extends Board implements Cloneable {
    * @return the column the location referrs to
    */
   public static int getColFromIndex(int index) {
-    return index % DIMENSIONS;
+    return LINES.getCol(index);
   }
 
   /**
@@ -568,4 +666,59 @@ public class WordsWithFriendsBoard extends Board implements Cloneable {
 
     return builder.toString();
   }
+
+  /**
+   * A slot that tells its board when its tile changes. Copies are plain slots that aren't attached
+   * to any board.
+   */
+  private static class BoardSlot extends Slot {
+    private final WordsWithFriendsBoard board;
+    private final int index;
+
+    public BoardSlot(WordsWithFriendsBoard board, int index, Slot slot) {
+      super(slot);
+      this.board = board;
+      this.index = index;
+    }
+
+    @Override
+    public Slot setTile(Tile tile) {
+      board.tileChanged(index, getTile(), tile);
+      return super.setTile(tile);
+    }
+
+    @Override
+    public void unsetTile() {
+      setTile(null);
+    }
+
+    @Override
+    public void setTileIsSet(boolean value) {
+      if (!value) {
+        setTile(null);
+      }
+    }
+
+    @Override
+    public void clear() {
+      setTile(null);
+      super.clear();
+    }
+
+    @Override
+    public void read(TProtocol iprot) throws TException {
+      Tile previous = getTile();
+      super.read(iprot);
+      board.tileChanged(index, previous, getTile());
+    }
+
+    @Override
+    public Slot deepCopy() {
+      return new Slot(this);
+    }
+
+    private Object writeReplace() {
+      return new Slot(this);
+    }
+  }
 }
@@ -0,0 +1,133 @@
+package org.sidoh.wwf_api.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * A fixed-size, lock-free histogram of non-negative longs in the style of HdrHistogram. Values
+ * are grouped into buckets by their highest set bit and then split linearly into
+ * SUB_BUCKETS sub-buckets, so every recorded value is off by at most 1/SUB_BUCKETS (12.5%)
+ * regardless of magnitude. Memory use is constant (about 4KB) no matter how many values are
+ * recorded.
+ * </p>
+ * <p>
+ * Min, max, count and sum are exact.
+ * </p>
+ */
+public class Histogram {
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int NUM_BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(NUM_BUCKETS);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong sum = new AtomicLong();
+  private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+  private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+  /**
+   * @param value a non-negative value. negative values are recorded as 0.
+   */
+  public void record(long value) {
+    value = Math.max(0, value);
+
+    counts.incrementAndGet(getBucketIndex(value));
+    count.incrementAndGet();
+    sum.addAndGet(value);
+
+    long current;
+    while (value < (current = min.get()) && !min.compareAndSet(current, value)) { }
+    while (value > (current = max.get()) && !max.compareAndSet(current, value)) { }
+  }
+
+  public long getCount() {
+    return count.get();
+  }
+
+  /**
+   * @return the smallest recorded value, or 0 if nothing has been recorded
+   */
+  public long getMin() {
+    return getCount() == 0 ? 0 : min.get();
+  }
+
+  /**
+   * @return the largest recorded value, or 0 if nothing has been recorded
+   */
+  public long getMax() {
+    return getCount() == 0 ? 0 : max.get();
+  }
+
+  public double getMean() {
+    long count = getCount();
+    return count == 0 ? 0 : (double) sum.get() / count;
+  }
+
+  /**
+   * @param percentile between 0 and 100
+   * @return an upper bound for the value at the provided percentile, accurate to within the
+   * histogram's precision. capped at the max recorded value.
+   */
+  public long getValueAtPercentile(double percentile) {
+    long count = getCount();
+
+    if (count == 0) {
+      return 0;
+    }
+
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+    long seen = 0;
+
+    for (int i = 0; i < NUM_BUCKETS; i++) {
+      seen += counts.get(i);
+
+      if (seen >= rank) {
+        return Math.min(getBucketUpperBound(i), getMax());
+      }
+    }
+
+    return getMax();
+  }
+
+  /**
+   * Values below SUB_BUCKETS get a bucket each. Above that, each power of two is split into
+   * SUB_BUCKETS buckets using the bits following the highest set bit.
+   *
+   * @param value
+   * @return
+   */
+  protected static int getBucketIndex(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+
+    return (shift + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  /**
+   * @param index
+   * @return the largest value that falls into the provided bucket
+   */
+  protected static long getBucketUpperBound(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+
+    int shift = index / SUB_BUCKETS - 1;
+    long subBucket = index % SUB_BUCKETS + SUB_BUCKETS;
+
+    return ((subBucket + 1) << shift) - 1;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("count=%d min=%d mean=%.1f p50=%d p90=%d p99=%d max=%d",
+      getCount(), getMin(), getMean(),
+      getValueAtPercentile(50), getValueAtPercentile(90), getValueAtPercentile(99),
+      getMax());
+  }
+}
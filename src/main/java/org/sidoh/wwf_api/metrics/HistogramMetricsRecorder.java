@@ -0,0 +1,126 @@
+package org.sidoh.wwf_api.metrics;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps a latency Histogram, an error count and a byte count in memory for every metric name.
+ * Nothing is ever evicted, so this should only be used with a bounded set of names (which is
+ * the case for everything this library records).
+ *
+ * <pre>
+ *   HistogramMetricsRecorder metrics = new HistogramMetricsRecorder();
+ *   ApiProvider provider = new ApiProvider(metrics);
+ *   ...
+ *   LOG.info(metrics.toString());
+ * </pre>
+ */
+public class HistogramMetricsRecorder implements MetricsRecorder {
+  private final ConcurrentMap<String, Histogram> timings = new ConcurrentHashMap<String, Histogram>();
+  private final ConcurrentMap<String, AtomicLong> errors = new ConcurrentHashMap<String, AtomicLong>();
+  private final ConcurrentMap<String, AtomicLong> bytes = new ConcurrentHashMap<String, AtomicLong>();
+
+  @Override
+  public void recordTime(String name, long durationNanos) {
+    getTimings(name).record(durationNanos);
+  }
+
+  @Override
+  public void recordError(String name) {
+    getCounter(errors, name).incrementAndGet();
+  }
+
+  @Override
+  public void recordBytes(String name, long bytes) {
+    getCounter(this.bytes, name).addAndGet(bytes);
+  }
+
+  /**
+   * @param name
+   * @return the histogram of durations (in nanoseconds) recorded for the provided metric
+   */
+  public Histogram getTimings(String name) {
+    Histogram histogram = timings.get(name);
+
+    if (histogram == null) {
+      Histogram newHistogram = new Histogram();
+      histogram = timings.putIfAbsent(name, newHistogram);
+
+      if (histogram == null) {
+        histogram = newHistogram;
+      }
+    }
+
+    return histogram;
+  }
+
+  public long getErrorCount(String name) {
+    AtomicLong count = errors.get(name);
+    return count == null ? 0 : count.get();
+  }
+
+  public long getByteCount(String name) {
+    AtomicLong count = bytes.get(name);
+    return count == null ? 0 : count.get();
+  }
+
+  /**
+   * @return every metric name that anything has been recorded for
+   */
+  public Set<String> getNames() {
+    Set<String> names = new TreeSet<String>();
+    names.addAll(timings.keySet());
+    names.addAll(errors.keySet());
+    names.addAll(bytes.keySet());
+
+    return Collections.unmodifiableSet(names);
+  }
+
+  /**
+   * @return one line per metric with timings in milliseconds
+   */
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+
+    for (String name : getNames()) {
+      Histogram histogram = getTimings(name);
+
+      builder.append(String.format("%s: count=%d errors=%d bytes=%d mean=%.2fms p50=%.2fms p99=%.2fms max=%.2fms%n",
+        name,
+        histogram.getCount(),
+        getErrorCount(name),
+        getByteCount(name),
+        histogram.getMean() / TimeUnit.MILLISECONDS.toNanos(1),
+        toMillis(histogram.getValueAtPercentile(50)),
+        toMillis(histogram.getValueAtPercentile(99)),
+        toMillis(histogram.getMax())));
+    }
+
+    return builder.toString();
+  }
+
+  private static double toMillis(long nanos) {
+    return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  private static AtomicLong getCounter(ConcurrentMap<String, AtomicLong> counters, String name) {
+    AtomicLong counter = counters.get(name);
+
+    if (counter == null) {
+      AtomicLong newCounter = new AtomicLong();
+      counter = counters.putIfAbsent(name, newCounter);
+
+      if (counter == null) {
+        counter = newCounter;
+      }
+    }
+
+    return counter;
+  }
+}
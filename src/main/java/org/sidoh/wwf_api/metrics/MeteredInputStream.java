@@ -0,0 +1,82 @@
+package org.sidoh.wwf_api.metrics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Counts the bytes read from a response body. When the body has been read to the end (or the
+ * stream is closed, whichever happens first), the byte count and the time since the request was
+ * started are sent to a MetricsRecorder. This way timings include downloading the whole
+ * response without Communication having to buffer it.
+ */
+public class MeteredInputStream extends FilterInputStream {
+  private final MetricsRecorder metrics;
+  private final String name;
+  private final long startNanos;
+  private long bytesRead = 0;
+  private boolean recorded = false;
+
+  /**
+   * @param in the response body
+   * @param metrics
+   * @param name metric name to record under
+   * @param startNanos System.nanoTime() when the request was started
+   */
+  public MeteredInputStream(InputStream in, MetricsRecorder metrics, String name, long startNanos) {
+    super(in);
+    this.metrics = metrics;
+    this.name = name;
+    this.startNanos = startNanos;
+  }
+
+  @Override
+  public int read() throws IOException {
+    int value = super.read();
+
+    if (value == -1) {
+      record();
+    }
+    else {
+      bytesRead++;
+    }
+
+    return value;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    int count = super.read(b, off, len);
+
+    if (count == -1) {
+      record();
+    }
+    else {
+      bytesRead += count;
+    }
+
+    return count;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    long skipped = super.skip(n);
+    bytesRead += skipped;
+
+    return skipped;
+  }
+
+  @Override
+  public void close() throws IOException {
+    record();
+    super.close();
+  }
+
+  private void record() {
+    if (!recorded) {
+      recorded = true;
+      metrics.recordTime(name, System.nanoTime() - startNanos);
+      metrics.recordBytes(name, bytesRead);
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package org.sidoh.wwf_api.metrics;
+
+/**
+ * Receives timings and counters from Communication, ResponseParser and StateReconstructor.
+ * Implementations are called from whatever threads are making API calls, so they must be
+ * thread-safe, and they're called on every request, so they should be cheap.
+ *
+ * Metric names are dot-separated, e.g. "http.games/{id}.json" or "parse.game_state".
+ */
+public interface MetricsRecorder {
+  /**
+   * Record how long an operation took
+   *
+   * @param name the metric name
+   * @param durationNanos elapsed time in nanoseconds
+   */
+  public void recordTime(String name, long durationNanos);
+
+  /**
+   * Record that an operation failed
+   *
+   * @param name the metric name
+   */
+  public void recordError(String name);
+
+  /**
+   * Record the number of bytes transferred by an operation
+   *
+   * @param name the metric name
+   * @param bytes
+   */
+  public void recordBytes(String name, long bytes);
+}
@@ -0,0 +1,26 @@
+package org.sidoh.wwf_api.metrics;
+
+/**
+ * Discards everything. This is the default for all instrumented classes.
+ */
+public class NoopMetricsRecorder implements MetricsRecorder {
+  private static final NoopMetricsRecorder instance = new NoopMetricsRecorder();
+
+  /**
+   * Force singleton
+   */
+  private NoopMetricsRecorder() { }
+
+  public static NoopMetricsRecorder getInstance() {
+    return instance;
+  }
+
+  @Override
+  public void recordTime(String name, long durationNanos) { }
+
+  @Override
+  public void recordError(String name) { }
+
+  @Override
+  public void recordBytes(String name, long bytes) { }
+}
@@ -0,0 +1,113 @@
+package org.sidoh.wwf_api.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * <p>
+ * Recycles the buffers responses are read into, so reading a response doesn't allocate (and
+ * later collect) a fresh buffer the size of a game state. Buffers grow as needed to fit the
+ * largest response they've held.
+ * </p>
+ * <p>
+ * Only a limited number of buffers are kept, and buffers that grew past a limit aren't kept at
+ * all, so one huge response doesn't pin its memory forever. Thread-safe.
+ * </p>
+ */
+public class ByteBufferPool {
+  public static final int DEFAULT_MAX_POOLED_BUFFERS = 16;
+  public static final int DEFAULT_INITIAL_BUFFER_BYTES = 64 * 1024;
+  public static final int DEFAULT_MAX_POOLED_BUFFER_BYTES = 1024 * 1024;
+
+  private final BlockingQueue<ByteBuffer> buffers;
+  private final int initialBufferBytes;
+  private final int maxPooledBufferBytes;
+
+  public ByteBufferPool() {
+    this(DEFAULT_MAX_POOLED_BUFFERS, DEFAULT_INITIAL_BUFFER_BYTES, DEFAULT_MAX_POOLED_BUFFER_BYTES);
+  }
+
+  /**
+   * @param maxPooledBuffers most buffers kept around for reuse
+   * @param initialBufferBytes size of newly allocated buffers
+   * @param maxPooledBufferBytes buffers larger than this are dropped instead of reused
+   */
+  public ByteBufferPool(int maxPooledBuffers, int initialBufferBytes, int maxPooledBufferBytes) {
+    this.buffers = new ArrayBlockingQueue<ByteBuffer>(maxPooledBuffers);
+    this.initialBufferBytes = initialBufferBytes;
+    this.maxPooledBufferBytes = maxPooledBufferBytes;
+  }
+
+  /**
+   * @return an empty buffer, reused if one is available. should be passed to release when the
+   * caller is done with it.
+   */
+  public ByteBuffer acquire() {
+    ByteBuffer buffer = buffers.poll();
+
+    if (buffer == null) {
+      return ByteBuffer.allocate(initialBufferBytes);
+    }
+
+    buffer.clear();
+    return buffer;
+  }
+
+  /**
+   * Return a buffer to the pool. The caller must not use it afterwards.
+   *
+   * @param buffer
+   */
+  public void release(ByteBuffer buffer) {
+    if (buffer.capacity() <= maxPooledBufferBytes) {
+      buffers.offer(buffer);
+    }
+  }
+
+  /**
+   * Read a stream to the end into a pooled buffer. The stream is closed.
+   *
+   * @param in
+   * @return a buffer positioned at the start of the data, with its limit at the end. should be
+   * passed to release when the caller is done with it.
+   * @throws IOException
+   */
+  public ByteBuffer readFully(InputStream in) throws IOException {
+    ByteBuffer buffer = acquire();
+
+    try {
+      while (true) {
+        if (!buffer.hasRemaining()) {
+          ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+          buffer.flip();
+          larger.put(buffer);
+
+          // The smaller buffer isn't returned to the pool, so the pool fills up with buffers big
+          // enough for typical responses
+          buffer = larger;
+        }
+
+        int count = in.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+
+        if (count == -1) {
+          break;
+        }
+
+        buffer.position(buffer.position() + count);
+      }
+    }
+    catch (IOException e) {
+      release(buffer);
+      throw e;
+    }
+    finally {
+      in.close();
+    }
+
+    buffer.flip();
+    return buffer;
+  }
+}
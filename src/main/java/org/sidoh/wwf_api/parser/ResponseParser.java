@@ -1,9 +1,12 @@
 package org.sidoh.wwf_api.parser;
 
 import com.google.common.collect.Lists;
+import com.google.common.io.CharStreams;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
 import net.minidev.json.JSONValue;
+import org.sidoh.wwf_api.metrics.MetricsRecorder;
+import org.sidoh.wwf_api.metrics.NoopMetricsRecorder;
 import org.sidoh.wwf_api.types.api.ChatMessage;
 import org.sidoh.wwf_api.types.api.Coordinates;
 import org.sidoh.wwf_api.types.api.GameIndex;
@@ -15,7 +18,10 @@ import org.sidoh.wwf_api.types.api.User;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -23,10 +29,43 @@ import java.util.List;
 /**
  * Responsible for parsing raw JSON returned by the Communication class and constructing
  * thrift types that represent that data.
+ *
+ * Responses can be parsed from a Reader (with json-smart) or from an InputStream. Streams are read
+ * into a pooled buffer and parsed as UTF-8 bytes by Utf8JsonParser, which skips decoding the
+ * response to characters and doesn't allocate a new buffer for every response.
  */
 public class ResponseParser {
   private static final Logger LOG = LoggerFactory.getLogger(ResponseParser.class);
 
+  /**
+   * Prefix for the names of metrics recorded for each parse method
+   */
+  public static final String METRIC_PREFIX = "parse.";
+
+  private final MetricsRecorder metrics;
+  private final ByteBufferPool buffers;
+
+  public ResponseParser() {
+    this(NoopMetricsRecorder.getInstance());
+  }
+
+  /**
+   * @param metrics receives the time spent in each public parse method. Responses are read in
+   *                full before the timer starts, so this doesn't include network time.
+   */
+  public ResponseParser(MetricsRecorder metrics) {
+    this(metrics, new ByteBufferPool());
+  }
+
+  /**
+   * @param metrics receives the time spent in each public parse method
+   * @param buffers pool that responses read from InputStreams are buffered in
+   */
+  public ResponseParser(MetricsRecorder metrics, ByteBufferPool buffers) {
+    this.metrics = metrics;
+    this.buffers = buffers;
+  }
+
   /**
    * Helper method to parse raw data. If there's an error parsing it, throw a ParserException.
    *
@@ -35,8 +74,80 @@ public class ResponseParser {
    * @throws ParserException
    */
   protected Object parseRawData(Reader data) throws ParserException {
-    Object value =  JSONValue.parse(data);
+    return parseRawData(readRawData(data));
+  }
+
+  /**
+   * Helper method to parse raw UTF-8 data. The stream is read to the end and closed. If there's an
+   * error parsing it, throw a ParserException.
+   *
+   * @param data
+   * @return
+   * @throws ParserException
+   */
+  protected Object parseRawData(InputStream data) throws ParserException {
+    ByteBuffer buffer = readRawData(data);
+
+    try {
+      return parseRawData(buffer);
+    }
+    finally {
+      buffers.release(buffer);
+    }
+  }
+
+  /**
+   * @param data
+   * @return the parsed JSON
+   * @throws ParserException
+   */
+  protected Object parseRawData(String data) throws ParserException {
+    return wrapRawData(JSONValue.parse(data));
+  }
+
+  /**
+   * @param data UTF-8 encoded JSON, as returned by readRawData(InputStream)
+   * @return the parsed JSON
+   * @throws ParserException
+   */
+  protected Object parseRawData(ByteBuffer data) throws ParserException {
+    return wrapRawData(Utf8JsonParser.parse(data));
+  }
+
+  /**
+   * Read the whole response, so that parse timings don't include waiting on the network
+   *
+   * @param data
+   * @return
+   * @throws ParserException
+   */
+  protected String readRawData(Reader data) throws ParserException {
+    try {
+      return CharStreams.toString(data);
+    }
+    catch (IOException e) {
+      throw new ParserException("Failure reading response", e);
+    }
+  }
+
+  /**
+   * Read the whole response into a pooled buffer, so that parse timings don't include waiting on
+   * the network. The stream is closed, and the buffer should be released once it's been parsed.
+   *
+   * @param data
+   * @return
+   * @throws ParserException
+   */
+  protected ByteBuffer readRawData(InputStream data) throws ParserException {
+    try {
+      return buffers.readFully(data);
+    }
+    catch (IOException e) {
+      throw new ParserException("Failure reading response", e);
+    }
+  }
 
+  private static Object wrapRawData(Object value) throws ParserException {
     if ( value == null ) {
       throw new ParserException("Failure parsing response");
     }
@@ -56,9 +167,34 @@ public class ResponseParser {
    * @throws ParserException
    */
   public ChatMessage parseChatMessage(Reader data) throws ParserException {
-    JSONObject json = (JSONObject) parseRawData(data);
+    String json = readRawData(data);
+    long start = System.nanoTime();
 
-    return parseChatMessage(json);
+    try {
+      return parseChatMessage((JSONObject) parseRawData(json));
+    }
+    finally {
+      metrics.recordTime(METRIC_PREFIX + "chat_message", System.nanoTime() - start);
+    }
+  }
+
+  /**
+   *
+   * @param data UTF-8 encoded response. read to the end and closed.
+   * @return
+   * @throws ParserException
+   */
+  public ChatMessage parseChatMessage(InputStream data) throws ParserException {
+    ByteBuffer buffer = readRawData(data);
+    long start = System.nanoTime();
+
+    try {
+      return parseChatMessage((JSONObject) parseRawData(buffer));
+    }
+    finally {
+      metrics.recordTime(METRIC_PREFIX + "chat_message", System.nanoTime() - start);
+      buffers.release(buffer);
+    }
   }
 
   /**
@@ -68,8 +204,159 @@ public class ResponseParser {
    * @throws ParserException
    */
   public List<ChatMessage> parseUnreadChats(Reader data) throws ParserException {
-    JSONObject json = (JSONObject) parseRawData(data);
+    String json = readRawData(data);
+    long start = System.nanoTime();
+
+    try {
+      return parseUnreadChats((JSONObject) parseRawData(json));
+    }
+    finally {
+      metrics.recordTime(METRIC_PREFIX + "unread_chats", System.nanoTime() - start);
+    }
+  }
+
+  /**
+   *
+   * @param data UTF-8 encoded response. read to the end and closed.
+   * @return
+   * @throws ParserException
+   */
+  public List<ChatMessage> parseUnreadChats(InputStream data) throws ParserException {
+    ByteBuffer buffer = readRawData(data);
+    long start = System.nanoTime();
+
+    try {
+      return parseUnreadChats((JSONObject) parseRawData(buffer));
+    }
+    finally {
+      metrics.recordTime(METRIC_PREFIX + "unread_chats", System.nanoTime() - start);
+      buffers.release(buffer);
+    }
+  }
+
+  /**
+   *
+   * @param response
+   * @return
+   * @throws ParserException
+   */
+  public GameIndex parseGameIndex(Reader response) {
+    String json = readRawData(response);
+    long start = System.nanoTime();
+
+    try {
+      return parseGameIndex((JSONObject) parseRawData(json));
+    }
+    finally {
+      metrics.recordTime(METRIC_PREFIX + "game_index", System.nanoTime() - start);
+    }
+  }
+
+  /**
+   *
+   * @param response UTF-8 encoded response. read to the end and closed.
+   * @return
+   * @throws ParserException
+   */
+  public GameIndex parseGameIndex(InputStream response) {
+    ByteBuffer buffer = readRawData(response);
+    long start = System.nanoTime();
+
+    try {
+      return parseGameIndex((JSONObject) parseRawData(buffer));
+    }
+    finally {
+      metrics.recordTime(METRIC_PREFIX + "game_index", System.nanoTime() - start);
+      buffers.release(buffer);
+    }
+  }
+
+  /**
+   * Parses the response to a dictionary lookup request.
+   *
+   * @param response
+   * @return set of words that are NOT in the dictionary -- empty set if all are in the dictionary
+   * @throws ParserException
+   */
+  public List<String> parseDictionaryLookupResponse(Reader response) {
+    String json = readRawData(response);
+    long start = System.nanoTime();
+
+    try {
+      return parseFailedWords(parseRawData(json));
+    }
+    finally {
+      metrics.recordTime(METRIC_PREFIX + "dictionary_lookup", System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Parses the response to a dictionary lookup request.
+   *
+   * @param response UTF-8 encoded response. read to the end and closed.
+   * @return set of words that are NOT in the dictionary -- empty set if all are in the dictionary
+   * @throws ParserException
+   */
+  public List<String> parseDictionaryLookupResponse(InputStream response) {
+    ByteBuffer buffer = readRawData(response);
+    long start = System.nanoTime();
+
+    try {
+      return parseFailedWords(parseRawData(buffer));
+    }
+    finally {
+      metrics.recordTime(METRIC_PREFIX + "dictionary_lookup", System.nanoTime() - start);
+      buffers.release(buffer);
+    }
+  }
 
+  /**
+   * Parses game state. Note that this does NOT rebuild racks.
+   *
+   * @param response
+   * @return
+   * @throws ParserException
+   */
+  public GameState parseGameState(Reader response) {
+    String json = readRawData(response);
+    long start = System.nanoTime();
+
+    try {
+      return parseGameState((JSONObject) parseRawData(json));
+    }
+    finally {
+      metrics.recordTime(METRIC_PREFIX + "game_state", System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Parses game state. Note that this does NOT rebuild racks.
+   *
+   * @param response UTF-8 encoded response. read to the end and closed.
+   * @return
+   * @throws ParserException
+   */
+  public GameState parseGameState(InputStream response) {
+    ByteBuffer buffer = readRawData(response);
+    long start = System.nanoTime();
+
+    try {
+      return parseGameState((JSONObject) parseRawData(buffer));
+    }
+    finally {
+      metrics.recordTime(METRIC_PREFIX + "game_state", System.nanoTime() - start);
+      buffers.release(buffer);
+    }
+  }
+
+  /**
+   * Parses the list of unread chats for a game
+   *
+   * @param json
+   * @return
+   * @throws ParserException
+   */
+  protected List<ChatMessage> parseUnreadChats(JSONObject json) {
     JSONArray chats = (JSONArray) json.get("chat_messages");
     List<ChatMessage> results = new ArrayList<ChatMessage>();
 
@@ -81,15 +368,14 @@ public class ResponseParser {
   }
 
   /**
+   * Parses a game index
    *
-   * @param response
+   * @param gameIndex
    * @return
    * @throws ParserException
    */
-  public GameIndex parseGameIndex(Reader response) {
+  protected GameIndex parseGameIndex(JSONObject gameIndex) {
     GameIndex index = new GameIndex();
-
-    JSONObject gameIndex = (JSONObject) parseRawData(response);
     JSONArray games = (JSONArray) gameIndex.get("games");
 
     index.setUser(parseUser((JSONObject) gameIndex.get("user")));
@@ -104,15 +390,12 @@ public class ResponseParser {
   }
 
   /**
-   * Parses the response to a dictionary lookup request.
+   * Parses the response to a dictionary lookup request
    *
-   * @param response
-   * @return set of words that are NOT in the dictionary -- empty set if all are in the dictionary
-   * @throws ParserException
+   * @param parsedResponse
+   * @return
    */
-  public List<String> parseDictionaryLookupResponse(Reader response) {
-    Object parsedResponse = parseRawData(response);
-
+  protected List<String> parseFailedWords(Object parsedResponse) {
     LOG.debug("Dictionary lookup response - " + parsedResponse);
 
     // If all words in the query are present
@@ -135,16 +418,15 @@ public class ResponseParser {
   }
 
   /**
-   * Parses game state. Note that this does NOT rebuild racks.
+   * Parses game state
    *
-   * @param response
+   * @param gameJson
    * @return
    * @throws ParserException
    */
-  public GameState parseGameState(Reader response) {
+  protected GameState parseGameState(JSONObject gameJson) {
     GameState state = new GameState();
 
-    JSONObject gameJson = (JSONObject) parseRawData(response);
     gameJson = (JSONObject) gameJson.get("game");
     JSONArray movesArr = (JSONArray) gameJson.get("moves");
 
@@ -0,0 +1,370 @@
+package org.sidoh.wwf_api.parser;
+
+import com.google.common.base.Charsets;
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * <p>
+ * Parses JSON straight from UTF-8 bytes, without decoding the whole response to characters first.
+ * JSON's structure is all ASCII, so the parser only has to decode the contents of strings, and
+ * strings without escapes are decoded in one go.
+ * </p>
+ * <p>
+ * Produces the same objects as json-smart (JSONObject, JSONArray, String, Integer, Long,
+ * BigInteger, Double, Boolean and null), so code written against JSONValue.parse doesn't need to
+ * change. Unlike json-smart's permissive mode, only standard JSON is accepted.
+ * </p>
+ * <p>
+ * Not thread-safe. Instances are cheap, so make one per parse.
+ * </p>
+ */
+public class Utf8JsonParser {
+  private final byte[] data;
+  private final int end;
+  private int pos;
+
+  /**
+   * @param buffer a heap buffer holding the JSON between its position and limit. neither the
+   *               buffer nor its position are modified.
+   */
+  public Utf8JsonParser(ByteBuffer buffer) {
+    this.data = buffer.array();
+    this.pos = buffer.arrayOffset() + buffer.position();
+    this.end = buffer.arrayOffset() + buffer.limit();
+  }
+
+  /**
+   * Parse a complete JSON document.
+   *
+   * @param buffer
+   * @return the parsed value
+   * @throws ParserException if the data isn't valid JSON
+   */
+  public static Object parse(ByteBuffer buffer) throws ParserException {
+    return new Utf8JsonParser(buffer).parse();
+  }
+
+  /**
+   * @return the parsed value
+   * @throws ParserException if the data isn't valid JSON
+   */
+  public Object parse() throws ParserException {
+    // A UTF-8 byte order mark isn't allowed by the spec, but it's harmless
+    if (end - pos >= 3 && data[pos] == (byte) 0xEF && data[pos + 1] == (byte) 0xBB && data[pos + 2] == (byte) 0xBF) {
+      pos += 3;
+    }
+
+    Object value = readValue();
+    skipWhitespace();
+
+    if (pos != end) {
+      throw error("unexpected data after the end of the document");
+    }
+
+    return value;
+  }
+
+  private Object readValue() {
+    skipWhitespace();
+
+    if (pos >= end) {
+      throw error("unexpected end of data");
+    }
+
+    switch (data[pos]) {
+      case '{':
+        return readObject();
+      case '[':
+        return readArray();
+      case '"':
+        return readString();
+      case 't':
+        expectLiteral("true");
+        return Boolean.TRUE;
+      case 'f':
+        expectLiteral("false");
+        return Boolean.FALSE;
+      case 'n':
+        expectLiteral("null");
+        return null;
+      default:
+        return readNumber();
+    }
+  }
+
+  private JSONObject readObject() {
+    JSONObject object = new JSONObject();
+    pos++;
+
+    skipWhitespace();
+    if (pos < end && data[pos] == '}') {
+      pos++;
+      return object;
+    }
+
+    while (true) {
+      skipWhitespace();
+      if (pos >= end || data[pos] != '"') {
+        throw error("expected a key");
+      }
+
+      String key = readString();
+      expect(':');
+      object.put(key, readValue());
+
+      skipWhitespace();
+      if (pos >= end) {
+        throw error("unexpected end of data");
+      }
+
+      byte b = data[pos++];
+      if (b == '}') {
+        return object;
+      }
+      else if (b != ',') {
+        throw error("expected ',' or '}'");
+      }
+    }
+  }
+
+  private JSONArray readArray() {
+    JSONArray array = new JSONArray();
+    pos++;
+
+    skipWhitespace();
+    if (pos < end && data[pos] == ']') {
+      pos++;
+      return array;
+    }
+
+    while (true) {
+      array.add(readValue());
+
+      skipWhitespace();
+      if (pos >= end) {
+        throw error("unexpected end of data");
+      }
+
+      byte b = data[pos++];
+      if (b == ']') {
+        return array;
+      }
+      else if (b != ',') {
+        throw error("expected ',' or ']'");
+      }
+    }
+  }
+
+  /**
+   * Read a string starting at the opening quote. Runs of bytes between escapes are decoded as
+   * UTF-8 in bulk.
+   */
+  private String readString() {
+    int start = ++pos;
+
+    // Fast path: no escapes
+    while (pos < end) {
+      byte b = data[pos];
+
+      if (b == '"') {
+        pos++;
+        return new String(data, start, pos - start - 1, Charsets.UTF_8);
+      }
+      else if (b == '\\') {
+        break;
+      }
+
+      pos++;
+    }
+
+    StringBuilder value = new StringBuilder();
+    int runStart = start;
+
+    while (pos < end) {
+      byte b = data[pos];
+
+      if (b == '"') {
+        value.append(new String(data, runStart, pos - runStart, Charsets.UTF_8));
+        pos++;
+        return value.toString();
+      }
+      else if (b == '\\') {
+        value.append(new String(data, runStart, pos - runStart, Charsets.UTF_8));
+        pos++;
+        value.append(readEscape());
+        runStart = pos;
+      }
+      else {
+        pos++;
+      }
+    }
+
+    throw error("unterminated string");
+  }
+
+  private char readEscape() {
+    if (pos >= end) {
+      throw error("unterminated string");
+    }
+
+    byte b = data[pos++];
+
+    switch (b) {
+      case '"':
+        return '"';
+      case '\\':
+        return '\\';
+      case '/':
+        return '/';
+      case 'b':
+        return '\b';
+      case 'f':
+        return '\f';
+      case 'n':
+        return '\n';
+      case 'r':
+        return '\r';
+      case 't':
+        return '\t';
+      case 'u':
+        if (end - pos < 4) {
+          throw error("truncated unicode escape");
+        }
+
+        int c = 0;
+        for (int i = 0; i < 4; i++) {
+          int digit = Character.digit(data[pos++], 16);
+
+          if (digit == -1) {
+            throw error("invalid unicode escape");
+          }
+
+          c = (c << 4) | digit;
+        }
+
+        return (char) c;
+      default:
+        throw error("invalid escape");
+    }
+  }
+
+  private Number readNumber() {
+    int start = pos;
+    boolean negative = false;
+    boolean integral = true;
+    boolean overflow = false;
+    long value = 0;
+
+    if (data[pos] == '-') {
+      negative = true;
+      pos++;
+    }
+
+    int digitsStart = pos;
+    while (pos < end && data[pos] >= '0' && data[pos] <= '9') {
+      int digit = data[pos++] - '0';
+
+      // Accumulate negatively so Long.MIN_VALUE fits
+      if (value < (Long.MIN_VALUE + digit) / 10) {
+        overflow = true;
+      }
+      value = value * 10 - digit;
+    }
+
+    if (pos == digitsStart) {
+      throw error("unexpected character");
+    }
+
+    if (pos < end && data[pos] == '.') {
+      integral = false;
+      pos++;
+      skipDigits();
+    }
+
+    if (pos < end && (data[pos] == 'e' || data[pos] == 'E')) {
+      integral = false;
+      pos++;
+
+      if (pos < end && (data[pos] == '+' || data[pos] == '-')) {
+        pos++;
+      }
+
+      skipDigits();
+    }
+
+    if (!integral) {
+      return Double.valueOf(ascii(start, pos));
+    }
+    else if (overflow || (!negative && value == Long.MIN_VALUE)) {
+      return new BigInteger(ascii(start, pos));
+    }
+
+    value = negative ? value : -value;
+
+    if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+      return (int) value;
+    }
+
+    return value;
+  }
+
+  private void skipDigits() {
+    int start = pos;
+
+    while (pos < end && data[pos] >= '0' && data[pos] <= '9') {
+      pos++;
+    }
+
+    if (pos == start) {
+      throw error("expected a digit");
+    }
+  }
+
+  private void skipWhitespace() {
+    while (pos < end) {
+      byte b = data[pos];
+
+      if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+        return;
+      }
+
+      pos++;
+    }
+  }
+
+  private void expect(char c) {
+    skipWhitespace();
+
+    if (pos >= end || data[pos] != c) {
+      throw error("expected '" + c + "'");
+    }
+
+    pos++;
+  }
+
+  private void expectLiteral(String literal) {
+    if (end - pos < literal.length()) {
+      throw error("unexpected end of data");
+    }
+
+    for (int i = 0; i < literal.length(); i++) {
+      if (data[pos + i] != literal.charAt(i)) {
+        throw error("unexpected character");
+      }
+    }
+
+    pos += literal.length();
+  }
+
+  private String ascii(int from, int to) {
+    return new String(data, from, to - from, Charsets.US_ASCII);
+  }
+
+  private ParserException error(String message) {
+    return new ParserException("Failure parsing response: " + message + " at byte " + pos);
+  }
+}
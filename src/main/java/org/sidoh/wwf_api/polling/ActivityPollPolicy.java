@@ -0,0 +1,114 @@
+package org.sidoh.wwf_api.polling;
+
+import org.sidoh.wwf_api.game_state.GameStateHelper;
+import org.sidoh.wwf_api.types.api.GameMeta;
+
+import java.util.Collection;
+
+/**
+ * <p>
+ * Polls accounts more often when their games are likely to change soon:
+ * </p>
+ * <ul>
+ *   <li>If the last poll found changes, poll again as soon as possible.</li>
+ *   <li>Games waiting on our move won't change until we move (except for chats and resignations),
+ *   so they don't make polls more frequent.</li>
+ *   <li>Games waiting on an opponent who's online are polled as soon as possible.</li>
+ *   <li>Otherwise, the longer it's been since the last move, the longer the wait. The delay is a
+ *   fraction of the time since the last move, so an opponent who moved a minute ago is checked
+ *   every few seconds and one who moved a day ago is checked rarely.</li>
+ * </ul>
+ * <p>
+ * The delay for an account is the shortest delay for any of its games, bounded by the minimum and
+ * maximum.
+ * </p>
+ */
+public class ActivityPollPolicy implements PollPolicy {
+  public static final long DEFAULT_MIN_DELAY_MILLIS = 2000;
+  public static final long DEFAULT_MAX_DELAY_MILLIS = 60000;
+
+  /**
+   * Default fraction of the time since the last move to wait
+   */
+  public static final double DEFAULT_IDLE_FRACTION = 0.1;
+
+  private static final GameStateHelper stateHelper = GameStateHelper.getInstance();
+
+  private final long minDelayMillis;
+  private final long maxDelayMillis;
+  private final double idleFraction;
+
+  public ActivityPollPolicy() {
+    this(DEFAULT_MIN_DELAY_MILLIS, DEFAULT_MAX_DELAY_MILLIS);
+  }
+
+  public ActivityPollPolicy(long minDelayMillis, long maxDelayMillis) {
+    this(minDelayMillis, maxDelayMillis, DEFAULT_IDLE_FRACTION);
+  }
+
+  /**
+   * @param minDelayMillis shortest time between polls
+   * @param maxDelayMillis longest time between polls
+   * @param idleFraction fraction of the time since a game's last move to wait before polling
+   */
+  public ActivityPollPolicy(long minDelayMillis, long maxDelayMillis, double idleFraction) {
+    this.minDelayMillis = minDelayMillis;
+    this.maxDelayMillis = maxDelayMillis;
+    this.idleFraction = idleFraction;
+  }
+
+  @Override
+  public long getDelayMillis(long userId, Collection<GameMeta> games, boolean changed) {
+    if (changed) {
+      return minDelayMillis;
+    }
+
+    long delay = maxDelayMillis;
+
+    for (GameMeta meta : games) {
+      if (meta.isOver() || (meta.isSetCurrentMoveUserId() && meta.getCurrentMoveUserId() == userId)) {
+        continue;
+      }
+
+      if (meta.isOpponentPresent()) {
+        return minDelayMillis;
+      }
+
+      long idleMillis = getSecondsSinceLastActivity(meta) * 1000L;
+      delay = Math.min(delay, (long) (idleMillis * idleFraction));
+    }
+
+    return Math.max(minDelayMillis, delay);
+  }
+
+  public long getMinDelayMillis() {
+    return minDelayMillis;
+  }
+
+  public long getMaxDelayMillis() {
+    return maxDelayMillis;
+  }
+
+  /**
+   * Called from the scheduler's worker threads. GameStateHelper parses with a per-thread format, so
+   * this is safe.
+   *
+   * @param meta
+   * @return seconds since the last move in the game, or since it was created if nobody has moved.
+   * games with timestamps that can't be parsed are treated as idle for a long time.
+   */
+  protected static long getSecondsSinceLastActivity(GameMeta meta) {
+    String timestamp = meta.isSetLastMove() ? meta.getLastMove().getCreatedAt() : meta.getCreatedAt();
+
+    if (timestamp == null) {
+      return Integer.MAX_VALUE;
+    }
+
+    try {
+      return Math.max(0, stateHelper.getNumSecondsEllapsedSinceTimestamp(timestamp));
+    }
+    catch (RuntimeException e) {
+      return Integer.MAX_VALUE;
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package org.sidoh.wwf_api.polling;
+
+import org.sidoh.wwf_api.types.api.GameMeta;
+
+import java.util.List;
+
+/**
+ * Receives the results of polls made by a PollScheduler. Called from the scheduler's worker
+ * threads, but never concurrently for the same account.
+ */
+public interface PollListener {
+  /**
+   * Called after every successful poll.
+   *
+   * @param account the account that was polled
+   * @param changed games that are new or have changed since the previous poll. may be empty.
+   */
+  public void onPoll(PollScheduler.Account account, List<GameMeta> changed);
+}
@@ -0,0 +1,19 @@
+package org.sidoh.wwf_api.polling;
+
+import org.sidoh.wwf_api.types.api.GameMeta;
+
+import java.util.Collection;
+
+/**
+ * Decides how long PollScheduler waits before polling an account for updates again. Policies are
+ * shared between all of the accounts a scheduler polls, so they should be thread-safe.
+ */
+public interface PollPolicy {
+  /**
+   * @param userId the user the account belongs to
+   * @param games the latest metadata for every game the account is known to be in
+   * @param changed true if the poll that just finished found changes
+   * @return how long to wait before the next poll, before jitter is applied
+   */
+  public long getDelayMillis(long userId, Collection<GameMeta> games, boolean changed);
+}
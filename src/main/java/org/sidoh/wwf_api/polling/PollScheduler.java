@@ -0,0 +1,451 @@
+package org.sidoh.wwf_api.polling;
+
+import org.sidoh.wwf_api.StatefulApiProvider;
+import org.sidoh.wwf_api.types.api.GameIndex;
+import org.sidoh.wwf_api.types.api.GameMeta;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>
+ * Polls many accounts for game updates, deciding when to poll each one with a PollPolicy instead
+ * of using a fixed timer per account. Accounts wait in a priority queue ordered by when they're
+ * next due, and a single dispatcher thread hands due accounts to a pool of workers.
+ * </p>
+ * <p>
+ * The number of polls in flight against each host is limited, so a burst of due accounts is
+ * spread out instead of hitting Zynga all at once. Delays are jittered so that accounts registered
+ * together don't stay in lockstep.
+ * </p>
+ * <p>
+ * The first poll for an account fetches the full game index. Later polls only ask for games that
+ * changed since the previous one, and listeners are told about games that are new or different.
+ * </p>
+ */
+public class PollScheduler {
+  private static final Logger LOG = LoggerFactory.getLogger(PollScheduler.class);
+
+  /**
+   * Host used for accounts registered without one
+   */
+  public static final String DEFAULT_HOST = "wwf-fb.zyngawithfriends.com";
+
+  /**
+   * By default, delays are randomly adjusted by up to 10% either way
+   */
+  public static final double DEFAULT_JITTER = 0.1;
+
+  /**
+   * Each poll asks for updates since a bit before the previous one started, in case our clock is
+   * ahead of Zynga's. Games that show up twice are ignored unless they actually changed.
+   */
+  private static final int TIMESTAMP_OVERLAP_SECONDS = 60;
+
+  /**
+   * Failed polls back off by doubling the delay, up to this many times
+   */
+  private static final int MAX_BACKOFF_DOUBLINGS = 4;
+
+  private static final Comparator<Account> BY_NEXT_POLL = new Comparator<Account>() {
+    @Override
+    public int compare(Account a, Account b) {
+      return a.nextPollAt < b.nextPollAt ? -1 : (a.nextPollAt == b.nextPollAt ? 0 : 1);
+    }
+  };
+
+  private final ExecutorService executor;
+  private final PollPolicy policy;
+  private final int maxConcurrentPollsPerHost;
+  private final double jitter;
+  private final Random random;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition wakeUp = lock.newCondition();
+  private final Map<String, Host> hosts = new HashMap<String, Host>();
+  private Thread dispatcher;
+  private boolean running;
+
+  public PollScheduler(ExecutorService executor, PollPolicy policy, int maxConcurrentPollsPerHost) {
+    this(executor, policy, maxConcurrentPollsPerHost, DEFAULT_JITTER, new Random());
+  }
+
+  /**
+   * @param executor runs the polls
+   * @param policy decides how long to wait between polls
+   * @param maxConcurrentPollsPerHost maximum number of polls in flight against a single host
+   * @param jitter fraction by which delays are randomly adjusted either way
+   * @param random source of jitter
+   */
+  public PollScheduler(ExecutorService executor,
+                       PollPolicy policy,
+                       int maxConcurrentPollsPerHost,
+                       double jitter,
+                       Random random) {
+    this.executor = executor;
+    this.policy = policy;
+    this.maxConcurrentPollsPerHost = maxConcurrentPollsPerHost;
+    this.jitter = jitter;
+    this.random = random;
+  }
+
+  /**
+   * Start the dispatcher thread. Accounts can be registered before or after this is called.
+   */
+  public void start() {
+    lock.lock();
+    try {
+      if (running) {
+        return;
+      }
+
+      running = true;
+      dispatcher = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          dispatch();
+        }
+      }, "poll-scheduler");
+      dispatcher.setDaemon(true);
+      dispatcher.start();
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stop the dispatcher thread. Polls that are already running finish, but no more are started.
+   * The executor isn't shut down.
+   */
+  public void shutdown() {
+    lock.lock();
+    try {
+      running = false;
+      wakeUp.signalAll();
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Start polling an account against the default host. The first poll happens right away.
+   *
+   * @param provider
+   * @param listener
+   * @return a handle that can be used to unregister the account
+   */
+  public Account register(StatefulApiProvider provider, PollListener listener) {
+    return register(DEFAULT_HOST, provider, listener);
+  }
+
+  /**
+   * Start polling an account. The first poll happens right away.
+   *
+   * @param host the host the account's requests go to, used to limit concurrent polls
+   * @param provider
+   * @param listener
+   * @return a handle that can be used to unregister the account
+   */
+  public Account register(String host, StatefulApiProvider provider, PollListener listener) {
+    Account account = new Account(host, provider, listener);
+
+    lock.lock();
+    try {
+      Host queue = hosts.get(host);
+
+      if (queue == null) {
+        queue = new Host();
+        hosts.put(host, queue);
+      }
+
+      account.nextPollAt = System.currentTimeMillis();
+      queue.accounts.add(account);
+      queue.numAccounts++;
+      wakeUp.signalAll();
+    }
+    finally {
+      lock.unlock();
+    }
+
+    return account;
+  }
+
+  /**
+   * Stop polling an account. If a poll is in progress, its listener is still called.
+   *
+   * @param account
+   */
+  public void unregister(Account account) {
+    lock.lock();
+    try {
+      if (account.registered) {
+        account.registered = false;
+
+        Host host = hosts.get(account.host);
+        host.accounts.remove(account);
+        host.numAccounts--;
+      }
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Poll an account as soon as a worker is free, instead of waiting for its next scheduled poll.
+   * Does nothing if a poll is already in progress.
+   *
+   * @param account
+   */
+  public void pollNow(Account account) {
+    lock.lock();
+    try {
+      Host host = hosts.get(account.host);
+
+      if (account.registered && host.accounts.remove(account)) {
+        account.nextPollAt = System.currentTimeMillis();
+        host.accounts.add(account);
+        wakeUp.signalAll();
+      }
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the number of registered accounts
+   */
+  public int getNumAccounts() {
+    lock.lock();
+    try {
+      int numAccounts = 0;
+
+      for (Host host : hosts.values()) {
+        numAccounts += host.numAccounts;
+      }
+
+      return numAccounts;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Hand due accounts to the workers until shut down, respecting the per-host limits.
+   */
+  protected void dispatch() {
+    lock.lock();
+    try {
+      while (running) {
+        long now = System.currentTimeMillis();
+        long wakeAt = Long.MAX_VALUE;
+
+        for (Host host : hosts.values()) {
+          while (host.active < maxConcurrentPollsPerHost && !host.accounts.isEmpty()) {
+            Account next = host.accounts.peek();
+
+            if (next.nextPollAt > now) {
+              wakeAt = Math.min(wakeAt, next.nextPollAt);
+              break;
+            }
+
+            host.accounts.poll();
+
+            try {
+              executor.execute(new PollTask(host, next));
+              host.active++;
+            }
+            catch (RejectedExecutionException e) {
+              LOG.warn("couldn't start poll. will retry.", e);
+              next.nextPollAt = now + 1000;
+              host.accounts.add(next);
+              wakeAt = Math.min(wakeAt, next.nextPollAt);
+              break;
+            }
+          }
+        }
+
+        if (wakeAt == Long.MAX_VALUE) {
+          wakeUp.await();
+        }
+        else {
+          wakeUp.await(wakeAt - now, TimeUnit.MILLISECONDS);
+        }
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Called when a poll finishes to put the account back in the queue
+   *
+   * @param host
+   * @param account
+   * @param changed true if the poll found changes
+   * @param failed true if the poll failed
+   */
+  protected void reschedule(Host host, Account account, boolean changed, boolean failed) {
+    lock.lock();
+    try {
+      host.active--;
+
+      if (account.registered) {
+        long delay = policy.getDelayMillis(account.userId, account.games.values(), changed);
+
+        if (failed) {
+          account.failures++;
+          delay <<= Math.min(account.failures, MAX_BACKOFF_DOUBLINGS);
+        }
+        else {
+          account.failures = 0;
+        }
+
+        delay += (long) (delay * jitter * (2 * random.nextDouble() - 1));
+
+        account.nextPollAt = System.currentTimeMillis() + delay;
+        host.accounts.add(account);
+      }
+
+      wakeUp.signalAll();
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Accounts for a single host
+   */
+  protected static class Host {
+    private final PriorityQueue<Account> accounts = new PriorityQueue<Account>(11, BY_NEXT_POLL);
+    private int numAccounts = 0;
+    private int active = 0;
+  }
+
+  /**
+   * An account being polled. Everything other than the games is guarded by the scheduler's lock.
+   * The games are only modified by the account's poll, and only one poll per account runs at a
+   * time.
+   */
+  public static class Account {
+    private final String host;
+    private final StatefulApiProvider provider;
+    private final PollListener listener;
+    private final Map<Long, GameMeta> games = Collections.synchronizedMap(new HashMap<Long, GameMeta>());
+    private volatile long userId = -1;
+    private int timestamp = 0;
+    private long nextPollAt;
+    private int failures = 0;
+    private boolean registered = true;
+
+    protected Account(String host, StatefulApiProvider provider, PollListener listener) {
+      this.host = host;
+      this.provider = provider;
+      this.listener = listener;
+    }
+
+    public StatefulApiProvider getProvider() {
+      return provider;
+    }
+
+    /**
+     * @return the ID of the account's user, or -1 if it hasn't been polled yet
+     */
+    public long getUserId() {
+      return userId;
+    }
+
+    /**
+     * @return the latest metadata for all of the account's games
+     */
+    public Collection<GameMeta> getGames() {
+      synchronized (games) {
+        return new ArrayList<GameMeta>(games.values());
+      }
+    }
+
+    /**
+     * Fetch updates and merge them into the known games
+     *
+     * @return games that are new or changed. empty on the first poll, which only establishes what
+     * the account's games look like.
+     */
+    protected List<GameMeta> poll() {
+      int pollStartedAt = (int) (System.currentTimeMillis() / 1000);
+      boolean first = (timestamp == 0);
+      GameIndex index = first ? provider.getGameIndex() : provider.getGamesWithUpdates(timestamp);
+      List<GameMeta> changed = new ArrayList<GameMeta>();
+
+      timestamp = pollStartedAt - TIMESTAMP_OVERLAP_SECONDS;
+
+      if (index.isSetUser()) {
+        userId = index.getUser().getId();
+      }
+
+      for (GameMeta meta : index.getGames()) {
+        GameMeta previous = games.put(meta.getId(), meta);
+
+        if (!first && !meta.equals(previous)) {
+          changed.add(meta);
+        }
+      }
+
+      return changed;
+    }
+  }
+
+  /**
+   * Polls a single account and reschedules it
+   */
+  private class PollTask implements Runnable {
+    private final Host host;
+    private final Account account;
+
+    public PollTask(Host host, Account account) {
+      this.host = host;
+      this.account = account;
+    }
+
+    @Override
+    public void run() {
+      boolean changed = false;
+      boolean failed = false;
+
+      try {
+        List<GameMeta> updates = account.poll();
+        changed = !updates.isEmpty();
+        account.listener.onPoll(account, updates);
+      }
+      catch (RuntimeException e) {
+        LOG.warn("error polling for updates", e);
+        failed = true;
+      }
+      finally {
+        reschedule(host, account, changed, failed);
+      }
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package org.sidoh.wwf_api.ratelimit;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Keeps requests to Zynga under the rates it tolerates. Every request takes a token from its access
+ * token's bucket and from its host's bucket, and waits until both are available. This keeps a
+ * single busy account from being throttled and many accounts together from tripping the host's
+ * limits.
+ * </p>
+ * <p>
+ * Buckets for access tokens that haven't been used in a while are dropped. They'd be full by then
+ * anyway.
+ * </p>
+ * <p>
+ * Limiting is opt-in: Communication only waits if it's given a limiter. A limiter's host buckets
+ * only see requests made through it, so to cap a host's traffic, share one limiter between every
+ * Communication in the process.
+ * </p>
+ */
+public class RequestRateLimiter {
+  /**
+   * Default limits. These are conservative guesses rather than limits Zynga publishes, so tune them
+   * to the workload.
+   */
+  public static final double DEFAULT_TOKEN_REQUESTS_PER_SECOND = 2;
+  public static final double DEFAULT_HOST_REQUESTS_PER_SECOND = 50;
+
+  /**
+   * By default, buckets hold this many seconds' worth of requests
+   */
+  public static final double DEFAULT_BURST_SECONDS = 2;
+
+  /**
+   * Never waits
+   */
+  public static final RequestRateLimiter UNLIMITED = new RequestRateLimiter(
+    Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Ticker.systemTicker());
+
+  private static final long IDLE_BUCKET_EXPIRY_MINUTES = 10;
+
+  private final LoadingCache<String, TokenBucket> tokenBuckets;
+  private final LoadingCache<String, TokenBucket> hostBuckets;
+
+  public RequestRateLimiter() {
+    this(DEFAULT_TOKEN_REQUESTS_PER_SECOND, DEFAULT_HOST_REQUESTS_PER_SECOND);
+  }
+
+  /**
+   * @param tokenRequestsPerSecond sustained request rate allowed for a single access token
+   * @param hostRequestsPerSecond sustained request rate allowed for a single host
+   */
+  public RequestRateLimiter(double tokenRequestsPerSecond, double hostRequestsPerSecond) {
+    this(tokenRequestsPerSecond,
+      Math.max(1, tokenRequestsPerSecond * DEFAULT_BURST_SECONDS),
+      hostRequestsPerSecond,
+      Math.max(1, hostRequestsPerSecond * DEFAULT_BURST_SECONDS),
+      Ticker.systemTicker());
+  }
+
+  /**
+   * @param tokenRequestsPerSecond sustained request rate allowed for a single access token
+   * @param tokenBurst most requests a single access token can make at once
+   * @param hostRequestsPerSecond sustained request rate allowed for a single host
+   * @param hostBurst most requests that can be made to a single host at once
+   * @param ticker time source
+   */
+  public RequestRateLimiter(double tokenRequestsPerSecond,
+                            double tokenBurst,
+                            double hostRequestsPerSecond,
+                            double hostBurst,
+                            Ticker ticker) {
+    this.tokenBuckets = buildBuckets(tokenRequestsPerSecond, tokenBurst, ticker);
+    this.hostBuckets = buildBuckets(hostRequestsPerSecond, hostBurst, ticker);
+  }
+
+  /**
+   * Take tokens for a request without waiting for them.
+   *
+   * @param host
+   * @param accessToken
+   * @return nanoseconds to wait before making the request
+   */
+  public long reserve(String host, String accessToken) {
+    long hostWait = hostBuckets.getUnchecked(host).reserve();
+    long tokenWait = accessToken == null ? 0 : tokenBuckets.getUnchecked(accessToken).reserve();
+
+    return Math.max(hostWait, tokenWait);
+  }
+
+  /**
+   * Wait until a request can be made.
+   *
+   * @param host
+   * @param accessToken
+   * @throws InterruptedException
+   */
+  public void acquire(String host, String accessToken) throws InterruptedException {
+    long waitNanos = reserve(host, accessToken);
+
+    if (waitNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+
+  private static LoadingCache<String, TokenBucket> buildBuckets(final double requestsPerSecond,
+                                                                final double burst,
+                                                                final Ticker ticker) {
+    return CacheBuilder.newBuilder()
+      .expireAfterAccess(IDLE_BUCKET_EXPIRY_MINUTES, TimeUnit.MINUTES)
+      .build(new CacheLoader<String, TokenBucket>() {
+        @Override
+        public TokenBucket load(String key) {
+          return new TokenBucket(requestsPerSecond, burst, ticker);
+        }
+      });
+  }
+}
@@ -0,0 +1,56 @@
+package org.sidoh.wwf_api.ratelimit;
+
+import com.google.common.base.Ticker;
+
+/**
+ * <p>
+ * A token bucket: tokens are added at a steady rate up to a maximum, and each request takes one.
+ * A full bucket lets a burst of requests through at once, after which requests are spaced out at
+ * the refill rate.
+ * </p>
+ * <p>
+ * Requests never fail. When the bucket is empty, a request still takes a token (putting the bucket
+ * in debt) and is told how long to wait for it, so waiting requests are served in the order they
+ * arrived. Thread-safe.
+ * </p>
+ */
+public class TokenBucket {
+  private final double capacity;
+  private final double nanosPerToken;
+  private final Ticker ticker;
+
+  private double tokens;
+  private long lastRefillNanos;
+
+  /**
+   * @param tokensPerSecond rate at which tokens are added. infinite means requests never wait.
+   * @param capacity most tokens the bucket can hold, i.e. the largest burst allowed
+   * @param ticker time source
+   */
+  public TokenBucket(double tokensPerSecond, double capacity, Ticker ticker) {
+    this.capacity = capacity;
+    this.nanosPerToken = 1e9 / tokensPerSecond;
+    this.ticker = ticker;
+    this.tokens = capacity;
+    this.lastRefillNanos = ticker.read();
+  }
+
+  /**
+   * Take a token.
+   *
+   * @return nanoseconds the caller should wait before using the token. 0 if it's available now.
+   */
+  public synchronized long reserve() {
+    if (nanosPerToken == 0) {
+      return 0;
+    }
+
+    long now = ticker.read();
+
+    tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / nanosPerToken);
+    lastRefillNanos = now;
+    tokens -= 1;
+
+    return tokens >= 0 ? 0 : (long) (-tokens * nanosPerToken);
+  }
+}
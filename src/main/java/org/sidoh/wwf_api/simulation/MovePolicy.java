@@ -0,0 +1,22 @@
+package org.sidoh.wwf_api.simulation;
+
+import org.sidoh.wwf_api.game_state.Move;
+import org.sidoh.wwf_api.game_state.MutableGameState;
+
+import java.util.Random;
+
+/**
+ * Decides which move a player makes during a simulated game. Implementations are shared between
+ * all of the games a SelfPlayDriver runs, so they should be thread-safe. Any randomness should
+ * come from the provided Random, which is seeded per game so that games are reproducible.
+ */
+public interface MovePolicy {
+  /**
+   * Choose the next move for the player whose turn it is.
+   *
+   * @param state the current game state. should not be modified.
+   * @param random source of randomness for this game
+   * @return the move to make. PLAY, SWAP and PASS are supported.
+   */
+  public Move chooseMove(MutableGameState state, Random random);
+}
@@ -0,0 +1,160 @@
+package org.sidoh.wwf_api.simulation;
+
+import org.sidoh.wwf_api.game_state.Move;
+import org.sidoh.wwf_api.game_state.MutableGameState;
+import org.sidoh.wwf_api.game_state.WordsWithFriendsBoard;
+import org.sidoh.wwf_api.types.game_state.Letter;
+import org.sidoh.wwf_api.types.game_state.Tile;
+import org.sidoh.wwf_api.types.game_state.WordOrientation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Plays a random selection of tiles from the rack at a random anchor (an empty slot touching a
+ * tile that's already on the board). No dictionary is consulted, so the words formed are almost
+ * never real, but the plays are always connected and on the board. This makes it useful for
+ * exercising the engine and generating load, not for producing sensible games.
+ */
+public class RandomPlacementPolicy implements MovePolicy {
+  private static final int CENTER = WordsWithFriendsBoard.DIMENSIONS / 2;
+  private static final String LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+  /**
+   * Number of random placements to try before giving up and swapping or passing.
+   */
+  private static final int MAX_ATTEMPTS = 16;
+
+  private final int maxTiles;
+
+  public RandomPlacementPolicy() {
+    this(WordsWithFriendsBoard.TILES_PER_PLAYER);
+  }
+
+  /**
+   * @param maxTiles maximum number of tiles to play in a single move
+   */
+  public RandomPlacementPolicy(int maxTiles) {
+    this.maxTiles = maxTiles;
+  }
+
+  @Override
+  public Move chooseMove(MutableGameState state, Random random) {
+    WordsWithFriendsBoard board = state.getBoard();
+    List<Tile> rack = state.getCurrentPlayerRack();
+
+    if (rack.isEmpty()) {
+      return Move.pass();
+    }
+
+    List<Integer> anchors = findAnchors(board);
+
+    for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+      int anchor = anchors.get(random.nextInt(anchors.size()));
+      int row = WordsWithFriendsBoard.getRowFromIndex(anchor);
+      int col = WordsWithFriendsBoard.getColFromIndex(anchor);
+      int numTiles = 1 + random.nextInt(Math.min(maxTiles, rack.size()));
+      WordOrientation orientation;
+
+      // The server infers the orientation of a single tile play from the tiles around it, so
+      // make sure that we agree with it.
+      if (numTiles == 1) {
+        orientation = board.hasAdjacentTiles(row, col, WordOrientation.HORIZONTAL)
+          ? WordOrientation.HORIZONTAL
+          : WordOrientation.VERTICAL;
+      }
+      else {
+        orientation = random.nextBoolean() ? WordOrientation.HORIZONTAL : WordOrientation.VERTICAL;
+      }
+
+      if (countEmptySlots(board, row, col, orientation) >= numTiles) {
+        return Move.play(pickTiles(rack, numTiles, random), row, col, orientation);
+      }
+    }
+
+    if (state.getNumRemainingTiles() >= rack.size()) {
+      return Move.swap(rack);
+    }
+
+    return Move.pass();
+  }
+
+  /**
+   * @param board
+   * @return indexes of all of the empty slots that a play could be made through. if the board
+   * is empty, this is just the center slot.
+   */
+  protected static List<Integer> findAnchors(WordsWithFriendsBoard board) {
+    List<Integer> anchors = new ArrayList<Integer>();
+    int[] anchorMasks = board.getAnchorMasks();
+
+    for (int row = 0; row < WordsWithFriendsBoard.DIMENSIONS; row++) {
+      for (int mask = anchorMasks[row]; mask != 0; mask &= mask - 1) {
+        anchors.add(row * WordsWithFriendsBoard.DIMENSIONS + Integer.numberOfTrailingZeros(mask));
+      }
+    }
+
+    if (anchors.isEmpty()) {
+      anchors.add(CENTER * WordsWithFriendsBoard.DIMENSIONS + CENTER);
+    }
+
+    return anchors;
+  }
+
+  /**
+   * Count the number of empty slots starting at the provided location and moving in the direction
+   * specified by orientation.
+   *
+   * @param board
+   * @param row
+   * @param col
+   * @param orientation
+   * @return
+   */
+  protected static int countEmptySlots(WordsWithFriendsBoard board, int row, int col, WordOrientation orientation) {
+    int count = 0;
+
+    while (row < WordsWithFriendsBoard.DIMENSIONS && col < WordsWithFriendsBoard.DIMENSIONS) {
+      if (board.getSlot(row, col).getTile() == null) {
+        count++;
+      }
+
+      if (orientation == WordOrientation.HORIZONTAL) {
+        col++;
+      }
+      else {
+        row++;
+      }
+    }
+
+    return count;
+  }
+
+  /**
+   * Choose random tiles from the rack. Blanks are assigned a random letter.
+   *
+   * @param rack
+   * @param numTiles
+   * @param random
+   * @return
+   */
+  protected static List<Tile> pickTiles(List<Tile> rack, int numTiles, Random random) {
+    List<Tile> shuffled = new ArrayList<Tile>(rack);
+    Collections.shuffle(shuffled, random);
+
+    List<Tile> tiles = new ArrayList<Tile>(numTiles);
+
+    for (Tile tile : shuffled.subList(0, numTiles)) {
+      if (tile.getValue() == 0) {
+        String letter = String.valueOf(LETTERS.charAt(random.nextInt(LETTERS.length())));
+        tile = tile.deepCopy().setLetter(new Letter().setValue(letter));
+      }
+
+      tiles.add(tile);
+    }
+
+    return tiles;
+  }
+}
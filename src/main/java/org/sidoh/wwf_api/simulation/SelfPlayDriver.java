@@ -0,0 +1,366 @@
+package org.sidoh.wwf_api.simulation;
+
+import com.google.common.collect.Multimap;
+import org.sidoh.wwf_api.Bag;
+import org.sidoh.wwf_api.RequestGenerator;
+import org.sidoh.wwf_api.RequestGenerator.MoveRequestParam;
+import org.sidoh.wwf_api.game_state.GameStateHelper;
+import org.sidoh.wwf_api.game_state.Move;
+import org.sidoh.wwf_api.game_state.MutableGameState;
+import org.sidoh.wwf_api.game_state.WordsWithFriendsBoard;
+import org.sidoh.wwf_api.types.api.ChatMessage;
+import org.sidoh.wwf_api.types.api.Coordinates;
+import org.sidoh.wwf_api.types.api.GameMeta;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.types.api.MoveData;
+import org.sidoh.wwf_api.types.api.MoveSubmission;
+import org.sidoh.wwf_api.types.api.MoveType;
+import org.sidoh.wwf_api.types.api.User;
+import org.sidoh.wwf_api.types.game_state.Tile;
+import org.sidoh.wwf_api.util.ThriftSerializationHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plays complete games locally between two MovePolicies without talking to Zynga. Games use the
+ * same tile bag, board and move application logic as real games (via MutableGameState, so each
+ * move only costs as much as the tiles it places), and the resulting GameStates
+ * contain MoveData built from the same parameters that would be submitted to the API, so they
+ * can be fed through StateReconstructor just like a fetched game.
+ */
+public class SelfPlayDriver {
+  private static final Logger LOG = LoggerFactory.getLogger(SelfPlayDriver.class);
+
+  private static final GameStateHelper stateHelper = GameStateHelper.getInstance();
+
+  /**
+   * User ID of the player who creates (and moves first in) simulated games
+   */
+  public static final long FIRST_USER_ID = 1;
+
+  /**
+   * User ID of the second player in simulated games
+   */
+  public static final long SECOND_USER_ID = 2;
+
+  /**
+   * By default, the game ends after this many consecutive turns in which no points were scored.
+   */
+  public static final int DEFAULT_MAX_SCORELESS_TURNS = 6;
+
+  /**
+   * Number of seconds of simulated time that pass between moves.
+   */
+  private static final int SECONDS_PER_MOVE = 60;
+
+  /**
+   * Simulated games are created at this time (2013-01-01T00:00:00 UTC) so that they don't depend
+   * on when they're played.
+   */
+  private static final long START_MILLIS = 1356998400000L;
+
+  /**
+   * Receives games as they're completed.
+   */
+  public interface GameListener {
+    /**
+     * Called when a game finishes. When games are run in parallel, this is called from the worker
+     * threads, so implementations should be thread-safe.
+     *
+     * @param state the finished game
+     */
+    public void gameFinished(GameState state);
+  }
+
+  private final MovePolicy firstPolicy;
+  private final MovePolicy secondPolicy;
+  private final RequestGenerator requestGenerator;
+  private int maxScorelessTurns = DEFAULT_MAX_SCORELESS_TURNS;
+
+  /**
+   * @param firstPolicy policy for the player moving first
+   * @param secondPolicy policy for the other player
+   */
+  public SelfPlayDriver(MovePolicy firstPolicy, MovePolicy secondPolicy) {
+    this.firstPolicy = firstPolicy;
+    this.secondPolicy = secondPolicy;
+    this.requestGenerator = new RequestGenerator();
+  }
+
+  /**
+   * @param maxScorelessTurns end a game after this many consecutive turns without points
+   * @return this
+   */
+  public SelfPlayDriver setMaxScorelessTurns(int maxScorelessTurns) {
+    this.maxScorelessTurns = maxScorelessTurns;
+    return this;
+  }
+
+  /**
+   * Play a single game to completion. The game is entirely determined by the seed (and policies).
+   *
+   * @param seed used both as the tile bag seed and to seed the policies' randomness
+   * @return the finished game
+   */
+  public GameState playGame(long seed) {
+    // SimpleDateFormat isn't thread-safe, so each game gets its own.
+    SimpleDateFormat dateFormat = new SimpleDateFormat(GameStateHelper.TIMESTAMP_DATE_FORMAT.toPattern(), Locale.GERMANY);
+    dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+    long timestamp = START_MILLIS;
+    MutableGameState state = new MutableGameState(newGame(seed, dateFormat.format(new Date(timestamp))));
+    Random random = new Random(seed);
+    int scorelessTurns = 0;
+
+    while (! state.getMeta().isOver()) {
+      long userId = state.getCurrentMoveUserId();
+      MovePolicy policy = (userId == FIRST_USER_ID) ? firstPolicy : secondPolicy;
+
+      Move move = policy.chooseMove(state, random);
+      MoveSubmission submission = stateHelper.createMoveSubmissionFromPlay(move);
+      int moveIndex = state.getAllMovesSize();
+      int numRemainingTiles = state.getNumRemainingTiles();
+
+      Move.Result result = state.applyMove(move);
+      Multimap<MoveRequestParam, Object> params = requestGenerator.generateMoveParams(state.getId(),
+        moveIndex,
+        numRemainingTiles,
+        state.getBoard(),
+        submission,
+        move);
+
+      timestamp += SECONDS_PER_MOVE * 1000L;
+      MoveData moveData = buildMoveData(state.getId(), moveIndex, move, params, dateFormat.format(new Date(timestamp)));
+
+      state.addToAllMoves(moveData);
+      state.getMeta().setLastMove(moveData);
+
+      scorelessTurns = (result.getScore() == 0) ? scorelessTurns + 1 : 0;
+
+      if (scorelessTurns >= maxScorelessTurns
+        || (state.getNumRemainingTiles() == 0 && state.getRack(userId).isEmpty())) {
+        state.getMeta().setOver(true);
+      }
+    }
+
+    return state.toGameState();
+  }
+
+  /**
+   * Play many games in parallel. Blocks until all of the games have finished.
+   *
+   * @param firstSeed seed for the first game. subsequent games use consecutive seeds.
+   * @param numGames number of games to play
+   * @param numThreads number of worker threads to use
+   * @param listener receives each game as it finishes
+   */
+  public void playGames(final long firstSeed, final int numGames, int numThreads, final GameListener listener) {
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    final AtomicInteger nextGame = new AtomicInteger();
+    List<Future<Void>> workers = new ArrayList<Future<Void>>();
+
+    try {
+      for (int i = 0; i < numThreads; i++) {
+        workers.add(executor.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws Exception {
+            int game;
+
+            while ((game = nextGame.getAndIncrement()) < numGames) {
+              listener.gameFinished(playGame(firstSeed + game));
+            }
+
+            return null;
+          }
+        }));
+      }
+
+      for (Future<Void> worker : workers) {
+        worker.get();
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("interrupted while playing games", e);
+    }
+    catch (ExecutionException e) {
+      throw new RuntimeException("error while playing games", e.getCause());
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Play many games in parallel using one worker thread per available processor.
+   *
+   * @param firstSeed
+   * @param numGames
+   * @param listener
+   */
+  public void playGames(long firstSeed, int numGames, GameListener listener) {
+    playGames(firstSeed, numGames, Runtime.getRuntime().availableProcessors(), listener);
+  }
+
+  /**
+   * Build the state for a game that hasn't had any moves yet.
+   *
+   * @param seed
+   * @param createdAt
+   * @return
+   */
+  protected static GameState newGame(long seed, String createdAt) {
+    Bag bag = new Bag(seed);
+
+    GameMeta meta = new GameMeta()
+      .setId(seed)
+      .setCreatedAt(createdAt)
+      .setCreatedByUserId(FIRST_USER_ID)
+      .setCurrentMoveUserId(FIRST_USER_ID)
+      .setMatchmaking(false)
+      .setOver(false)
+      .setOpponentPresent(true)
+      .setRandomSeed(seed)
+      .setUsersById(new HashMap<Long, User>())
+      .setUnreadChatIds(new ArrayList<Long>());
+
+    meta.putToUsersById(FIRST_USER_ID, new User().setId(FIRST_USER_ID).setName("player1"));
+    meta.putToUsersById(SECOND_USER_ID, new User().setId(SECOND_USER_ID).setName("player2"));
+
+    GameState state = new GameState()
+      .setId(seed)
+      .setMeta(meta)
+      .setAllMoves(new ArrayList<MoveData>())
+      .setChatMessages(new ArrayList<ChatMessage>())
+      .setRacks(new HashMap<Long, List<Tile>>())
+      .setScores(new HashMap<Long, Integer>())
+      .setBoard(new WordsWithFriendsBoard().getStorage().deepCopy().getSlots());
+
+    // Same draw order as StateReconstructor: the creator's rack is filled first.
+    state.putToRacks(FIRST_USER_ID, bag.pullTiles(WordsWithFriendsBoard.TILES_PER_PLAYER));
+    state.putToRacks(SECOND_USER_ID, bag.pullTiles(WordsWithFriendsBoard.TILES_PER_PLAYER));
+    state.putToScores(FIRST_USER_ID, 0);
+    state.putToScores(SECOND_USER_ID, 0);
+    state.setRemainingTiles(bag.getRemainingTilesInPullOrder());
+
+    return state;
+  }
+
+  /**
+   * Convert move request params into the MoveData the API would have returned for the move.
+   *
+   * @param gameId
+   * @param moveIndex
+   * @param move
+   * @param params
+   * @param createdAt
+   * @return
+   */
+  protected static MoveData buildMoveData(long gameId, int moveIndex, Move move,
+                                          Multimap<MoveRequestParam, Object> params, String createdAt) {
+    List<String> words = new ArrayList<String>();
+
+    for (Object word : params.get(MoveRequestParam.WORDS)) {
+      words.add((String) word);
+    }
+
+    MoveData moveData = new MoveData()
+      .setGameId(gameId)
+      .setId(gameId * 1000 + moveIndex)
+      .setMoveIndex(moveIndex)
+      .setMoveType(move.getMoveType())
+      .setCreatedAt(createdAt)
+      .setBoardChecksum((Integer) getParam(params, MoveRequestParam.BOARD_CHECKSUM))
+      .setPromoted((Integer) getParam(params, MoveRequestParam.PROMOTED))
+      .setPoints((Integer) getParam(params, MoveRequestParam.POINTS))
+      .setWords(words)
+      .setPlayStartPosition(new Coordinates()
+        .setX((Integer) getParam(params, MoveRequestParam.FROM_X))
+        .setY((Integer) getParam(params, MoveRequestParam.FROM_Y)))
+      .setPlayEndPosition(new Coordinates()
+        .setX((Integer) getParam(params, MoveRequestParam.TO_X))
+        .setY((Integer) getParam(params, MoveRequestParam.TO_Y)));
+
+    if (params.containsKey(MoveRequestParam.TEXT)) {
+      moveData.setText((String) getParam(params, MoveRequestParam.TEXT));
+    }
+
+    if (move.getMoveType() == MoveType.PLAY || move.getMoveType() == MoveType.SWAP) {
+      moveData.setTiles(new ArrayList<Tile>(move.getTiles()));
+    }
+
+    return moveData;
+  }
+
+  private static Object getParam(Multimap<MoveRequestParam, Object> params, MoveRequestParam key) {
+    Collection<Object> values = params.get(key);
+
+    return values.isEmpty() ? null : values.iterator().next();
+  }
+
+  /**
+   * Plays games between two RandomPlacementPolicies and reports throughput. Usage:
+   *
+   * <pre>
+   *   SelfPlayDriver num_games [num_threads] [output_dir]
+   * </pre>
+   *
+   * If output_dir is given, each game is written to it as a compact thrift file.
+   *
+   * @param args
+   */
+  public static void main(String[] args) {
+    int numGames = Integer.parseInt(args[0]);
+    int numThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+    final File outputDir = args.length > 2 ? new File(args[2]) : null;
+    final AtomicInteger numMoves = new AtomicInteger();
+
+    if (outputDir != null && ! outputDir.isDirectory() && ! outputDir.mkdirs()) {
+      throw new RuntimeException("couldn't create output directory: " + outputDir);
+    }
+
+    SelfPlayDriver driver = new SelfPlayDriver(new RandomPlacementPolicy(), new RandomPlacementPolicy());
+    long start = System.nanoTime();
+
+    driver.playGames(System.currentTimeMillis(), numGames, numThreads, new GameListener() {
+      @Override
+      public void gameFinished(GameState state) {
+        numMoves.addAndGet(state.getAllMovesSize());
+
+        if (outputDir != null) {
+          writeGame(outputDir, state);
+        }
+      }
+    });
+
+    double seconds = (System.nanoTime() - start) / 1e9;
+
+    LOG.info("played {} games ({} moves) on {} threads in {} seconds ({} games/second)",
+      new Object[] { numGames, numMoves.get(), numThreads, seconds, (int) (numGames / seconds) });
+  }
+
+  private static synchronized void writeGame(File outputDir, GameState state) {
+    try {
+      ThriftSerializationHelper.getInstance().serialize(state, new File(outputDir, state.getId() + ".bin"));
+    }
+    catch (Exception e) {
+      throw new RuntimeException("couldn't write game " + state.getId(), e);
+    }
+  }
+}
@@ -132,6 +132,124 @@ public class WwfApi {
      */
     public List<String> dictionaryLookup(String accessToken, List<String> words) throws org.apache.thrift.TException;
 
+    /**
+     * Gets the full game states for several games at once. The games are fetched concurrently. A
+     * failure to fetch one game doesn't fail the others; it's reported in that game's result.
+     * 
+     * @param accessToken
+     * @param gameIds the IDs of the games being requested
+     * @return one result per game ID, in the same order
+     * 
+     * @param accessToken
+     * @param gameIds
+     */
+    public List<GameStateResult> getGameStates(String accessToken, List<Long> gameIds) throws org.apache.thrift.TException;
+
+    /**
+     * Gets unseen chat messages for several games at once. The games are fetched concurrently, and
+     * failures are reported per game.
+     * 
+     * @param accessToken
+     * @param gameIds
+     * @return one result per game ID, in the same order
+     * 
+     * @param accessToken
+     * @param gameIds
+     */
+    public List<UnseenChatsResult> getUnseenChatsForGames(String accessToken, List<Long> gameIds) throws org.apache.thrift.TException;
+
+    /**
+     * Checks several lists of words against the WWF dictionary at once. The lookups are done
+     * concurrently, and failures are reported per list.
+     * 
+     * @param accessToken
+     * @param wordLists lists of words to be checked
+     * @return one result per list of words, in the same order
+     * 
+     * @param accessToken
+     * @param wordLists
+     */
+    public List<DictionaryLookupResult> dictionaryLookups(String accessToken, List<List<String>> wordLists) throws org.apache.thrift.TException;
+
+    /**
+     * Scores a play against the current board of a game without submitting it.
+     * 
+     * @param accessToken
+     * @param gameId
+     * @param move the play to score. must be of type PLAY.
+     * @return the score and the words the play would form
+     * 
+     * @param accessToken
+     * @param gameId
+     * @param move
+     */
+    public ScoredPlay scorePlay(String accessToken, long gameId, MoveSubmission move) throws org.apache.thrift.TException;
+
+    /**
+     * Same as scorePlay, but uses the board from the provided state instead of fetching it.
+     * 
+     * @param state
+     * @param move the play to score. must be of type PLAY.
+     * @return the score and the words the play would form
+     * 
+     * @param state
+     * @param move
+     */
+    public ScoredPlay scorePlayInState(GameState state, MoveSubmission move) throws org.apache.thrift.TException;
+
+    /**
+     * Finds every way the provided words can be played on the current board of a game using tiles
+     * from a rack, and scores them. Words formed across the play aren't checked against a
+     * dictionary, but they're included in the results.
+     * 
+     * @param accessToken
+     * @param gameId
+     * @param rack tiles that can be played. if empty, the rack of the player whose turn it is is used.
+     * @param words candidate words
+     * @param maxResults maximum number of plays to return. 0 means no limit.
+     * @return plays ordered by score, highest first
+     * 
+     * @param accessToken
+     * @param gameId
+     * @param rack
+     * @param words
+     * @param maxResults
+     */
+    public List<ScoredPlay> findPlays(String accessToken, long gameId, List<org.sidoh.wwf_api.types.game_state.Tile> rack, List<String> words, int maxResults) throws org.apache.thrift.TException;
+
+    /**
+     * Same as findPlays, but uses the board from the provided state instead of fetching it.
+     * 
+     * @param state
+     * @param rack tiles that can be played. if empty, the rack of the player whose turn it is is used.
+     * @param words candidate words
+     * @param maxResults maximum number of plays to return. 0 means no limit.
+     * @return plays ordered by score, highest first
+     * 
+     * @param state
+     * @param rack
+     * @param words
+     * @param maxResults
+     */
+    public List<ScoredPlay> findPlaysInState(GameState state, List<org.sidoh.wwf_api.types.game_state.Tile> rack, List<String> words, int maxResults) throws org.apache.thrift.TException;
+
+    /**
+     * Blocks until games visible to the user change, or until the timeout expires. The server polls
+     * Zynga once per access token no matter how many clients are waiting, and stops after nobody has
+     * asked about the token for a while.
+     * 
+     * @param accessToken
+     * @param cursor the cursor from the previous call, or 0 for the first call. the first call
+     *               only sees changes made after it.
+     * @param timeoutMillis how long to wait. the server may cap this.
+     * @return the changed games, and the cursor to pass next time
+     * 
+     * @param accessToken
+     * @param cursor
+     * @param timeoutMillis
+     */
+    public GameUpdates waitForGameUpdates(String accessToken, long cursor, int timeoutMillis) throws org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface {
@@ -152,6 +270,22 @@ public class WwfApi {
 
     public void dictionaryLookup(String accessToken, List<String> words, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.dictionaryLookup_call> resultHandler) throws org.apache.thrift.TException;
 
+    public void getGameStates(String accessToken, List<Long> gameIds, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.getGameStates_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void getUnseenChatsForGames(String accessToken, List<Long> gameIds, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.getUnseenChatsForGames_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void dictionaryLookups(String accessToken, List<List<String>> wordLists, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.dictionaryLookups_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void scorePlay(String accessToken, long gameId, MoveSubmission move, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.scorePlay_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void scorePlayInState(GameState state, MoveSubmission move, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.scorePlayInState_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void findPlays(String accessToken, long gameId, List<org.sidoh.wwf_api.types.game_state.Tile> rack, List<String> words, int maxResults, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.findPlays_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void findPlaysInState(GameState state, List<org.sidoh.wwf_api.types.game_state.Tile> rack, List<String> words, int maxResults, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.findPlaysInState_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void waitForGameUpdates(String accessToken, long cursor, int timeoutMillis, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.waitForGameUpdates_call> resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends org.apache.thrift.TServiceClient implements Iface {
@@ -364,6 +498,205 @@ public class WwfApi {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "dictionaryLookup failed: unknown result");
     }
 
+    public List<GameStateResult> getGameStates(String accessToken, List<Long> gameIds) throws org.apache.thrift.TException
+    {
+      send_getGameStates(accessToken, gameIds);
+      return recv_getGameStates();
+    }
+
+    public void send_getGameStates(String accessToken, List<Long> gameIds) throws org.apache.thrift.TException
+    {
+      getGameStates_args args = new getGameStates_args();
+      args.setAccessToken(accessToken);
+      args.setGameIds(gameIds);
+      sendBase("getGameStates", args);
+    }
+
+    public List<GameStateResult> recv_getGameStates() throws org.apache.thrift.TException
+    {
+      getGameStates_result result = new getGameStates_result();
+      receiveBase(result, "getGameStates");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getGameStates failed: unknown result");
+    }
+
+    public List<UnseenChatsResult> getUnseenChatsForGames(String accessToken, List<Long> gameIds) throws org.apache.thrift.TException
+    {
+      send_getUnseenChatsForGames(accessToken, gameIds);
+      return recv_getUnseenChatsForGames();
+    }
+
+    public void send_getUnseenChatsForGames(String accessToken, List<Long> gameIds) throws org.apache.thrift.TException
+    {
+      getUnseenChatsForGames_args args = new getUnseenChatsForGames_args();
+      args.setAccessToken(accessToken);
+      args.setGameIds(gameIds);
+      sendBase("getUnseenChatsForGames", args);
+    }
+
+    public List<UnseenChatsResult> recv_getUnseenChatsForGames() throws org.apache.thrift.TException
+    {
+      getUnseenChatsForGames_result result = new getUnseenChatsForGames_result();
+      receiveBase(result, "getUnseenChatsForGames");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getUnseenChatsForGames failed: unknown result");
+    }
+
+    public List<DictionaryLookupResult> dictionaryLookups(String accessToken, List<List<String>> wordLists) throws org.apache.thrift.TException
+    {
+      send_dictionaryLookups(accessToken, wordLists);
+      return recv_dictionaryLookups();
+    }
+
+    public void send_dictionaryLookups(String accessToken, List<List<String>> wordLists) throws org.apache.thrift.TException
+    {
+      dictionaryLookups_args args = new dictionaryLookups_args();
+      args.setAccessToken(accessToken);
+      args.setWordLists(wordLists);
+      sendBase("dictionaryLookups", args);
+    }
+
+    public List<DictionaryLookupResult> recv_dictionaryLookups() throws org.apache.thrift.TException
+    {
+      dictionaryLookups_result result = new dictionaryLookups_result();
+      receiveBase(result, "dictionaryLookups");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "dictionaryLookups failed: unknown result");
+    }
+
+    public ScoredPlay scorePlay(String accessToken, long gameId, MoveSubmission move) throws org.apache.thrift.TException
+    {
+      send_scorePlay(accessToken, gameId, move);
+      return recv_scorePlay();
+    }
+
+    public void send_scorePlay(String accessToken, long gameId, MoveSubmission move) throws org.apache.thrift.TException
+    {
+      scorePlay_args args = new scorePlay_args();
+      args.setAccessToken(accessToken);
+      args.setGameId(gameId);
+      args.setMove(move);
+      sendBase("scorePlay", args);
+    }
+
+    public ScoredPlay recv_scorePlay() throws org.apache.thrift.TException
+    {
+      scorePlay_result result = new scorePlay_result();
+      receiveBase(result, "scorePlay");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "scorePlay failed: unknown result");
+    }
+
+    public ScoredPlay scorePlayInState(GameState state, MoveSubmission move) throws org.apache.thrift.TException
+    {
+      send_scorePlayInState(state, move);
+      return recv_scorePlayInState();
+    }
+
+    public void send_scorePlayInState(GameState state, MoveSubmission move) throws org.apache.thrift.TException
+    {
+      scorePlayInState_args args = new scorePlayInState_args();
+      args.setState(state);
+      args.setMove(move);
+      sendBase("scorePlayInState", args);
+    }
+
+    public ScoredPlay recv_scorePlayInState() throws org.apache.thrift.TException
+    {
+      scorePlayInState_result result = new scorePlayInState_result();
+      receiveBase(result, "scorePlayInState");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "scorePlayInState failed: unknown result");
+    }
+
+    public List<ScoredPlay> findPlays(String accessToken, long gameId, List<org.sidoh.wwf_api.types.game_state.Tile> rack, List<String> words, int maxResults) throws org.apache.thrift.TException
+    {
+      send_findPlays(accessToken, gameId, rack, words, maxResults);
+      return recv_findPlays();
+    }
+
+    public void send_findPlays(String accessToken, long gameId, List<org.sidoh.wwf_api.types.game_state.Tile> rack, List<String> words, int maxResults) throws org.apache.thrift.TException
+    {
+      findPlays_args args = new findPlays_args();
+      args.setAccessToken(accessToken);
+      args.setGameId(gameId);
+      args.setRack(rack);
+      args.setWords(words);
+      args.setMaxResults(maxResults);
+      sendBase("findPlays", args);
+    }
+
+    public List<ScoredPlay> recv_findPlays() throws org.apache.thrift.TException
+    {
+      findPlays_result result = new findPlays_result();
+      receiveBase(result, "findPlays");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "findPlays failed: unknown result");
+    }
+
+    public List<ScoredPlay> findPlaysInState(GameState state, List<org.sidoh.wwf_api.types.game_state.Tile> rack, List<String> words, int maxResults) throws org.apache.thrift.TException
+    {
+      send_findPlaysInState(state, rack, words, maxResults);
+      return recv_findPlaysInState();
+    }
+
+    public void send_findPlaysInState(GameState state, List<org.sidoh.wwf_api.types.game_state.Tile> rack, List<String> words, int maxResults) throws org.apache.thrift.TException
+    {
+      findPlaysInState_args args = new findPlaysInState_args();
+      args.setState(state);
+      args.setRack(rack);
+      args.setWords(words);
+      args.setMaxResults(maxResults);
+      sendBase("findPlaysInState", args);
+    }
+
+    public List<ScoredPlay> recv_findPlaysInState() throws org.apache.thrift.TException
+    {
+      findPlaysInState_result result = new findPlaysInState_result();
+      receiveBase(result, "findPlaysInState");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "findPlaysInState failed: unknown result");
+    }
+
+    public GameUpdates waitForGameUpdates(String accessToken, long cursor, int timeoutMillis) throws org.apache.thrift.TException
+    {
+      send_waitForGameUpdates(accessToken, cursor, timeoutMillis);
+      return recv_waitForGameUpdates();
+    }
+
+    public void send_waitForGameUpdates(String accessToken, long cursor, int timeoutMillis) throws org.apache.thrift.TException
+    {
+      waitForGameUpdates_args args = new waitForGameUpdates_args();
+      args.setAccessToken(accessToken);
+      args.setCursor(cursor);
+      args.setTimeoutMillis(timeoutMillis);
+      sendBase("waitForGameUpdates", args);
+    }
+
+    public GameUpdates recv_waitForGameUpdates() throws org.apache.thrift.TException
+    {
+      waitForGameUpdates_result result = new waitForGameUpdates_result();
+      receiveBase(result, "waitForGameUpdates");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "waitForGameUpdates failed: unknown result");
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -665,66 +998,375 @@ public class WwfApi {
       }
     }
 
-  }
-
-  public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
-    private static final Logger LOGGER = LoggerFactory.getLogger(Processor.class.getName());
-    public Processor(I iface) {
-      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>()));
-    }
-
-    protected Processor(I iface, Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
-      super(iface, getProcessMap(processMap));
-    }
-
-    private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
-      processMap.put("getGameIndex", new getGameIndex());
-      processMap.put("getGamesWithUpdates", new getGamesWithUpdates());
-      processMap.put("getGameState", new getGameState());
-      processMap.put("makeMove", new makeMove());
-      processMap.put("createMatchmakingGame", new createMatchmakingGame());
-      processMap.put("sendChatMessage", new sendChatMessage());
-      processMap.put("getUnseenChats", new getUnseenChats());
-      processMap.put("dictionaryLookup", new dictionaryLookup());
-      return processMap;
+    public void getGameStates(String accessToken, List<Long> gameIds, org.apache.thrift.async.AsyncMethodCallback<getGameStates_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getGameStates_call method_call = new getGameStates_call(accessToken, gameIds, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
     }
 
-    private static class getGameIndex<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getGameIndex_args> {
-      public getGameIndex() {
-        super("getGameIndex");
+    public static class getGameStates_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String accessToken;
+      private List<Long> gameIds;
+      public getGameStates_call(String accessToken, List<Long> gameIds, org.apache.thrift.async.AsyncMethodCallback<getGameStates_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.accessToken = accessToken;
+        this.gameIds = gameIds;
       }
 
-      protected getGameIndex_args getEmptyArgsInstance() {
-        return new getGameIndex_args();
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getGameStates", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getGameStates_args args = new getGameStates_args();
+        args.setAccessToken(accessToken);
+        args.setGameIds(gameIds);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      protected getGameIndex_result getResult(I iface, getGameIndex_args args) throws org.apache.thrift.TException {
-        getGameIndex_result result = new getGameIndex_result();
-        result.success = iface.getGameIndex(args.accessToken);
-        return result;
+      public List<GameStateResult> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getGameStates();
       }
     }
 
-    private static class getGamesWithUpdates<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getGamesWithUpdates_args> {
-      public getGamesWithUpdates() {
-        super("getGamesWithUpdates");
+    public void getUnseenChatsForGames(String accessToken, List<Long> gameIds, org.apache.thrift.async.AsyncMethodCallback<getUnseenChatsForGames_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getUnseenChatsForGames_call method_call = new getUnseenChatsForGames_call(accessToken, gameIds, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getUnseenChatsForGames_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String accessToken;
+      private List<Long> gameIds;
+      public getUnseenChatsForGames_call(String accessToken, List<Long> gameIds, org.apache.thrift.async.AsyncMethodCallback<getUnseenChatsForGames_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.accessToken = accessToken;
+        this.gameIds = gameIds;
       }
 
-      protected getGamesWithUpdates_args getEmptyArgsInstance() {
-        return new getGamesWithUpdates_args();
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getUnseenChatsForGames", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getUnseenChatsForGames_args args = new getUnseenChatsForGames_args();
+        args.setAccessToken(accessToken);
+        args.setGameIds(gameIds);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      protected getGamesWithUpdates_result getResult(I iface, getGamesWithUpdates_args args) throws org.apache.thrift.TException {
-        getGamesWithUpdates_result result = new getGamesWithUpdates_result();
-        result.success = iface.getGamesWithUpdates(args.accessToken, args.timestamp);
-        return result;
+      public List<UnseenChatsResult> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getUnseenChatsForGames();
       }
     }
 
-    private static class getGameState<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getGameState_args> {
-      public getGameState() {
-        super("getGameState");
-      }
+    public void dictionaryLookups(String accessToken, List<List<String>> wordLists, org.apache.thrift.async.AsyncMethodCallback<dictionaryLookups_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      dictionaryLookups_call method_call = new dictionaryLookups_call(accessToken, wordLists, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class dictionaryLookups_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String accessToken;
+      private List<List<String>> wordLists;
+      public dictionaryLookups_call(String accessToken, List<List<String>> wordLists, org.apache.thrift.async.AsyncMethodCallback<dictionaryLookups_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.accessToken = accessToken;
+        this.wordLists = wordLists;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("dictionaryLookups", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        dictionaryLookups_args args = new dictionaryLookups_args();
+        args.setAccessToken(accessToken);
+        args.setWordLists(wordLists);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<DictionaryLookupResult> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_dictionaryLookups();
+      }
+    }
+
+    public void scorePlay(String accessToken, long gameId, MoveSubmission move, org.apache.thrift.async.AsyncMethodCallback<scorePlay_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      scorePlay_call method_call = new scorePlay_call(accessToken, gameId, move, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class scorePlay_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String accessToken;
+      private long gameId;
+      private MoveSubmission move;
+      public scorePlay_call(String accessToken, long gameId, MoveSubmission move, org.apache.thrift.async.AsyncMethodCallback<scorePlay_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.accessToken = accessToken;
+        this.gameId = gameId;
+        this.move = move;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("scorePlay", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        scorePlay_args args = new scorePlay_args();
+        args.setAccessToken(accessToken);
+        args.setGameId(gameId);
+        args.setMove(move);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ScoredPlay getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_scorePlay();
+      }
+    }
+
+    public void scorePlayInState(GameState state, MoveSubmission move, org.apache.thrift.async.AsyncMethodCallback<scorePlayInState_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      scorePlayInState_call method_call = new scorePlayInState_call(state, move, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class scorePlayInState_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private GameState state;
+      private MoveSubmission move;
+      public scorePlayInState_call(GameState state, MoveSubmission move, org.apache.thrift.async.AsyncMethodCallback<scorePlayInState_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.state = state;
+        this.move = move;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("scorePlayInState", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        scorePlayInState_args args = new scorePlayInState_args();
+        args.setState(state);
+        args.setMove(move);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ScoredPlay getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_scorePlayInState();
+      }
+    }
+
+    public void findPlays(String accessToken, long gameId, List<org.sidoh.wwf_api.types.game_state.Tile> rack, List<String> words, int maxResults, org.apache.thrift.async.AsyncMethodCallback<findPlays_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      findPlays_call method_call = new findPlays_call(accessToken, gameId, rack, words, maxResults, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class findPlays_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String accessToken;
+      private long gameId;
+      private List<org.sidoh.wwf_api.types.game_state.Tile> rack;
+      private List<String> words;
+      private int maxResults;
+      public findPlays_call(String accessToken, long gameId, List<org.sidoh.wwf_api.types.game_state.Tile> rack, List<String> words, int maxResults, org.apache.thrift.async.AsyncMethodCallback<findPlays_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.accessToken = accessToken;
+        this.gameId = gameId;
+        this.rack = rack;
+        this.words = words;
+        this.maxResults = maxResults;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("findPlays", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        findPlays_args args = new findPlays_args();
+        args.setAccessToken(accessToken);
+        args.setGameId(gameId);
+        args.setRack(rack);
+        args.setWords(words);
+        args.setMaxResults(maxResults);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<ScoredPlay> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_findPlays();
+      }
+    }
+
+    public void findPlaysInState(GameState state, List<org.sidoh.wwf_api.types.game_state.Tile> rack, List<String> words, int maxResults, org.apache.thrift.async.AsyncMethodCallback<findPlaysInState_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      findPlaysInState_call method_call = new findPlaysInState_call(state, rack, words, maxResults, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class findPlaysInState_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private GameState state;
+      private List<org.sidoh.wwf_api.types.game_state.Tile> rack;
+      private List<String> words;
+      private int maxResults;
+      public findPlaysInState_call(GameState state, List<org.sidoh.wwf_api.types.game_state.Tile> rack, List<String> words, int maxResults, org.apache.thrift.async.AsyncMethodCallback<findPlaysInState_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.state = state;
+        this.rack = rack;
+        this.words = words;
+        this.maxResults = maxResults;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("findPlaysInState", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        findPlaysInState_args args = new findPlaysInState_args();
+        args.setState(state);
+        args.setRack(rack);
+        args.setWords(words);
+        args.setMaxResults(maxResults);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<ScoredPlay> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_findPlaysInState();
+      }
+    }
+
+    public void waitForGameUpdates(String accessToken, long cursor, int timeoutMillis, org.apache.thrift.async.AsyncMethodCallback<waitForGameUpdates_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      waitForGameUpdates_call method_call = new waitForGameUpdates_call(accessToken, cursor, timeoutMillis, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class waitForGameUpdates_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String accessToken;
+      private long cursor;
+      private int timeoutMillis;
+      public waitForGameUpdates_call(String accessToken, long cursor, int timeoutMillis, org.apache.thrift.async.AsyncMethodCallback<waitForGameUpdates_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.accessToken = accessToken;
+        this.cursor = cursor;
+        this.timeoutMillis = timeoutMillis;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("waitForGameUpdates", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        waitForGameUpdates_args args = new waitForGameUpdates_args();
+        args.setAccessToken(accessToken);
+        args.setCursor(cursor);
+        args.setTimeoutMillis(timeoutMillis);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public GameUpdates getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_waitForGameUpdates();
+      }
+    }
+
+  }
+
+  public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Processor.class.getName());
+    public Processor(I iface) {
+      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>()));
+    }
+
+    protected Processor(I iface, Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
+      super(iface, getProcessMap(processMap));
+    }
+
+    private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
+      processMap.put("getGameIndex", new getGameIndex());
+      processMap.put("getGamesWithUpdates", new getGamesWithUpdates());
+      processMap.put("getGameState", new getGameState());
+      processMap.put("makeMove", new makeMove());
+      processMap.put("createMatchmakingGame", new createMatchmakingGame());
+      processMap.put("sendChatMessage", new sendChatMessage());
+      processMap.put("getUnseenChats", new getUnseenChats());
+      processMap.put("dictionaryLookup", new dictionaryLookup());
+      processMap.put("getGameStates", new getGameStates());
+      processMap.put("getUnseenChatsForGames", new getUnseenChatsForGames());
+      processMap.put("dictionaryLookups", new dictionaryLookups());
+      processMap.put("scorePlay", new scorePlay());
+      processMap.put("scorePlayInState", new scorePlayInState());
+      processMap.put("findPlays", new findPlays());
+      processMap.put("findPlaysInState", new findPlaysInState());
+      processMap.put("waitForGameUpdates", new waitForGameUpdates());
+      return processMap;
+    }
+
+    private static class getGameIndex<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getGameIndex_args> {
+      public getGameIndex() {
+        super("getGameIndex");
+      }
+
+      protected getGameIndex_args getEmptyArgsInstance() {
+        return new getGameIndex_args();
+      }
+
+      protected getGameIndex_result getResult(I iface, getGameIndex_args args) throws org.apache.thrift.TException {
+        getGameIndex_result result = new getGameIndex_result();
+        result.success = iface.getGameIndex(args.accessToken);
+        return result;
+      }
+    }
+
+    private static class getGamesWithUpdates<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getGamesWithUpdates_args> {
+      public getGamesWithUpdates() {
+        super("getGamesWithUpdates");
+      }
+
+      protected getGamesWithUpdates_args getEmptyArgsInstance() {
+        return new getGamesWithUpdates_args();
+      }
+
+      protected getGamesWithUpdates_result getResult(I iface, getGamesWithUpdates_args args) throws org.apache.thrift.TException {
+        getGamesWithUpdates_result result = new getGamesWithUpdates_result();
+        result.success = iface.getGamesWithUpdates(args.accessToken, args.timestamp);
+        return result;
+      }
+    }
+
+    private static class getGameState<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getGameState_args> {
+      public getGameState() {
+        super("getGameState");
+      }
 
       protected getGameState_args getEmptyArgsInstance() {
         return new getGameState_args();
@@ -737,104 +1379,6839 @@ public class WwfApi {
       }
     }
 
-    private static class makeMove<I extends Iface> extends org.apache.thrift.ProcessFunction<I, makeMove_args> {
-      public makeMove() {
-        super("makeMove");
+    private static class makeMove<I extends Iface> extends org.apache.thrift.ProcessFunction<I, makeMove_args> {
+      public makeMove() {
+        super("makeMove");
+      }
+
+      protected makeMove_args getEmptyArgsInstance() {
+        return new makeMove_args();
+      }
+
+      protected makeMove_result getResult(I iface, makeMove_args args) throws org.apache.thrift.TException {
+        makeMove_result result = new makeMove_result();
+        result.success = iface.makeMove(args.accessToken, args.currentState, args.move);
+        return result;
+      }
+    }
+
+    private static class createMatchmakingGame<I extends Iface> extends org.apache.thrift.ProcessFunction<I, createMatchmakingGame_args> {
+      public createMatchmakingGame() {
+        super("createMatchmakingGame");
+      }
+
+      protected createMatchmakingGame_args getEmptyArgsInstance() {
+        return new createMatchmakingGame_args();
+      }
+
+      protected createMatchmakingGame_result getResult(I iface, createMatchmakingGame_args args) throws org.apache.thrift.TException {
+        createMatchmakingGame_result result = new createMatchmakingGame_result();
+        iface.createMatchmakingGame(args.accessToken, args.params);
+        return result;
+      }
+    }
+
+    private static class sendChatMessage<I extends Iface> extends org.apache.thrift.ProcessFunction<I, sendChatMessage_args> {
+      public sendChatMessage() {
+        super("sendChatMessage");
+      }
+
+      protected sendChatMessage_args getEmptyArgsInstance() {
+        return new sendChatMessage_args();
+      }
+
+      protected sendChatMessage_result getResult(I iface, sendChatMessage_args args) throws org.apache.thrift.TException {
+        sendChatMessage_result result = new sendChatMessage_result();
+        result.success = iface.sendChatMessage(args.accessToken, args.gameId, args.message);
+        return result;
+      }
+    }
+
+    private static class getUnseenChats<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getUnseenChats_args> {
+      public getUnseenChats() {
+        super("getUnseenChats");
+      }
+
+      protected getUnseenChats_args getEmptyArgsInstance() {
+        return new getUnseenChats_args();
+      }
+
+      protected getUnseenChats_result getResult(I iface, getUnseenChats_args args) throws org.apache.thrift.TException {
+        getUnseenChats_result result = new getUnseenChats_result();
+        result.success = iface.getUnseenChats(args.accessToken, args.gameId);
+        return result;
+      }
+    }
+
+    private static class dictionaryLookup<I extends Iface> extends org.apache.thrift.ProcessFunction<I, dictionaryLookup_args> {
+      public dictionaryLookup() {
+        super("dictionaryLookup");
+      }
+
+      protected dictionaryLookup_args getEmptyArgsInstance() {
+        return new dictionaryLookup_args();
+      }
+
+      protected dictionaryLookup_result getResult(I iface, dictionaryLookup_args args) throws org.apache.thrift.TException {
+        dictionaryLookup_result result = new dictionaryLookup_result();
+        result.success = iface.dictionaryLookup(args.accessToken, args.words);
+        return result;
+      }
+    }
+
+    private static class getGameStates<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getGameStates_args> {
+      public getGameStates() {
+        super("getGameStates");
+      }
+
+      protected getGameStates_args getEmptyArgsInstance() {
+        return new getGameStates_args();
+      }
+
+      protected getGameStates_result getResult(I iface, getGameStates_args args) throws org.apache.thrift.TException {
+        getGameStates_result result = new getGameStates_result();
+        result.success = iface.getGameStates(args.accessToken, args.gameIds);
+        return result;
+      }
+    }
+
+    private static class getUnseenChatsForGames<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getUnseenChatsForGames_args> {
+      public getUnseenChatsForGames() {
+        super("getUnseenChatsForGames");
+      }
+
+      protected getUnseenChatsForGames_args getEmptyArgsInstance() {
+        return new getUnseenChatsForGames_args();
+      }
+
+      protected getUnseenChatsForGames_result getResult(I iface, getUnseenChatsForGames_args args) throws org.apache.thrift.TException {
+        getUnseenChatsForGames_result result = new getUnseenChatsForGames_result();
+        result.success = iface.getUnseenChatsForGames(args.accessToken, args.gameIds);
+        return result;
+      }
+    }
+
+    private static class dictionaryLookups<I extends Iface> extends org.apache.thrift.ProcessFunction<I, dictionaryLookups_args> {
+      public dictionaryLookups() {
+        super("dictionaryLookups");
+      }
+
+      protected dictionaryLookups_args getEmptyArgsInstance() {
+        return new dictionaryLookups_args();
+      }
+
+      protected dictionaryLookups_result getResult(I iface, dictionaryLookups_args args) throws org.apache.thrift.TException {
+        dictionaryLookups_result result = new dictionaryLookups_result();
+        result.success = iface.dictionaryLookups(args.accessToken, args.wordLists);
+        return result;
+      }
+    }
+
+    private static class scorePlay<I extends Iface> extends org.apache.thrift.ProcessFunction<I, scorePlay_args> {
+      public scorePlay() {
+        super("scorePlay");
+      }
+
+      protected scorePlay_args getEmptyArgsInstance() {
+        return new scorePlay_args();
+      }
+
+      protected scorePlay_result getResult(I iface, scorePlay_args args) throws org.apache.thrift.TException {
+        scorePlay_result result = new scorePlay_result();
+        result.success = iface.scorePlay(args.accessToken, args.gameId, args.move);
+        return result;
+      }
+    }
+
+    private static class scorePlayInState<I extends Iface> extends org.apache.thrift.ProcessFunction<I, scorePlayInState_args> {
+      public scorePlayInState() {
+        super("scorePlayInState");
+      }
+
+      protected scorePlayInState_args getEmptyArgsInstance() {
+        return new scorePlayInState_args();
+      }
+
+      protected scorePlayInState_result getResult(I iface, scorePlayInState_args args) throws org.apache.thrift.TException {
+        scorePlayInState_result result = new scorePlayInState_result();
+        result.success = iface.scorePlayInState(args.state, args.move);
+        return result;
+      }
+    }
+
+    private static class findPlays<I extends Iface> extends org.apache.thrift.ProcessFunction<I, findPlays_args> {
+      public findPlays() {
+        super("findPlays");
+      }
+
+      protected findPlays_args getEmptyArgsInstance() {
+        return new findPlays_args();
+      }
+
+      protected findPlays_result getResult(I iface, findPlays_args args) throws org.apache.thrift.TException {
+        findPlays_result result = new findPlays_result();
+        result.success = iface.findPlays(args.accessToken, args.gameId, args.rack, args.words, args.maxResults);
+        return result;
+      }
+    }
+
+    private static class findPlaysInState<I extends Iface> extends org.apache.thrift.ProcessFunction<I, findPlaysInState_args> {
+      public findPlaysInState() {
+        super("findPlaysInState");
+      }
+
+      protected findPlaysInState_args getEmptyArgsInstance() {
+        return new findPlaysInState_args();
+      }
+
+      protected findPlaysInState_result getResult(I iface, findPlaysInState_args args) throws org.apache.thrift.TException {
+        findPlaysInState_result result = new findPlaysInState_result();
+        result.success = iface.findPlaysInState(args.state, args.rack, args.words, args.maxResults);
+        return result;
+      }
+    }
+
+    private static class waitForGameUpdates<I extends Iface> extends org.apache.thrift.ProcessFunction<I, waitForGameUpdates_args> {
+      public waitForGameUpdates() {
+        super("waitForGameUpdates");
+      }
+
+      protected waitForGameUpdates_args getEmptyArgsInstance() {
+        return new waitForGameUpdates_args();
+      }
+
+      protected waitForGameUpdates_result getResult(I iface, waitForGameUpdates_args args) throws org.apache.thrift.TException {
+        waitForGameUpdates_result result = new waitForGameUpdates_result();
+        result.success = iface.waitForGameUpdates(args.accessToken, args.cursor, args.timeoutMillis);
+        return result;
+      }
+    }
+
+  }
+
+  public static class getGameIndex_args implements org.apache.thrift.TBase<getGameIndex_args, getGameIndex_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getGameIndex_args");
+
+    private static final org.apache.thrift.protocol.TField ACCESS_TOKEN_FIELD_DESC = new org.apache.thrift.protocol.TField("accessToken", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getGameIndex_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getGameIndex_argsTupleSchemeFactory());
+    }
+
+    public String accessToken; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ACCESS_TOKEN((short)1, "accessToken");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ACCESS_TOKEN
+            return ACCESS_TOKEN;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ACCESS_TOKEN, new org.apache.thrift.meta_data.FieldMetaData("accessToken", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getGameIndex_args.class, metaDataMap);
+    }
+
+    public getGameIndex_args() {
+    }
+
+    public getGameIndex_args(
+      String accessToken)
+    {
+      this();
+      this.accessToken = accessToken;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getGameIndex_args(getGameIndex_args other) {
+      if (other.isSetAccessToken()) {
+        this.accessToken = other.accessToken;
+      }
+    }
+
+    public getGameIndex_args deepCopy() {
+      return new getGameIndex_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.accessToken = null;
+    }
+
+    public String getAccessToken() {
+      return this.accessToken;
+    }
+
+    public getGameIndex_args setAccessToken(String accessToken) {
+      this.accessToken = accessToken;
+      return this;
+    }
+
+    public void unsetAccessToken() {
+      this.accessToken = null;
+    }
+
+    /** Returns true if field accessToken is set (has been assigned a value) and false otherwise */
+    public boolean isSetAccessToken() {
+      return this.accessToken != null;
+    }
+
+    public void setAccessTokenIsSet(boolean value) {
+      if (!value) {
+        this.accessToken = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case ACCESS_TOKEN:
+        if (value == null) {
+          unsetAccessToken();
+        } else {
+          setAccessToken((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ACCESS_TOKEN:
+        return getAccessToken();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ACCESS_TOKEN:
+        return isSetAccessToken();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getGameIndex_args)
+        return this.equals((getGameIndex_args)that);
+      return false;
+    }
+
+    public boolean equals(getGameIndex_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_accessToken = true && this.isSetAccessToken();
+      boolean that_present_accessToken = true && that.isSetAccessToken();
+      if (this_present_accessToken || that_present_accessToken) {
+        if (!(this_present_accessToken && that_present_accessToken))
+          return false;
+        if (!this.accessToken.equals(that.accessToken))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(getGameIndex_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getGameIndex_args typedOther = (getGameIndex_args)other;
+
+      lastComparison = Boolean.valueOf(isSetAccessToken()).compareTo(typedOther.isSetAccessToken());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAccessToken()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.accessToken, typedOther.accessToken);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getGameIndex_args(");
+      boolean first = true;
+
+      sb.append("accessToken:");
+      if (this.accessToken == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.accessToken);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getGameIndex_argsStandardSchemeFactory implements SchemeFactory {
+      public getGameIndex_argsStandardScheme getScheme() {
+        return new getGameIndex_argsStandardScheme();
+      }
+    }
+
+    private static class getGameIndex_argsStandardScheme extends StandardScheme<getGameIndex_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getGameIndex_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ACCESS_TOKEN
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.accessToken = iprot.readString();
+                struct.setAccessTokenIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getGameIndex_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.accessToken != null) {
+          oprot.writeFieldBegin(ACCESS_TOKEN_FIELD_DESC);
+          oprot.writeString(struct.accessToken);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getGameIndex_argsTupleSchemeFactory implements SchemeFactory {
+      public getGameIndex_argsTupleScheme getScheme() {
+        return new getGameIndex_argsTupleScheme();
+      }
+    }
+
+    private static class getGameIndex_argsTupleScheme extends TupleScheme<getGameIndex_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getGameIndex_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetAccessToken()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetAccessToken()) {
+          oprot.writeString(struct.accessToken);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getGameIndex_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.accessToken = iprot.readString();
+          struct.setAccessTokenIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getGameIndex_result implements org.apache.thrift.TBase<getGameIndex_result, getGameIndex_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getGameIndex_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getGameIndex_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getGameIndex_resultTupleSchemeFactory());
+    }
+
+    public GameIndex success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GameIndex.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getGameIndex_result.class, metaDataMap);
+    }
+
+    public getGameIndex_result() {
+    }
+
+    public getGameIndex_result(
+      GameIndex success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getGameIndex_result(getGameIndex_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new GameIndex(other.success);
+      }
+    }
+
+    public getGameIndex_result deepCopy() {
+      return new getGameIndex_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public GameIndex getSuccess() {
+      return this.success;
+    }
+
+    public getGameIndex_result setSuccess(GameIndex success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((GameIndex)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getGameIndex_result)
+        return this.equals((getGameIndex_result)that);
+      return false;
+    }
+
+    public boolean equals(getGameIndex_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(getGameIndex_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getGameIndex_result typedOther = (getGameIndex_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getGameIndex_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getGameIndex_resultStandardSchemeFactory implements SchemeFactory {
+      public getGameIndex_resultStandardScheme getScheme() {
+        return new getGameIndex_resultStandardScheme();
+      }
+    }
+
+    private static class getGameIndex_resultStandardScheme extends StandardScheme<getGameIndex_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getGameIndex_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new GameIndex();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getGameIndex_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getGameIndex_resultTupleSchemeFactory implements SchemeFactory {
+      public getGameIndex_resultTupleScheme getScheme() {
+        return new getGameIndex_resultTupleScheme();
+      }
+    }
+
+    private static class getGameIndex_resultTupleScheme extends TupleScheme<getGameIndex_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getGameIndex_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getGameIndex_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new GameIndex();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getGamesWithUpdates_args implements org.apache.thrift.TBase<getGamesWithUpdates_args, getGamesWithUpdates_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getGamesWithUpdates_args");
+
+    private static final org.apache.thrift.protocol.TField ACCESS_TOKEN_FIELD_DESC = new org.apache.thrift.protocol.TField("accessToken", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField TIMESTAMP_FIELD_DESC = new org.apache.thrift.protocol.TField("timestamp", org.apache.thrift.protocol.TType.I32, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getGamesWithUpdates_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getGamesWithUpdates_argsTupleSchemeFactory());
+    }
+
+    public String accessToken; // required
+    public int timestamp; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ACCESS_TOKEN((short)1, "accessToken"),
+      TIMESTAMP((short)2, "timestamp");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ACCESS_TOKEN
+            return ACCESS_TOKEN;
+          case 2: // TIMESTAMP
+            return TIMESTAMP;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __TIMESTAMP_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ACCESS_TOKEN, new org.apache.thrift.meta_data.FieldMetaData("accessToken", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.TIMESTAMP, new org.apache.thrift.meta_data.FieldMetaData("timestamp", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getGamesWithUpdates_args.class, metaDataMap);
+    }
+
+    public getGamesWithUpdates_args() {
+    }
+
+    public getGamesWithUpdates_args(
+      String accessToken,
+      int timestamp)
+    {
+      this();
+      this.accessToken = accessToken;
+      this.timestamp = timestamp;
+      setTimestampIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getGamesWithUpdates_args(getGamesWithUpdates_args other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      if (other.isSetAccessToken()) {
+        this.accessToken = other.accessToken;
+      }
+      this.timestamp = other.timestamp;
+    }
+
+    public getGamesWithUpdates_args deepCopy() {
+      return new getGamesWithUpdates_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.accessToken = null;
+      setTimestampIsSet(false);
+      this.timestamp = 0;
+    }
+
+    public String getAccessToken() {
+      return this.accessToken;
+    }
+
+    public getGamesWithUpdates_args setAccessToken(String accessToken) {
+      this.accessToken = accessToken;
+      return this;
+    }
+
+    public void unsetAccessToken() {
+      this.accessToken = null;
+    }
+
+    /** Returns true if field accessToken is set (has been assigned a value) and false otherwise */
+    public boolean isSetAccessToken() {
+      return this.accessToken != null;
+    }
+
+    public void setAccessTokenIsSet(boolean value) {
+      if (!value) {
+        this.accessToken = null;
+      }
+    }
+
+    public int getTimestamp() {
+      return this.timestamp;
+    }
+
+    public getGamesWithUpdates_args setTimestamp(int timestamp) {
+      this.timestamp = timestamp;
+      setTimestampIsSet(true);
+      return this;
+    }
+
+    public void unsetTimestamp() {
+      __isset_bit_vector.clear(__TIMESTAMP_ISSET_ID);
+    }
+
+    /** Returns true if field timestamp is set (has been assigned a value) and false otherwise */
+    public boolean isSetTimestamp() {
+      return __isset_bit_vector.get(__TIMESTAMP_ISSET_ID);
+    }
+
+    public void setTimestampIsSet(boolean value) {
+      __isset_bit_vector.set(__TIMESTAMP_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case ACCESS_TOKEN:
+        if (value == null) {
+          unsetAccessToken();
+        } else {
+          setAccessToken((String)value);
+        }
+        break;
+
+      case TIMESTAMP:
+        if (value == null) {
+          unsetTimestamp();
+        } else {
+          setTimestamp((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ACCESS_TOKEN:
+        return getAccessToken();
+
+      case TIMESTAMP:
+        return Integer.valueOf(getTimestamp());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ACCESS_TOKEN:
+        return isSetAccessToken();
+      case TIMESTAMP:
+        return isSetTimestamp();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getGamesWithUpdates_args)
+        return this.equals((getGamesWithUpdates_args)that);
+      return false;
+    }
+
+    public boolean equals(getGamesWithUpdates_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_accessToken = true && this.isSetAccessToken();
+      boolean that_present_accessToken = true && that.isSetAccessToken();
+      if (this_present_accessToken || that_present_accessToken) {
+        if (!(this_present_accessToken && that_present_accessToken))
+          return false;
+        if (!this.accessToken.equals(that.accessToken))
+          return false;
+      }
+
+      boolean this_present_timestamp = true;
+      boolean that_present_timestamp = true;
+      if (this_present_timestamp || that_present_timestamp) {
+        if (!(this_present_timestamp && that_present_timestamp))
+          return false;
+        if (this.timestamp != that.timestamp)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(getGamesWithUpdates_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getGamesWithUpdates_args typedOther = (getGamesWithUpdates_args)other;
+
+      lastComparison = Boolean.valueOf(isSetAccessToken()).compareTo(typedOther.isSetAccessToken());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAccessToken()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.accessToken, typedOther.accessToken);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTimestamp()).compareTo(typedOther.isSetTimestamp());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTimestamp()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timestamp, typedOther.timestamp);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getGamesWithUpdates_args(");
+      boolean first = true;
+
+      sb.append("accessToken:");
+      if (this.accessToken == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.accessToken);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("timestamp:");
+      sb.append(this.timestamp);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getGamesWithUpdates_argsStandardSchemeFactory implements SchemeFactory {
+      public getGamesWithUpdates_argsStandardScheme getScheme() {
+        return new getGamesWithUpdates_argsStandardScheme();
+      }
+    }
+
+    private static class getGamesWithUpdates_argsStandardScheme extends StandardScheme<getGamesWithUpdates_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getGamesWithUpdates_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ACCESS_TOKEN
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.accessToken = iprot.readString();
+                struct.setAccessTokenIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // TIMESTAMP
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.timestamp = iprot.readI32();
+                struct.setTimestampIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getGamesWithUpdates_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.accessToken != null) {
+          oprot.writeFieldBegin(ACCESS_TOKEN_FIELD_DESC);
+          oprot.writeString(struct.accessToken);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(TIMESTAMP_FIELD_DESC);
+        oprot.writeI32(struct.timestamp);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getGamesWithUpdates_argsTupleSchemeFactory implements SchemeFactory {
+      public getGamesWithUpdates_argsTupleScheme getScheme() {
+        return new getGamesWithUpdates_argsTupleScheme();
+      }
+    }
+
+    private static class getGamesWithUpdates_argsTupleScheme extends TupleScheme<getGamesWithUpdates_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getGamesWithUpdates_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetAccessToken()) {
+          optionals.set(0);
+        }
+        if (struct.isSetTimestamp()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetAccessToken()) {
+          oprot.writeString(struct.accessToken);
+        }
+        if (struct.isSetTimestamp()) {
+          oprot.writeI32(struct.timestamp);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getGamesWithUpdates_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.accessToken = iprot.readString();
+          struct.setAccessTokenIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.timestamp = iprot.readI32();
+          struct.setTimestampIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getGamesWithUpdates_result implements org.apache.thrift.TBase<getGamesWithUpdates_result, getGamesWithUpdates_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getGamesWithUpdates_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getGamesWithUpdates_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getGamesWithUpdates_resultTupleSchemeFactory());
+    }
+
+    public GameIndex success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GameIndex.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getGamesWithUpdates_result.class, metaDataMap);
+    }
+
+    public getGamesWithUpdates_result() {
+    }
+
+    public getGamesWithUpdates_result(
+      GameIndex success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getGamesWithUpdates_result(getGamesWithUpdates_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new GameIndex(other.success);
+      }
+    }
+
+    public getGamesWithUpdates_result deepCopy() {
+      return new getGamesWithUpdates_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public GameIndex getSuccess() {
+      return this.success;
+    }
+
+    public getGamesWithUpdates_result setSuccess(GameIndex success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((GameIndex)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getGamesWithUpdates_result)
+        return this.equals((getGamesWithUpdates_result)that);
+      return false;
+    }
+
+    public boolean equals(getGamesWithUpdates_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(getGamesWithUpdates_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getGamesWithUpdates_result typedOther = (getGamesWithUpdates_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getGamesWithUpdates_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getGamesWithUpdates_resultStandardSchemeFactory implements SchemeFactory {
+      public getGamesWithUpdates_resultStandardScheme getScheme() {
+        return new getGamesWithUpdates_resultStandardScheme();
+      }
+    }
+
+    private static class getGamesWithUpdates_resultStandardScheme extends StandardScheme<getGamesWithUpdates_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getGamesWithUpdates_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new GameIndex();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getGamesWithUpdates_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getGamesWithUpdates_resultTupleSchemeFactory implements SchemeFactory {
+      public getGamesWithUpdates_resultTupleScheme getScheme() {
+        return new getGamesWithUpdates_resultTupleScheme();
+      }
+    }
+
+    private static class getGamesWithUpdates_resultTupleScheme extends TupleScheme<getGamesWithUpdates_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getGamesWithUpdates_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getGamesWithUpdates_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new GameIndex();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getGameState_args implements org.apache.thrift.TBase<getGameState_args, getGameState_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getGameState_args");
+
+    private static final org.apache.thrift.protocol.TField ACCESS_TOKEN_FIELD_DESC = new org.apache.thrift.protocol.TField("accessToken", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField GAME_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("gameId", org.apache.thrift.protocol.TType.I64, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getGameState_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getGameState_argsTupleSchemeFactory());
+    }
+
+    public String accessToken; // required
+    public long gameId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ACCESS_TOKEN((short)1, "accessToken"),
+      GAME_ID((short)2, "gameId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ACCESS_TOKEN
+            return ACCESS_TOKEN;
+          case 2: // GAME_ID
+            return GAME_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __GAMEID_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ACCESS_TOKEN, new org.apache.thrift.meta_data.FieldMetaData("accessToken", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.GAME_ID, new org.apache.thrift.meta_data.FieldMetaData("gameId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getGameState_args.class, metaDataMap);
+    }
+
+    public getGameState_args() {
+    }
+
+    public getGameState_args(
+      String accessToken,
+      long gameId)
+    {
+      this();
+      this.accessToken = accessToken;
+      this.gameId = gameId;
+      setGameIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getGameState_args(getGameState_args other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      if (other.isSetAccessToken()) {
+        this.accessToken = other.accessToken;
+      }
+      this.gameId = other.gameId;
+    }
+
+    public getGameState_args deepCopy() {
+      return new getGameState_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.accessToken = null;
+      setGameIdIsSet(false);
+      this.gameId = 0;
+    }
+
+    public String getAccessToken() {
+      return this.accessToken;
+    }
+
+    public getGameState_args setAccessToken(String accessToken) {
+      this.accessToken = accessToken;
+      return this;
+    }
+
+    public void unsetAccessToken() {
+      this.accessToken = null;
+    }
+
+    /** Returns true if field accessToken is set (has been assigned a value) and false otherwise */
+    public boolean isSetAccessToken() {
+      return this.accessToken != null;
+    }
+
+    public void setAccessTokenIsSet(boolean value) {
+      if (!value) {
+        this.accessToken = null;
+      }
+    }
+
+    public long getGameId() {
+      return this.gameId;
+    }
+
+    public getGameState_args setGameId(long gameId) {
+      this.gameId = gameId;
+      setGameIdIsSet(true);
+      return this;
+    }
+
+    public void unsetGameId() {
+      __isset_bit_vector.clear(__GAMEID_ISSET_ID);
+    }
+
+    /** Returns true if field gameId is set (has been assigned a value) and false otherwise */
+    public boolean isSetGameId() {
+      return __isset_bit_vector.get(__GAMEID_ISSET_ID);
+    }
+
+    public void setGameIdIsSet(boolean value) {
+      __isset_bit_vector.set(__GAMEID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case ACCESS_TOKEN:
+        if (value == null) {
+          unsetAccessToken();
+        } else {
+          setAccessToken((String)value);
+        }
+        break;
+
+      case GAME_ID:
+        if (value == null) {
+          unsetGameId();
+        } else {
+          setGameId((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ACCESS_TOKEN:
+        return getAccessToken();
+
+      case GAME_ID:
+        return Long.valueOf(getGameId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ACCESS_TOKEN:
+        return isSetAccessToken();
+      case GAME_ID:
+        return isSetGameId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getGameState_args)
+        return this.equals((getGameState_args)that);
+      return false;
+    }
+
+    public boolean equals(getGameState_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_accessToken = true && this.isSetAccessToken();
+      boolean that_present_accessToken = true && that.isSetAccessToken();
+      if (this_present_accessToken || that_present_accessToken) {
+        if (!(this_present_accessToken && that_present_accessToken))
+          return false;
+        if (!this.accessToken.equals(that.accessToken))
+          return false;
+      }
+
+      boolean this_present_gameId = true;
+      boolean that_present_gameId = true;
+      if (this_present_gameId || that_present_gameId) {
+        if (!(this_present_gameId && that_present_gameId))
+          return false;
+        if (this.gameId != that.gameId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(getGameState_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getGameState_args typedOther = (getGameState_args)other;
+
+      lastComparison = Boolean.valueOf(isSetAccessToken()).compareTo(typedOther.isSetAccessToken());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAccessToken()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.accessToken, typedOther.accessToken);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetGameId()).compareTo(typedOther.isSetGameId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetGameId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.gameId, typedOther.gameId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getGameState_args(");
+      boolean first = true;
+
+      sb.append("accessToken:");
+      if (this.accessToken == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.accessToken);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("gameId:");
+      sb.append(this.gameId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getGameState_argsStandardSchemeFactory implements SchemeFactory {
+      public getGameState_argsStandardScheme getScheme() {
+        return new getGameState_argsStandardScheme();
+      }
+    }
+
+    private static class getGameState_argsStandardScheme extends StandardScheme<getGameState_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getGameState_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ACCESS_TOKEN
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.accessToken = iprot.readString();
+                struct.setAccessTokenIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // GAME_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.gameId = iprot.readI64();
+                struct.setGameIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getGameState_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.accessToken != null) {
+          oprot.writeFieldBegin(ACCESS_TOKEN_FIELD_DESC);
+          oprot.writeString(struct.accessToken);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(GAME_ID_FIELD_DESC);
+        oprot.writeI64(struct.gameId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getGameState_argsTupleSchemeFactory implements SchemeFactory {
+      public getGameState_argsTupleScheme getScheme() {
+        return new getGameState_argsTupleScheme();
+      }
+    }
+
+    private static class getGameState_argsTupleScheme extends TupleScheme<getGameState_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getGameState_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetAccessToken()) {
+          optionals.set(0);
+        }
+        if (struct.isSetGameId()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetAccessToken()) {
+          oprot.writeString(struct.accessToken);
+        }
+        if (struct.isSetGameId()) {
+          oprot.writeI64(struct.gameId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getGameState_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.accessToken = iprot.readString();
+          struct.setAccessTokenIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.gameId = iprot.readI64();
+          struct.setGameIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getGameState_result implements org.apache.thrift.TBase<getGameState_result, getGameState_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getGameState_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getGameState_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getGameState_resultTupleSchemeFactory());
+    }
+
+    public GameState success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GameState.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getGameState_result.class, metaDataMap);
+    }
+
+    public getGameState_result() {
+    }
+
+    public getGameState_result(
+      GameState success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getGameState_result(getGameState_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new GameState(other.success);
+      }
+    }
+
+    public getGameState_result deepCopy() {
+      return new getGameState_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public GameState getSuccess() {
+      return this.success;
+    }
+
+    public getGameState_result setSuccess(GameState success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((GameState)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getGameState_result)
+        return this.equals((getGameState_result)that);
+      return false;
+    }
+
+    public boolean equals(getGameState_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(getGameState_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getGameState_result typedOther = (getGameState_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getGameState_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getGameState_resultStandardSchemeFactory implements SchemeFactory {
+      public getGameState_resultStandardScheme getScheme() {
+        return new getGameState_resultStandardScheme();
+      }
+    }
+
+    private static class getGameState_resultStandardScheme extends StandardScheme<getGameState_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getGameState_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new GameState();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getGameState_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getGameState_resultTupleSchemeFactory implements SchemeFactory {
+      public getGameState_resultTupleScheme getScheme() {
+        return new getGameState_resultTupleScheme();
+      }
+    }
+
+    private static class getGameState_resultTupleScheme extends TupleScheme<getGameState_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getGameState_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getGameState_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new GameState();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class makeMove_args implements org.apache.thrift.TBase<makeMove_args, makeMove_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("makeMove_args");
+
+    private static final org.apache.thrift.protocol.TField ACCESS_TOKEN_FIELD_DESC = new org.apache.thrift.protocol.TField("accessToken", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CURRENT_STATE_FIELD_DESC = new org.apache.thrift.protocol.TField("currentState", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField MOVE_FIELD_DESC = new org.apache.thrift.protocol.TField("move", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new makeMove_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new makeMove_argsTupleSchemeFactory());
+    }
+
+    public String accessToken; // required
+    public GameState currentState; // required
+    public MoveSubmission move; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ACCESS_TOKEN((short)1, "accessToken"),
+      CURRENT_STATE((short)2, "currentState"),
+      MOVE((short)3, "move");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ACCESS_TOKEN
+            return ACCESS_TOKEN;
+          case 2: // CURRENT_STATE
+            return CURRENT_STATE;
+          case 3: // MOVE
+            return MOVE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ACCESS_TOKEN, new org.apache.thrift.meta_data.FieldMetaData("accessToken", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CURRENT_STATE, new org.apache.thrift.meta_data.FieldMetaData("currentState", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GameState.class)));
+      tmpMap.put(_Fields.MOVE, new org.apache.thrift.meta_data.FieldMetaData("move", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, MoveSubmission.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(makeMove_args.class, metaDataMap);
+    }
+
+    public makeMove_args() {
+    }
+
+    public makeMove_args(
+      String accessToken,
+      GameState currentState,
+      MoveSubmission move)
+    {
+      this();
+      this.accessToken = accessToken;
+      this.currentState = currentState;
+      this.move = move;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public makeMove_args(makeMove_args other) {
+      if (other.isSetAccessToken()) {
+        this.accessToken = other.accessToken;
+      }
+      if (other.isSetCurrentState()) {
+        this.currentState = new GameState(other.currentState);
+      }
+      if (other.isSetMove()) {
+        this.move = new MoveSubmission(other.move);
+      }
+    }
+
+    public makeMove_args deepCopy() {
+      return new makeMove_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.accessToken = null;
+      this.currentState = null;
+      this.move = null;
+    }
+
+    public String getAccessToken() {
+      return this.accessToken;
+    }
+
+    public makeMove_args setAccessToken(String accessToken) {
+      this.accessToken = accessToken;
+      return this;
+    }
+
+    public void unsetAccessToken() {
+      this.accessToken = null;
+    }
+
+    /** Returns true if field accessToken is set (has been assigned a value) and false otherwise */
+    public boolean isSetAccessToken() {
+      return this.accessToken != null;
+    }
+
+    public void setAccessTokenIsSet(boolean value) {
+      if (!value) {
+        this.accessToken = null;
+      }
+    }
+
+    public GameState getCurrentState() {
+      return this.currentState;
+    }
+
+    public makeMove_args setCurrentState(GameState currentState) {
+      this.currentState = currentState;
+      return this;
+    }
+
+    public void unsetCurrentState() {
+      this.currentState = null;
+    }
+
+    /** Returns true if field currentState is set (has been assigned a value) and false otherwise */
+    public boolean isSetCurrentState() {
+      return this.currentState != null;
+    }
+
+    public void setCurrentStateIsSet(boolean value) {
+      if (!value) {
+        this.currentState = null;
+      }
+    }
+
+    public MoveSubmission getMove() {
+      return this.move;
+    }
+
+    public makeMove_args setMove(MoveSubmission move) {
+      this.move = move;
+      return this;
+    }
+
+    public void unsetMove() {
+      this.move = null;
+    }
+
+    /** Returns true if field move is set (has been assigned a value) and false otherwise */
+    public boolean isSetMove() {
+      return this.move != null;
+    }
+
+    public void setMoveIsSet(boolean value) {
+      if (!value) {
+        this.move = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case ACCESS_TOKEN:
+        if (value == null) {
+          unsetAccessToken();
+        } else {
+          setAccessToken((String)value);
+        }
+        break;
+
+      case CURRENT_STATE:
+        if (value == null) {
+          unsetCurrentState();
+        } else {
+          setCurrentState((GameState)value);
+        }
+        break;
+
+      case MOVE:
+        if (value == null) {
+          unsetMove();
+        } else {
+          setMove((MoveSubmission)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ACCESS_TOKEN:
+        return getAccessToken();
+
+      case CURRENT_STATE:
+        return getCurrentState();
+
+      case MOVE:
+        return getMove();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ACCESS_TOKEN:
+        return isSetAccessToken();
+      case CURRENT_STATE:
+        return isSetCurrentState();
+      case MOVE:
+        return isSetMove();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof makeMove_args)
+        return this.equals((makeMove_args)that);
+      return false;
+    }
+
+    public boolean equals(makeMove_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_accessToken = true && this.isSetAccessToken();
+      boolean that_present_accessToken = true && that.isSetAccessToken();
+      if (this_present_accessToken || that_present_accessToken) {
+        if (!(this_present_accessToken && that_present_accessToken))
+          return false;
+        if (!this.accessToken.equals(that.accessToken))
+          return false;
+      }
+
+      boolean this_present_currentState = true && this.isSetCurrentState();
+      boolean that_present_currentState = true && that.isSetCurrentState();
+      if (this_present_currentState || that_present_currentState) {
+        if (!(this_present_currentState && that_present_currentState))
+          return false;
+        if (!this.currentState.equals(that.currentState))
+          return false;
+      }
+
+      boolean this_present_move = true && this.isSetMove();
+      boolean that_present_move = true && that.isSetMove();
+      if (this_present_move || that_present_move) {
+        if (!(this_present_move && that_present_move))
+          return false;
+        if (!this.move.equals(that.move))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(makeMove_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      makeMove_args typedOther = (makeMove_args)other;
+
+      lastComparison = Boolean.valueOf(isSetAccessToken()).compareTo(typedOther.isSetAccessToken());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAccessToken()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.accessToken, typedOther.accessToken);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetCurrentState()).compareTo(typedOther.isSetCurrentState());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCurrentState()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.currentState, typedOther.currentState);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetMove()).compareTo(typedOther.isSetMove());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetMove()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.move, typedOther.move);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("makeMove_args(");
+      boolean first = true;
+
+      sb.append("accessToken:");
+      if (this.accessToken == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.accessToken);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("currentState:");
+      if (this.currentState == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.currentState);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("move:");
+      if (this.move == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.move);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class makeMove_argsStandardSchemeFactory implements SchemeFactory {
+      public makeMove_argsStandardScheme getScheme() {
+        return new makeMove_argsStandardScheme();
+      }
+    }
+
+    private static class makeMove_argsStandardScheme extends StandardScheme<makeMove_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, makeMove_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ACCESS_TOKEN
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.accessToken = iprot.readString();
+                struct.setAccessTokenIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CURRENT_STATE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.currentState = new GameState();
+                struct.currentState.read(iprot);
+                struct.setCurrentStateIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // MOVE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.move = new MoveSubmission();
+                struct.move.read(iprot);
+                struct.setMoveIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, makeMove_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.accessToken != null) {
+          oprot.writeFieldBegin(ACCESS_TOKEN_FIELD_DESC);
+          oprot.writeString(struct.accessToken);
+          oprot.writeFieldEnd();
+        }
+        if (struct.currentState != null) {
+          oprot.writeFieldBegin(CURRENT_STATE_FIELD_DESC);
+          struct.currentState.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.move != null) {
+          oprot.writeFieldBegin(MOVE_FIELD_DESC);
+          struct.move.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class makeMove_argsTupleSchemeFactory implements SchemeFactory {
+      public makeMove_argsTupleScheme getScheme() {
+        return new makeMove_argsTupleScheme();
+      }
+    }
+
+    private static class makeMove_argsTupleScheme extends TupleScheme<makeMove_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, makeMove_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetAccessToken()) {
+          optionals.set(0);
+        }
+        if (struct.isSetCurrentState()) {
+          optionals.set(1);
+        }
+        if (struct.isSetMove()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetAccessToken()) {
+          oprot.writeString(struct.accessToken);
+        }
+        if (struct.isSetCurrentState()) {
+          struct.currentState.write(oprot);
+        }
+        if (struct.isSetMove()) {
+          struct.move.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, makeMove_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.accessToken = iprot.readString();
+          struct.setAccessTokenIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.currentState = new GameState();
+          struct.currentState.read(iprot);
+          struct.setCurrentStateIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.move = new MoveSubmission();
+          struct.move.read(iprot);
+          struct.setMoveIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class makeMove_result implements org.apache.thrift.TBase<makeMove_result, makeMove_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("makeMove_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new makeMove_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new makeMove_resultTupleSchemeFactory());
+    }
+
+    public GameState success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GameState.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(makeMove_result.class, metaDataMap);
+    }
+
+    public makeMove_result() {
+    }
+
+    public makeMove_result(
+      GameState success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public makeMove_result(makeMove_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new GameState(other.success);
+      }
+    }
+
+    public makeMove_result deepCopy() {
+      return new makeMove_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public GameState getSuccess() {
+      return this.success;
+    }
+
+    public makeMove_result setSuccess(GameState success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((GameState)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof makeMove_result)
+        return this.equals((makeMove_result)that);
+      return false;
+    }
+
+    public boolean equals(makeMove_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(makeMove_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      makeMove_result typedOther = (makeMove_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("makeMove_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class makeMove_resultStandardSchemeFactory implements SchemeFactory {
+      public makeMove_resultStandardScheme getScheme() {
+        return new makeMove_resultStandardScheme();
+      }
+    }
+
+    private static class makeMove_resultStandardScheme extends StandardScheme<makeMove_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, makeMove_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new GameState();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, makeMove_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class makeMove_resultTupleSchemeFactory implements SchemeFactory {
+      public makeMove_resultTupleScheme getScheme() {
+        return new makeMove_resultTupleScheme();
+      }
+    }
+
+    private static class makeMove_resultTupleScheme extends TupleScheme<makeMove_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, makeMove_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, makeMove_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new GameState();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class createMatchmakingGame_args implements org.apache.thrift.TBase<createMatchmakingGame_args, createMatchmakingGame_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createMatchmakingGame_args");
+
+    private static final org.apache.thrift.protocol.TField ACCESS_TOKEN_FIELD_DESC = new org.apache.thrift.protocol.TField("accessToken", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PARAMS_FIELD_DESC = new org.apache.thrift.protocol.TField("params", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new createMatchmakingGame_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createMatchmakingGame_argsTupleSchemeFactory());
+    }
+
+    public String accessToken; // required
+    public NewGameParams params; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ACCESS_TOKEN((short)1, "accessToken"),
+      PARAMS((short)2, "params");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ACCESS_TOKEN
+            return ACCESS_TOKEN;
+          case 2: // PARAMS
+            return PARAMS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ACCESS_TOKEN, new org.apache.thrift.meta_data.FieldMetaData("accessToken", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PARAMS, new org.apache.thrift.meta_data.FieldMetaData("params", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, NewGameParams.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createMatchmakingGame_args.class, metaDataMap);
+    }
+
+    public createMatchmakingGame_args() {
+    }
+
+    public createMatchmakingGame_args(
+      String accessToken,
+      NewGameParams params)
+    {
+      this();
+      this.accessToken = accessToken;
+      this.params = params;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createMatchmakingGame_args(createMatchmakingGame_args other) {
+      if (other.isSetAccessToken()) {
+        this.accessToken = other.accessToken;
+      }
+      if (other.isSetParams()) {
+        this.params = new NewGameParams(other.params);
+      }
+    }
+
+    public createMatchmakingGame_args deepCopy() {
+      return new createMatchmakingGame_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.accessToken = null;
+      this.params = null;
+    }
+
+    public String getAccessToken() {
+      return this.accessToken;
+    }
+
+    public createMatchmakingGame_args setAccessToken(String accessToken) {
+      this.accessToken = accessToken;
+      return this;
+    }
+
+    public void unsetAccessToken() {
+      this.accessToken = null;
+    }
+
+    /** Returns true if field accessToken is set (has been assigned a value) and false otherwise */
+    public boolean isSetAccessToken() {
+      return this.accessToken != null;
+    }
+
+    public void setAccessTokenIsSet(boolean value) {
+      if (!value) {
+        this.accessToken = null;
+      }
+    }
+
+    public NewGameParams getParams() {
+      return this.params;
+    }
+
+    public createMatchmakingGame_args setParams(NewGameParams params) {
+      this.params = params;
+      return this;
+    }
+
+    public void unsetParams() {
+      this.params = null;
+    }
+
+    /** Returns true if field params is set (has been assigned a value) and false otherwise */
+    public boolean isSetParams() {
+      return this.params != null;
+    }
+
+    public void setParamsIsSet(boolean value) {
+      if (!value) {
+        this.params = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case ACCESS_TOKEN:
+        if (value == null) {
+          unsetAccessToken();
+        } else {
+          setAccessToken((String)value);
+        }
+        break;
+
+      case PARAMS:
+        if (value == null) {
+          unsetParams();
+        } else {
+          setParams((NewGameParams)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ACCESS_TOKEN:
+        return getAccessToken();
+
+      case PARAMS:
+        return getParams();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ACCESS_TOKEN:
+        return isSetAccessToken();
+      case PARAMS:
+        return isSetParams();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof createMatchmakingGame_args)
+        return this.equals((createMatchmakingGame_args)that);
+      return false;
+    }
+
+    public boolean equals(createMatchmakingGame_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_accessToken = true && this.isSetAccessToken();
+      boolean that_present_accessToken = true && that.isSetAccessToken();
+      if (this_present_accessToken || that_present_accessToken) {
+        if (!(this_present_accessToken && that_present_accessToken))
+          return false;
+        if (!this.accessToken.equals(that.accessToken))
+          return false;
+      }
+
+      boolean this_present_params = true && this.isSetParams();
+      boolean that_present_params = true && that.isSetParams();
+      if (this_present_params || that_present_params) {
+        if (!(this_present_params && that_present_params))
+          return false;
+        if (!this.params.equals(that.params))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(createMatchmakingGame_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      createMatchmakingGame_args typedOther = (createMatchmakingGame_args)other;
+
+      lastComparison = Boolean.valueOf(isSetAccessToken()).compareTo(typedOther.isSetAccessToken());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAccessToken()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.accessToken, typedOther.accessToken);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetParams()).compareTo(typedOther.isSetParams());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetParams()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.params, typedOther.params);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("createMatchmakingGame_args(");
+      boolean first = true;
+
+      sb.append("accessToken:");
+      if (this.accessToken == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.accessToken);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("params:");
+      if (this.params == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.params);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createMatchmakingGame_argsStandardSchemeFactory implements SchemeFactory {
+      public createMatchmakingGame_argsStandardScheme getScheme() {
+        return new createMatchmakingGame_argsStandardScheme();
+      }
+    }
+
+    private static class createMatchmakingGame_argsStandardScheme extends StandardScheme<createMatchmakingGame_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createMatchmakingGame_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ACCESS_TOKEN
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.accessToken = iprot.readString();
+                struct.setAccessTokenIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PARAMS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.params = new NewGameParams();
+                struct.params.read(iprot);
+                struct.setParamsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createMatchmakingGame_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.accessToken != null) {
+          oprot.writeFieldBegin(ACCESS_TOKEN_FIELD_DESC);
+          oprot.writeString(struct.accessToken);
+          oprot.writeFieldEnd();
+        }
+        if (struct.params != null) {
+          oprot.writeFieldBegin(PARAMS_FIELD_DESC);
+          struct.params.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createMatchmakingGame_argsTupleSchemeFactory implements SchemeFactory {
+      public createMatchmakingGame_argsTupleScheme getScheme() {
+        return new createMatchmakingGame_argsTupleScheme();
+      }
+    }
+
+    private static class createMatchmakingGame_argsTupleScheme extends TupleScheme<createMatchmakingGame_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createMatchmakingGame_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetAccessToken()) {
+          optionals.set(0);
+        }
+        if (struct.isSetParams()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetAccessToken()) {
+          oprot.writeString(struct.accessToken);
+        }
+        if (struct.isSetParams()) {
+          struct.params.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createMatchmakingGame_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.accessToken = iprot.readString();
+          struct.setAccessTokenIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.params = new NewGameParams();
+          struct.params.read(iprot);
+          struct.setParamsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class createMatchmakingGame_result implements org.apache.thrift.TBase<createMatchmakingGame_result, createMatchmakingGame_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createMatchmakingGame_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new createMatchmakingGame_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createMatchmakingGame_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createMatchmakingGame_result.class, metaDataMap);
+    }
+
+    public createMatchmakingGame_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createMatchmakingGame_result(createMatchmakingGame_result other) {
+    }
+
+    public createMatchmakingGame_result deepCopy() {
+      return new createMatchmakingGame_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof createMatchmakingGame_result)
+        return this.equals((createMatchmakingGame_result)that);
+      return false;
+    }
+
+    public boolean equals(createMatchmakingGame_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(createMatchmakingGame_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      createMatchmakingGame_result typedOther = (createMatchmakingGame_result)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("createMatchmakingGame_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createMatchmakingGame_resultStandardSchemeFactory implements SchemeFactory {
+      public createMatchmakingGame_resultStandardScheme getScheme() {
+        return new createMatchmakingGame_resultStandardScheme();
+      }
+    }
+
+    private static class createMatchmakingGame_resultStandardScheme extends StandardScheme<createMatchmakingGame_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createMatchmakingGame_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createMatchmakingGame_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createMatchmakingGame_resultTupleSchemeFactory implements SchemeFactory {
+      public createMatchmakingGame_resultTupleScheme getScheme() {
+        return new createMatchmakingGame_resultTupleScheme();
+      }
+    }
+
+    private static class createMatchmakingGame_resultTupleScheme extends TupleScheme<createMatchmakingGame_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createMatchmakingGame_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createMatchmakingGame_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class sendChatMessage_args implements org.apache.thrift.TBase<sendChatMessage_args, sendChatMessage_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendChatMessage_args");
+
+    private static final org.apache.thrift.protocol.TField ACCESS_TOKEN_FIELD_DESC = new org.apache.thrift.protocol.TField("accessToken", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField GAME_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("gameId", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField MESSAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("message", org.apache.thrift.protocol.TType.STRING, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new sendChatMessage_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new sendChatMessage_argsTupleSchemeFactory());
+    }
+
+    public String accessToken; // required
+    public long gameId; // required
+    public String message; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ACCESS_TOKEN((short)1, "accessToken"),
+      GAME_ID((short)2, "gameId"),
+      MESSAGE((short)3, "message");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ACCESS_TOKEN
+            return ACCESS_TOKEN;
+          case 2: // GAME_ID
+            return GAME_ID;
+          case 3: // MESSAGE
+            return MESSAGE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __GAMEID_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ACCESS_TOKEN, new org.apache.thrift.meta_data.FieldMetaData("accessToken", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.GAME_ID, new org.apache.thrift.meta_data.FieldMetaData("gameId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.MESSAGE, new org.apache.thrift.meta_data.FieldMetaData("message", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendChatMessage_args.class, metaDataMap);
+    }
+
+    public sendChatMessage_args() {
+    }
+
+    public sendChatMessage_args(
+      String accessToken,
+      long gameId,
+      String message)
+    {
+      this();
+      this.accessToken = accessToken;
+      this.gameId = gameId;
+      setGameIdIsSet(true);
+      this.message = message;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public sendChatMessage_args(sendChatMessage_args other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      if (other.isSetAccessToken()) {
+        this.accessToken = other.accessToken;
+      }
+      this.gameId = other.gameId;
+      if (other.isSetMessage()) {
+        this.message = other.message;
+      }
+    }
+
+    public sendChatMessage_args deepCopy() {
+      return new sendChatMessage_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.accessToken = null;
+      setGameIdIsSet(false);
+      this.gameId = 0;
+      this.message = null;
+    }
+
+    public String getAccessToken() {
+      return this.accessToken;
+    }
+
+    public sendChatMessage_args setAccessToken(String accessToken) {
+      this.accessToken = accessToken;
+      return this;
+    }
+
+    public void unsetAccessToken() {
+      this.accessToken = null;
+    }
+
+    /** Returns true if field accessToken is set (has been assigned a value) and false otherwise */
+    public boolean isSetAccessToken() {
+      return this.accessToken != null;
+    }
+
+    public void setAccessTokenIsSet(boolean value) {
+      if (!value) {
+        this.accessToken = null;
+      }
+    }
+
+    public long getGameId() {
+      return this.gameId;
+    }
+
+    public sendChatMessage_args setGameId(long gameId) {
+      this.gameId = gameId;
+      setGameIdIsSet(true);
+      return this;
+    }
+
+    public void unsetGameId() {
+      __isset_bit_vector.clear(__GAMEID_ISSET_ID);
+    }
+
+    /** Returns true if field gameId is set (has been assigned a value) and false otherwise */
+    public boolean isSetGameId() {
+      return __isset_bit_vector.get(__GAMEID_ISSET_ID);
+    }
+
+    public void setGameIdIsSet(boolean value) {
+      __isset_bit_vector.set(__GAMEID_ISSET_ID, value);
+    }
+
+    public String getMessage() {
+      return this.message;
+    }
+
+    public sendChatMessage_args setMessage(String message) {
+      this.message = message;
+      return this;
+    }
+
+    public void unsetMessage() {
+      this.message = null;
+    }
+
+    /** Returns true if field message is set (has been assigned a value) and false otherwise */
+    public boolean isSetMessage() {
+      return this.message != null;
+    }
+
+    public void setMessageIsSet(boolean value) {
+      if (!value) {
+        this.message = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case ACCESS_TOKEN:
+        if (value == null) {
+          unsetAccessToken();
+        } else {
+          setAccessToken((String)value);
+        }
+        break;
+
+      case GAME_ID:
+        if (value == null) {
+          unsetGameId();
+        } else {
+          setGameId((Long)value);
+        }
+        break;
+
+      case MESSAGE:
+        if (value == null) {
+          unsetMessage();
+        } else {
+          setMessage((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ACCESS_TOKEN:
+        return getAccessToken();
+
+      case GAME_ID:
+        return Long.valueOf(getGameId());
+
+      case MESSAGE:
+        return getMessage();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ACCESS_TOKEN:
+        return isSetAccessToken();
+      case GAME_ID:
+        return isSetGameId();
+      case MESSAGE:
+        return isSetMessage();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof sendChatMessage_args)
+        return this.equals((sendChatMessage_args)that);
+      return false;
+    }
+
+    public boolean equals(sendChatMessage_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_accessToken = true && this.isSetAccessToken();
+      boolean that_present_accessToken = true && that.isSetAccessToken();
+      if (this_present_accessToken || that_present_accessToken) {
+        if (!(this_present_accessToken && that_present_accessToken))
+          return false;
+        if (!this.accessToken.equals(that.accessToken))
+          return false;
+      }
+
+      boolean this_present_gameId = true;
+      boolean that_present_gameId = true;
+      if (this_present_gameId || that_present_gameId) {
+        if (!(this_present_gameId && that_present_gameId))
+          return false;
+        if (this.gameId != that.gameId)
+          return false;
+      }
+
+      boolean this_present_message = true && this.isSetMessage();
+      boolean that_present_message = true && that.isSetMessage();
+      if (this_present_message || that_present_message) {
+        if (!(this_present_message && that_present_message))
+          return false;
+        if (!this.message.equals(that.message))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(sendChatMessage_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      sendChatMessage_args typedOther = (sendChatMessage_args)other;
+
+      lastComparison = Boolean.valueOf(isSetAccessToken()).compareTo(typedOther.isSetAccessToken());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAccessToken()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.accessToken, typedOther.accessToken);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetGameId()).compareTo(typedOther.isSetGameId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetGameId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.gameId, typedOther.gameId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetMessage()).compareTo(typedOther.isSetMessage());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetMessage()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.message, typedOther.message);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("sendChatMessage_args(");
+      boolean first = true;
+
+      sb.append("accessToken:");
+      if (this.accessToken == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.accessToken);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("gameId:");
+      sb.append(this.gameId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("message:");
+      if (this.message == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.message);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class sendChatMessage_argsStandardSchemeFactory implements SchemeFactory {
+      public sendChatMessage_argsStandardScheme getScheme() {
+        return new sendChatMessage_argsStandardScheme();
+      }
+    }
+
+    private static class sendChatMessage_argsStandardScheme extends StandardScheme<sendChatMessage_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, sendChatMessage_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ACCESS_TOKEN
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.accessToken = iprot.readString();
+                struct.setAccessTokenIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // GAME_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.gameId = iprot.readI64();
+                struct.setGameIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // MESSAGE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.message = iprot.readString();
+                struct.setMessageIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, sendChatMessage_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.accessToken != null) {
+          oprot.writeFieldBegin(ACCESS_TOKEN_FIELD_DESC);
+          oprot.writeString(struct.accessToken);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(GAME_ID_FIELD_DESC);
+        oprot.writeI64(struct.gameId);
+        oprot.writeFieldEnd();
+        if (struct.message != null) {
+          oprot.writeFieldBegin(MESSAGE_FIELD_DESC);
+          oprot.writeString(struct.message);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class sendChatMessage_argsTupleSchemeFactory implements SchemeFactory {
+      public sendChatMessage_argsTupleScheme getScheme() {
+        return new sendChatMessage_argsTupleScheme();
+      }
+    }
+
+    private static class sendChatMessage_argsTupleScheme extends TupleScheme<sendChatMessage_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, sendChatMessage_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetAccessToken()) {
+          optionals.set(0);
+        }
+        if (struct.isSetGameId()) {
+          optionals.set(1);
+        }
+        if (struct.isSetMessage()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetAccessToken()) {
+          oprot.writeString(struct.accessToken);
+        }
+        if (struct.isSetGameId()) {
+          oprot.writeI64(struct.gameId);
+        }
+        if (struct.isSetMessage()) {
+          oprot.writeString(struct.message);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, sendChatMessage_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.accessToken = iprot.readString();
+          struct.setAccessTokenIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.gameId = iprot.readI64();
+          struct.setGameIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.message = iprot.readString();
+          struct.setMessageIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class sendChatMessage_result implements org.apache.thrift.TBase<sendChatMessage_result, sendChatMessage_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendChatMessage_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new sendChatMessage_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new sendChatMessage_resultTupleSchemeFactory());
+    }
+
+    public ChatMessage success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ChatMessage.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendChatMessage_result.class, metaDataMap);
+    }
+
+    public sendChatMessage_result() {
+    }
+
+    public sendChatMessage_result(
+      ChatMessage success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public sendChatMessage_result(sendChatMessage_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new ChatMessage(other.success);
+      }
+    }
+
+    public sendChatMessage_result deepCopy() {
+      return new sendChatMessage_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public ChatMessage getSuccess() {
+      return this.success;
+    }
+
+    public sendChatMessage_result setSuccess(ChatMessage success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((ChatMessage)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof sendChatMessage_result)
+        return this.equals((sendChatMessage_result)that);
+      return false;
+    }
+
+    public boolean equals(sendChatMessage_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(sendChatMessage_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      sendChatMessage_result typedOther = (sendChatMessage_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("sendChatMessage_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class sendChatMessage_resultStandardSchemeFactory implements SchemeFactory {
+      public sendChatMessage_resultStandardScheme getScheme() {
+        return new sendChatMessage_resultStandardScheme();
+      }
+    }
+
+    private static class sendChatMessage_resultStandardScheme extends StandardScheme<sendChatMessage_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, sendChatMessage_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new ChatMessage();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, sendChatMessage_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class sendChatMessage_resultTupleSchemeFactory implements SchemeFactory {
+      public sendChatMessage_resultTupleScheme getScheme() {
+        return new sendChatMessage_resultTupleScheme();
+      }
+    }
+
+    private static class sendChatMessage_resultTupleScheme extends TupleScheme<sendChatMessage_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, sendChatMessage_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, sendChatMessage_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new ChatMessage();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getUnseenChats_args implements org.apache.thrift.TBase<getUnseenChats_args, getUnseenChats_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUnseenChats_args");
+
+    private static final org.apache.thrift.protocol.TField ACCESS_TOKEN_FIELD_DESC = new org.apache.thrift.protocol.TField("accessToken", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField GAME_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("gameId", org.apache.thrift.protocol.TType.I64, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getUnseenChats_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getUnseenChats_argsTupleSchemeFactory());
+    }
+
+    public String accessToken; // required
+    public long gameId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ACCESS_TOKEN((short)1, "accessToken"),
+      GAME_ID((short)2, "gameId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ACCESS_TOKEN
+            return ACCESS_TOKEN;
+          case 2: // GAME_ID
+            return GAME_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __GAMEID_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ACCESS_TOKEN, new org.apache.thrift.meta_data.FieldMetaData("accessToken", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.GAME_ID, new org.apache.thrift.meta_data.FieldMetaData("gameId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUnseenChats_args.class, metaDataMap);
+    }
+
+    public getUnseenChats_args() {
+    }
+
+    public getUnseenChats_args(
+      String accessToken,
+      long gameId)
+    {
+      this();
+      this.accessToken = accessToken;
+      this.gameId = gameId;
+      setGameIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getUnseenChats_args(getUnseenChats_args other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      if (other.isSetAccessToken()) {
+        this.accessToken = other.accessToken;
+      }
+      this.gameId = other.gameId;
+    }
+
+    public getUnseenChats_args deepCopy() {
+      return new getUnseenChats_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.accessToken = null;
+      setGameIdIsSet(false);
+      this.gameId = 0;
+    }
+
+    public String getAccessToken() {
+      return this.accessToken;
+    }
+
+    public getUnseenChats_args setAccessToken(String accessToken) {
+      this.accessToken = accessToken;
+      return this;
+    }
+
+    public void unsetAccessToken() {
+      this.accessToken = null;
+    }
+
+    /** Returns true if field accessToken is set (has been assigned a value) and false otherwise */
+    public boolean isSetAccessToken() {
+      return this.accessToken != null;
+    }
+
+    public void setAccessTokenIsSet(boolean value) {
+      if (!value) {
+        this.accessToken = null;
+      }
+    }
+
+    public long getGameId() {
+      return this.gameId;
+    }
+
+    public getUnseenChats_args setGameId(long gameId) {
+      this.gameId = gameId;
+      setGameIdIsSet(true);
+      return this;
+    }
+
+    public void unsetGameId() {
+      __isset_bit_vector.clear(__GAMEID_ISSET_ID);
+    }
+
+    /** Returns true if field gameId is set (has been assigned a value) and false otherwise */
+    public boolean isSetGameId() {
+      return __isset_bit_vector.get(__GAMEID_ISSET_ID);
+    }
+
+    public void setGameIdIsSet(boolean value) {
+      __isset_bit_vector.set(__GAMEID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case ACCESS_TOKEN:
+        if (value == null) {
+          unsetAccessToken();
+        } else {
+          setAccessToken((String)value);
+        }
+        break;
+
+      case GAME_ID:
+        if (value == null) {
+          unsetGameId();
+        } else {
+          setGameId((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ACCESS_TOKEN:
+        return getAccessToken();
+
+      case GAME_ID:
+        return Long.valueOf(getGameId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ACCESS_TOKEN:
+        return isSetAccessToken();
+      case GAME_ID:
+        return isSetGameId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getUnseenChats_args)
+        return this.equals((getUnseenChats_args)that);
+      return false;
+    }
+
+    public boolean equals(getUnseenChats_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_accessToken = true && this.isSetAccessToken();
+      boolean that_present_accessToken = true && that.isSetAccessToken();
+      if (this_present_accessToken || that_present_accessToken) {
+        if (!(this_present_accessToken && that_present_accessToken))
+          return false;
+        if (!this.accessToken.equals(that.accessToken))
+          return false;
+      }
+
+      boolean this_present_gameId = true;
+      boolean that_present_gameId = true;
+      if (this_present_gameId || that_present_gameId) {
+        if (!(this_present_gameId && that_present_gameId))
+          return false;
+        if (this.gameId != that.gameId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(getUnseenChats_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getUnseenChats_args typedOther = (getUnseenChats_args)other;
+
+      lastComparison = Boolean.valueOf(isSetAccessToken()).compareTo(typedOther.isSetAccessToken());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAccessToken()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.accessToken, typedOther.accessToken);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetGameId()).compareTo(typedOther.isSetGameId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetGameId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.gameId, typedOther.gameId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getUnseenChats_args(");
+      boolean first = true;
+
+      sb.append("accessToken:");
+      if (this.accessToken == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.accessToken);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("gameId:");
+      sb.append(this.gameId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bit_vector = new BitSet(1);
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getUnseenChats_argsStandardSchemeFactory implements SchemeFactory {
+      public getUnseenChats_argsStandardScheme getScheme() {
+        return new getUnseenChats_argsStandardScheme();
+      }
+    }
+
+    private static class getUnseenChats_argsStandardScheme extends StandardScheme<getUnseenChats_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getUnseenChats_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ACCESS_TOKEN
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.accessToken = iprot.readString();
+                struct.setAccessTokenIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // GAME_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.gameId = iprot.readI64();
+                struct.setGameIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getUnseenChats_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.accessToken != null) {
+          oprot.writeFieldBegin(ACCESS_TOKEN_FIELD_DESC);
+          oprot.writeString(struct.accessToken);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(GAME_ID_FIELD_DESC);
+        oprot.writeI64(struct.gameId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getUnseenChats_argsTupleSchemeFactory implements SchemeFactory {
+      public getUnseenChats_argsTupleScheme getScheme() {
+        return new getUnseenChats_argsTupleScheme();
+      }
+    }
+
+    private static class getUnseenChats_argsTupleScheme extends TupleScheme<getUnseenChats_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getUnseenChats_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetAccessToken()) {
+          optionals.set(0);
+        }
+        if (struct.isSetGameId()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetAccessToken()) {
+          oprot.writeString(struct.accessToken);
+        }
+        if (struct.isSetGameId()) {
+          oprot.writeI64(struct.gameId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getUnseenChats_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.accessToken = iprot.readString();
+          struct.setAccessTokenIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.gameId = iprot.readI64();
+          struct.setGameIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getUnseenChats_result implements org.apache.thrift.TBase<getUnseenChats_result, getUnseenChats_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUnseenChats_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getUnseenChats_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getUnseenChats_resultTupleSchemeFactory());
+    }
+
+    public List<ChatMessage> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ChatMessage.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUnseenChats_result.class, metaDataMap);
+    }
+
+    public getUnseenChats_result() {
+    }
+
+    public getUnseenChats_result(
+      List<ChatMessage> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getUnseenChats_result(getUnseenChats_result other) {
+      if (other.isSetSuccess()) {
+        List<ChatMessage> __this__success = new ArrayList<ChatMessage>();
+        for (ChatMessage other_element : other.success) {
+          __this__success.add(new ChatMessage(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public getUnseenChats_result deepCopy() {
+      return new getUnseenChats_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<ChatMessage> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(ChatMessage elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<ChatMessage>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<ChatMessage> getSuccess() {
+      return this.success;
+    }
+
+    public getUnseenChats_result setSuccess(List<ChatMessage> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<ChatMessage>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getUnseenChats_result)
+        return this.equals((getUnseenChats_result)that);
+      return false;
+    }
+
+    public boolean equals(getUnseenChats_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(getUnseenChats_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getUnseenChats_result typedOther = (getUnseenChats_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getUnseenChats_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getUnseenChats_resultStandardSchemeFactory implements SchemeFactory {
+      public getUnseenChats_resultStandardScheme getScheme() {
+        return new getUnseenChats_resultStandardScheme();
+      }
+    }
+
+    private static class getUnseenChats_resultStandardScheme extends StandardScheme<getUnseenChats_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getUnseenChats_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list142 = iprot.readListBegin();
+                  struct.success = new ArrayList<ChatMessage>(_list142.size);
+                  for (int _i143 = 0; _i143 < _list142.size; ++_i143)
+                  {
+                    ChatMessage _elem144; // required
+                    _elem144 = new ChatMessage();
+                    _elem144.read(iprot);
+                    struct.success.add(_elem144);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getUnseenChats_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (ChatMessage _iter145 : struct.success)
+            {
+              _iter145.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getUnseenChats_resultTupleSchemeFactory implements SchemeFactory {
+      public getUnseenChats_resultTupleScheme getScheme() {
+        return new getUnseenChats_resultTupleScheme();
+      }
+    }
+
+    private static class getUnseenChats_resultTupleScheme extends TupleScheme<getUnseenChats_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getUnseenChats_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (ChatMessage _iter146 : struct.success)
+            {
+              _iter146.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getUnseenChats_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list147 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<ChatMessage>(_list147.size);
+            for (int _i148 = 0; _i148 < _list147.size; ++_i148)
+            {
+              ChatMessage _elem149; // required
+              _elem149 = new ChatMessage();
+              _elem149.read(iprot);
+              struct.success.add(_elem149);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class dictionaryLookup_args implements org.apache.thrift.TBase<dictionaryLookup_args, dictionaryLookup_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("dictionaryLookup_args");
+
+    private static final org.apache.thrift.protocol.TField ACCESS_TOKEN_FIELD_DESC = new org.apache.thrift.protocol.TField("accessToken", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField WORDS_FIELD_DESC = new org.apache.thrift.protocol.TField("words", org.apache.thrift.protocol.TType.LIST, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new dictionaryLookup_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new dictionaryLookup_argsTupleSchemeFactory());
+    }
+
+    public String accessToken; // required
+    public List<String> words; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ACCESS_TOKEN((short)1, "accessToken"),
+      WORDS((short)2, "words");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ACCESS_TOKEN
+            return ACCESS_TOKEN;
+          case 2: // WORDS
+            return WORDS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ACCESS_TOKEN, new org.apache.thrift.meta_data.FieldMetaData("accessToken", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.WORDS, new org.apache.thrift.meta_data.FieldMetaData("words", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(dictionaryLookup_args.class, metaDataMap);
+    }
+
+    public dictionaryLookup_args() {
+    }
+
+    public dictionaryLookup_args(
+      String accessToken,
+      List<String> words)
+    {
+      this();
+      this.accessToken = accessToken;
+      this.words = words;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public dictionaryLookup_args(dictionaryLookup_args other) {
+      if (other.isSetAccessToken()) {
+        this.accessToken = other.accessToken;
+      }
+      if (other.isSetWords()) {
+        List<String> __this__words = new ArrayList<String>();
+        for (String other_element : other.words) {
+          __this__words.add(other_element);
+        }
+        this.words = __this__words;
+      }
+    }
+
+    public dictionaryLookup_args deepCopy() {
+      return new dictionaryLookup_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.accessToken = null;
+      this.words = null;
+    }
+
+    public String getAccessToken() {
+      return this.accessToken;
+    }
+
+    public dictionaryLookup_args setAccessToken(String accessToken) {
+      this.accessToken = accessToken;
+      return this;
+    }
+
+    public void unsetAccessToken() {
+      this.accessToken = null;
+    }
+
+    /** Returns true if field accessToken is set (has been assigned a value) and false otherwise */
+    public boolean isSetAccessToken() {
+      return this.accessToken != null;
+    }
+
+    public void setAccessTokenIsSet(boolean value) {
+      if (!value) {
+        this.accessToken = null;
+      }
+    }
+
+    public int getWordsSize() {
+      return (this.words == null) ? 0 : this.words.size();
+    }
+
+    public java.util.Iterator<String> getWordsIterator() {
+      return (this.words == null) ? null : this.words.iterator();
+    }
+
+    public void addToWords(String elem) {
+      if (this.words == null) {
+        this.words = new ArrayList<String>();
+      }
+      this.words.add(elem);
+    }
+
+    public List<String> getWords() {
+      return this.words;
+    }
+
+    public dictionaryLookup_args setWords(List<String> words) {
+      this.words = words;
+      return this;
+    }
+
+    public void unsetWords() {
+      this.words = null;
+    }
+
+    /** Returns true if field words is set (has been assigned a value) and false otherwise */
+    public boolean isSetWords() {
+      return this.words != null;
+    }
+
+    public void setWordsIsSet(boolean value) {
+      if (!value) {
+        this.words = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case ACCESS_TOKEN:
+        if (value == null) {
+          unsetAccessToken();
+        } else {
+          setAccessToken((String)value);
+        }
+        break;
+
+      case WORDS:
+        if (value == null) {
+          unsetWords();
+        } else {
+          setWords((List<String>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ACCESS_TOKEN:
+        return getAccessToken();
+
+      case WORDS:
+        return getWords();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ACCESS_TOKEN:
+        return isSetAccessToken();
+      case WORDS:
+        return isSetWords();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof dictionaryLookup_args)
+        return this.equals((dictionaryLookup_args)that);
+      return false;
+    }
+
+    public boolean equals(dictionaryLookup_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_accessToken = true && this.isSetAccessToken();
+      boolean that_present_accessToken = true && that.isSetAccessToken();
+      if (this_present_accessToken || that_present_accessToken) {
+        if (!(this_present_accessToken && that_present_accessToken))
+          return false;
+        if (!this.accessToken.equals(that.accessToken))
+          return false;
+      }
+
+      boolean this_present_words = true && this.isSetWords();
+      boolean that_present_words = true && that.isSetWords();
+      if (this_present_words || that_present_words) {
+        if (!(this_present_words && that_present_words))
+          return false;
+        if (!this.words.equals(that.words))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(dictionaryLookup_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      dictionaryLookup_args typedOther = (dictionaryLookup_args)other;
+
+      lastComparison = Boolean.valueOf(isSetAccessToken()).compareTo(typedOther.isSetAccessToken());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAccessToken()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.accessToken, typedOther.accessToken);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetWords()).compareTo(typedOther.isSetWords());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetWords()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.words, typedOther.words);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("dictionaryLookup_args(");
+      boolean first = true;
+
+      sb.append("accessToken:");
+      if (this.accessToken == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.accessToken);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("words:");
+      if (this.words == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.words);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class dictionaryLookup_argsStandardSchemeFactory implements SchemeFactory {
+      public dictionaryLookup_argsStandardScheme getScheme() {
+        return new dictionaryLookup_argsStandardScheme();
+      }
+    }
+
+    private static class dictionaryLookup_argsStandardScheme extends StandardScheme<dictionaryLookup_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, dictionaryLookup_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ACCESS_TOKEN
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.accessToken = iprot.readString();
+                struct.setAccessTokenIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // WORDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list150 = iprot.readListBegin();
+                  struct.words = new ArrayList<String>(_list150.size);
+                  for (int _i151 = 0; _i151 < _list150.size; ++_i151)
+                  {
+                    String _elem152; // required
+                    _elem152 = iprot.readString();
+                    struct.words.add(_elem152);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setWordsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, dictionaryLookup_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.accessToken != null) {
+          oprot.writeFieldBegin(ACCESS_TOKEN_FIELD_DESC);
+          oprot.writeString(struct.accessToken);
+          oprot.writeFieldEnd();
+        }
+        if (struct.words != null) {
+          oprot.writeFieldBegin(WORDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.words.size()));
+            for (String _iter153 : struct.words)
+            {
+              oprot.writeString(_iter153);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class dictionaryLookup_argsTupleSchemeFactory implements SchemeFactory {
+      public dictionaryLookup_argsTupleScheme getScheme() {
+        return new dictionaryLookup_argsTupleScheme();
+      }
+    }
+
+    private static class dictionaryLookup_argsTupleScheme extends TupleScheme<dictionaryLookup_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, dictionaryLookup_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetAccessToken()) {
+          optionals.set(0);
+        }
+        if (struct.isSetWords()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetAccessToken()) {
+          oprot.writeString(struct.accessToken);
+        }
+        if (struct.isSetWords()) {
+          {
+            oprot.writeI32(struct.words.size());
+            for (String _iter154 : struct.words)
+            {
+              oprot.writeString(_iter154);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, dictionaryLookup_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.accessToken = iprot.readString();
+          struct.setAccessTokenIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list155 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.words = new ArrayList<String>(_list155.size);
+            for (int _i156 = 0; _i156 < _list155.size; ++_i156)
+            {
+              String _elem157; // required
+              _elem157 = iprot.readString();
+              struct.words.add(_elem157);
+            }
+          }
+          struct.setWordsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class dictionaryLookup_result implements org.apache.thrift.TBase<dictionaryLookup_result, dictionaryLookup_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("dictionaryLookup_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new dictionaryLookup_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new dictionaryLookup_resultTupleSchemeFactory());
+    }
+
+    public List<String> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(dictionaryLookup_result.class, metaDataMap);
+    }
+
+    public dictionaryLookup_result() {
+    }
+
+    public dictionaryLookup_result(
+      List<String> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public dictionaryLookup_result(dictionaryLookup_result other) {
+      if (other.isSetSuccess()) {
+        List<String> __this__success = new ArrayList<String>();
+        for (String other_element : other.success) {
+          __this__success.add(other_element);
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public dictionaryLookup_result deepCopy() {
+      return new dictionaryLookup_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(String elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<String>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<String> getSuccess() {
+      return this.success;
+    }
+
+    public dictionaryLookup_result setSuccess(List<String> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<String>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof dictionaryLookup_result)
+        return this.equals((dictionaryLookup_result)that);
+      return false;
+    }
+
+    public boolean equals(dictionaryLookup_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(dictionaryLookup_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
       }
 
-      protected makeMove_args getEmptyArgsInstance() {
-        return new makeMove_args();
-      }
+      int lastComparison = 0;
+      dictionaryLookup_result typedOther = (dictionaryLookup_result)other;
 
-      protected makeMove_result getResult(I iface, makeMove_args args) throws org.apache.thrift.TException {
-        makeMove_result result = new makeMove_result();
-        result.success = iface.makeMove(args.accessToken, args.currentState, args.move);
-        return result;
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
       }
+      return 0;
     }
 
-    private static class createMatchmakingGame<I extends Iface> extends org.apache.thrift.ProcessFunction<I, createMatchmakingGame_args> {
-      public createMatchmakingGame() {
-        super("createMatchmakingGame");
-      }
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
 
-      protected createMatchmakingGame_args getEmptyArgsInstance() {
-        return new createMatchmakingGame_args();
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
       }
 
-      protected createMatchmakingGame_result getResult(I iface, createMatchmakingGame_args args) throws org.apache.thrift.TException {
-        createMatchmakingGame_result result = new createMatchmakingGame_result();
-        iface.createMatchmakingGame(args.accessToken, args.params);
-        return result;
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("dictionaryLookup_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
       }
+      first = false;
+      sb.append(")");
+      return sb.toString();
     }
 
-    private static class sendChatMessage<I extends Iface> extends org.apache.thrift.ProcessFunction<I, sendChatMessage_args> {
-      public sendChatMessage() {
-        super("sendChatMessage");
-      }
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
 
-      protected sendChatMessage_args getEmptyArgsInstance() {
-        return new sendChatMessage_args();
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
       }
+    }
 
-      protected sendChatMessage_result getResult(I iface, sendChatMessage_args args) throws org.apache.thrift.TException {
-        sendChatMessage_result result = new sendChatMessage_result();
-        result.success = iface.sendChatMessage(args.accessToken, args.gameId, args.message);
-        return result;
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
       }
     }
 
-    private static class getUnseenChats<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getUnseenChats_args> {
-      public getUnseenChats() {
-        super("getUnseenChats");
+    private static class dictionaryLookup_resultStandardSchemeFactory implements SchemeFactory {
+      public dictionaryLookup_resultStandardScheme getScheme() {
+        return new dictionaryLookup_resultStandardScheme();
       }
+    }
 
-      protected getUnseenChats_args getEmptyArgsInstance() {
-        return new getUnseenChats_args();
+    private static class dictionaryLookup_resultStandardScheme extends StandardScheme<dictionaryLookup_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, dictionaryLookup_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list158 = iprot.readListBegin();
+                  struct.success = new ArrayList<String>(_list158.size);
+                  for (int _i159 = 0; _i159 < _list158.size; ++_i159)
+                  {
+                    String _elem160; // required
+                    _elem160 = iprot.readString();
+                    struct.success.add(_elem160);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
       }
 
-      protected getUnseenChats_result getResult(I iface, getUnseenChats_args args) throws org.apache.thrift.TException {
-        getUnseenChats_result result = new getUnseenChats_result();
-        result.success = iface.getUnseenChats(args.accessToken, args.gameId);
-        return result;
+      public void write(org.apache.thrift.protocol.TProtocol oprot, dictionaryLookup_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (String _iter161 : struct.success)
+            {
+              oprot.writeString(_iter161);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
       }
+
     }
 
-    private static class dictionaryLookup<I extends Iface> extends org.apache.thrift.ProcessFunction<I, dictionaryLookup_args> {
-      public dictionaryLookup() {
-        super("dictionaryLookup");
+    private static class dictionaryLookup_resultTupleSchemeFactory implements SchemeFactory {
+      public dictionaryLookup_resultTupleScheme getScheme() {
+        return new dictionaryLookup_resultTupleScheme();
       }
+    }
 
-      protected dictionaryLookup_args getEmptyArgsInstance() {
-        return new dictionaryLookup_args();
+    private static class dictionaryLookup_resultTupleScheme extends TupleScheme<dictionaryLookup_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, dictionaryLookup_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (String _iter162 : struct.success)
+            {
+              oprot.writeString(_iter162);
+            }
+          }
+        }
       }
 
-      protected dictionaryLookup_result getResult(I iface, dictionaryLookup_args args) throws org.apache.thrift.TException {
-        dictionaryLookup_result result = new dictionaryLookup_result();
-        result.success = iface.dictionaryLookup(args.accessToken, args.words);
-        return result;
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, dictionaryLookup_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list163 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new ArrayList<String>(_list163.size);
+            for (int _i164 = 0; _i164 < _list163.size; ++_i164)
+            {
+              String _elem165; // required
+              _elem165 = iprot.readString();
+              struct.success.add(_elem165);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class getGameIndex_args implements org.apache.thrift.TBase<getGameIndex_args, getGameIndex_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getGameIndex_args");
+  public static class getGameStates_args implements org.apache.thrift.TBase<getGameStates_args, getGameStates_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getGameStates_args");
 
     private static final org.apache.thrift.protocol.TField ACCESS_TOKEN_FIELD_DESC = new org.apache.thrift.protocol.TField("accessToken", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField GAME_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("gameIds", org.apache.thrift.protocol.TType.LIST, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getGameIndex_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getGameIndex_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getGameStates_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getGameStates_argsTupleSchemeFactory());
     }
 
     public String accessToken; // required
+    public List<Long> gameIds; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      ACCESS_TOKEN((short)1, "accessToken");
+      ACCESS_TOKEN((short)1, "accessToken"),
+      GAME_IDS((short)2, "gameIds");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -851,6 +8228,8 @@ public class WwfApi {
         switch(fieldId) {
           case 1: // ACCESS_TOKEN
             return ACCESS_TOKEN;
+          case 2: // GAME_IDS
+            return GAME_IDS;
           default:
             return null;
         }
@@ -896,43 +8275,56 @@ public class WwfApi {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.ACCESS_TOKEN, new org.apache.thrift.meta_data.FieldMetaData("accessToken", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.GAME_IDS, new org.apache.thrift.meta_data.FieldMetaData("gameIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getGameIndex_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getGameStates_args.class, metaDataMap);
     }
 
-    public getGameIndex_args() {
+    public getGameStates_args() {
     }
 
-    public getGameIndex_args(
-      String accessToken)
+    public getGameStates_args(
+      String accessToken,
+      List<Long> gameIds)
     {
       this();
       this.accessToken = accessToken;
+      this.gameIds = gameIds;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getGameIndex_args(getGameIndex_args other) {
+    public getGameStates_args(getGameStates_args other) {
       if (other.isSetAccessToken()) {
         this.accessToken = other.accessToken;
       }
+      if (other.isSetGameIds()) {
+        List<Long> __this__gameIds = new ArrayList<Long>();
+        for (Long other_element : other.gameIds) {
+          __this__gameIds.add(other_element);
+        }
+        this.gameIds = __this__gameIds;
+      }
     }
 
-    public getGameIndex_args deepCopy() {
-      return new getGameIndex_args(this);
+    public getGameStates_args deepCopy() {
+      return new getGameStates_args(this);
     }
 
     @Override
     public void clear() {
       this.accessToken = null;
+      this.gameIds = null;
     }
 
     public String getAccessToken() {
       return this.accessToken;
     }
 
-    public getGameIndex_args setAccessToken(String accessToken) {
+    public getGameStates_args setAccessToken(String accessToken) {
       this.accessToken = accessToken;
       return this;
     }
@@ -952,6 +8344,45 @@ public class WwfApi {
       }
     }
 
+    public int getGameIdsSize() {
+      return (this.gameIds == null) ? 0 : this.gameIds.size();
+    }
+
+    public java.util.Iterator<Long> getGameIdsIterator() {
+      return (this.gameIds == null) ? null : this.gameIds.iterator();
+    }
+
+    public void addToGameIds(long elem) {
+      if (this.gameIds == null) {
+        this.gameIds = new ArrayList<Long>();
+      }
+      this.gameIds.add(elem);
+    }
+
+    public List<Long> getGameIds() {
+      return this.gameIds;
+    }
+
+    public getGameStates_args setGameIds(List<Long> gameIds) {
+      this.gameIds = gameIds;
+      return this;
+    }
+
+    public void unsetGameIds() {
+      this.gameIds = null;
+    }
+
+    /** Returns true if field gameIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetGameIds() {
+      return this.gameIds != null;
+    }
+
+    public void setGameIdsIsSet(boolean value) {
+      if (!value) {
+        this.gameIds = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case ACCESS_TOKEN:
@@ -962,6 +8393,14 @@ public class WwfApi {
         }
         break;
 
+      case GAME_IDS:
+        if (value == null) {
+          unsetGameIds();
+        } else {
+          setGameIds((List<Long>)value);
+        }
+        break;
+
       }
     }
 
@@ -970,6 +8409,9 @@ public class WwfApi {
       case ACCESS_TOKEN:
         return getAccessToken();
 
+      case GAME_IDS:
+        return getGameIds();
+
       }
       throw new IllegalStateException();
     }
@@ -983,6 +8425,8 @@ public class WwfApi {
       switch (field) {
       case ACCESS_TOKEN:
         return isSetAccessToken();
+      case GAME_IDS:
+        return isSetGameIds();
       }
       throw new IllegalStateException();
     }
@@ -991,12 +8435,12 @@ public class WwfApi {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getGameIndex_args)
-        return this.equals((getGameIndex_args)that);
+      if (that instanceof getGameStates_args)
+        return this.equals((getGameStates_args)that);
       return false;
     }
 
-    public boolean equals(getGameIndex_args that) {
+    public boolean equals(getGameStates_args that) {
       if (that == null)
         return false;
 
@@ -1009,6 +8453,15 @@ public class WwfApi {
           return false;
       }
 
+      boolean this_present_gameIds = true && this.isSetGameIds();
+      boolean that_present_gameIds = true && that.isSetGameIds();
+      if (this_present_gameIds || that_present_gameIds) {
+        if (!(this_present_gameIds && that_present_gameIds))
+          return false;
+        if (!this.gameIds.equals(that.gameIds))
+          return false;
+      }
+
       return true;
     }
 
@@ -1017,13 +8470,13 @@ public class WwfApi {
       return 0;
     }
 
-    public int compareTo(getGameIndex_args other) {
+    public int compareTo(getGameStates_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      getGameIndex_args typedOther = (getGameIndex_args)other;
+      getGameStates_args typedOther = (getGameStates_args)other;
 
       lastComparison = Boolean.valueOf(isSetAccessToken()).compareTo(typedOther.isSetAccessToken());
       if (lastComparison != 0) {
@@ -1035,6 +8488,16 @@ public class WwfApi {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetGameIds()).compareTo(typedOther.isSetGameIds());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetGameIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.gameIds, typedOther.gameIds);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -1052,7 +8515,7 @@ public class WwfApi {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getGameIndex_args(");
+      StringBuilder sb = new StringBuilder("getGameStates_args(");
       boolean first = true;
 
       sb.append("accessToken:");
@@ -1062,6 +8525,14 @@ public class WwfApi {
         sb.append(this.accessToken);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("gameIds:");
+      if (this.gameIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.gameIds);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -1085,16 +8556,16 @@ public class WwfApi {
         throw new java.io.IOException(te);
       }
     }
-
-    private static class getGameIndex_argsStandardSchemeFactory implements SchemeFactory {
-      public getGameIndex_argsStandardScheme getScheme() {
-        return new getGameIndex_argsStandardScheme();
+
+    private static class getGameStates_argsStandardSchemeFactory implements SchemeFactory {
+      public getGameStates_argsStandardScheme getScheme() {
+        return new getGameStates_argsStandardScheme();
       }
     }
 
-    private static class getGameIndex_argsStandardScheme extends StandardScheme<getGameIndex_args> {
+    private static class getGameStates_argsStandardScheme extends StandardScheme<getGameStates_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getGameIndex_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getGameStates_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1112,6 +8583,24 @@ public class WwfApi {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // GAME_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list166 = iprot.readListBegin();
+                  struct.gameIds = new ArrayList<Long>(_list166.size);
+                  for (int _i167 = 0; _i167 < _list166.size; ++_i167)
+                  {
+                    long _elem168; // required
+                    _elem168 = iprot.readI64();
+                    struct.gameIds.add(_elem168);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setGameIdsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -1123,7 +8612,7 @@ public class WwfApi {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getGameIndex_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getGameStates_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -1132,58 +8621,95 @@ public class WwfApi {
           oprot.writeString(struct.accessToken);
           oprot.writeFieldEnd();
         }
+        if (struct.gameIds != null) {
+          oprot.writeFieldBegin(GAME_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.gameIds.size()));
+            for (long _iter169 : struct.gameIds)
+            {
+              oprot.writeI64(_iter169);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getGameIndex_argsTupleSchemeFactory implements SchemeFactory {
-      public getGameIndex_argsTupleScheme getScheme() {
-        return new getGameIndex_argsTupleScheme();
+    private static class getGameStates_argsTupleSchemeFactory implements SchemeFactory {
+      public getGameStates_argsTupleScheme getScheme() {
+        return new getGameStates_argsTupleScheme();
       }
     }
 
-    private static class getGameIndex_argsTupleScheme extends TupleScheme<getGameIndex_args> {
+    private static class getGameStates_argsTupleScheme extends TupleScheme<getGameStates_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getGameIndex_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getGameStates_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetAccessToken()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetGameIds()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetAccessToken()) {
           oprot.writeString(struct.accessToken);
         }
+        if (struct.isSetGameIds()) {
+          {
+            oprot.writeI32(struct.gameIds.size());
+            for (long _iter170 : struct.gameIds)
+            {
+              oprot.writeI64(_iter170);
+            }
+          }
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getGameIndex_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getGameStates_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.accessToken = iprot.readString();
           struct.setAccessTokenIsSet(true);
         }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list171 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.gameIds = new ArrayList<Long>(_list171.size);
+            for (int _i172 = 0; _i172 < _list171.size; ++_i172)
+            {
+              long _elem173; // required
+              _elem173 = iprot.readI64();
+              struct.gameIds.add(_elem173);
+            }
+          }
+          struct.setGameIdsIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class getGameIndex_result implements org.apache.thrift.TBase<getGameIndex_result, getGameIndex_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getGameIndex_result");
+  public static class getGameStates_result implements org.apache.thrift.TBase<getGameStates_result, getGameStates_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getGameStates_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getGameIndex_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getGameIndex_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getGameStates_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getGameStates_resultTupleSchemeFactory());
     }
 
-    public GameIndex success; // required
+    public List<GameStateResult> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -1248,16 +8774,17 @@ public class WwfApi {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GameIndex.class)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GameStateResult.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getGameIndex_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getGameStates_result.class, metaDataMap);
     }
 
-    public getGameIndex_result() {
+    public getGameStates_result() {
     }
 
-    public getGameIndex_result(
-      GameIndex success)
+    public getGameStates_result(
+      List<GameStateResult> success)
     {
       this();
       this.success = success;
@@ -1266,14 +8793,18 @@ public class WwfApi {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getGameIndex_result(getGameIndex_result other) {
+    public getGameStates_result(getGameStates_result other) {
       if (other.isSetSuccess()) {
-        this.success = new GameIndex(other.success);
+        List<GameStateResult> __this__success = new ArrayList<GameStateResult>();
+        for (GameStateResult other_element : other.success) {
+          __this__success.add(new GameStateResult(other_element));
+        }
+        this.success = __this__success;
       }
     }
 
-    public getGameIndex_result deepCopy() {
-      return new getGameIndex_result(this);
+    public getGameStates_result deepCopy() {
+      return new getGameStates_result(this);
     }
 
     @Override
@@ -1281,11 +8812,26 @@ public class WwfApi {
       this.success = null;
     }
 
-    public GameIndex getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<GameStateResult> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(GameStateResult elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<GameStateResult>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<GameStateResult> getSuccess() {
       return this.success;
     }
 
-    public getGameIndex_result setSuccess(GameIndex success) {
+    public getGameStates_result setSuccess(List<GameStateResult> success) {
       this.success = success;
       return this;
     }
@@ -1311,7 +8857,7 @@ public class WwfApi {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((GameIndex)value);
+          setSuccess((List<GameStateResult>)value);
         }
         break;
 
@@ -1344,12 +8890,12 @@ public class WwfApi {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getGameIndex_result)
-        return this.equals((getGameIndex_result)that);
+      if (that instanceof getGameStates_result)
+        return this.equals((getGameStates_result)that);
       return false;
     }
 
-    public boolean equals(getGameIndex_result that) {
+    public boolean equals(getGameStates_result that) {
       if (that == null)
         return false;
 
@@ -1370,13 +8916,13 @@ public class WwfApi {
       return 0;
     }
 
-    public int compareTo(getGameIndex_result other) {
+    public int compareTo(getGameStates_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      getGameIndex_result typedOther = (getGameIndex_result)other;
+      getGameStates_result typedOther = (getGameStates_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -1405,7 +8951,7 @@ public class WwfApi {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getGameIndex_result(");
+      StringBuilder sb = new StringBuilder("getGameStates_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -1439,15 +8985,15 @@ public class WwfApi {
       }
     }
 
-    private static class getGameIndex_resultStandardSchemeFactory implements SchemeFactory {
-      public getGameIndex_resultStandardScheme getScheme() {
-        return new getGameIndex_resultStandardScheme();
+    private static class getGameStates_resultStandardSchemeFactory implements SchemeFactory {
+      public getGameStates_resultStandardScheme getScheme() {
+        return new getGameStates_resultStandardScheme();
       }
     }
 
-    private static class getGameIndex_resultStandardScheme extends StandardScheme<getGameIndex_result> {
+    private static class getGameStates_resultStandardScheme extends StandardScheme<getGameStates_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getGameIndex_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getGameStates_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1458,9 +9004,19 @@ public class WwfApi {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new GameIndex();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list174 = iprot.readListBegin();
+                  struct.success = new ArrayList<GameStateResult>(_list174.size);
+                  for (int _i175 = 0; _i175 < _list174.size; ++_i175)
+                  {
+                    GameStateResult _elem176; // required
+                    _elem176 = new GameStateResult();
+                    _elem176.read(iprot);
+                    struct.success.add(_elem176);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -1477,13 +9033,20 @@ public class WwfApi {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getGameIndex_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getGameStates_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (GameStateResult _iter177 : struct.success)
+            {
+              _iter177.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -1492,16 +9055,16 @@ public class WwfApi {
 
     }
 
-    private static class getGameIndex_resultTupleSchemeFactory implements SchemeFactory {
-      public getGameIndex_resultTupleScheme getScheme() {
-        return new getGameIndex_resultTupleScheme();
+    private static class getGameStates_resultTupleSchemeFactory implements SchemeFactory {
+      public getGameStates_resultTupleScheme getScheme() {
+        return new getGameStates_resultTupleScheme();
       }
     }
 
-    private static class getGameIndex_resultTupleScheme extends TupleScheme<getGameIndex_result> {
+    private static class getGameStates_resultTupleScheme extends TupleScheme<getGameStates_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getGameIndex_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getGameStates_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -1509,17 +9072,32 @@ public class WwfApi {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (GameStateResult _iter178 : struct.success)
+            {
+              _iter178.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getGameIndex_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getGameStates_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new GameIndex();
-          struct.success.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list179 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<GameStateResult>(_list179.size);
+            for (int _i180 = 0; _i180 < _list179.size; ++_i180)
+            {
+              GameStateResult _elem181; // required
+              _elem181 = new GameStateResult();
+              _elem181.read(iprot);
+              struct.success.add(_elem181);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
       }
@@ -1527,25 +9105,25 @@ public class WwfApi {
 
   }
 
-  public static class getGamesWithUpdates_args implements org.apache.thrift.TBase<getGamesWithUpdates_args, getGamesWithUpdates_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getGamesWithUpdates_args");
+  public static class getUnseenChatsForGames_args implements org.apache.thrift.TBase<getUnseenChatsForGames_args, getUnseenChatsForGames_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUnseenChatsForGames_args");
 
     private static final org.apache.thrift.protocol.TField ACCESS_TOKEN_FIELD_DESC = new org.apache.thrift.protocol.TField("accessToken", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField TIMESTAMP_FIELD_DESC = new org.apache.thrift.protocol.TField("timestamp", org.apache.thrift.protocol.TType.I32, (short)2);
+    private static final org.apache.thrift.protocol.TField GAME_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("gameIds", org.apache.thrift.protocol.TType.LIST, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getGamesWithUpdates_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getGamesWithUpdates_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getUnseenChatsForGames_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getUnseenChatsForGames_argsTupleSchemeFactory());
     }
 
     public String accessToken; // required
-    public int timestamp; // required
+    public List<Long> gameIds; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       ACCESS_TOKEN((short)1, "accessToken"),
-      TIMESTAMP((short)2, "timestamp");
+      GAME_IDS((short)2, "gameIds");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -1562,8 +9140,8 @@ public class WwfApi {
         switch(fieldId) {
           case 1: // ACCESS_TOKEN
             return ACCESS_TOKEN;
-          case 2: // TIMESTAMP
-            return TIMESTAMP;
+          case 2: // GAME_IDS
+            return GAME_IDS;
           default:
             return null;
         }
@@ -1604,60 +9182,61 @@ public class WwfApi {
     }
 
     // isset id assignments
-    private static final int __TIMESTAMP_ISSET_ID = 0;
-    private BitSet __isset_bit_vector = new BitSet(1);
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.ACCESS_TOKEN, new org.apache.thrift.meta_data.FieldMetaData("accessToken", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.TIMESTAMP, new org.apache.thrift.meta_data.FieldMetaData("timestamp", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.GAME_IDS, new org.apache.thrift.meta_data.FieldMetaData("gameIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getGamesWithUpdates_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUnseenChatsForGames_args.class, metaDataMap);
     }
 
-    public getGamesWithUpdates_args() {
+    public getUnseenChatsForGames_args() {
     }
 
-    public getGamesWithUpdates_args(
+    public getUnseenChatsForGames_args(
       String accessToken,
-      int timestamp)
+      List<Long> gameIds)
     {
       this();
       this.accessToken = accessToken;
-      this.timestamp = timestamp;
-      setTimestampIsSet(true);
+      this.gameIds = gameIds;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getGamesWithUpdates_args(getGamesWithUpdates_args other) {
-      __isset_bit_vector.clear();
-      __isset_bit_vector.or(other.__isset_bit_vector);
+    public getUnseenChatsForGames_args(getUnseenChatsForGames_args other) {
       if (other.isSetAccessToken()) {
         this.accessToken = other.accessToken;
       }
-      this.timestamp = other.timestamp;
+      if (other.isSetGameIds()) {
+        List<Long> __this__gameIds = new ArrayList<Long>();
+        for (Long other_element : other.gameIds) {
+          __this__gameIds.add(other_element);
+        }
+        this.gameIds = __this__gameIds;
+      }
     }
 
-    public getGamesWithUpdates_args deepCopy() {
-      return new getGamesWithUpdates_args(this);
+    public getUnseenChatsForGames_args deepCopy() {
+      return new getUnseenChatsForGames_args(this);
     }
 
     @Override
     public void clear() {
       this.accessToken = null;
-      setTimestampIsSet(false);
-      this.timestamp = 0;
+      this.gameIds = null;
     }
 
     public String getAccessToken() {
       return this.accessToken;
     }
 
-    public getGamesWithUpdates_args setAccessToken(String accessToken) {
+    public getUnseenChatsForGames_args setAccessToken(String accessToken) {
       this.accessToken = accessToken;
       return this;
     }
@@ -1677,27 +9256,43 @@ public class WwfApi {
       }
     }
 
-    public int getTimestamp() {
-      return this.timestamp;
+    public int getGameIdsSize() {
+      return (this.gameIds == null) ? 0 : this.gameIds.size();
     }
 
-    public getGamesWithUpdates_args setTimestamp(int timestamp) {
-      this.timestamp = timestamp;
-      setTimestampIsSet(true);
+    public java.util.Iterator<Long> getGameIdsIterator() {
+      return (this.gameIds == null) ? null : this.gameIds.iterator();
+    }
+
+    public void addToGameIds(long elem) {
+      if (this.gameIds == null) {
+        this.gameIds = new ArrayList<Long>();
+      }
+      this.gameIds.add(elem);
+    }
+
+    public List<Long> getGameIds() {
+      return this.gameIds;
+    }
+
+    public getUnseenChatsForGames_args setGameIds(List<Long> gameIds) {
+      this.gameIds = gameIds;
       return this;
     }
 
-    public void unsetTimestamp() {
-      __isset_bit_vector.clear(__TIMESTAMP_ISSET_ID);
+    public void unsetGameIds() {
+      this.gameIds = null;
     }
 
-    /** Returns true if field timestamp is set (has been assigned a value) and false otherwise */
-    public boolean isSetTimestamp() {
-      return __isset_bit_vector.get(__TIMESTAMP_ISSET_ID);
+    /** Returns true if field gameIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetGameIds() {
+      return this.gameIds != null;
     }
 
-    public void setTimestampIsSet(boolean value) {
-      __isset_bit_vector.set(__TIMESTAMP_ISSET_ID, value);
+    public void setGameIdsIsSet(boolean value) {
+      if (!value) {
+        this.gameIds = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -1710,11 +9305,11 @@ public class WwfApi {
         }
         break;
 
-      case TIMESTAMP:
+      case GAME_IDS:
         if (value == null) {
-          unsetTimestamp();
+          unsetGameIds();
         } else {
-          setTimestamp((Integer)value);
+          setGameIds((List<Long>)value);
         }
         break;
 
@@ -1726,8 +9321,8 @@ public class WwfApi {
       case ACCESS_TOKEN:
         return getAccessToken();
 
-      case TIMESTAMP:
-        return Integer.valueOf(getTimestamp());
+      case GAME_IDS:
+        return getGameIds();
 
       }
       throw new IllegalStateException();
@@ -1742,8 +9337,8 @@ public class WwfApi {
       switch (field) {
       case ACCESS_TOKEN:
         return isSetAccessToken();
-      case TIMESTAMP:
-        return isSetTimestamp();
+      case GAME_IDS:
+        return isSetGameIds();
       }
       throw new IllegalStateException();
     }
@@ -1752,12 +9347,12 @@ public class WwfApi {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getGamesWithUpdates_args)
-        return this.equals((getGamesWithUpdates_args)that);
+      if (that instanceof getUnseenChatsForGames_args)
+        return this.equals((getUnseenChatsForGames_args)that);
       return false;
     }
 
-    public boolean equals(getGamesWithUpdates_args that) {
+    public boolean equals(getUnseenChatsForGames_args that) {
       if (that == null)
         return false;
 
@@ -1770,12 +9365,12 @@ public class WwfApi {
           return false;
       }
 
-      boolean this_present_timestamp = true;
-      boolean that_present_timestamp = true;
-      if (this_present_timestamp || that_present_timestamp) {
-        if (!(this_present_timestamp && that_present_timestamp))
+      boolean this_present_gameIds = true && this.isSetGameIds();
+      boolean that_present_gameIds = true && that.isSetGameIds();
+      if (this_present_gameIds || that_present_gameIds) {
+        if (!(this_present_gameIds && that_present_gameIds))
           return false;
-        if (this.timestamp != that.timestamp)
+        if (!this.gameIds.equals(that.gameIds))
           return false;
       }
 
@@ -1787,13 +9382,13 @@ public class WwfApi {
       return 0;
     }
 
-    public int compareTo(getGamesWithUpdates_args other) {
+    public int compareTo(getUnseenChatsForGames_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      getGamesWithUpdates_args typedOther = (getGamesWithUpdates_args)other;
+      getUnseenChatsForGames_args typedOther = (getUnseenChatsForGames_args)other;
 
       lastComparison = Boolean.valueOf(isSetAccessToken()).compareTo(typedOther.isSetAccessToken());
       if (lastComparison != 0) {
@@ -1805,12 +9400,12 @@ public class WwfApi {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetTimestamp()).compareTo(typedOther.isSetTimestamp());
+      lastComparison = Boolean.valueOf(isSetGameIds()).compareTo(typedOther.isSetGameIds());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetTimestamp()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timestamp, typedOther.timestamp);
+      if (isSetGameIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.gameIds, typedOther.gameIds);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -1832,7 +9427,7 @@ public class WwfApi {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getGamesWithUpdates_args(");
+      StringBuilder sb = new StringBuilder("getUnseenChatsForGames_args(");
       boolean first = true;
 
       sb.append("accessToken:");
@@ -1843,8 +9438,12 @@ public class WwfApi {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("timestamp:");
-      sb.append(this.timestamp);
+      sb.append("gameIds:");
+      if (this.gameIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.gameIds);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -1870,15 +9469,15 @@ public class WwfApi {
       }
     }
 
-    private static class getGamesWithUpdates_argsStandardSchemeFactory implements SchemeFactory {
-      public getGamesWithUpdates_argsStandardScheme getScheme() {
-        return new getGamesWithUpdates_argsStandardScheme();
+    private static class getUnseenChatsForGames_argsStandardSchemeFactory implements SchemeFactory {
+      public getUnseenChatsForGames_argsStandardScheme getScheme() {
+        return new getUnseenChatsForGames_argsStandardScheme();
       }
     }
 
-    private static class getGamesWithUpdates_argsStandardScheme extends StandardScheme<getGamesWithUpdates_args> {
+    private static class getUnseenChatsForGames_argsStandardScheme extends StandardScheme<getUnseenChatsForGames_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getGamesWithUpdates_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getUnseenChatsForGames_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1896,10 +9495,20 @@ public class WwfApi {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // TIMESTAMP
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.timestamp = iprot.readI32();
-                struct.setTimestampIsSet(true);
+            case 2: // GAME_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list182 = iprot.readListBegin();
+                  struct.gameIds = new ArrayList<Long>(_list182.size);
+                  for (int _i183 = 0; _i183 < _list182.size; ++_i183)
+                  {
+                    long _elem184; // required
+                    _elem184 = iprot.readI64();
+                    struct.gameIds.add(_elem184);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setGameIdsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -1915,7 +9524,7 @@ public class WwfApi {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getGamesWithUpdates_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getUnseenChatsForGames_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -1924,44 +9533,59 @@ public class WwfApi {
           oprot.writeString(struct.accessToken);
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(TIMESTAMP_FIELD_DESC);
-        oprot.writeI32(struct.timestamp);
-        oprot.writeFieldEnd();
+        if (struct.gameIds != null) {
+          oprot.writeFieldBegin(GAME_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.gameIds.size()));
+            for (long _iter185 : struct.gameIds)
+            {
+              oprot.writeI64(_iter185);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getGamesWithUpdates_argsTupleSchemeFactory implements SchemeFactory {
-      public getGamesWithUpdates_argsTupleScheme getScheme() {
-        return new getGamesWithUpdates_argsTupleScheme();
+    private static class getUnseenChatsForGames_argsTupleSchemeFactory implements SchemeFactory {
+      public getUnseenChatsForGames_argsTupleScheme getScheme() {
+        return new getUnseenChatsForGames_argsTupleScheme();
       }
     }
 
-    private static class getGamesWithUpdates_argsTupleScheme extends TupleScheme<getGamesWithUpdates_args> {
+    private static class getUnseenChatsForGames_argsTupleScheme extends TupleScheme<getUnseenChatsForGames_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getGamesWithUpdates_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getUnseenChatsForGames_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetAccessToken()) {
           optionals.set(0);
         }
-        if (struct.isSetTimestamp()) {
+        if (struct.isSetGameIds()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetAccessToken()) {
           oprot.writeString(struct.accessToken);
         }
-        if (struct.isSetTimestamp()) {
-          oprot.writeI32(struct.timestamp);
+        if (struct.isSetGameIds()) {
+          {
+            oprot.writeI32(struct.gameIds.size());
+            for (long _iter186 : struct.gameIds)
+            {
+              oprot.writeI64(_iter186);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getGamesWithUpdates_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getUnseenChatsForGames_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -1969,26 +9593,35 @@ public class WwfApi {
           struct.setAccessTokenIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.timestamp = iprot.readI32();
-          struct.setTimestampIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list187 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.gameIds = new ArrayList<Long>(_list187.size);
+            for (int _i188 = 0; _i188 < _list187.size; ++_i188)
+            {
+              long _elem189; // required
+              _elem189 = iprot.readI64();
+              struct.gameIds.add(_elem189);
+            }
+          }
+          struct.setGameIdsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getGamesWithUpdates_result implements org.apache.thrift.TBase<getGamesWithUpdates_result, getGamesWithUpdates_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getGamesWithUpdates_result");
+  public static class getUnseenChatsForGames_result implements org.apache.thrift.TBase<getUnseenChatsForGames_result, getUnseenChatsForGames_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUnseenChatsForGames_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getGamesWithUpdates_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getGamesWithUpdates_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getUnseenChatsForGames_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getUnseenChatsForGames_resultTupleSchemeFactory());
     }
 
-    public GameIndex success; // required
+    public List<UnseenChatsResult> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -2053,16 +9686,17 @@ public class WwfApi {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GameIndex.class)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnseenChatsResult.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getGamesWithUpdates_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUnseenChatsForGames_result.class, metaDataMap);
     }
 
-    public getGamesWithUpdates_result() {
+    public getUnseenChatsForGames_result() {
     }
 
-    public getGamesWithUpdates_result(
-      GameIndex success)
+    public getUnseenChatsForGames_result(
+      List<UnseenChatsResult> success)
     {
       this();
       this.success = success;
@@ -2071,14 +9705,18 @@ public class WwfApi {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getGamesWithUpdates_result(getGamesWithUpdates_result other) {
+    public getUnseenChatsForGames_result(getUnseenChatsForGames_result other) {
       if (other.isSetSuccess()) {
-        this.success = new GameIndex(other.success);
+        List<UnseenChatsResult> __this__success = new ArrayList<UnseenChatsResult>();
+        for (UnseenChatsResult other_element : other.success) {
+          __this__success.add(new UnseenChatsResult(other_element));
+        }
+        this.success = __this__success;
       }
     }
 
-    public getGamesWithUpdates_result deepCopy() {
-      return new getGamesWithUpdates_result(this);
+    public getUnseenChatsForGames_result deepCopy() {
+      return new getUnseenChatsForGames_result(this);
     }
 
     @Override
@@ -2086,11 +9724,26 @@ public class WwfApi {
       this.success = null;
     }
 
-    public GameIndex getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<UnseenChatsResult> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(UnseenChatsResult elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<UnseenChatsResult>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<UnseenChatsResult> getSuccess() {
       return this.success;
     }
 
-    public getGamesWithUpdates_result setSuccess(GameIndex success) {
+    public getUnseenChatsForGames_result setSuccess(List<UnseenChatsResult> success) {
       this.success = success;
       return this;
     }
@@ -2116,7 +9769,7 @@ public class WwfApi {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((GameIndex)value);
+          setSuccess((List<UnseenChatsResult>)value);
         }
         break;
 
@@ -2149,12 +9802,12 @@ public class WwfApi {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getGamesWithUpdates_result)
-        return this.equals((getGamesWithUpdates_result)that);
+      if (that instanceof getUnseenChatsForGames_result)
+        return this.equals((getUnseenChatsForGames_result)that);
       return false;
     }
 
-    public boolean equals(getGamesWithUpdates_result that) {
+    public boolean equals(getUnseenChatsForGames_result that) {
       if (that == null)
         return false;
 
@@ -2175,13 +9828,13 @@ public class WwfApi {
       return 0;
     }
 
-    public int compareTo(getGamesWithUpdates_result other) {
+    public int compareTo(getUnseenChatsForGames_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      getGamesWithUpdates_result typedOther = (getGamesWithUpdates_result)other;
+      getUnseenChatsForGames_result typedOther = (getUnseenChatsForGames_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -2210,7 +9863,7 @@ public class WwfApi {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getGamesWithUpdates_result(");
+      StringBuilder sb = new StringBuilder("getUnseenChatsForGames_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -2244,15 +9897,15 @@ public class WwfApi {
       }
     }
 
-    private static class getGamesWithUpdates_resultStandardSchemeFactory implements SchemeFactory {
-      public getGamesWithUpdates_resultStandardScheme getScheme() {
-        return new getGamesWithUpdates_resultStandardScheme();
+    private static class getUnseenChatsForGames_resultStandardSchemeFactory implements SchemeFactory {
+      public getUnseenChatsForGames_resultStandardScheme getScheme() {
+        return new getUnseenChatsForGames_resultStandardScheme();
       }
     }
 
-    private static class getGamesWithUpdates_resultStandardScheme extends StandardScheme<getGamesWithUpdates_result> {
+    private static class getUnseenChatsForGames_resultStandardScheme extends StandardScheme<getUnseenChatsForGames_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getGamesWithUpdates_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getUnseenChatsForGames_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2263,9 +9916,19 @@ public class WwfApi {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new GameIndex();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list190 = iprot.readListBegin();
+                  struct.success = new ArrayList<UnseenChatsResult>(_list190.size);
+                  for (int _i191 = 0; _i191 < _list190.size; ++_i191)
+                  {
+                    UnseenChatsResult _elem192; // required
+                    _elem192 = new UnseenChatsResult();
+                    _elem192.read(iprot);
+                    struct.success.add(_elem192);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -2282,13 +9945,20 @@ public class WwfApi {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getGamesWithUpdates_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getUnseenChatsForGames_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (UnseenChatsResult _iter193 : struct.success)
+            {
+              _iter193.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -2297,16 +9967,16 @@ public class WwfApi {
 
     }
 
-    private static class getGamesWithUpdates_resultTupleSchemeFactory implements SchemeFactory {
-      public getGamesWithUpdates_resultTupleScheme getScheme() {
-        return new getGamesWithUpdates_resultTupleScheme();
+    private static class getUnseenChatsForGames_resultTupleSchemeFactory implements SchemeFactory {
+      public getUnseenChatsForGames_resultTupleScheme getScheme() {
+        return new getUnseenChatsForGames_resultTupleScheme();
       }
     }
 
-    private static class getGamesWithUpdates_resultTupleScheme extends TupleScheme<getGamesWithUpdates_result> {
+    private static class getUnseenChatsForGames_resultTupleScheme extends TupleScheme<getUnseenChatsForGames_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getGamesWithUpdates_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getUnseenChatsForGames_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -2314,17 +9984,32 @@ public class WwfApi {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (UnseenChatsResult _iter194 : struct.success)
+            {
+              _iter194.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getGamesWithUpdates_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getUnseenChatsForGames_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new GameIndex();
-          struct.success.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list195 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<UnseenChatsResult>(_list195.size);
+            for (int _i196 = 0; _i196 < _list195.size; ++_i196)
+            {
+              UnseenChatsResult _elem197; // required
+              _elem197 = new UnseenChatsResult();
+              _elem197.read(iprot);
+              struct.success.add(_elem197);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
       }
@@ -2332,25 +10017,25 @@ public class WwfApi {
 
   }
 
-  public static class getGameState_args implements org.apache.thrift.TBase<getGameState_args, getGameState_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getGameState_args");
+  public static class dictionaryLookups_args implements org.apache.thrift.TBase<dictionaryLookups_args, dictionaryLookups_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("dictionaryLookups_args");
 
     private static final org.apache.thrift.protocol.TField ACCESS_TOKEN_FIELD_DESC = new org.apache.thrift.protocol.TField("accessToken", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField GAME_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("gameId", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField WORD_LISTS_FIELD_DESC = new org.apache.thrift.protocol.TField("wordLists", org.apache.thrift.protocol.TType.LIST, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getGameState_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getGameState_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new dictionaryLookups_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new dictionaryLookups_argsTupleSchemeFactory());
     }
 
     public String accessToken; // required
-    public long gameId; // required
+    public List<List<String>> wordLists; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       ACCESS_TOKEN((short)1, "accessToken"),
-      GAME_ID((short)2, "gameId");
+      WORD_LISTS((short)2, "wordLists");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -2367,8 +10052,8 @@ public class WwfApi {
         switch(fieldId) {
           case 1: // ACCESS_TOKEN
             return ACCESS_TOKEN;
-          case 2: // GAME_ID
-            return GAME_ID;
+          case 2: // WORD_LISTS
+            return WORD_LISTS;
           default:
             return null;
         }
@@ -2409,60 +10094,66 @@ public class WwfApi {
     }
 
     // isset id assignments
-    private static final int __GAMEID_ISSET_ID = 0;
-    private BitSet __isset_bit_vector = new BitSet(1);
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.ACCESS_TOKEN, new org.apache.thrift.meta_data.FieldMetaData("accessToken", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.GAME_ID, new org.apache.thrift.meta_data.FieldMetaData("gameId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.WORD_LISTS, new org.apache.thrift.meta_data.FieldMetaData("wordLists", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+                  new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getGameState_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(dictionaryLookups_args.class, metaDataMap);
     }
 
-    public getGameState_args() {
+    public dictionaryLookups_args() {
     }
 
-    public getGameState_args(
+    public dictionaryLookups_args(
       String accessToken,
-      long gameId)
+      List<List<String>> wordLists)
     {
       this();
       this.accessToken = accessToken;
-      this.gameId = gameId;
-      setGameIdIsSet(true);
+      this.wordLists = wordLists;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getGameState_args(getGameState_args other) {
-      __isset_bit_vector.clear();
-      __isset_bit_vector.or(other.__isset_bit_vector);
+    public dictionaryLookups_args(dictionaryLookups_args other) {
       if (other.isSetAccessToken()) {
         this.accessToken = other.accessToken;
       }
-      this.gameId = other.gameId;
+      if (other.isSetWordLists()) {
+        List<List<String>> __this__wordLists = new ArrayList<List<String>>();
+        for (List<String> other_element : other.wordLists) {
+          List<String> __this__wordLists_copy = new ArrayList<String>();
+          for (String other_element_element : other_element) {
+            __this__wordLists_copy.add(other_element_element);
+          }
+          __this__wordLists.add(__this__wordLists_copy);
+        }
+        this.wordLists = __this__wordLists;
+      }
     }
 
-    public getGameState_args deepCopy() {
-      return new getGameState_args(this);
+    public dictionaryLookups_args deepCopy() {
+      return new dictionaryLookups_args(this);
     }
 
     @Override
     public void clear() {
       this.accessToken = null;
-      setGameIdIsSet(false);
-      this.gameId = 0;
+      this.wordLists = null;
     }
 
     public String getAccessToken() {
       return this.accessToken;
     }
 
-    public getGameState_args setAccessToken(String accessToken) {
+    public dictionaryLookups_args setAccessToken(String accessToken) {
       this.accessToken = accessToken;
       return this;
     }
@@ -2482,27 +10173,43 @@ public class WwfApi {
       }
     }
 
-    public long getGameId() {
-      return this.gameId;
+    public int getWordListsSize() {
+      return (this.wordLists == null) ? 0 : this.wordLists.size();
     }
 
-    public getGameState_args setGameId(long gameId) {
-      this.gameId = gameId;
-      setGameIdIsSet(true);
+    public java.util.Iterator<List<String>> getWordListsIterator() {
+      return (this.wordLists == null) ? null : this.wordLists.iterator();
+    }
+
+    public void addToWordLists(List<String> elem) {
+      if (this.wordLists == null) {
+        this.wordLists = new ArrayList<List<String>>();
+      }
+      this.wordLists.add(elem);
+    }
+
+    public List<List<String>> getWordLists() {
+      return this.wordLists;
+    }
+
+    public dictionaryLookups_args setWordLists(List<List<String>> wordLists) {
+      this.wordLists = wordLists;
       return this;
     }
 
-    public void unsetGameId() {
-      __isset_bit_vector.clear(__GAMEID_ISSET_ID);
+    public void unsetWordLists() {
+      this.wordLists = null;
     }
 
-    /** Returns true if field gameId is set (has been assigned a value) and false otherwise */
-    public boolean isSetGameId() {
-      return __isset_bit_vector.get(__GAMEID_ISSET_ID);
+    /** Returns true if field wordLists is set (has been assigned a value) and false otherwise */
+    public boolean isSetWordLists() {
+      return this.wordLists != null;
     }
 
-    public void setGameIdIsSet(boolean value) {
-      __isset_bit_vector.set(__GAMEID_ISSET_ID, value);
+    public void setWordListsIsSet(boolean value) {
+      if (!value) {
+        this.wordLists = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -2515,11 +10222,11 @@ public class WwfApi {
         }
         break;
 
-      case GAME_ID:
+      case WORD_LISTS:
         if (value == null) {
-          unsetGameId();
+          unsetWordLists();
         } else {
-          setGameId((Long)value);
+          setWordLists((List<List<String>>)value);
         }
         break;
 
@@ -2531,8 +10238,8 @@ public class WwfApi {
       case ACCESS_TOKEN:
         return getAccessToken();
 
-      case GAME_ID:
-        return Long.valueOf(getGameId());
+      case WORD_LISTS:
+        return getWordLists();
 
       }
       throw new IllegalStateException();
@@ -2547,8 +10254,8 @@ public class WwfApi {
       switch (field) {
       case ACCESS_TOKEN:
         return isSetAccessToken();
-      case GAME_ID:
-        return isSetGameId();
+      case WORD_LISTS:
+        return isSetWordLists();
       }
       throw new IllegalStateException();
     }
@@ -2557,12 +10264,12 @@ public class WwfApi {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getGameState_args)
-        return this.equals((getGameState_args)that);
+      if (that instanceof dictionaryLookups_args)
+        return this.equals((dictionaryLookups_args)that);
       return false;
     }
 
-    public boolean equals(getGameState_args that) {
+    public boolean equals(dictionaryLookups_args that) {
       if (that == null)
         return false;
 
@@ -2575,12 +10282,12 @@ public class WwfApi {
           return false;
       }
 
-      boolean this_present_gameId = true;
-      boolean that_present_gameId = true;
-      if (this_present_gameId || that_present_gameId) {
-        if (!(this_present_gameId && that_present_gameId))
+      boolean this_present_wordLists = true && this.isSetWordLists();
+      boolean that_present_wordLists = true && that.isSetWordLists();
+      if (this_present_wordLists || that_present_wordLists) {
+        if (!(this_present_wordLists && that_present_wordLists))
           return false;
-        if (this.gameId != that.gameId)
+        if (!this.wordLists.equals(that.wordLists))
           return false;
       }
 
@@ -2592,13 +10299,13 @@ public class WwfApi {
       return 0;
     }
 
-    public int compareTo(getGameState_args other) {
+    public int compareTo(dictionaryLookups_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      getGameState_args typedOther = (getGameState_args)other;
+      dictionaryLookups_args typedOther = (dictionaryLookups_args)other;
 
       lastComparison = Boolean.valueOf(isSetAccessToken()).compareTo(typedOther.isSetAccessToken());
       if (lastComparison != 0) {
@@ -2610,12 +10317,12 @@ public class WwfApi {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetGameId()).compareTo(typedOther.isSetGameId());
+      lastComparison = Boolean.valueOf(isSetWordLists()).compareTo(typedOther.isSetWordLists());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetGameId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.gameId, typedOther.gameId);
+      if (isSetWordLists()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.wordLists, typedOther.wordLists);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -2637,7 +10344,7 @@ public class WwfApi {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getGameState_args(");
+      StringBuilder sb = new StringBuilder("dictionaryLookups_args(");
       boolean first = true;
 
       sb.append("accessToken:");
@@ -2648,8 +10355,12 @@ public class WwfApi {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("gameId:");
-      sb.append(this.gameId);
+      sb.append("wordLists:");
+      if (this.wordLists == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.wordLists);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -2675,15 +10386,15 @@ public class WwfApi {
       }
     }
 
-    private static class getGameState_argsStandardSchemeFactory implements SchemeFactory {
-      public getGameState_argsStandardScheme getScheme() {
-        return new getGameState_argsStandardScheme();
+    private static class dictionaryLookups_argsStandardSchemeFactory implements SchemeFactory {
+      public dictionaryLookups_argsStandardScheme getScheme() {
+        return new dictionaryLookups_argsStandardScheme();
       }
     }
 
-    private static class getGameState_argsStandardScheme extends StandardScheme<getGameState_args> {
+    private static class dictionaryLookups_argsStandardScheme extends StandardScheme<dictionaryLookups_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getGameState_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, dictionaryLookups_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2701,10 +10412,30 @@ public class WwfApi {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // GAME_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.gameId = iprot.readI64();
-                struct.setGameIdIsSet(true);
+            case 2: // WORD_LISTS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list198 = iprot.readListBegin();
+                  struct.wordLists = new ArrayList<List<String>>(_list198.size);
+                  for (int _i199 = 0; _i199 < _list198.size; ++_i199)
+                  {
+                    List<String> _elem200; // required
+                    {
+                      org.apache.thrift.protocol.TList _list201 = iprot.readListBegin();
+                      _elem200 = new ArrayList<String>(_list201.size);
+                      for (int _i202 = 0; _i202 < _list201.size; ++_i202)
+                      {
+                        String _elem203; // required
+                        _elem203 = iprot.readString();
+                        _elem200.add(_elem203);
+                      }
+                      iprot.readListEnd();
+                    }
+                    struct.wordLists.add(_elem200);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setWordListsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -2720,7 +10451,7 @@ public class WwfApi {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getGameState_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, dictionaryLookups_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -2729,44 +10460,72 @@ public class WwfApi {
           oprot.writeString(struct.accessToken);
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(GAME_ID_FIELD_DESC);
-        oprot.writeI64(struct.gameId);
-        oprot.writeFieldEnd();
+        if (struct.wordLists != null) {
+          oprot.writeFieldBegin(WORD_LISTS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.LIST, struct.wordLists.size()));
+            for (List<String> _iter204 : struct.wordLists)
+            {
+              {
+                oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, _iter204.size()));
+                for (String _iter205 : _iter204)
+                {
+                  oprot.writeString(_iter205);
+                }
+                oprot.writeListEnd();
+              }
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getGameState_argsTupleSchemeFactory implements SchemeFactory {
-      public getGameState_argsTupleScheme getScheme() {
-        return new getGameState_argsTupleScheme();
+    private static class dictionaryLookups_argsTupleSchemeFactory implements SchemeFactory {
+      public dictionaryLookups_argsTupleScheme getScheme() {
+        return new dictionaryLookups_argsTupleScheme();
       }
     }
 
-    private static class getGameState_argsTupleScheme extends TupleScheme<getGameState_args> {
+    private static class dictionaryLookups_argsTupleScheme extends TupleScheme<dictionaryLookups_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getGameState_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, dictionaryLookups_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetAccessToken()) {
           optionals.set(0);
         }
-        if (struct.isSetGameId()) {
+        if (struct.isSetWordLists()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetAccessToken()) {
           oprot.writeString(struct.accessToken);
         }
-        if (struct.isSetGameId()) {
-          oprot.writeI64(struct.gameId);
+        if (struct.isSetWordLists()) {
+          {
+            oprot.writeI32(struct.wordLists.size());
+            for (List<String> _iter206 : struct.wordLists)
+            {
+              {
+                oprot.writeI32(_iter206.size());
+                for (String _iter207 : _iter206)
+                {
+                  oprot.writeString(_iter207);
+                }
+              }
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getGameState_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, dictionaryLookups_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -2774,26 +10533,44 @@ public class WwfApi {
           struct.setAccessTokenIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.gameId = iprot.readI64();
-          struct.setGameIdIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list208 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.LIST, iprot.readI32());
+            struct.wordLists = new ArrayList<List<String>>(_list208.size);
+            for (int _i209 = 0; _i209 < _list208.size; ++_i209)
+            {
+              List<String> _elem210; // required
+              {
+                org.apache.thrift.protocol.TList _list211 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+                _elem210 = new ArrayList<String>(_list211.size);
+                for (int _i212 = 0; _i212 < _list211.size; ++_i212)
+                {
+                  String _elem213; // required
+                  _elem213 = iprot.readString();
+                  _elem210.add(_elem213);
+                }
+              }
+              struct.wordLists.add(_elem210);
+            }
+          }
+          struct.setWordListsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getGameState_result implements org.apache.thrift.TBase<getGameState_result, getGameState_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getGameState_result");
+  public static class dictionaryLookups_result implements org.apache.thrift.TBase<dictionaryLookups_result, dictionaryLookups_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("dictionaryLookups_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getGameState_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getGameState_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new dictionaryLookups_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new dictionaryLookups_resultTupleSchemeFactory());
     }
 
-    public GameState success; // required
+    public List<DictionaryLookupResult> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -2858,16 +10635,17 @@ public class WwfApi {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GameState.class)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, DictionaryLookupResult.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getGameState_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(dictionaryLookups_result.class, metaDataMap);
     }
 
-    public getGameState_result() {
+    public dictionaryLookups_result() {
     }
 
-    public getGameState_result(
-      GameState success)
+    public dictionaryLookups_result(
+      List<DictionaryLookupResult> success)
     {
       this();
       this.success = success;
@@ -2876,14 +10654,18 @@ public class WwfApi {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getGameState_result(getGameState_result other) {
+    public dictionaryLookups_result(dictionaryLookups_result other) {
       if (other.isSetSuccess()) {
-        this.success = new GameState(other.success);
+        List<DictionaryLookupResult> __this__success = new ArrayList<DictionaryLookupResult>();
+        for (DictionaryLookupResult other_element : other.success) {
+          __this__success.add(new DictionaryLookupResult(other_element));
+        }
+        this.success = __this__success;
       }
     }
 
-    public getGameState_result deepCopy() {
-      return new getGameState_result(this);
+    public dictionaryLookups_result deepCopy() {
+      return new dictionaryLookups_result(this);
     }
 
     @Override
@@ -2891,11 +10673,26 @@ public class WwfApi {
       this.success = null;
     }
 
-    public GameState getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<DictionaryLookupResult> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(DictionaryLookupResult elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<DictionaryLookupResult>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<DictionaryLookupResult> getSuccess() {
       return this.success;
     }
 
-    public getGameState_result setSuccess(GameState success) {
+    public dictionaryLookups_result setSuccess(List<DictionaryLookupResult> success) {
       this.success = success;
       return this;
     }
@@ -2921,7 +10718,7 @@ public class WwfApi {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((GameState)value);
+          setSuccess((List<DictionaryLookupResult>)value);
         }
         break;
 
@@ -2954,12 +10751,12 @@ public class WwfApi {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getGameState_result)
-        return this.equals((getGameState_result)that);
+      if (that instanceof dictionaryLookups_result)
+        return this.equals((dictionaryLookups_result)that);
       return false;
     }
 
-    public boolean equals(getGameState_result that) {
+    public boolean equals(dictionaryLookups_result that) {
       if (that == null)
         return false;
 
@@ -2980,13 +10777,13 @@ public class WwfApi {
       return 0;
     }
 
-    public int compareTo(getGameState_result other) {
+    public int compareTo(dictionaryLookups_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      getGameState_result typedOther = (getGameState_result)other;
+      dictionaryLookups_result typedOther = (dictionaryLookups_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -3015,7 +10812,7 @@ public class WwfApi {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getGameState_result(");
+      StringBuilder sb = new StringBuilder("dictionaryLookups_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -3049,15 +10846,15 @@ public class WwfApi {
       }
     }
 
-    private static class getGameState_resultStandardSchemeFactory implements SchemeFactory {
-      public getGameState_resultStandardScheme getScheme() {
-        return new getGameState_resultStandardScheme();
+    private static class dictionaryLookups_resultStandardSchemeFactory implements SchemeFactory {
+      public dictionaryLookups_resultStandardScheme getScheme() {
+        return new dictionaryLookups_resultStandardScheme();
       }
     }
 
-    private static class getGameState_resultStandardScheme extends StandardScheme<getGameState_result> {
+    private static class dictionaryLookups_resultStandardScheme extends StandardScheme<dictionaryLookups_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getGameState_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, dictionaryLookups_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3068,9 +10865,19 @@ public class WwfApi {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new GameState();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list214 = iprot.readListBegin();
+                  struct.success = new ArrayList<DictionaryLookupResult>(_list214.size);
+                  for (int _i215 = 0; _i215 < _list214.size; ++_i215)
+                  {
+                    DictionaryLookupResult _elem216; // required
+                    _elem216 = new DictionaryLookupResult();
+                    _elem216.read(iprot);
+                    struct.success.add(_elem216);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -3087,13 +10894,20 @@ public class WwfApi {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getGameState_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, dictionaryLookups_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (DictionaryLookupResult _iter217 : struct.success)
+            {
+              _iter217.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -3102,16 +10916,16 @@ public class WwfApi {
 
     }
 
-    private static class getGameState_resultTupleSchemeFactory implements SchemeFactory {
-      public getGameState_resultTupleScheme getScheme() {
-        return new getGameState_resultTupleScheme();
+    private static class dictionaryLookups_resultTupleSchemeFactory implements SchemeFactory {
+      public dictionaryLookups_resultTupleScheme getScheme() {
+        return new dictionaryLookups_resultTupleScheme();
       }
     }
 
-    private static class getGameState_resultTupleScheme extends TupleScheme<getGameState_result> {
+    private static class dictionaryLookups_resultTupleScheme extends TupleScheme<dictionaryLookups_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getGameState_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, dictionaryLookups_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -3119,17 +10933,32 @@ public class WwfApi {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (DictionaryLookupResult _iter218 : struct.success)
+            {
+              _iter218.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getGameState_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, dictionaryLookups_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new GameState();
-          struct.success.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list219 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<DictionaryLookupResult>(_list219.size);
+            for (int _i220 = 0; _i220 < _list219.size; ++_i220)
+            {
+              DictionaryLookupResult _elem221; // required
+              _elem221 = new DictionaryLookupResult();
+              _elem221.read(iprot);
+              struct.success.add(_elem221);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
       }
@@ -3137,27 +10966,27 @@ public class WwfApi {
 
   }
 
-  public static class makeMove_args implements org.apache.thrift.TBase<makeMove_args, makeMove_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("makeMove_args");
+  public static class scorePlay_args implements org.apache.thrift.TBase<scorePlay_args, scorePlay_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("scorePlay_args");
 
     private static final org.apache.thrift.protocol.TField ACCESS_TOKEN_FIELD_DESC = new org.apache.thrift.protocol.TField("accessToken", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField CURRENT_STATE_FIELD_DESC = new org.apache.thrift.protocol.TField("currentState", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField GAME_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("gameId", org.apache.thrift.protocol.TType.I64, (short)2);
     private static final org.apache.thrift.protocol.TField MOVE_FIELD_DESC = new org.apache.thrift.protocol.TField("move", org.apache.thrift.protocol.TType.STRUCT, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new makeMove_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new makeMove_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new scorePlay_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new scorePlay_argsTupleSchemeFactory());
     }
 
     public String accessToken; // required
-    public GameState currentState; // required
+    public long gameId; // required
     public MoveSubmission move; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       ACCESS_TOKEN((short)1, "accessToken"),
-      CURRENT_STATE((short)2, "currentState"),
+      GAME_ID((short)2, "gameId"),
       MOVE((short)3, "move");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -3175,8 +11004,8 @@ public class WwfApi {
         switch(fieldId) {
           case 1: // ACCESS_TOKEN
             return ACCESS_TOKEN;
-          case 2: // CURRENT_STATE
-            return CURRENT_STATE;
+          case 2: // GAME_ID
+            return GAME_ID;
           case 3: // MOVE
             return MOVE;
           default:
@@ -3219,56 +11048,60 @@ public class WwfApi {
     }
 
     // isset id assignments
+    private static final int __GAMEID_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.ACCESS_TOKEN, new org.apache.thrift.meta_data.FieldMetaData("accessToken", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.CURRENT_STATE, new org.apache.thrift.meta_data.FieldMetaData("currentState", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GameState.class)));
+      tmpMap.put(_Fields.GAME_ID, new org.apache.thrift.meta_data.FieldMetaData("gameId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.MOVE, new org.apache.thrift.meta_data.FieldMetaData("move", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, MoveSubmission.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(makeMove_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(scorePlay_args.class, metaDataMap);
     }
 
-    public makeMove_args() {
+    public scorePlay_args() {
     }
 
-    public makeMove_args(
+    public scorePlay_args(
       String accessToken,
-      GameState currentState,
+      long gameId,
       MoveSubmission move)
     {
       this();
       this.accessToken = accessToken;
-      this.currentState = currentState;
+      this.gameId = gameId;
+      setGameIdIsSet(true);
       this.move = move;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public makeMove_args(makeMove_args other) {
+    public scorePlay_args(scorePlay_args other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
       if (other.isSetAccessToken()) {
         this.accessToken = other.accessToken;
       }
-      if (other.isSetCurrentState()) {
-        this.currentState = new GameState(other.currentState);
-      }
+      this.gameId = other.gameId;
       if (other.isSetMove()) {
         this.move = new MoveSubmission(other.move);
       }
     }
 
-    public makeMove_args deepCopy() {
-      return new makeMove_args(this);
+    public scorePlay_args deepCopy() {
+      return new scorePlay_args(this);
     }
 
     @Override
     public void clear() {
       this.accessToken = null;
-      this.currentState = null;
+      setGameIdIsSet(false);
+      this.gameId = 0;
       this.move = null;
     }
 
@@ -3276,7 +11109,7 @@ public class WwfApi {
       return this.accessToken;
     }
 
-    public makeMove_args setAccessToken(String accessToken) {
+    public scorePlay_args setAccessToken(String accessToken) {
       this.accessToken = accessToken;
       return this;
     }
@@ -3296,35 +11129,34 @@ public class WwfApi {
       }
     }
 
-    public GameState getCurrentState() {
-      return this.currentState;
+    public long getGameId() {
+      return this.gameId;
     }
 
-    public makeMove_args setCurrentState(GameState currentState) {
-      this.currentState = currentState;
+    public scorePlay_args setGameId(long gameId) {
+      this.gameId = gameId;
+      setGameIdIsSet(true);
       return this;
     }
 
-    public void unsetCurrentState() {
-      this.currentState = null;
+    public void unsetGameId() {
+      __isset_bit_vector.clear(__GAMEID_ISSET_ID);
     }
 
-    /** Returns true if field currentState is set (has been assigned a value) and false otherwise */
-    public boolean isSetCurrentState() {
-      return this.currentState != null;
+    /** Returns true if field gameId is set (has been assigned a value) and false otherwise */
+    public boolean isSetGameId() {
+      return __isset_bit_vector.get(__GAMEID_ISSET_ID);
     }
 
-    public void setCurrentStateIsSet(boolean value) {
-      if (!value) {
-        this.currentState = null;
-      }
+    public void setGameIdIsSet(boolean value) {
+      __isset_bit_vector.set(__GAMEID_ISSET_ID, value);
     }
 
     public MoveSubmission getMove() {
       return this.move;
     }
 
-    public makeMove_args setMove(MoveSubmission move) {
+    public scorePlay_args setMove(MoveSubmission move) {
       this.move = move;
       return this;
     }
@@ -3354,11 +11186,11 @@ public class WwfApi {
         }
         break;
 
-      case CURRENT_STATE:
+      case GAME_ID:
         if (value == null) {
-          unsetCurrentState();
+          unsetGameId();
         } else {
-          setCurrentState((GameState)value);
+          setGameId((Long)value);
         }
         break;
 
@@ -3378,8 +11210,8 @@ public class WwfApi {
       case ACCESS_TOKEN:
         return getAccessToken();
 
-      case CURRENT_STATE:
-        return getCurrentState();
+      case GAME_ID:
+        return Long.valueOf(getGameId());
 
       case MOVE:
         return getMove();
@@ -3397,8 +11229,8 @@ public class WwfApi {
       switch (field) {
       case ACCESS_TOKEN:
         return isSetAccessToken();
-      case CURRENT_STATE:
-        return isSetCurrentState();
+      case GAME_ID:
+        return isSetGameId();
       case MOVE:
         return isSetMove();
       }
@@ -3409,12 +11241,12 @@ public class WwfApi {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof makeMove_args)
-        return this.equals((makeMove_args)that);
+      if (that instanceof scorePlay_args)
+        return this.equals((scorePlay_args)that);
       return false;
     }
 
-    public boolean equals(makeMove_args that) {
+    public boolean equals(scorePlay_args that) {
       if (that == null)
         return false;
 
@@ -3427,12 +11259,12 @@ public class WwfApi {
           return false;
       }
 
-      boolean this_present_currentState = true && this.isSetCurrentState();
-      boolean that_present_currentState = true && that.isSetCurrentState();
-      if (this_present_currentState || that_present_currentState) {
-        if (!(this_present_currentState && that_present_currentState))
+      boolean this_present_gameId = true;
+      boolean that_present_gameId = true;
+      if (this_present_gameId || that_present_gameId) {
+        if (!(this_present_gameId && that_present_gameId))
           return false;
-        if (!this.currentState.equals(that.currentState))
+        if (this.gameId != that.gameId)
           return false;
       }
 
@@ -3453,13 +11285,13 @@ public class WwfApi {
       return 0;
     }
 
-    public int compareTo(makeMove_args other) {
+    public int compareTo(scorePlay_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      makeMove_args typedOther = (makeMove_args)other;
+      scorePlay_args typedOther = (scorePlay_args)other;
 
       lastComparison = Boolean.valueOf(isSetAccessToken()).compareTo(typedOther.isSetAccessToken());
       if (lastComparison != 0) {
@@ -3471,12 +11303,12 @@ public class WwfApi {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetCurrentState()).compareTo(typedOther.isSetCurrentState());
+      lastComparison = Boolean.valueOf(isSetGameId()).compareTo(typedOther.isSetGameId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetCurrentState()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.currentState, typedOther.currentState);
+      if (isSetGameId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.gameId, typedOther.gameId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3508,7 +11340,7 @@ public class WwfApi {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("makeMove_args(");
+      StringBuilder sb = new StringBuilder("scorePlay_args(");
       boolean first = true;
 
       sb.append("accessToken:");
@@ -3519,12 +11351,8 @@ public class WwfApi {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("currentState:");
-      if (this.currentState == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.currentState);
-      }
+      sb.append("gameId:");
+      sb.append(this.gameId);
       first = false;
       if (!first) sb.append(", ");
       sb.append("move:");
@@ -3552,21 +11380,23 @@ public class WwfApi {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bit_vector = new BitSet(1);
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class makeMove_argsStandardSchemeFactory implements SchemeFactory {
-      public makeMove_argsStandardScheme getScheme() {
-        return new makeMove_argsStandardScheme();
+    private static class scorePlay_argsStandardSchemeFactory implements SchemeFactory {
+      public scorePlay_argsStandardScheme getScheme() {
+        return new scorePlay_argsStandardScheme();
       }
     }
 
-    private static class makeMove_argsStandardScheme extends StandardScheme<makeMove_args> {
+    private static class scorePlay_argsStandardScheme extends StandardScheme<scorePlay_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, makeMove_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, scorePlay_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3584,11 +11414,10 @@ public class WwfApi {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // CURRENT_STATE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.currentState = new GameState();
-                struct.currentState.read(iprot);
-                struct.setCurrentStateIsSet(true);
+            case 2: // GAME_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.gameId = iprot.readI64();
+                struct.setGameIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -3613,7 +11442,7 @@ public class WwfApi {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, makeMove_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, scorePlay_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -3622,11 +11451,9 @@ public class WwfApi {
           oprot.writeString(struct.accessToken);
           oprot.writeFieldEnd();
         }
-        if (struct.currentState != null) {
-          oprot.writeFieldBegin(CURRENT_STATE_FIELD_DESC);
-          struct.currentState.write(oprot);
-          oprot.writeFieldEnd();
-        }
+        oprot.writeFieldBegin(GAME_ID_FIELD_DESC);
+        oprot.writeI64(struct.gameId);
+        oprot.writeFieldEnd();
         if (struct.move != null) {
           oprot.writeFieldBegin(MOVE_FIELD_DESC);
           struct.move.write(oprot);
@@ -3638,22 +11465,22 @@ public class WwfApi {
 
     }
 
-    private static class makeMove_argsTupleSchemeFactory implements SchemeFactory {
-      public makeMove_argsTupleScheme getScheme() {
-        return new makeMove_argsTupleScheme();
+    private static class scorePlay_argsTupleSchemeFactory implements SchemeFactory {
+      public scorePlay_argsTupleScheme getScheme() {
+        return new scorePlay_argsTupleScheme();
       }
     }
 
-    private static class makeMove_argsTupleScheme extends TupleScheme<makeMove_args> {
+    private static class scorePlay_argsTupleScheme extends TupleScheme<scorePlay_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, makeMove_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, scorePlay_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetAccessToken()) {
           optionals.set(0);
         }
-        if (struct.isSetCurrentState()) {
+        if (struct.isSetGameId()) {
           optionals.set(1);
         }
         if (struct.isSetMove()) {
@@ -3663,8 +11490,8 @@ public class WwfApi {
         if (struct.isSetAccessToken()) {
           oprot.writeString(struct.accessToken);
         }
-        if (struct.isSetCurrentState()) {
-          struct.currentState.write(oprot);
+        if (struct.isSetGameId()) {
+          oprot.writeI64(struct.gameId);
         }
         if (struct.isSetMove()) {
           struct.move.write(oprot);
@@ -3672,7 +11499,7 @@ public class WwfApi {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, makeMove_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, scorePlay_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
@@ -3680,9 +11507,8 @@ public class WwfApi {
           struct.setAccessTokenIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.currentState = new GameState();
-          struct.currentState.read(iprot);
-          struct.setCurrentStateIsSet(true);
+          struct.gameId = iprot.readI64();
+          struct.setGameIdIsSet(true);
         }
         if (incoming.get(2)) {
           struct.move = new MoveSubmission();
@@ -3694,18 +11520,18 @@ public class WwfApi {
 
   }
 
-  public static class makeMove_result implements org.apache.thrift.TBase<makeMove_result, makeMove_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("makeMove_result");
+  public static class scorePlay_result implements org.apache.thrift.TBase<scorePlay_result, scorePlay_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("scorePlay_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new makeMove_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new makeMove_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new scorePlay_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new scorePlay_resultTupleSchemeFactory());
     }
 
-    public GameState success; // required
+    public ScoredPlay success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -3770,16 +11596,16 @@ public class WwfApi {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GameState.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ScoredPlay.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(makeMove_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(scorePlay_result.class, metaDataMap);
     }
 
-    public makeMove_result() {
+    public scorePlay_result() {
     }
 
-    public makeMove_result(
-      GameState success)
+    public scorePlay_result(
+      ScoredPlay success)
     {
       this();
       this.success = success;
@@ -3788,14 +11614,14 @@ public class WwfApi {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public makeMove_result(makeMove_result other) {
+    public scorePlay_result(scorePlay_result other) {
       if (other.isSetSuccess()) {
-        this.success = new GameState(other.success);
+        this.success = new ScoredPlay(other.success);
       }
     }
 
-    public makeMove_result deepCopy() {
-      return new makeMove_result(this);
+    public scorePlay_result deepCopy() {
+      return new scorePlay_result(this);
     }
 
     @Override
@@ -3803,11 +11629,11 @@ public class WwfApi {
       this.success = null;
     }
 
-    public GameState getSuccess() {
+    public ScoredPlay getSuccess() {
       return this.success;
     }
 
-    public makeMove_result setSuccess(GameState success) {
+    public scorePlay_result setSuccess(ScoredPlay success) {
       this.success = success;
       return this;
     }
@@ -3833,7 +11659,7 @@ public class WwfApi {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((GameState)value);
+          setSuccess((ScoredPlay)value);
         }
         break;
 
@@ -3866,12 +11692,12 @@ public class WwfApi {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof makeMove_result)
-        return this.equals((makeMove_result)that);
+      if (that instanceof scorePlay_result)
+        return this.equals((scorePlay_result)that);
       return false;
     }
 
-    public boolean equals(makeMove_result that) {
+    public boolean equals(scorePlay_result that) {
       if (that == null)
         return false;
 
@@ -3892,13 +11718,13 @@ public class WwfApi {
       return 0;
     }
 
-    public int compareTo(makeMove_result other) {
+    public int compareTo(scorePlay_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      makeMove_result typedOther = (makeMove_result)other;
+      scorePlay_result typedOther = (scorePlay_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -3927,7 +11753,7 @@ public class WwfApi {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("makeMove_result(");
+      StringBuilder sb = new StringBuilder("scorePlay_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -3961,15 +11787,15 @@ public class WwfApi {
       }
     }
 
-    private static class makeMove_resultStandardSchemeFactory implements SchemeFactory {
-      public makeMove_resultStandardScheme getScheme() {
-        return new makeMove_resultStandardScheme();
+    private static class scorePlay_resultStandardSchemeFactory implements SchemeFactory {
+      public scorePlay_resultStandardScheme getScheme() {
+        return new scorePlay_resultStandardScheme();
       }
     }
 
-    private static class makeMove_resultStandardScheme extends StandardScheme<makeMove_result> {
+    private static class scorePlay_resultStandardScheme extends StandardScheme<scorePlay_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, makeMove_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, scorePlay_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3981,7 +11807,7 @@ public class WwfApi {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new GameState();
+                struct.success = new ScoredPlay();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -3999,7 +11825,7 @@ public class WwfApi {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, makeMove_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, scorePlay_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -4014,16 +11840,16 @@ public class WwfApi {
 
     }
 
-    private static class makeMove_resultTupleSchemeFactory implements SchemeFactory {
-      public makeMove_resultTupleScheme getScheme() {
-        return new makeMove_resultTupleScheme();
+    private static class scorePlay_resultTupleSchemeFactory implements SchemeFactory {
+      public scorePlay_resultTupleScheme getScheme() {
+        return new scorePlay_resultTupleScheme();
       }
     }
 
-    private static class makeMove_resultTupleScheme extends TupleScheme<makeMove_result> {
+    private static class scorePlay_resultTupleScheme extends TupleScheme<scorePlay_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, makeMove_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, scorePlay_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -4036,11 +11862,11 @@ public class WwfApi {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, makeMove_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, scorePlay_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new GameState();
+          struct.success = new ScoredPlay();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -4049,25 +11875,25 @@ public class WwfApi {
 
   }
 
-  public static class createMatchmakingGame_args implements org.apache.thrift.TBase<createMatchmakingGame_args, createMatchmakingGame_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createMatchmakingGame_args");
+  public static class scorePlayInState_args implements org.apache.thrift.TBase<scorePlayInState_args, scorePlayInState_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("scorePlayInState_args");
 
-    private static final org.apache.thrift.protocol.TField ACCESS_TOKEN_FIELD_DESC = new org.apache.thrift.protocol.TField("accessToken", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField PARAMS_FIELD_DESC = new org.apache.thrift.protocol.TField("params", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField STATE_FIELD_DESC = new org.apache.thrift.protocol.TField("state", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField MOVE_FIELD_DESC = new org.apache.thrift.protocol.TField("move", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new createMatchmakingGame_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new createMatchmakingGame_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new scorePlayInState_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new scorePlayInState_argsTupleSchemeFactory());
     }
 
-    public String accessToken; // required
-    public NewGameParams params; // required
+    public GameState state; // required
+    public MoveSubmission move; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      ACCESS_TOKEN((short)1, "accessToken"),
-      PARAMS((short)2, "params");
+      STATE((short)1, "state"),
+      MOVE((short)2, "move");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -4082,10 +11908,10 @@ public class WwfApi {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // ACCESS_TOKEN
-            return ACCESS_TOKEN;
-          case 2: // PARAMS
-            return PARAMS;
+          case 1: // STATE
+            return STATE;
+          case 2: // MOVE
+            return MOVE;
           default:
             return null;
         }
@@ -4129,111 +11955,111 @@ public class WwfApi {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.ACCESS_TOKEN, new org.apache.thrift.meta_data.FieldMetaData("accessToken", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.PARAMS, new org.apache.thrift.meta_data.FieldMetaData("params", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, NewGameParams.class)));
+      tmpMap.put(_Fields.STATE, new org.apache.thrift.meta_data.FieldMetaData("state", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GameState.class)));
+      tmpMap.put(_Fields.MOVE, new org.apache.thrift.meta_data.FieldMetaData("move", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, MoveSubmission.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createMatchmakingGame_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(scorePlayInState_args.class, metaDataMap);
     }
 
-    public createMatchmakingGame_args() {
+    public scorePlayInState_args() {
     }
 
-    public createMatchmakingGame_args(
-      String accessToken,
-      NewGameParams params)
+    public scorePlayInState_args(
+      GameState state,
+      MoveSubmission move)
     {
       this();
-      this.accessToken = accessToken;
-      this.params = params;
+      this.state = state;
+      this.move = move;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createMatchmakingGame_args(createMatchmakingGame_args other) {
-      if (other.isSetAccessToken()) {
-        this.accessToken = other.accessToken;
+    public scorePlayInState_args(scorePlayInState_args other) {
+      if (other.isSetState()) {
+        this.state = new GameState(other.state);
       }
-      if (other.isSetParams()) {
-        this.params = new NewGameParams(other.params);
+      if (other.isSetMove()) {
+        this.move = new MoveSubmission(other.move);
       }
     }
 
-    public createMatchmakingGame_args deepCopy() {
-      return new createMatchmakingGame_args(this);
+    public scorePlayInState_args deepCopy() {
+      return new scorePlayInState_args(this);
     }
 
     @Override
     public void clear() {
-      this.accessToken = null;
-      this.params = null;
+      this.state = null;
+      this.move = null;
     }
 
-    public String getAccessToken() {
-      return this.accessToken;
+    public GameState getState() {
+      return this.state;
     }
 
-    public createMatchmakingGame_args setAccessToken(String accessToken) {
-      this.accessToken = accessToken;
+    public scorePlayInState_args setState(GameState state) {
+      this.state = state;
       return this;
     }
 
-    public void unsetAccessToken() {
-      this.accessToken = null;
+    public void unsetState() {
+      this.state = null;
     }
 
-    /** Returns true if field accessToken is set (has been assigned a value) and false otherwise */
-    public boolean isSetAccessToken() {
-      return this.accessToken != null;
+    /** Returns true if field state is set (has been assigned a value) and false otherwise */
+    public boolean isSetState() {
+      return this.state != null;
     }
 
-    public void setAccessTokenIsSet(boolean value) {
+    public void setStateIsSet(boolean value) {
       if (!value) {
-        this.accessToken = null;
+        this.state = null;
       }
     }
 
-    public NewGameParams getParams() {
-      return this.params;
+    public MoveSubmission getMove() {
+      return this.move;
     }
 
-    public createMatchmakingGame_args setParams(NewGameParams params) {
-      this.params = params;
+    public scorePlayInState_args setMove(MoveSubmission move) {
+      this.move = move;
       return this;
     }
 
-    public void unsetParams() {
-      this.params = null;
+    public void unsetMove() {
+      this.move = null;
     }
 
-    /** Returns true if field params is set (has been assigned a value) and false otherwise */
-    public boolean isSetParams() {
-      return this.params != null;
+    /** Returns true if field move is set (has been assigned a value) and false otherwise */
+    public boolean isSetMove() {
+      return this.move != null;
     }
 
-    public void setParamsIsSet(boolean value) {
+    public void setMoveIsSet(boolean value) {
       if (!value) {
-        this.params = null;
+        this.move = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case ACCESS_TOKEN:
+      case STATE:
         if (value == null) {
-          unsetAccessToken();
+          unsetState();
         } else {
-          setAccessToken((String)value);
+          setState((GameState)value);
         }
         break;
 
-      case PARAMS:
+      case MOVE:
         if (value == null) {
-          unsetParams();
+          unsetMove();
         } else {
-          setParams((NewGameParams)value);
+          setMove((MoveSubmission)value);
         }
         break;
 
@@ -4242,11 +12068,11 @@ public class WwfApi {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case ACCESS_TOKEN:
-        return getAccessToken();
+      case STATE:
+        return getState();
 
-      case PARAMS:
-        return getParams();
+      case MOVE:
+        return getMove();
 
       }
       throw new IllegalStateException();
@@ -4259,10 +12085,10 @@ public class WwfApi {
       }
 
       switch (field) {
-      case ACCESS_TOKEN:
-        return isSetAccessToken();
-      case PARAMS:
-        return isSetParams();
+      case STATE:
+        return isSetState();
+      case MOVE:
+        return isSetMove();
       }
       throw new IllegalStateException();
     }
@@ -4271,30 +12097,30 @@ public class WwfApi {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof createMatchmakingGame_args)
-        return this.equals((createMatchmakingGame_args)that);
+      if (that instanceof scorePlayInState_args)
+        return this.equals((scorePlayInState_args)that);
       return false;
     }
 
-    public boolean equals(createMatchmakingGame_args that) {
+    public boolean equals(scorePlayInState_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_accessToken = true && this.isSetAccessToken();
-      boolean that_present_accessToken = true && that.isSetAccessToken();
-      if (this_present_accessToken || that_present_accessToken) {
-        if (!(this_present_accessToken && that_present_accessToken))
+      boolean this_present_state = true && this.isSetState();
+      boolean that_present_state = true && that.isSetState();
+      if (this_present_state || that_present_state) {
+        if (!(this_present_state && that_present_state))
           return false;
-        if (!this.accessToken.equals(that.accessToken))
+        if (!this.state.equals(that.state))
           return false;
       }
 
-      boolean this_present_params = true && this.isSetParams();
-      boolean that_present_params = true && that.isSetParams();
-      if (this_present_params || that_present_params) {
-        if (!(this_present_params && that_present_params))
+      boolean this_present_move = true && this.isSetMove();
+      boolean that_present_move = true && that.isSetMove();
+      if (this_present_move || that_present_move) {
+        if (!(this_present_move && that_present_move))
           return false;
-        if (!this.params.equals(that.params))
+        if (!this.move.equals(that.move))
           return false;
       }
 
@@ -4306,30 +12132,30 @@ public class WwfApi {
       return 0;
     }
 
-    public int compareTo(createMatchmakingGame_args other) {
+    public int compareTo(scorePlayInState_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      createMatchmakingGame_args typedOther = (createMatchmakingGame_args)other;
+      scorePlayInState_args typedOther = (scorePlayInState_args)other;
 
-      lastComparison = Boolean.valueOf(isSetAccessToken()).compareTo(typedOther.isSetAccessToken());
+      lastComparison = Boolean.valueOf(isSetState()).compareTo(typedOther.isSetState());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetAccessToken()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.accessToken, typedOther.accessToken);
+      if (isSetState()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.state, typedOther.state);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetParams()).compareTo(typedOther.isSetParams());
+      lastComparison = Boolean.valueOf(isSetMove()).compareTo(typedOther.isSetMove());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetParams()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.params, typedOther.params);
+      if (isSetMove()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.move, typedOther.move);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -4351,22 +12177,22 @@ public class WwfApi {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("createMatchmakingGame_args(");
+      StringBuilder sb = new StringBuilder("scorePlayInState_args(");
       boolean first = true;
 
-      sb.append("accessToken:");
-      if (this.accessToken == null) {
+      sb.append("state:");
+      if (this.state == null) {
         sb.append("null");
       } else {
-        sb.append(this.accessToken);
+        sb.append(this.state);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("params:");
-      if (this.params == null) {
+      sb.append("move:");
+      if (this.move == null) {
         sb.append("null");
       } else {
-        sb.append(this.params);
+        sb.append(this.move);
       }
       first = false;
       sb.append(")");
@@ -4393,15 +12219,15 @@ public class WwfApi {
       }
     }
 
-    private static class createMatchmakingGame_argsStandardSchemeFactory implements SchemeFactory {
-      public createMatchmakingGame_argsStandardScheme getScheme() {
-        return new createMatchmakingGame_argsStandardScheme();
+    private static class scorePlayInState_argsStandardSchemeFactory implements SchemeFactory {
+      public scorePlayInState_argsStandardScheme getScheme() {
+        return new scorePlayInState_argsStandardScheme();
       }
     }
 
-    private static class createMatchmakingGame_argsStandardScheme extends StandardScheme<createMatchmakingGame_args> {
+    private static class scorePlayInState_argsStandardScheme extends StandardScheme<scorePlayInState_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createMatchmakingGame_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, scorePlayInState_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4411,19 +12237,20 @@ public class WwfApi {
             break;
           }
           switch (schemeField.id) {
-            case 1: // ACCESS_TOKEN
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.accessToken = iprot.readString();
-                struct.setAccessTokenIsSet(true);
+            case 1: // STATE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.state = new GameState();
+                struct.state.read(iprot);
+                struct.setStateIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // PARAMS
+            case 2: // MOVE
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.params = new NewGameParams();
-                struct.params.read(iprot);
-                struct.setParamsIsSet(true);
+                struct.move = new MoveSubmission();
+                struct.move.read(iprot);
+                struct.setMoveIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -4439,18 +12266,18 @@ public class WwfApi {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createMatchmakingGame_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, scorePlayInState_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.accessToken != null) {
-          oprot.writeFieldBegin(ACCESS_TOKEN_FIELD_DESC);
-          oprot.writeString(struct.accessToken);
+        if (struct.state != null) {
+          oprot.writeFieldBegin(STATE_FIELD_DESC);
+          struct.state.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.params != null) {
-          oprot.writeFieldBegin(PARAMS_FIELD_DESC);
-          struct.params.write(oprot);
+        if (struct.move != null) {
+          oprot.writeFieldBegin(MOVE_FIELD_DESC);
+          struct.move.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -4459,65 +12286,68 @@ public class WwfApi {
 
     }
 
-    private static class createMatchmakingGame_argsTupleSchemeFactory implements SchemeFactory {
-      public createMatchmakingGame_argsTupleScheme getScheme() {
-        return new createMatchmakingGame_argsTupleScheme();
+    private static class scorePlayInState_argsTupleSchemeFactory implements SchemeFactory {
+      public scorePlayInState_argsTupleScheme getScheme() {
+        return new scorePlayInState_argsTupleScheme();
       }
     }
 
-    private static class createMatchmakingGame_argsTupleScheme extends TupleScheme<createMatchmakingGame_args> {
+    private static class scorePlayInState_argsTupleScheme extends TupleScheme<scorePlayInState_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createMatchmakingGame_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, scorePlayInState_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetAccessToken()) {
+        if (struct.isSetState()) {
           optionals.set(0);
         }
-        if (struct.isSetParams()) {
+        if (struct.isSetMove()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetAccessToken()) {
-          oprot.writeString(struct.accessToken);
+        if (struct.isSetState()) {
+          struct.state.write(oprot);
         }
-        if (struct.isSetParams()) {
-          struct.params.write(oprot);
+        if (struct.isSetMove()) {
+          struct.move.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createMatchmakingGame_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, scorePlayInState_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.accessToken = iprot.readString();
-          struct.setAccessTokenIsSet(true);
+          struct.state = new GameState();
+          struct.state.read(iprot);
+          struct.setStateIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.params = new NewGameParams();
-          struct.params.read(iprot);
-          struct.setParamsIsSet(true);
+          struct.move = new MoveSubmission();
+          struct.move.read(iprot);
+          struct.setMoveIsSet(true);
         }
       }
     }
 
   }
 
-  public static class createMatchmakingGame_result implements org.apache.thrift.TBase<createMatchmakingGame_result, createMatchmakingGame_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createMatchmakingGame_result");
+  public static class scorePlayInState_result implements org.apache.thrift.TBase<scorePlayInState_result, scorePlayInState_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("scorePlayInState_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new createMatchmakingGame_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new createMatchmakingGame_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new scorePlayInState_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new scorePlayInState_resultTupleSchemeFactory());
     }
 
+    public ScoredPlay success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -4532,6 +12362,8 @@ public class WwfApi {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -4570,37 +12402,87 @@ public class WwfApi {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ScoredPlay.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createMatchmakingGame_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(scorePlayInState_result.class, metaDataMap);
     }
 
-    public createMatchmakingGame_result() {
+    public scorePlayInState_result() {
+    }
+
+    public scorePlayInState_result(
+      ScoredPlay success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createMatchmakingGame_result(createMatchmakingGame_result other) {
+    public scorePlayInState_result(scorePlayInState_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new ScoredPlay(other.success);
+      }
     }
 
-    public createMatchmakingGame_result deepCopy() {
-      return new createMatchmakingGame_result(this);
+    public scorePlayInState_result deepCopy() {
+      return new scorePlayInState_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public ScoredPlay getSuccess() {
+      return this.success;
+    }
+
+    public scorePlayInState_result setSuccess(ScoredPlay success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((ScoredPlay)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new IllegalStateException();
     }
@@ -4612,6 +12494,8 @@ public class WwfApi {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -4620,15 +12504,24 @@ public class WwfApi {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof createMatchmakingGame_result)
-        return this.equals((createMatchmakingGame_result)that);
+      if (that instanceof scorePlayInState_result)
+        return this.equals((scorePlayInState_result)that);
       return false;
     }
 
-    public boolean equals(createMatchmakingGame_result that) {
+    public boolean equals(scorePlayInState_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -4637,14 +12530,24 @@ public class WwfApi {
       return 0;
     }
 
-    public int compareTo(createMatchmakingGame_result other) {
+    public int compareTo(scorePlayInState_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      createMatchmakingGame_result typedOther = (createMatchmakingGame_result)other;
+      scorePlayInState_result typedOther = (scorePlayInState_result)other;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -4662,9 +12565,16 @@ public class WwfApi {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("createMatchmakingGame_result(");
+      StringBuilder sb = new StringBuilder("scorePlayInState_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -4689,15 +12599,15 @@ public class WwfApi {
       }
     }
 
-    private static class createMatchmakingGame_resultStandardSchemeFactory implements SchemeFactory {
-      public createMatchmakingGame_resultStandardScheme getScheme() {
-        return new createMatchmakingGame_resultStandardScheme();
+    private static class scorePlayInState_resultStandardSchemeFactory implements SchemeFactory {
+      public scorePlayInState_resultStandardScheme getScheme() {
+        return new scorePlayInState_resultStandardScheme();
       }
     }
 
-    private static class createMatchmakingGame_resultStandardScheme extends StandardScheme<createMatchmakingGame_result> {
+    private static class scorePlayInState_resultStandardScheme extends StandardScheme<scorePlayInState_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createMatchmakingGame_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, scorePlayInState_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4707,6 +12617,15 @@ public class WwfApi {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new ScoredPlay();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -4718,59 +12637,84 @@ public class WwfApi {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createMatchmakingGame_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, scorePlayInState_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class createMatchmakingGame_resultTupleSchemeFactory implements SchemeFactory {
-      public createMatchmakingGame_resultTupleScheme getScheme() {
-        return new createMatchmakingGame_resultTupleScheme();
+    private static class scorePlayInState_resultTupleSchemeFactory implements SchemeFactory {
+      public scorePlayInState_resultTupleScheme getScheme() {
+        return new scorePlayInState_resultTupleScheme();
       }
     }
 
-    private static class createMatchmakingGame_resultTupleScheme extends TupleScheme<createMatchmakingGame_result> {
+    private static class scorePlayInState_resultTupleScheme extends TupleScheme<scorePlayInState_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createMatchmakingGame_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, scorePlayInState_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createMatchmakingGame_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, scorePlayInState_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new ScoredPlay();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class sendChatMessage_args implements org.apache.thrift.TBase<sendChatMessage_args, sendChatMessage_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendChatMessage_args");
+  public static class findPlays_args implements org.apache.thrift.TBase<findPlays_args, findPlays_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findPlays_args");
 
     private static final org.apache.thrift.protocol.TField ACCESS_TOKEN_FIELD_DESC = new org.apache.thrift.protocol.TField("accessToken", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField GAME_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("gameId", org.apache.thrift.protocol.TType.I64, (short)2);
-    private static final org.apache.thrift.protocol.TField MESSAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("message", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField RACK_FIELD_DESC = new org.apache.thrift.protocol.TField("rack", org.apache.thrift.protocol.TType.LIST, (short)3);
+    private static final org.apache.thrift.protocol.TField WORDS_FIELD_DESC = new org.apache.thrift.protocol.TField("words", org.apache.thrift.protocol.TType.LIST, (short)4);
+    private static final org.apache.thrift.protocol.TField MAX_RESULTS_FIELD_DESC = new org.apache.thrift.protocol.TField("maxResults", org.apache.thrift.protocol.TType.I32, (short)5);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new sendChatMessage_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new sendChatMessage_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new findPlays_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new findPlays_argsTupleSchemeFactory());
     }
 
     public String accessToken; // required
     public long gameId; // required
-    public String message; // required
+    public List<org.sidoh.wwf_api.types.game_state.Tile> rack; // required
+    public List<String> words; // required
+    public int maxResults; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       ACCESS_TOKEN((short)1, "accessToken"),
       GAME_ID((short)2, "gameId"),
-      MESSAGE((short)3, "message");
+      RACK((short)3, "rack"),
+      WORDS((short)4, "words"),
+      MAX_RESULTS((short)5, "maxResults");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -4789,8 +12733,12 @@ public class WwfApi {
             return ACCESS_TOKEN;
           case 2: // GAME_ID
             return GAME_ID;
-          case 3: // MESSAGE
-            return MESSAGE;
+          case 3: // RACK
+            return RACK;
+          case 4: // WORDS
+            return WORDS;
+          case 5: // MAX_RESULTS
+            return MAX_RESULTS;
           default:
             return null;
         }
@@ -4832,7 +12780,8 @@ public class WwfApi {
 
     // isset id assignments
     private static final int __GAMEID_ISSET_ID = 0;
-    private BitSet __isset_bit_vector = new BitSet(1);
+    private static final int __MAXRESULTS_ISSET_ID = 1;
+    private BitSet __isset_bit_vector = new BitSet(2);
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -4840,44 +12789,67 @@ public class WwfApi {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.GAME_ID, new org.apache.thrift.meta_data.FieldMetaData("gameId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.MESSAGE, new org.apache.thrift.meta_data.FieldMetaData("message", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RACK, new org.apache.thrift.meta_data.FieldMetaData("rack", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.sidoh.wwf_api.types.game_state.Tile.class))));
+      tmpMap.put(_Fields.WORDS, new org.apache.thrift.meta_data.FieldMetaData("words", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.MAX_RESULTS, new org.apache.thrift.meta_data.FieldMetaData("maxResults", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendChatMessage_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findPlays_args.class, metaDataMap);
     }
 
-    public sendChatMessage_args() {
+    public findPlays_args() {
     }
 
-    public sendChatMessage_args(
+    public findPlays_args(
       String accessToken,
       long gameId,
-      String message)
+      List<org.sidoh.wwf_api.types.game_state.Tile> rack,
+      List<String> words,
+      int maxResults)
     {
       this();
       this.accessToken = accessToken;
       this.gameId = gameId;
       setGameIdIsSet(true);
-      this.message = message;
+      this.rack = rack;
+      this.words = words;
+      this.maxResults = maxResults;
+      setMaxResultsIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public sendChatMessage_args(sendChatMessage_args other) {
+    public findPlays_args(findPlays_args other) {
       __isset_bit_vector.clear();
       __isset_bit_vector.or(other.__isset_bit_vector);
       if (other.isSetAccessToken()) {
         this.accessToken = other.accessToken;
       }
       this.gameId = other.gameId;
-      if (other.isSetMessage()) {
-        this.message = other.message;
+      if (other.isSetRack()) {
+        List<org.sidoh.wwf_api.types.game_state.Tile> __this__rack = new ArrayList<org.sidoh.wwf_api.types.game_state.Tile>();
+        for (org.sidoh.wwf_api.types.game_state.Tile other_element : other.rack) {
+          __this__rack.add(new org.sidoh.wwf_api.types.game_state.Tile(other_element));
+        }
+        this.rack = __this__rack;
+      }
+      if (other.isSetWords()) {
+        List<String> __this__words = new ArrayList<String>();
+        for (String other_element : other.words) {
+          __this__words.add(other_element);
+        }
+        this.words = __this__words;
       }
+      this.maxResults = other.maxResults;
     }
 
-    public sendChatMessage_args deepCopy() {
-      return new sendChatMessage_args(this);
+    public findPlays_args deepCopy() {
+      return new findPlays_args(this);
     }
 
     @Override
@@ -4885,14 +12857,17 @@ public class WwfApi {
       this.accessToken = null;
       setGameIdIsSet(false);
       this.gameId = 0;
-      this.message = null;
+      this.rack = null;
+      this.words = null;
+      setMaxResultsIsSet(false);
+      this.maxResults = 0;
     }
 
     public String getAccessToken() {
       return this.accessToken;
     }
 
-    public sendChatMessage_args setAccessToken(String accessToken) {
+    public findPlays_args setAccessToken(String accessToken) {
       this.accessToken = accessToken;
       return this;
     }
@@ -4916,7 +12891,7 @@ public class WwfApi {
       return this.gameId;
     }
 
-    public sendChatMessage_args setGameId(long gameId) {
+    public findPlays_args setGameId(long gameId) {
       this.gameId = gameId;
       setGameIdIsSet(true);
       return this;
@@ -4935,30 +12910,107 @@ public class WwfApi {
       __isset_bit_vector.set(__GAMEID_ISSET_ID, value);
     }
 
-    public String getMessage() {
-      return this.message;
+    public int getRackSize() {
+      return (this.rack == null) ? 0 : this.rack.size();
     }
 
-    public sendChatMessage_args setMessage(String message) {
-      this.message = message;
+    public java.util.Iterator<org.sidoh.wwf_api.types.game_state.Tile> getRackIterator() {
+      return (this.rack == null) ? null : this.rack.iterator();
+    }
+
+    public void addToRack(org.sidoh.wwf_api.types.game_state.Tile elem) {
+      if (this.rack == null) {
+        this.rack = new ArrayList<org.sidoh.wwf_api.types.game_state.Tile>();
+      }
+      this.rack.add(elem);
+    }
+
+    public List<org.sidoh.wwf_api.types.game_state.Tile> getRack() {
+      return this.rack;
+    }
+
+    public findPlays_args setRack(List<org.sidoh.wwf_api.types.game_state.Tile> rack) {
+      this.rack = rack;
       return this;
     }
 
-    public void unsetMessage() {
-      this.message = null;
+    public void unsetRack() {
+      this.rack = null;
     }
 
-    /** Returns true if field message is set (has been assigned a value) and false otherwise */
-    public boolean isSetMessage() {
-      return this.message != null;
+    /** Returns true if field rack is set (has been assigned a value) and false otherwise */
+    public boolean isSetRack() {
+      return this.rack != null;
     }
 
-    public void setMessageIsSet(boolean value) {
+    public void setRackIsSet(boolean value) {
       if (!value) {
-        this.message = null;
+        this.rack = null;
+      }
+    }
+
+    public int getWordsSize() {
+      return (this.words == null) ? 0 : this.words.size();
+    }
+
+    public java.util.Iterator<String> getWordsIterator() {
+      return (this.words == null) ? null : this.words.iterator();
+    }
+
+    public void addToWords(String elem) {
+      if (this.words == null) {
+        this.words = new ArrayList<String>();
+      }
+      this.words.add(elem);
+    }
+
+    public List<String> getWords() {
+      return this.words;
+    }
+
+    public findPlays_args setWords(List<String> words) {
+      this.words = words;
+      return this;
+    }
+
+    public void unsetWords() {
+      this.words = null;
+    }
+
+    /** Returns true if field words is set (has been assigned a value) and false otherwise */
+    public boolean isSetWords() {
+      return this.words != null;
+    }
+
+    public void setWordsIsSet(boolean value) {
+      if (!value) {
+        this.words = null;
       }
     }
 
+    public int getMaxResults() {
+      return this.maxResults;
+    }
+
+    public findPlays_args setMaxResults(int maxResults) {
+      this.maxResults = maxResults;
+      setMaxResultsIsSet(true);
+      return this;
+    }
+
+    public void unsetMaxResults() {
+      __isset_bit_vector.clear(__MAXRESULTS_ISSET_ID);
+    }
+
+    /** Returns true if field maxResults is set (has been assigned a value) and false otherwise */
+    public boolean isSetMaxResults() {
+      return __isset_bit_vector.get(__MAXRESULTS_ISSET_ID);
+    }
+
+    public void setMaxResultsIsSet(boolean value) {
+      __isset_bit_vector.set(__MAXRESULTS_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case ACCESS_TOKEN:
@@ -4977,11 +13029,27 @@ public class WwfApi {
         }
         break;
 
-      case MESSAGE:
+      case RACK:
         if (value == null) {
-          unsetMessage();
+          unsetRack();
         } else {
-          setMessage((String)value);
+          setRack((List<org.sidoh.wwf_api.types.game_state.Tile>)value);
+        }
+        break;
+
+      case WORDS:
+        if (value == null) {
+          unsetWords();
+        } else {
+          setWords((List<String>)value);
+        }
+        break;
+
+      case MAX_RESULTS:
+        if (value == null) {
+          unsetMaxResults();
+        } else {
+          setMaxResults((Integer)value);
         }
         break;
 
@@ -4996,8 +13064,14 @@ public class WwfApi {
       case GAME_ID:
         return Long.valueOf(getGameId());
 
-      case MESSAGE:
-        return getMessage();
+      case RACK:
+        return getRack();
+
+      case WORDS:
+        return getWords();
+
+      case MAX_RESULTS:
+        return Integer.valueOf(getMaxResults());
 
       }
       throw new IllegalStateException();
@@ -5014,8 +13088,12 @@ public class WwfApi {
         return isSetAccessToken();
       case GAME_ID:
         return isSetGameId();
-      case MESSAGE:
-        return isSetMessage();
+      case RACK:
+        return isSetRack();
+      case WORDS:
+        return isSetWords();
+      case MAX_RESULTS:
+        return isSetMaxResults();
       }
       throw new IllegalStateException();
     }
@@ -5024,12 +13102,12 @@ public class WwfApi {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof sendChatMessage_args)
-        return this.equals((sendChatMessage_args)that);
+      if (that instanceof findPlays_args)
+        return this.equals((findPlays_args)that);
       return false;
     }
 
-    public boolean equals(sendChatMessage_args that) {
+    public boolean equals(findPlays_args that) {
       if (that == null)
         return false;
 
@@ -5051,12 +13129,30 @@ public class WwfApi {
           return false;
       }
 
-      boolean this_present_message = true && this.isSetMessage();
-      boolean that_present_message = true && that.isSetMessage();
-      if (this_present_message || that_present_message) {
-        if (!(this_present_message && that_present_message))
+      boolean this_present_rack = true && this.isSetRack();
+      boolean that_present_rack = true && that.isSetRack();
+      if (this_present_rack || that_present_rack) {
+        if (!(this_present_rack && that_present_rack))
           return false;
-        if (!this.message.equals(that.message))
+        if (!this.rack.equals(that.rack))
+          return false;
+      }
+
+      boolean this_present_words = true && this.isSetWords();
+      boolean that_present_words = true && that.isSetWords();
+      if (this_present_words || that_present_words) {
+        if (!(this_present_words && that_present_words))
+          return false;
+        if (!this.words.equals(that.words))
+          return false;
+      }
+
+      boolean this_present_maxResults = true;
+      boolean that_present_maxResults = true;
+      if (this_present_maxResults || that_present_maxResults) {
+        if (!(this_present_maxResults && that_present_maxResults))
+          return false;
+        if (this.maxResults != that.maxResults)
           return false;
       }
 
@@ -5068,13 +13164,13 @@ public class WwfApi {
       return 0;
     }
 
-    public int compareTo(sendChatMessage_args other) {
+    public int compareTo(findPlays_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      sendChatMessage_args typedOther = (sendChatMessage_args)other;
+      findPlays_args typedOther = (findPlays_args)other;
 
       lastComparison = Boolean.valueOf(isSetAccessToken()).compareTo(typedOther.isSetAccessToken());
       if (lastComparison != 0) {
@@ -5096,12 +13192,32 @@ public class WwfApi {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetMessage()).compareTo(typedOther.isSetMessage());
+      lastComparison = Boolean.valueOf(isSetRack()).compareTo(typedOther.isSetRack());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetMessage()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.message, typedOther.message);
+      if (isSetRack()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.rack, typedOther.rack);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetWords()).compareTo(typedOther.isSetWords());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetWords()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.words, typedOther.words);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetMaxResults()).compareTo(typedOther.isSetMaxResults());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetMaxResults()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.maxResults, typedOther.maxResults);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -5123,7 +13239,7 @@ public class WwfApi {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("sendChatMessage_args(");
+      StringBuilder sb = new StringBuilder("findPlays_args(");
       boolean first = true;
 
       sb.append("accessToken:");
@@ -5138,13 +13254,25 @@ public class WwfApi {
       sb.append(this.gameId);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("message:");
-      if (this.message == null) {
+      sb.append("rack:");
+      if (this.rack == null) {
         sb.append("null");
       } else {
-        sb.append(this.message);
+        sb.append(this.rack);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("words:");
+      if (this.words == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.words);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("maxResults:");
+      sb.append(this.maxResults);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -5163,21 +13291,23 @@ public class WwfApi {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bit_vector = new BitSet(1);
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class sendChatMessage_argsStandardSchemeFactory implements SchemeFactory {
-      public sendChatMessage_argsStandardScheme getScheme() {
-        return new sendChatMessage_argsStandardScheme();
+    private static class findPlays_argsStandardSchemeFactory implements SchemeFactory {
+      public findPlays_argsStandardScheme getScheme() {
+        return new findPlays_argsStandardScheme();
       }
     }
 
-    private static class sendChatMessage_argsStandardScheme extends StandardScheme<sendChatMessage_args> {
+    private static class findPlays_argsStandardScheme extends StandardScheme<findPlays_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, sendChatMessage_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findPlays_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5203,10 +13333,47 @@ public class WwfApi {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // MESSAGE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.message = iprot.readString();
-                struct.setMessageIsSet(true);
+            case 3: // RACK
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list222 = iprot.readListBegin();
+                  struct.rack = new ArrayList<org.sidoh.wwf_api.types.game_state.Tile>(_list222.size);
+                  for (int _i223 = 0; _i223 < _list222.size; ++_i223)
+                  {
+                    org.sidoh.wwf_api.types.game_state.Tile _elem224; // required
+                    _elem224 = new org.sidoh.wwf_api.types.game_state.Tile();
+                    _elem224.read(iprot);
+                    struct.rack.add(_elem224);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setRackIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // WORDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list225 = iprot.readListBegin();
+                  struct.words = new ArrayList<String>(_list225.size);
+                  for (int _i226 = 0; _i226 < _list225.size; ++_i226)
+                  {
+                    String _elem227; // required
+                    _elem227 = iprot.readString();
+                    struct.words.add(_elem227);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setWordsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // MAX_RESULTS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.maxResults = iprot.readI32();
+                struct.setMaxResultsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -5222,7 +13389,7 @@ public class WwfApi {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, sendChatMessage_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findPlays_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -5231,30 +13398,52 @@ public class WwfApi {
           oprot.writeString(struct.accessToken);
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(GAME_ID_FIELD_DESC);
-        oprot.writeI64(struct.gameId);
-        oprot.writeFieldEnd();
-        if (struct.message != null) {
-          oprot.writeFieldBegin(MESSAGE_FIELD_DESC);
-          oprot.writeString(struct.message);
+        oprot.writeFieldBegin(GAME_ID_FIELD_DESC);
+        oprot.writeI64(struct.gameId);
+        oprot.writeFieldEnd();
+        if (struct.rack != null) {
+          oprot.writeFieldBegin(RACK_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.rack.size()));
+            for (org.sidoh.wwf_api.types.game_state.Tile _iter228 : struct.rack)
+            {
+              _iter228.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.words != null) {
+          oprot.writeFieldBegin(WORDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.words.size()));
+            for (String _iter229 : struct.words)
+            {
+              oprot.writeString(_iter229);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(MAX_RESULTS_FIELD_DESC);
+        oprot.writeI32(struct.maxResults);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class sendChatMessage_argsTupleSchemeFactory implements SchemeFactory {
-      public sendChatMessage_argsTupleScheme getScheme() {
-        return new sendChatMessage_argsTupleScheme();
+    private static class findPlays_argsTupleSchemeFactory implements SchemeFactory {
+      public findPlays_argsTupleScheme getScheme() {
+        return new findPlays_argsTupleScheme();
       }
     }
 
-    private static class sendChatMessage_argsTupleScheme extends TupleScheme<sendChatMessage_args> {
+    private static class findPlays_argsTupleScheme extends TupleScheme<findPlays_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, sendChatMessage_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, findPlays_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetAccessToken()) {
@@ -5263,25 +13452,49 @@ public class WwfApi {
         if (struct.isSetGameId()) {
           optionals.set(1);
         }
-        if (struct.isSetMessage()) {
+        if (struct.isSetRack()) {
           optionals.set(2);
         }
-        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetWords()) {
+          optionals.set(3);
+        }
+        if (struct.isSetMaxResults()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
         if (struct.isSetAccessToken()) {
           oprot.writeString(struct.accessToken);
         }
         if (struct.isSetGameId()) {
           oprot.writeI64(struct.gameId);
         }
-        if (struct.isSetMessage()) {
-          oprot.writeString(struct.message);
+        if (struct.isSetRack()) {
+          {
+            oprot.writeI32(struct.rack.size());
+            for (org.sidoh.wwf_api.types.game_state.Tile _iter230 : struct.rack)
+            {
+              _iter230.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetWords()) {
+          {
+            oprot.writeI32(struct.words.size());
+            for (String _iter231 : struct.words)
+            {
+              oprot.writeString(_iter231);
+            }
+          }
+        }
+        if (struct.isSetMaxResults()) {
+          oprot.writeI32(struct.maxResults);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, sendChatMessage_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, findPlays_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(5);
         if (incoming.get(0)) {
           struct.accessToken = iprot.readString();
           struct.setAccessTokenIsSet(true);
@@ -5291,26 +13504,53 @@ public class WwfApi {
           struct.setGameIdIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.message = iprot.readString();
-          struct.setMessageIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list232 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.rack = new ArrayList<org.sidoh.wwf_api.types.game_state.Tile>(_list232.size);
+            for (int _i233 = 0; _i233 < _list232.size; ++_i233)
+            {
+              org.sidoh.wwf_api.types.game_state.Tile _elem234; // required
+              _elem234 = new org.sidoh.wwf_api.types.game_state.Tile();
+              _elem234.read(iprot);
+              struct.rack.add(_elem234);
+            }
+          }
+          struct.setRackIsSet(true);
+        }
+        if (incoming.get(3)) {
+          {
+            org.apache.thrift.protocol.TList _list235 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.words = new ArrayList<String>(_list235.size);
+            for (int _i236 = 0; _i236 < _list235.size; ++_i236)
+            {
+              String _elem237; // required
+              _elem237 = iprot.readString();
+              struct.words.add(_elem237);
+            }
+          }
+          struct.setWordsIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.maxResults = iprot.readI32();
+          struct.setMaxResultsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class sendChatMessage_result implements org.apache.thrift.TBase<sendChatMessage_result, sendChatMessage_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendChatMessage_result");
+  public static class findPlays_result implements org.apache.thrift.TBase<findPlays_result, findPlays_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findPlays_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new sendChatMessage_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new sendChatMessage_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new findPlays_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new findPlays_resultTupleSchemeFactory());
     }
 
-    public ChatMessage success; // required
+    public List<ScoredPlay> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -5375,16 +13615,17 @@ public class WwfApi {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ChatMessage.class)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ScoredPlay.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendChatMessage_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findPlays_result.class, metaDataMap);
     }
 
-    public sendChatMessage_result() {
+    public findPlays_result() {
     }
 
-    public sendChatMessage_result(
-      ChatMessage success)
+    public findPlays_result(
+      List<ScoredPlay> success)
     {
       this();
       this.success = success;
@@ -5393,14 +13634,18 @@ public class WwfApi {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public sendChatMessage_result(sendChatMessage_result other) {
+    public findPlays_result(findPlays_result other) {
       if (other.isSetSuccess()) {
-        this.success = new ChatMessage(other.success);
+        List<ScoredPlay> __this__success = new ArrayList<ScoredPlay>();
+        for (ScoredPlay other_element : other.success) {
+          __this__success.add(new ScoredPlay(other_element));
+        }
+        this.success = __this__success;
       }
     }
 
-    public sendChatMessage_result deepCopy() {
-      return new sendChatMessage_result(this);
+    public findPlays_result deepCopy() {
+      return new findPlays_result(this);
     }
 
     @Override
@@ -5408,11 +13653,26 @@ public class WwfApi {
       this.success = null;
     }
 
-    public ChatMessage getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<ScoredPlay> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(ScoredPlay elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<ScoredPlay>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<ScoredPlay> getSuccess() {
       return this.success;
     }
 
-    public sendChatMessage_result setSuccess(ChatMessage success) {
+    public findPlays_result setSuccess(List<ScoredPlay> success) {
       this.success = success;
       return this;
     }
@@ -5438,7 +13698,7 @@ public class WwfApi {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((ChatMessage)value);
+          setSuccess((List<ScoredPlay>)value);
         }
         break;
 
@@ -5471,12 +13731,12 @@ public class WwfApi {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof sendChatMessage_result)
-        return this.equals((sendChatMessage_result)that);
+      if (that instanceof findPlays_result)
+        return this.equals((findPlays_result)that);
       return false;
     }
 
-    public boolean equals(sendChatMessage_result that) {
+    public boolean equals(findPlays_result that) {
       if (that == null)
         return false;
 
@@ -5497,13 +13757,13 @@ public class WwfApi {
       return 0;
     }
 
-    public int compareTo(sendChatMessage_result other) {
+    public int compareTo(findPlays_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      sendChatMessage_result typedOther = (sendChatMessage_result)other;
+      findPlays_result typedOther = (findPlays_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -5532,7 +13792,7 @@ public class WwfApi {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("sendChatMessage_result(");
+      StringBuilder sb = new StringBuilder("findPlays_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -5566,15 +13826,15 @@ public class WwfApi {
       }
     }
 
-    private static class sendChatMessage_resultStandardSchemeFactory implements SchemeFactory {
-      public sendChatMessage_resultStandardScheme getScheme() {
-        return new sendChatMessage_resultStandardScheme();
+    private static class findPlays_resultStandardSchemeFactory implements SchemeFactory {
+      public findPlays_resultStandardScheme getScheme() {
+        return new findPlays_resultStandardScheme();
       }
     }
 
-    private static class sendChatMessage_resultStandardScheme extends StandardScheme<sendChatMessage_result> {
+    private static class findPlays_resultStandardScheme extends StandardScheme<findPlays_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, sendChatMessage_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findPlays_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5585,9 +13845,19 @@ public class WwfApi {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new ChatMessage();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list238 = iprot.readListBegin();
+                  struct.success = new ArrayList<ScoredPlay>(_list238.size);
+                  for (int _i239 = 0; _i239 < _list238.size; ++_i239)
+                  {
+                    ScoredPlay _elem240; // required
+                    _elem240 = new ScoredPlay();
+                    _elem240.read(iprot);
+                    struct.success.add(_elem240);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -5604,13 +13874,20 @@ public class WwfApi {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, sendChatMessage_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findPlays_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (ScoredPlay _iter241 : struct.success)
+            {
+              _iter241.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -5619,16 +13896,16 @@ public class WwfApi {
 
     }
 
-    private static class sendChatMessage_resultTupleSchemeFactory implements SchemeFactory {
-      public sendChatMessage_resultTupleScheme getScheme() {
-        return new sendChatMessage_resultTupleScheme();
+    private static class findPlays_resultTupleSchemeFactory implements SchemeFactory {
+      public findPlays_resultTupleScheme getScheme() {
+        return new findPlays_resultTupleScheme();
       }
     }
 
-    private static class sendChatMessage_resultTupleScheme extends TupleScheme<sendChatMessage_result> {
+    private static class findPlays_resultTupleScheme extends TupleScheme<findPlays_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, sendChatMessage_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, findPlays_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -5636,17 +13913,32 @@ public class WwfApi {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (ScoredPlay _iter242 : struct.success)
+            {
+              _iter242.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, sendChatMessage_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, findPlays_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new ChatMessage();
-          struct.success.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list243 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<ScoredPlay>(_list243.size);
+            for (int _i244 = 0; _i244 < _list243.size; ++_i244)
+            {
+              ScoredPlay _elem245; // required
+              _elem245 = new ScoredPlay();
+              _elem245.read(iprot);
+              struct.success.add(_elem245);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
       }
@@ -5654,25 +13946,31 @@ public class WwfApi {
 
   }
 
-  public static class getUnseenChats_args implements org.apache.thrift.TBase<getUnseenChats_args, getUnseenChats_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUnseenChats_args");
+  public static class findPlaysInState_args implements org.apache.thrift.TBase<findPlaysInState_args, findPlaysInState_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findPlaysInState_args");
 
-    private static final org.apache.thrift.protocol.TField ACCESS_TOKEN_FIELD_DESC = new org.apache.thrift.protocol.TField("accessToken", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField GAME_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("gameId", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField STATE_FIELD_DESC = new org.apache.thrift.protocol.TField("state", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField RACK_FIELD_DESC = new org.apache.thrift.protocol.TField("rack", org.apache.thrift.protocol.TType.LIST, (short)2);
+    private static final org.apache.thrift.protocol.TField WORDS_FIELD_DESC = new org.apache.thrift.protocol.TField("words", org.apache.thrift.protocol.TType.LIST, (short)3);
+    private static final org.apache.thrift.protocol.TField MAX_RESULTS_FIELD_DESC = new org.apache.thrift.protocol.TField("maxResults", org.apache.thrift.protocol.TType.I32, (short)4);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getUnseenChats_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getUnseenChats_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new findPlaysInState_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new findPlaysInState_argsTupleSchemeFactory());
     }
 
-    public String accessToken; // required
-    public long gameId; // required
+    public GameState state; // required
+    public List<org.sidoh.wwf_api.types.game_state.Tile> rack; // required
+    public List<String> words; // required
+    public int maxResults; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      ACCESS_TOKEN((short)1, "accessToken"),
-      GAME_ID((short)2, "gameId");
+      STATE((short)1, "state"),
+      RACK((short)2, "rack"),
+      WORDS((short)3, "words"),
+      MAX_RESULTS((short)4, "maxResults");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -5687,10 +13985,14 @@ public class WwfApi {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // ACCESS_TOKEN
-            return ACCESS_TOKEN;
-          case 2: // GAME_ID
-            return GAME_ID;
+          case 1: // STATE
+            return STATE;
+          case 2: // RACK
+            return RACK;
+          case 3: // WORDS
+            return WORDS;
+          case 4: // MAX_RESULTS
+            return MAX_RESULTS;
           default:
             return null;
         }
@@ -5731,117 +14033,237 @@ public class WwfApi {
     }
 
     // isset id assignments
-    private static final int __GAMEID_ISSET_ID = 0;
+    private static final int __MAXRESULTS_ISSET_ID = 0;
     private BitSet __isset_bit_vector = new BitSet(1);
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.ACCESS_TOKEN, new org.apache.thrift.meta_data.FieldMetaData("accessToken", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.GAME_ID, new org.apache.thrift.meta_data.FieldMetaData("gameId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.STATE, new org.apache.thrift.meta_data.FieldMetaData("state", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GameState.class)));
+      tmpMap.put(_Fields.RACK, new org.apache.thrift.meta_data.FieldMetaData("rack", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.sidoh.wwf_api.types.game_state.Tile.class))));
+      tmpMap.put(_Fields.WORDS, new org.apache.thrift.meta_data.FieldMetaData("words", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.MAX_RESULTS, new org.apache.thrift.meta_data.FieldMetaData("maxResults", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUnseenChats_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findPlaysInState_args.class, metaDataMap);
     }
 
-    public getUnseenChats_args() {
+    public findPlaysInState_args() {
     }
 
-    public getUnseenChats_args(
-      String accessToken,
-      long gameId)
+    public findPlaysInState_args(
+      GameState state,
+      List<org.sidoh.wwf_api.types.game_state.Tile> rack,
+      List<String> words,
+      int maxResults)
     {
       this();
-      this.accessToken = accessToken;
-      this.gameId = gameId;
-      setGameIdIsSet(true);
+      this.state = state;
+      this.rack = rack;
+      this.words = words;
+      this.maxResults = maxResults;
+      setMaxResultsIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getUnseenChats_args(getUnseenChats_args other) {
+    public findPlaysInState_args(findPlaysInState_args other) {
       __isset_bit_vector.clear();
       __isset_bit_vector.or(other.__isset_bit_vector);
-      if (other.isSetAccessToken()) {
-        this.accessToken = other.accessToken;
+      if (other.isSetState()) {
+        this.state = new GameState(other.state);
       }
-      this.gameId = other.gameId;
+      if (other.isSetRack()) {
+        List<org.sidoh.wwf_api.types.game_state.Tile> __this__rack = new ArrayList<org.sidoh.wwf_api.types.game_state.Tile>();
+        for (org.sidoh.wwf_api.types.game_state.Tile other_element : other.rack) {
+          __this__rack.add(new org.sidoh.wwf_api.types.game_state.Tile(other_element));
+        }
+        this.rack = __this__rack;
+      }
+      if (other.isSetWords()) {
+        List<String> __this__words = new ArrayList<String>();
+        for (String other_element : other.words) {
+          __this__words.add(other_element);
+        }
+        this.words = __this__words;
+      }
+      this.maxResults = other.maxResults;
     }
 
-    public getUnseenChats_args deepCopy() {
-      return new getUnseenChats_args(this);
+    public findPlaysInState_args deepCopy() {
+      return new findPlaysInState_args(this);
     }
 
     @Override
     public void clear() {
-      this.accessToken = null;
-      setGameIdIsSet(false);
-      this.gameId = 0;
+      this.state = null;
+      this.rack = null;
+      this.words = null;
+      setMaxResultsIsSet(false);
+      this.maxResults = 0;
     }
 
-    public String getAccessToken() {
-      return this.accessToken;
+    public GameState getState() {
+      return this.state;
     }
 
-    public getUnseenChats_args setAccessToken(String accessToken) {
-      this.accessToken = accessToken;
+    public findPlaysInState_args setState(GameState state) {
+      this.state = state;
       return this;
     }
 
-    public void unsetAccessToken() {
-      this.accessToken = null;
+    public void unsetState() {
+      this.state = null;
     }
 
-    /** Returns true if field accessToken is set (has been assigned a value) and false otherwise */
-    public boolean isSetAccessToken() {
-      return this.accessToken != null;
+    /** Returns true if field state is set (has been assigned a value) and false otherwise */
+    public boolean isSetState() {
+      return this.state != null;
     }
 
-    public void setAccessTokenIsSet(boolean value) {
+    public void setStateIsSet(boolean value) {
+      if (!value) {
+        this.state = null;
+      }
+    }
+
+    public int getRackSize() {
+      return (this.rack == null) ? 0 : this.rack.size();
+    }
+
+    public java.util.Iterator<org.sidoh.wwf_api.types.game_state.Tile> getRackIterator() {
+      return (this.rack == null) ? null : this.rack.iterator();
+    }
+
+    public void addToRack(org.sidoh.wwf_api.types.game_state.Tile elem) {
+      if (this.rack == null) {
+        this.rack = new ArrayList<org.sidoh.wwf_api.types.game_state.Tile>();
+      }
+      this.rack.add(elem);
+    }
+
+    public List<org.sidoh.wwf_api.types.game_state.Tile> getRack() {
+      return this.rack;
+    }
+
+    public findPlaysInState_args setRack(List<org.sidoh.wwf_api.types.game_state.Tile> rack) {
+      this.rack = rack;
+      return this;
+    }
+
+    public void unsetRack() {
+      this.rack = null;
+    }
+
+    /** Returns true if field rack is set (has been assigned a value) and false otherwise */
+    public boolean isSetRack() {
+      return this.rack != null;
+    }
+
+    public void setRackIsSet(boolean value) {
+      if (!value) {
+        this.rack = null;
+      }
+    }
+
+    public int getWordsSize() {
+      return (this.words == null) ? 0 : this.words.size();
+    }
+
+    public java.util.Iterator<String> getWordsIterator() {
+      return (this.words == null) ? null : this.words.iterator();
+    }
+
+    public void addToWords(String elem) {
+      if (this.words == null) {
+        this.words = new ArrayList<String>();
+      }
+      this.words.add(elem);
+    }
+
+    public List<String> getWords() {
+      return this.words;
+    }
+
+    public findPlaysInState_args setWords(List<String> words) {
+      this.words = words;
+      return this;
+    }
+
+    public void unsetWords() {
+      this.words = null;
+    }
+
+    /** Returns true if field words is set (has been assigned a value) and false otherwise */
+    public boolean isSetWords() {
+      return this.words != null;
+    }
+
+    public void setWordsIsSet(boolean value) {
       if (!value) {
-        this.accessToken = null;
+        this.words = null;
       }
     }
 
-    public long getGameId() {
-      return this.gameId;
+    public int getMaxResults() {
+      return this.maxResults;
     }
 
-    public getUnseenChats_args setGameId(long gameId) {
-      this.gameId = gameId;
-      setGameIdIsSet(true);
+    public findPlaysInState_args setMaxResults(int maxResults) {
+      this.maxResults = maxResults;
+      setMaxResultsIsSet(true);
       return this;
     }
 
-    public void unsetGameId() {
-      __isset_bit_vector.clear(__GAMEID_ISSET_ID);
+    public void unsetMaxResults() {
+      __isset_bit_vector.clear(__MAXRESULTS_ISSET_ID);
     }
 
-    /** Returns true if field gameId is set (has been assigned a value) and false otherwise */
-    public boolean isSetGameId() {
-      return __isset_bit_vector.get(__GAMEID_ISSET_ID);
+    /** Returns true if field maxResults is set (has been assigned a value) and false otherwise */
+    public boolean isSetMaxResults() {
+      return __isset_bit_vector.get(__MAXRESULTS_ISSET_ID);
     }
 
-    public void setGameIdIsSet(boolean value) {
-      __isset_bit_vector.set(__GAMEID_ISSET_ID, value);
+    public void setMaxResultsIsSet(boolean value) {
+      __isset_bit_vector.set(__MAXRESULTS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case ACCESS_TOKEN:
+      case STATE:
         if (value == null) {
-          unsetAccessToken();
+          unsetState();
         } else {
-          setAccessToken((String)value);
+          setState((GameState)value);
         }
         break;
 
-      case GAME_ID:
+      case RACK:
         if (value == null) {
-          unsetGameId();
+          unsetRack();
         } else {
-          setGameId((Long)value);
+          setRack((List<org.sidoh.wwf_api.types.game_state.Tile>)value);
+        }
+        break;
+
+      case WORDS:
+        if (value == null) {
+          unsetWords();
+        } else {
+          setWords((List<String>)value);
+        }
+        break;
+
+      case MAX_RESULTS:
+        if (value == null) {
+          unsetMaxResults();
+        } else {
+          setMaxResults((Integer)value);
         }
         break;
 
@@ -5850,11 +14272,17 @@ public class WwfApi {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case ACCESS_TOKEN:
-        return getAccessToken();
+      case STATE:
+        return getState();
 
-      case GAME_ID:
-        return Long.valueOf(getGameId());
+      case RACK:
+        return getRack();
+
+      case WORDS:
+        return getWords();
+
+      case MAX_RESULTS:
+        return Integer.valueOf(getMaxResults());
 
       }
       throw new IllegalStateException();
@@ -5867,10 +14295,14 @@ public class WwfApi {
       }
 
       switch (field) {
-      case ACCESS_TOKEN:
-        return isSetAccessToken();
-      case GAME_ID:
-        return isSetGameId();
+      case STATE:
+        return isSetState();
+      case RACK:
+        return isSetRack();
+      case WORDS:
+        return isSetWords();
+      case MAX_RESULTS:
+        return isSetMaxResults();
       }
       throw new IllegalStateException();
     }
@@ -5879,30 +14311,48 @@ public class WwfApi {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getUnseenChats_args)
-        return this.equals((getUnseenChats_args)that);
+      if (that instanceof findPlaysInState_args)
+        return this.equals((findPlaysInState_args)that);
       return false;
     }
 
-    public boolean equals(getUnseenChats_args that) {
+    public boolean equals(findPlaysInState_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_accessToken = true && this.isSetAccessToken();
-      boolean that_present_accessToken = true && that.isSetAccessToken();
-      if (this_present_accessToken || that_present_accessToken) {
-        if (!(this_present_accessToken && that_present_accessToken))
+      boolean this_present_state = true && this.isSetState();
+      boolean that_present_state = true && that.isSetState();
+      if (this_present_state || that_present_state) {
+        if (!(this_present_state && that_present_state))
           return false;
-        if (!this.accessToken.equals(that.accessToken))
+        if (!this.state.equals(that.state))
           return false;
       }
 
-      boolean this_present_gameId = true;
-      boolean that_present_gameId = true;
-      if (this_present_gameId || that_present_gameId) {
-        if (!(this_present_gameId && that_present_gameId))
+      boolean this_present_rack = true && this.isSetRack();
+      boolean that_present_rack = true && that.isSetRack();
+      if (this_present_rack || that_present_rack) {
+        if (!(this_present_rack && that_present_rack))
           return false;
-        if (this.gameId != that.gameId)
+        if (!this.rack.equals(that.rack))
+          return false;
+      }
+
+      boolean this_present_words = true && this.isSetWords();
+      boolean that_present_words = true && that.isSetWords();
+      if (this_present_words || that_present_words) {
+        if (!(this_present_words && that_present_words))
+          return false;
+        if (!this.words.equals(that.words))
+          return false;
+      }
+
+      boolean this_present_maxResults = true;
+      boolean that_present_maxResults = true;
+      if (this_present_maxResults || that_present_maxResults) {
+        if (!(this_present_maxResults && that_present_maxResults))
+          return false;
+        if (this.maxResults != that.maxResults)
           return false;
       }
 
@@ -5914,30 +14364,50 @@ public class WwfApi {
       return 0;
     }
 
-    public int compareTo(getUnseenChats_args other) {
+    public int compareTo(findPlaysInState_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      getUnseenChats_args typedOther = (getUnseenChats_args)other;
+      findPlaysInState_args typedOther = (findPlaysInState_args)other;
 
-      lastComparison = Boolean.valueOf(isSetAccessToken()).compareTo(typedOther.isSetAccessToken());
+      lastComparison = Boolean.valueOf(isSetState()).compareTo(typedOther.isSetState());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetAccessToken()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.accessToken, typedOther.accessToken);
+      if (isSetState()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.state, typedOther.state);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetGameId()).compareTo(typedOther.isSetGameId());
+      lastComparison = Boolean.valueOf(isSetRack()).compareTo(typedOther.isSetRack());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetGameId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.gameId, typedOther.gameId);
+      if (isSetRack()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.rack, typedOther.rack);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetWords()).compareTo(typedOther.isSetWords());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetWords()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.words, typedOther.words);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetMaxResults()).compareTo(typedOther.isSetMaxResults());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetMaxResults()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.maxResults, typedOther.maxResults);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -5959,19 +14429,35 @@ public class WwfApi {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getUnseenChats_args(");
+      StringBuilder sb = new StringBuilder("findPlaysInState_args(");
       boolean first = true;
 
-      sb.append("accessToken:");
-      if (this.accessToken == null) {
+      sb.append("state:");
+      if (this.state == null) {
         sb.append("null");
       } else {
-        sb.append(this.accessToken);
+        sb.append(this.state);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("gameId:");
-      sb.append(this.gameId);
+      sb.append("rack:");
+      if (this.rack == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.rack);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("words:");
+      if (this.words == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.words);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("maxResults:");
+      sb.append(this.maxResults);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -5999,15 +14485,15 @@ public class WwfApi {
       }
     }
 
-    private static class getUnseenChats_argsStandardSchemeFactory implements SchemeFactory {
-      public getUnseenChats_argsStandardScheme getScheme() {
-        return new getUnseenChats_argsStandardScheme();
+    private static class findPlaysInState_argsStandardSchemeFactory implements SchemeFactory {
+      public findPlaysInState_argsStandardScheme getScheme() {
+        return new findPlaysInState_argsStandardScheme();
       }
     }
 
-    private static class getUnseenChats_argsStandardScheme extends StandardScheme<getUnseenChats_args> {
+    private static class findPlaysInState_argsStandardScheme extends StandardScheme<findPlaysInState_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getUnseenChats_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findPlaysInState_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6017,18 +14503,56 @@ public class WwfApi {
             break;
           }
           switch (schemeField.id) {
-            case 1: // ACCESS_TOKEN
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.accessToken = iprot.readString();
-                struct.setAccessTokenIsSet(true);
+            case 1: // STATE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.state = new GameState();
+                struct.state.read(iprot);
+                struct.setStateIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // GAME_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.gameId = iprot.readI64();
-                struct.setGameIdIsSet(true);
+            case 2: // RACK
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list246 = iprot.readListBegin();
+                  struct.rack = new ArrayList<org.sidoh.wwf_api.types.game_state.Tile>(_list246.size);
+                  for (int _i247 = 0; _i247 < _list246.size; ++_i247)
+                  {
+                    org.sidoh.wwf_api.types.game_state.Tile _elem248; // required
+                    _elem248 = new org.sidoh.wwf_api.types.game_state.Tile();
+                    _elem248.read(iprot);
+                    struct.rack.add(_elem248);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setRackIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // WORDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list249 = iprot.readListBegin();
+                  struct.words = new ArrayList<String>(_list249.size);
+                  for (int _i250 = 0; _i250 < _list249.size; ++_i250)
+                  {
+                    String _elem251; // required
+                    _elem251 = iprot.readString();
+                    struct.words.add(_elem251);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setWordsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // MAX_RESULTS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.maxResults = iprot.readI32();
+                struct.setMaxResultsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -6044,17 +14568,41 @@ public class WwfApi {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getUnseenChats_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findPlaysInState_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.accessToken != null) {
-          oprot.writeFieldBegin(ACCESS_TOKEN_FIELD_DESC);
-          oprot.writeString(struct.accessToken);
+        if (struct.state != null) {
+          oprot.writeFieldBegin(STATE_FIELD_DESC);
+          struct.state.write(oprot);
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(GAME_ID_FIELD_DESC);
-        oprot.writeI64(struct.gameId);
+        if (struct.rack != null) {
+          oprot.writeFieldBegin(RACK_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.rack.size()));
+            for (org.sidoh.wwf_api.types.game_state.Tile _iter252 : struct.rack)
+            {
+              _iter252.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.words != null) {
+          oprot.writeFieldBegin(WORDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.words.size()));
+            for (String _iter253 : struct.words)
+            {
+              oprot.writeString(_iter253);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(MAX_RESULTS_FIELD_DESC);
+        oprot.writeI32(struct.maxResults);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -6062,62 +14610,114 @@ public class WwfApi {
 
     }
 
-    private static class getUnseenChats_argsTupleSchemeFactory implements SchemeFactory {
-      public getUnseenChats_argsTupleScheme getScheme() {
-        return new getUnseenChats_argsTupleScheme();
+    private static class findPlaysInState_argsTupleSchemeFactory implements SchemeFactory {
+      public findPlaysInState_argsTupleScheme getScheme() {
+        return new findPlaysInState_argsTupleScheme();
       }
     }
 
-    private static class getUnseenChats_argsTupleScheme extends TupleScheme<getUnseenChats_args> {
+    private static class findPlaysInState_argsTupleScheme extends TupleScheme<findPlaysInState_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getUnseenChats_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, findPlaysInState_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetAccessToken()) {
+        if (struct.isSetState()) {
           optionals.set(0);
         }
-        if (struct.isSetGameId()) {
+        if (struct.isSetRack()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetAccessToken()) {
-          oprot.writeString(struct.accessToken);
+        if (struct.isSetWords()) {
+          optionals.set(2);
         }
-        if (struct.isSetGameId()) {
-          oprot.writeI64(struct.gameId);
+        if (struct.isSetMaxResults()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetState()) {
+          struct.state.write(oprot);
+        }
+        if (struct.isSetRack()) {
+          {
+            oprot.writeI32(struct.rack.size());
+            for (org.sidoh.wwf_api.types.game_state.Tile _iter254 : struct.rack)
+            {
+              _iter254.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetWords()) {
+          {
+            oprot.writeI32(struct.words.size());
+            for (String _iter255 : struct.words)
+            {
+              oprot.writeString(_iter255);
+            }
+          }
+        }
+        if (struct.isSetMaxResults()) {
+          oprot.writeI32(struct.maxResults);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getUnseenChats_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, findPlaysInState_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
-          struct.accessToken = iprot.readString();
-          struct.setAccessTokenIsSet(true);
+          struct.state = new GameState();
+          struct.state.read(iprot);
+          struct.setStateIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.gameId = iprot.readI64();
-          struct.setGameIdIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list256 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.rack = new ArrayList<org.sidoh.wwf_api.types.game_state.Tile>(_list256.size);
+            for (int _i257 = 0; _i257 < _list256.size; ++_i257)
+            {
+              org.sidoh.wwf_api.types.game_state.Tile _elem258; // required
+              _elem258 = new org.sidoh.wwf_api.types.game_state.Tile();
+              _elem258.read(iprot);
+              struct.rack.add(_elem258);
+            }
+          }
+          struct.setRackIsSet(true);
+        }
+        if (incoming.get(2)) {
+          {
+            org.apache.thrift.protocol.TList _list259 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.words = new ArrayList<String>(_list259.size);
+            for (int _i260 = 0; _i260 < _list259.size; ++_i260)
+            {
+              String _elem261; // required
+              _elem261 = iprot.readString();
+              struct.words.add(_elem261);
+            }
+          }
+          struct.setWordsIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.maxResults = iprot.readI32();
+          struct.setMaxResultsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getUnseenChats_result implements org.apache.thrift.TBase<getUnseenChats_result, getUnseenChats_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUnseenChats_result");
+  public static class findPlaysInState_result implements org.apache.thrift.TBase<findPlaysInState_result, findPlaysInState_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findPlaysInState_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getUnseenChats_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getUnseenChats_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new findPlaysInState_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new findPlaysInState_resultTupleSchemeFactory());
     }
 
-    public List<ChatMessage> success; // required
+    public List<ScoredPlay> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -6183,16 +14783,16 @@ public class WwfApi {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ChatMessage.class))));
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ScoredPlay.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUnseenChats_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findPlaysInState_result.class, metaDataMap);
     }
 
-    public getUnseenChats_result() {
+    public findPlaysInState_result() {
     }
 
-    public getUnseenChats_result(
-      List<ChatMessage> success)
+    public findPlaysInState_result(
+      List<ScoredPlay> success)
     {
       this();
       this.success = success;
@@ -6201,18 +14801,18 @@ public class WwfApi {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getUnseenChats_result(getUnseenChats_result other) {
+    public findPlaysInState_result(findPlaysInState_result other) {
       if (other.isSetSuccess()) {
-        List<ChatMessage> __this__success = new ArrayList<ChatMessage>();
-        for (ChatMessage other_element : other.success) {
-          __this__success.add(new ChatMessage(other_element));
+        List<ScoredPlay> __this__success = new ArrayList<ScoredPlay>();
+        for (ScoredPlay other_element : other.success) {
+          __this__success.add(new ScoredPlay(other_element));
         }
         this.success = __this__success;
       }
     }
 
-    public getUnseenChats_result deepCopy() {
-      return new getUnseenChats_result(this);
+    public findPlaysInState_result deepCopy() {
+      return new findPlaysInState_result(this);
     }
 
     @Override
@@ -6224,22 +14824,22 @@ public class WwfApi {
       return (this.success == null) ? 0 : this.success.size();
     }
 
-    public java.util.Iterator<ChatMessage> getSuccessIterator() {
+    public java.util.Iterator<ScoredPlay> getSuccessIterator() {
       return (this.success == null) ? null : this.success.iterator();
     }
 
-    public void addToSuccess(ChatMessage elem) {
+    public void addToSuccess(ScoredPlay elem) {
       if (this.success == null) {
-        this.success = new ArrayList<ChatMessage>();
+        this.success = new ArrayList<ScoredPlay>();
       }
       this.success.add(elem);
     }
 
-    public List<ChatMessage> getSuccess() {
+    public List<ScoredPlay> getSuccess() {
       return this.success;
     }
 
-    public getUnseenChats_result setSuccess(List<ChatMessage> success) {
+    public findPlaysInState_result setSuccess(List<ScoredPlay> success) {
       this.success = success;
       return this;
     }
@@ -6265,7 +14865,7 @@ public class WwfApi {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<ChatMessage>)value);
+          setSuccess((List<ScoredPlay>)value);
         }
         break;
 
@@ -6298,12 +14898,12 @@ public class WwfApi {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getUnseenChats_result)
-        return this.equals((getUnseenChats_result)that);
+      if (that instanceof findPlaysInState_result)
+        return this.equals((findPlaysInState_result)that);
       return false;
     }
 
-    public boolean equals(getUnseenChats_result that) {
+    public boolean equals(findPlaysInState_result that) {
       if (that == null)
         return false;
 
@@ -6324,13 +14924,13 @@ public class WwfApi {
       return 0;
     }
 
-    public int compareTo(getUnseenChats_result other) {
+    public int compareTo(findPlaysInState_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      getUnseenChats_result typedOther = (getUnseenChats_result)other;
+      findPlaysInState_result typedOther = (findPlaysInState_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -6359,7 +14959,7 @@ public class WwfApi {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getUnseenChats_result(");
+      StringBuilder sb = new StringBuilder("findPlaysInState_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -6393,15 +14993,15 @@ public class WwfApi {
       }
     }
 
-    private static class getUnseenChats_resultStandardSchemeFactory implements SchemeFactory {
-      public getUnseenChats_resultStandardScheme getScheme() {
-        return new getUnseenChats_resultStandardScheme();
+    private static class findPlaysInState_resultStandardSchemeFactory implements SchemeFactory {
+      public findPlaysInState_resultStandardScheme getScheme() {
+        return new findPlaysInState_resultStandardScheme();
       }
     }
 
-    private static class getUnseenChats_resultStandardScheme extends StandardScheme<getUnseenChats_result> {
+    private static class findPlaysInState_resultStandardScheme extends StandardScheme<findPlaysInState_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getUnseenChats_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findPlaysInState_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6414,14 +15014,14 @@ public class WwfApi {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list110 = iprot.readListBegin();
-                  struct.success = new ArrayList<ChatMessage>(_list110.size);
-                  for (int _i111 = 0; _i111 < _list110.size; ++_i111)
+                  org.apache.thrift.protocol.TList _list262 = iprot.readListBegin();
+                  struct.success = new ArrayList<ScoredPlay>(_list262.size);
+                  for (int _i263 = 0; _i263 < _list262.size; ++_i263)
                   {
-                    ChatMessage _elem112; // required
-                    _elem112 = new ChatMessage();
-                    _elem112.read(iprot);
-                    struct.success.add(_elem112);
+                    ScoredPlay _elem264; // required
+                    _elem264 = new ScoredPlay();
+                    _elem264.read(iprot);
+                    struct.success.add(_elem264);
                   }
                   iprot.readListEnd();
                 }
@@ -6441,7 +15041,7 @@ public class WwfApi {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getUnseenChats_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findPlaysInState_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -6449,9 +15049,9 @@ public class WwfApi {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (ChatMessage _iter113 : struct.success)
+            for (ScoredPlay _iter265 : struct.success)
             {
-              _iter113.write(oprot);
+              _iter265.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -6463,16 +15063,16 @@ public class WwfApi {
 
     }
 
-    private static class getUnseenChats_resultTupleSchemeFactory implements SchemeFactory {
-      public getUnseenChats_resultTupleScheme getScheme() {
-        return new getUnseenChats_resultTupleScheme();
+    private static class findPlaysInState_resultTupleSchemeFactory implements SchemeFactory {
+      public findPlaysInState_resultTupleScheme getScheme() {
+        return new findPlaysInState_resultTupleScheme();
       }
     }
 
-    private static class getUnseenChats_resultTupleScheme extends TupleScheme<getUnseenChats_result> {
+    private static class findPlaysInState_resultTupleScheme extends TupleScheme<findPlaysInState_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getUnseenChats_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, findPlaysInState_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -6482,28 +15082,28 @@ public class WwfApi {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (ChatMessage _iter114 : struct.success)
+            for (ScoredPlay _iter266 : struct.success)
             {
-              _iter114.write(oprot);
+              _iter266.write(oprot);
             }
           }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getUnseenChats_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, findPlaysInState_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list115 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<ChatMessage>(_list115.size);
-            for (int _i116 = 0; _i116 < _list115.size; ++_i116)
+            org.apache.thrift.protocol.TList _list267 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<ScoredPlay>(_list267.size);
+            for (int _i268 = 0; _i268 < _list267.size; ++_i268)
             {
-              ChatMessage _elem117; // required
-              _elem117 = new ChatMessage();
-              _elem117.read(iprot);
-              struct.success.add(_elem117);
+              ScoredPlay _elem269; // required
+              _elem269 = new ScoredPlay();
+              _elem269.read(iprot);
+              struct.success.add(_elem269);
             }
           }
           struct.setSuccessIsSet(true);
@@ -6513,25 +15113,28 @@ public class WwfApi {
 
   }
 
-  public static class dictionaryLookup_args implements org.apache.thrift.TBase<dictionaryLookup_args, dictionaryLookup_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("dictionaryLookup_args");
+  public static class waitForGameUpdates_args implements org.apache.thrift.TBase<waitForGameUpdates_args, waitForGameUpdates_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("waitForGameUpdates_args");
 
     private static final org.apache.thrift.protocol.TField ACCESS_TOKEN_FIELD_DESC = new org.apache.thrift.protocol.TField("accessToken", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField WORDS_FIELD_DESC = new org.apache.thrift.protocol.TField("words", org.apache.thrift.protocol.TType.LIST, (short)2);
+    private static final org.apache.thrift.protocol.TField CURSOR_FIELD_DESC = new org.apache.thrift.protocol.TField("cursor", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField TIMEOUT_MILLIS_FIELD_DESC = new org.apache.thrift.protocol.TField("timeoutMillis", org.apache.thrift.protocol.TType.I32, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new dictionaryLookup_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new dictionaryLookup_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new waitForGameUpdates_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new waitForGameUpdates_argsTupleSchemeFactory());
     }
 
     public String accessToken; // required
-    public List<String> words; // required
+    public long cursor; // required
+    public int timeoutMillis; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       ACCESS_TOKEN((short)1, "accessToken"),
-      WORDS((short)2, "words");
+      CURSOR((short)2, "cursor"),
+      TIMEOUT_MILLIS((short)3, "timeoutMillis");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -6548,8 +15151,10 @@ public class WwfApi {
         switch(fieldId) {
           case 1: // ACCESS_TOKEN
             return ACCESS_TOKEN;
-          case 2: // WORDS
-            return WORDS;
+          case 2: // CURSOR
+            return CURSOR;
+          case 3: // TIMEOUT_MILLIS
+            return TIMEOUT_MILLIS;
           default:
             return null;
         }
@@ -6590,61 +15195,69 @@ public class WwfApi {
     }
 
     // isset id assignments
+    private static final int __CURSOR_ISSET_ID = 0;
+    private static final int __TIMEOUTMILLIS_ISSET_ID = 1;
+    private BitSet __isset_bit_vector = new BitSet(2);
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.ACCESS_TOKEN, new org.apache.thrift.meta_data.FieldMetaData("accessToken", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.WORDS, new org.apache.thrift.meta_data.FieldMetaData("words", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.CURSOR, new org.apache.thrift.meta_data.FieldMetaData("cursor", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.TIMEOUT_MILLIS, new org.apache.thrift.meta_data.FieldMetaData("timeoutMillis", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(dictionaryLookup_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(waitForGameUpdates_args.class, metaDataMap);
     }
 
-    public dictionaryLookup_args() {
+    public waitForGameUpdates_args() {
     }
 
-    public dictionaryLookup_args(
+    public waitForGameUpdates_args(
       String accessToken,
-      List<String> words)
+      long cursor,
+      int timeoutMillis)
     {
       this();
       this.accessToken = accessToken;
-      this.words = words;
+      this.cursor = cursor;
+      setCursorIsSet(true);
+      this.timeoutMillis = timeoutMillis;
+      setTimeoutMillisIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public dictionaryLookup_args(dictionaryLookup_args other) {
+    public waitForGameUpdates_args(waitForGameUpdates_args other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
       if (other.isSetAccessToken()) {
         this.accessToken = other.accessToken;
       }
-      if (other.isSetWords()) {
-        List<String> __this__words = new ArrayList<String>();
-        for (String other_element : other.words) {
-          __this__words.add(other_element);
-        }
-        this.words = __this__words;
-      }
+      this.cursor = other.cursor;
+      this.timeoutMillis = other.timeoutMillis;
     }
 
-    public dictionaryLookup_args deepCopy() {
-      return new dictionaryLookup_args(this);
+    public waitForGameUpdates_args deepCopy() {
+      return new waitForGameUpdates_args(this);
     }
 
     @Override
     public void clear() {
       this.accessToken = null;
-      this.words = null;
+      setCursorIsSet(false);
+      this.cursor = 0;
+      setTimeoutMillisIsSet(false);
+      this.timeoutMillis = 0;
     }
 
     public String getAccessToken() {
       return this.accessToken;
     }
 
-    public dictionaryLookup_args setAccessToken(String accessToken) {
+    public waitForGameUpdates_args setAccessToken(String accessToken) {
       this.accessToken = accessToken;
       return this;
     }
@@ -6664,43 +15277,50 @@ public class WwfApi {
       }
     }
 
-    public int getWordsSize() {
-      return (this.words == null) ? 0 : this.words.size();
+    public long getCursor() {
+      return this.cursor;
     }
 
-    public java.util.Iterator<String> getWordsIterator() {
-      return (this.words == null) ? null : this.words.iterator();
+    public waitForGameUpdates_args setCursor(long cursor) {
+      this.cursor = cursor;
+      setCursorIsSet(true);
+      return this;
     }
 
-    public void addToWords(String elem) {
-      if (this.words == null) {
-        this.words = new ArrayList<String>();
-      }
-      this.words.add(elem);
+    public void unsetCursor() {
+      __isset_bit_vector.clear(__CURSOR_ISSET_ID);
     }
 
-    public List<String> getWords() {
-      return this.words;
+    /** Returns true if field cursor is set (has been assigned a value) and false otherwise */
+    public boolean isSetCursor() {
+      return __isset_bit_vector.get(__CURSOR_ISSET_ID);
     }
 
-    public dictionaryLookup_args setWords(List<String> words) {
-      this.words = words;
+    public void setCursorIsSet(boolean value) {
+      __isset_bit_vector.set(__CURSOR_ISSET_ID, value);
+    }
+
+    public int getTimeoutMillis() {
+      return this.timeoutMillis;
+    }
+
+    public waitForGameUpdates_args setTimeoutMillis(int timeoutMillis) {
+      this.timeoutMillis = timeoutMillis;
+      setTimeoutMillisIsSet(true);
       return this;
     }
 
-    public void unsetWords() {
-      this.words = null;
+    public void unsetTimeoutMillis() {
+      __isset_bit_vector.clear(__TIMEOUTMILLIS_ISSET_ID);
     }
 
-    /** Returns true if field words is set (has been assigned a value) and false otherwise */
-    public boolean isSetWords() {
-      return this.words != null;
+    /** Returns true if field timeoutMillis is set (has been assigned a value) and false otherwise */
+    public boolean isSetTimeoutMillis() {
+      return __isset_bit_vector.get(__TIMEOUTMILLIS_ISSET_ID);
     }
 
-    public void setWordsIsSet(boolean value) {
-      if (!value) {
-        this.words = null;
-      }
+    public void setTimeoutMillisIsSet(boolean value) {
+      __isset_bit_vector.set(__TIMEOUTMILLIS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -6713,11 +15333,19 @@ public class WwfApi {
         }
         break;
 
-      case WORDS:
+      case CURSOR:
         if (value == null) {
-          unsetWords();
+          unsetCursor();
         } else {
-          setWords((List<String>)value);
+          setCursor((Long)value);
+        }
+        break;
+
+      case TIMEOUT_MILLIS:
+        if (value == null) {
+          unsetTimeoutMillis();
+        } else {
+          setTimeoutMillis((Integer)value);
         }
         break;
 
@@ -6729,8 +15357,11 @@ public class WwfApi {
       case ACCESS_TOKEN:
         return getAccessToken();
 
-      case WORDS:
-        return getWords();
+      case CURSOR:
+        return Long.valueOf(getCursor());
+
+      case TIMEOUT_MILLIS:
+        return Integer.valueOf(getTimeoutMillis());
 
       }
       throw new IllegalStateException();
@@ -6745,8 +15376,10 @@ public class WwfApi {
       switch (field) {
       case ACCESS_TOKEN:
         return isSetAccessToken();
-      case WORDS:
-        return isSetWords();
+      case CURSOR:
+        return isSetCursor();
+      case TIMEOUT_MILLIS:
+        return isSetTimeoutMillis();
       }
       throw new IllegalStateException();
     }
@@ -6755,12 +15388,12 @@ public class WwfApi {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof dictionaryLookup_args)
-        return this.equals((dictionaryLookup_args)that);
+      if (that instanceof waitForGameUpdates_args)
+        return this.equals((waitForGameUpdates_args)that);
       return false;
     }
 
-    public boolean equals(dictionaryLookup_args that) {
+    public boolean equals(waitForGameUpdates_args that) {
       if (that == null)
         return false;
 
@@ -6773,12 +15406,21 @@ public class WwfApi {
           return false;
       }
 
-      boolean this_present_words = true && this.isSetWords();
-      boolean that_present_words = true && that.isSetWords();
-      if (this_present_words || that_present_words) {
-        if (!(this_present_words && that_present_words))
+      boolean this_present_cursor = true;
+      boolean that_present_cursor = true;
+      if (this_present_cursor || that_present_cursor) {
+        if (!(this_present_cursor && that_present_cursor))
           return false;
-        if (!this.words.equals(that.words))
+        if (this.cursor != that.cursor)
+          return false;
+      }
+
+      boolean this_present_timeoutMillis = true;
+      boolean that_present_timeoutMillis = true;
+      if (this_present_timeoutMillis || that_present_timeoutMillis) {
+        if (!(this_present_timeoutMillis && that_present_timeoutMillis))
+          return false;
+        if (this.timeoutMillis != that.timeoutMillis)
           return false;
       }
 
@@ -6790,13 +15432,13 @@ public class WwfApi {
       return 0;
     }
 
-    public int compareTo(dictionaryLookup_args other) {
+    public int compareTo(waitForGameUpdates_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      dictionaryLookup_args typedOther = (dictionaryLookup_args)other;
+      waitForGameUpdates_args typedOther = (waitForGameUpdates_args)other;
 
       lastComparison = Boolean.valueOf(isSetAccessToken()).compareTo(typedOther.isSetAccessToken());
       if (lastComparison != 0) {
@@ -6808,12 +15450,22 @@ public class WwfApi {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetWords()).compareTo(typedOther.isSetWords());
+      lastComparison = Boolean.valueOf(isSetCursor()).compareTo(typedOther.isSetCursor());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetWords()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.words, typedOther.words);
+      if (isSetCursor()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cursor, typedOther.cursor);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTimeoutMillis()).compareTo(typedOther.isSetTimeoutMillis());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTimeoutMillis()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timeoutMillis, typedOther.timeoutMillis);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -6835,7 +15487,7 @@ public class WwfApi {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("dictionaryLookup_args(");
+      StringBuilder sb = new StringBuilder("waitForGameUpdates_args(");
       boolean first = true;
 
       sb.append("accessToken:");
@@ -6846,12 +15498,12 @@ public class WwfApi {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("words:");
-      if (this.words == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.words);
-      }
+      sb.append("cursor:");
+      sb.append(this.cursor);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("timeoutMillis:");
+      sb.append(this.timeoutMillis);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -6871,21 +15523,23 @@ public class WwfApi {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bit_vector = new BitSet(1);
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class dictionaryLookup_argsStandardSchemeFactory implements SchemeFactory {
-      public dictionaryLookup_argsStandardScheme getScheme() {
-        return new dictionaryLookup_argsStandardScheme();
+    private static class waitForGameUpdates_argsStandardSchemeFactory implements SchemeFactory {
+      public waitForGameUpdates_argsStandardScheme getScheme() {
+        return new waitForGameUpdates_argsStandardScheme();
       }
     }
 
-    private static class dictionaryLookup_argsStandardScheme extends StandardScheme<dictionaryLookup_args> {
+    private static class waitForGameUpdates_argsStandardScheme extends StandardScheme<waitForGameUpdates_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, dictionaryLookup_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, waitForGameUpdates_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6903,20 +15557,18 @@ public class WwfApi {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // WORDS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list118 = iprot.readListBegin();
-                  struct.words = new ArrayList<String>(_list118.size);
-                  for (int _i119 = 0; _i119 < _list118.size; ++_i119)
-                  {
-                    String _elem120; // required
-                    _elem120 = iprot.readString();
-                    struct.words.add(_elem120);
-                  }
-                  iprot.readListEnd();
-                }
-                struct.setWordsIsSet(true);
+            case 2: // CURSOR
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.cursor = iprot.readI64();
+                struct.setCursorIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // TIMEOUT_MILLIS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.timeoutMillis = iprot.readI32();
+                struct.setTimeoutMillisIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -6932,7 +15584,7 @@ public class WwfApi {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, dictionaryLookup_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, waitForGameUpdates_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -6941,95 +15593,84 @@ public class WwfApi {
           oprot.writeString(struct.accessToken);
           oprot.writeFieldEnd();
         }
-        if (struct.words != null) {
-          oprot.writeFieldBegin(WORDS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.words.size()));
-            for (String _iter121 : struct.words)
-            {
-              oprot.writeString(_iter121);
-            }
-            oprot.writeListEnd();
-          }
-          oprot.writeFieldEnd();
-        }
+        oprot.writeFieldBegin(CURSOR_FIELD_DESC);
+        oprot.writeI64(struct.cursor);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(TIMEOUT_MILLIS_FIELD_DESC);
+        oprot.writeI32(struct.timeoutMillis);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class dictionaryLookup_argsTupleSchemeFactory implements SchemeFactory {
-      public dictionaryLookup_argsTupleScheme getScheme() {
-        return new dictionaryLookup_argsTupleScheme();
+    private static class waitForGameUpdates_argsTupleSchemeFactory implements SchemeFactory {
+      public waitForGameUpdates_argsTupleScheme getScheme() {
+        return new waitForGameUpdates_argsTupleScheme();
       }
     }
 
-    private static class dictionaryLookup_argsTupleScheme extends TupleScheme<dictionaryLookup_args> {
+    private static class waitForGameUpdates_argsTupleScheme extends TupleScheme<waitForGameUpdates_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, dictionaryLookup_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, waitForGameUpdates_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetAccessToken()) {
           optionals.set(0);
         }
-        if (struct.isSetWords()) {
+        if (struct.isSetCursor()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetTimeoutMillis()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetAccessToken()) {
           oprot.writeString(struct.accessToken);
         }
-        if (struct.isSetWords()) {
-          {
-            oprot.writeI32(struct.words.size());
-            for (String _iter122 : struct.words)
-            {
-              oprot.writeString(_iter122);
-            }
-          }
+        if (struct.isSetCursor()) {
+          oprot.writeI64(struct.cursor);
+        }
+        if (struct.isSetTimeoutMillis()) {
+          oprot.writeI32(struct.timeoutMillis);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, dictionaryLookup_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, waitForGameUpdates_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           struct.accessToken = iprot.readString();
           struct.setAccessTokenIsSet(true);
         }
         if (incoming.get(1)) {
-          {
-            org.apache.thrift.protocol.TList _list123 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.words = new ArrayList<String>(_list123.size);
-            for (int _i124 = 0; _i124 < _list123.size; ++_i124)
-            {
-              String _elem125; // required
-              _elem125 = iprot.readString();
-              struct.words.add(_elem125);
-            }
-          }
-          struct.setWordsIsSet(true);
+          struct.cursor = iprot.readI64();
+          struct.setCursorIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.timeoutMillis = iprot.readI32();
+          struct.setTimeoutMillisIsSet(true);
         }
       }
     }
 
   }
 
-  public static class dictionaryLookup_result implements org.apache.thrift.TBase<dictionaryLookup_result, dictionaryLookup_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("dictionaryLookup_result");
+  public static class waitForGameUpdates_result implements org.apache.thrift.TBase<waitForGameUpdates_result, waitForGameUpdates_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("waitForGameUpdates_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new dictionaryLookup_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new dictionaryLookup_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new waitForGameUpdates_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new waitForGameUpdates_resultTupleSchemeFactory());
     }
 
-    public List<String> success; // required
+    public GameUpdates success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -7094,17 +15735,16 @@ public class WwfApi {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GameUpdates.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(dictionaryLookup_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(waitForGameUpdates_result.class, metaDataMap);
     }
 
-    public dictionaryLookup_result() {
+    public waitForGameUpdates_result() {
     }
 
-    public dictionaryLookup_result(
-      List<String> success)
+    public waitForGameUpdates_result(
+      GameUpdates success)
     {
       this();
       this.success = success;
@@ -7113,18 +15753,14 @@ public class WwfApi {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public dictionaryLookup_result(dictionaryLookup_result other) {
+    public waitForGameUpdates_result(waitForGameUpdates_result other) {
       if (other.isSetSuccess()) {
-        List<String> __this__success = new ArrayList<String>();
-        for (String other_element : other.success) {
-          __this__success.add(other_element);
-        }
-        this.success = __this__success;
+        this.success = new GameUpdates(other.success);
       }
     }
 
-    public dictionaryLookup_result deepCopy() {
-      return new dictionaryLookup_result(this);
+    public waitForGameUpdates_result deepCopy() {
+      return new waitForGameUpdates_result(this);
     }
 
     @Override
@@ -7132,26 +15768,11 @@ public class WwfApi {
       this.success = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<String> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(String elem) {
-      if (this.success == null) {
-        this.success = new ArrayList<String>();
-      }
-      this.success.add(elem);
-    }
-
-    public List<String> getSuccess() {
+    public GameUpdates getSuccess() {
       return this.success;
     }
 
-    public dictionaryLookup_result setSuccess(List<String> success) {
+    public waitForGameUpdates_result setSuccess(GameUpdates success) {
       this.success = success;
       return this;
     }
@@ -7177,7 +15798,7 @@ public class WwfApi {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<String>)value);
+          setSuccess((GameUpdates)value);
         }
         break;
 
@@ -7210,12 +15831,12 @@ public class WwfApi {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof dictionaryLookup_result)
-        return this.equals((dictionaryLookup_result)that);
+      if (that instanceof waitForGameUpdates_result)
+        return this.equals((waitForGameUpdates_result)that);
       return false;
     }
 
-    public boolean equals(dictionaryLookup_result that) {
+    public boolean equals(waitForGameUpdates_result that) {
       if (that == null)
         return false;
 
@@ -7236,13 +15857,13 @@ public class WwfApi {
       return 0;
     }
 
-    public int compareTo(dictionaryLookup_result other) {
+    public int compareTo(waitForGameUpdates_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      dictionaryLookup_result typedOther = (dictionaryLookup_result)other;
+      waitForGameUpdates_result typedOther = (waitForGameUpdates_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -7271,7 +15892,7 @@ public class WwfApi {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("dictionaryLookup_result(");
+      StringBuilder sb = new StringBuilder("waitForGameUpdates_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -7305,15 +15926,15 @@ public class WwfApi {
       }
     }
 
-    private static class dictionaryLookup_resultStandardSchemeFactory implements SchemeFactory {
-      public dictionaryLookup_resultStandardScheme getScheme() {
-        return new dictionaryLookup_resultStandardScheme();
+    private static class waitForGameUpdates_resultStandardSchemeFactory implements SchemeFactory {
+      public waitForGameUpdates_resultStandardScheme getScheme() {
+        return new waitForGameUpdates_resultStandardScheme();
       }
     }
 
-    private static class dictionaryLookup_resultStandardScheme extends StandardScheme<dictionaryLookup_result> {
+    private static class waitForGameUpdates_resultStandardScheme extends StandardScheme<waitForGameUpdates_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, dictionaryLookup_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, waitForGameUpdates_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7324,18 +15945,9 @@ public class WwfApi {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list126 = iprot.readListBegin();
-                  struct.success = new ArrayList<String>(_list126.size);
-                  for (int _i127 = 0; _i127 < _list126.size; ++_i127)
-                  {
-                    String _elem128; // required
-                    _elem128 = iprot.readString();
-                    struct.success.add(_elem128);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new GameUpdates();
+                struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -7352,20 +15964,13 @@ public class WwfApi {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, dictionaryLookup_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, waitForGameUpdates_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
-            for (String _iter129 : struct.success)
-            {
-              oprot.writeString(_iter129);
-            }
-            oprot.writeListEnd();
-          }
+          struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -7374,16 +15979,16 @@ public class WwfApi {
 
     }
 
-    private static class dictionaryLookup_resultTupleSchemeFactory implements SchemeFactory {
-      public dictionaryLookup_resultTupleScheme getScheme() {
-        return new dictionaryLookup_resultTupleScheme();
+    private static class waitForGameUpdates_resultTupleSchemeFactory implements SchemeFactory {
+      public waitForGameUpdates_resultTupleScheme getScheme() {
+        return new waitForGameUpdates_resultTupleScheme();
       }
     }
 
-    private static class dictionaryLookup_resultTupleScheme extends TupleScheme<dictionaryLookup_result> {
+    private static class waitForGameUpdates_resultTupleScheme extends TupleScheme<waitForGameUpdates_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, dictionaryLookup_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, waitForGameUpdates_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -7391,31 +15996,17 @@ public class WwfApi {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (String _iter130 : struct.success)
-            {
-              oprot.writeString(_iter130);
-            }
-          }
+          struct.success.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, dictionaryLookup_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, waitForGameUpdates_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list131 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.success = new ArrayList<String>(_list131.size);
-            for (int _i132 = 0; _i132 < _list131.size; ++_i132)
-            {
-              String _elem133; // required
-              _elem133 = iprot.readString();
-              struct.success.add(_elem133);
-            }
-          }
+          struct.success = new GameUpdates();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
       }
@@ -0,0 +1,76 @@
+package org.sidoh.wwf_api.util;
+
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>
+ * A read-only transport over a ByteBuffer, so thrift objects can be deserialized straight out of
+ * a buffer (e.g. a memory-mapped file) without copying it into a byte array first. Reads start at
+ * the buffer's position and advance it. Reading past the limit fails.
+ * </p>
+ * <p>
+ * For heap buffers, the backing array is exposed to protocols through getBuffer, which lets
+ * TCompactProtocol and TBinaryProtocol read small values without going through read().
+ * </p>
+ */
+public class ByteBufferTransport extends TTransport {
+  private final ByteBuffer buffer;
+
+  /**
+   * @param buffer data to read. not copied, so it shouldn't be modified while it's being read.
+   */
+  public ByteBufferTransport(ByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return true;
+  }
+
+  @Override
+  public void open() { }
+
+  @Override
+  public void close() { }
+
+  @Override
+  public int read(byte[] buf, int off, int len) throws TTransportException {
+    if (len > 0 && !buffer.hasRemaining()) {
+      throw new TTransportException(TTransportException.END_OF_FILE, "no more data in buffer");
+    }
+
+    int count = Math.min(len, buffer.remaining());
+    buffer.get(buf, off, count);
+
+    return count;
+  }
+
+  @Override
+  public void write(byte[] buf, int off, int len) throws TTransportException {
+    throw new TTransportException("ByteBufferTransport is read-only");
+  }
+
+  @Override
+  public byte[] getBuffer() {
+    return buffer.hasArray() ? buffer.array() : null;
+  }
+
+  @Override
+  public int getBufferPosition() {
+    return buffer.hasArray() ? buffer.arrayOffset() + buffer.position() : 0;
+  }
+
+  @Override
+  public int getBytesRemainingInBuffer() {
+    return buffer.hasArray() ? buffer.remaining() : -1;
+  }
+
+  @Override
+  public void consumeBuffer(int len) {
+    buffer.position(buffer.position() + len);
+  }
+}
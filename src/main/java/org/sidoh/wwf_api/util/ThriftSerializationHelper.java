@@ -2,25 +2,51 @@ package org.sidoh.wwf_api.util;
 
 import com.google.common.io.ByteStreams;
 import org.apache.thrift.TBase;
-import org.apache.thrift.TDeserializer;
 import org.apache.thrift.TException;
-import org.apache.thrift.TSerializer;
 import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.transport.TIOStreamTransport;
+import org.apache.thrift.transport.TTransportException;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
+/**
+ * <p>
+ * Serializes thrift objects with the compact protocol. Safe to use from any number of threads
+ * without locking:
+ * </p>
+ * <ul>
+ *   <li>Serializing to a byte array uses a protocol and output buffer that belong to the calling
+ *   thread and are reused from call to call.</li>
+ *   <li>Serializing to a stream writes straight to the stream, without building a byte array
+ *   first.</li>
+ *   <li>Deserializing reads straight from the bytes through a new (cheap) protocol each time.</li>
+ * </ul>
+ */
 public class ThriftSerializationHelper {
-  private static ThriftSerializationHelper instance;
+  private static final ThriftSerializationHelper instance = new ThriftSerializationHelper();
 
-  private static final TSerializer COMPACT_SERIALIZER
-    = new TSerializer(new TCompactProtocol.Factory());
-  private static final TDeserializer COMPACT_DESERIALIZER
-    = new TDeserializer(new TCompactProtocol.Factory());
+  /**
+   * Per-thread output buffers that grow past this are thrown away after use rather than being
+   * kept around forever by an idle thread
+   */
+  private static final int MAX_RETAINED_BUFFER_BYTES = 1024 * 1024;
+
+  private static final int INITIAL_BUFFER_BYTES = 8 * 1024;
+
+  private final ThreadLocal<Serializer> serializers = new ThreadLocal<Serializer>() {
+    @Override
+    protected Serializer initialValue() {
+      return new Serializer();
+    }
+  };
 
   /**
    * Force singleton
@@ -28,9 +54,6 @@ public class ThriftSerializationHelper {
   private ThriftSerializationHelper() { }
 
   public static ThriftSerializationHelper getInstance() {
-    if ( instance == null ) {
-      instance = new ThriftSerializationHelper();
-    }
     return instance;
   }
 
@@ -43,20 +66,35 @@ public class ThriftSerializationHelper {
    * @throws TException
    */
   public void serialize(TBase<?, ?> object, File file) throws IOException, TException {
-    FileOutputStream stream = new FileOutputStream(file);
-    serialize(object, stream);
-    stream.close();
+    OutputStream stream = new BufferedOutputStream(new FileOutputStream(file));
+    try {
+      serialize(object, stream);
+    }
+    finally {
+      stream.close();
+    }
   }
 
   /**
-   * Serialize the provided byte array and write it the specified output stream
+   * Serialize the provided object straight to the specified output stream. The protocol makes
+   * lots of small writes, so unbuffered streams should be wrapped in a BufferedOutputStream. The
+   * stream isn't flushed.
+   *
    * @param object
    * @param stream
    * @throws TException
    * @throws IOException
    */
   public void serialize(TBase<?, ?> object, OutputStream stream) throws TException, IOException {
-    stream.write(COMPACT_SERIALIZER.serialize(object));
+    try {
+      object.write(new TCompactProtocol(new TIOStreamTransport(stream)));
+    }
+    catch (TTransportException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw e;
+    }
   }
 
   /**
@@ -67,7 +105,16 @@ public class ThriftSerializationHelper {
    * @throws TException
    */
   public byte[] serialize(TBase<?, ?> object) throws TException {
-    return COMPACT_SERIALIZER.serialize(object);
+    Serializer serializer = serializers.get();
+
+    try {
+      return serializer.serialize(object);
+    }
+    finally {
+      if (serializer.buffer.capacity() > MAX_RETAINED_BUFFER_BYTES) {
+        serializers.remove();
+      }
+    }
   }
 
   /**
@@ -82,9 +129,41 @@ public class ThriftSerializationHelper {
    */
   public <T extends TBase<?, ?>> T deserialize(File file, T prototype) throws IOException, TException {
     FileInputStream stream = new FileInputStream(file);
-    T object = deserialize(stream, prototype);
-    stream.close();
-    return object;
+    try {
+      return deserialize(stream, prototype);
+    }
+    finally {
+      stream.close();
+    }
+  }
+
+  /**
+   * Deserialize the provided bytes into the prototype and return it
+   *
+   * @param bytes
+   * @param prototype
+   * @param <T>
+   * @return
+   * @throws TException
+   */
+  public <T extends TBase<?, ?>> T deserialize(byte[] bytes, T prototype) throws TException {
+    return deserialize(ByteBuffer.wrap(bytes), prototype);
+  }
+
+  /**
+   * Deserialize an object straight out of a buffer without copying it. Reads from the buffer's
+   * position to its limit and leaves the buffer's position unchanged. Safe to call from multiple
+   * threads, as long as they don't modify the buffer.
+   *
+   * @param buffer
+   * @param prototype
+   * @param <T>
+   * @return
+   * @throws TException
+   */
+  public <T extends TBase<?, ?>> T deserialize(ByteBuffer buffer, T prototype) throws TException {
+    prototype.read(new TCompactProtocol(new ByteBufferTransport(buffer.duplicate())));
+    return prototype;
   }
 
   /**
@@ -98,7 +177,35 @@ public class ThriftSerializationHelper {
    * @throws TException
    */
   public <T extends TBase<?, ?>> T deserialize(InputStream reader, T prototype) throws IOException, TException {
-    COMPACT_DESERIALIZER.deserialize(prototype, ByteStreams.toByteArray(reader));
-    return prototype;
+    return deserialize(ByteStreams.toByteArray(reader), prototype);
+  }
+
+  /**
+   * A protocol writing into a reusable buffer. Only used by one thread.
+   */
+  private static class Serializer {
+    private final ReusableByteArrayOutputStream buffer = new ReusableByteArrayOutputStream(INITIAL_BUFFER_BYTES);
+    private final TCompactProtocol protocol = new TCompactProtocol(new TIOStreamTransport(buffer));
+
+    public byte[] serialize(TBase<?, ?> object) throws TException {
+      buffer.reset();
+      protocol.reset();
+      object.write(protocol);
+
+      return buffer.toByteArray();
+    }
+  }
+
+  /**
+   * Exposes how big the buffer has grown
+   */
+  private static class ReusableByteArrayOutputStream extends ByteArrayOutputStream {
+    public ReusableByteArrayOutputStream(int size) {
+      super(size);
+    }
+
+    public int capacity() {
+      return buf.length;
+    }
   }
 }
@@ -231,6 +231,90 @@ struct NewGameParams {
   2: optional SearchGameParams params
 }
 
+/**
+ * Result of fetching a single game as part of getGameStates. Exactly one of state and error is
+ * set.
+ */
+struct GameStateResult {
+  1: required i64 gameId,
+
+  2: optional GameState state,
+
+  /**
+   * Describes why the game couldn't be fetched
+   */
+  3: optional string error
+}
+
+/**
+ * Result of fetching chats for a single game as part of getUnseenChatsForGames. Exactly one of
+ * chats and error is set.
+ */
+struct UnseenChatsResult {
+  1: required i64 gameId,
+
+  2: optional list<ChatMessage> chats,
+
+  /**
+   * Describes why the chats couldn't be fetched
+   */
+  3: optional string error
+}
+
+/**
+ * Result of checking a single list of words as part of dictionaryLookups. Exactly one of
+ * invalidWords and error is set.
+ */
+struct DictionaryLookupResult {
+  /**
+   * Words that are NOT in the WWF dictionary
+   */
+  1: optional list<string> invalidWords,
+
+  /**
+   * Describes why the words couldn't be checked
+   */
+  2: optional string error
+}
+
+/**
+ * A play along with the result of making it. No dictionary is consulted, so the words it forms
+ * may need to be checked with dictionaryLookup.
+ */
+struct ScoredPlay {
+  /**
+   * The play. This can be submitted with makeMove.
+   */
+  1: required MoveSubmission move,
+
+  2: required i32 score,
+
+  /**
+   * The word formed along the orientation of the play
+   */
+  3: required string mainWord,
+
+  /**
+   * All of the words formed by the play, including mainWord
+   */
+  4: required list<string> words
+}
+
+/**
+ * Games that have changed since a previous call to waitForGameUpdates
+ */
+struct GameUpdates {
+  /**
+   * Pass this to the next call to waitForGameUpdates
+   */
+  1: required i64 cursor,
+
+  /**
+   * The latest metadata for each game that changed. Empty if the call timed out.
+   */
+  2: required list<GameMeta> games
+}
+
 service WwfApi {
   /**
    * Retrieves the full game index. The index contains metadata for each game currently visible to
@@ -306,5 +390,92 @@ service WwfApi {
    * @param words set of words to be checked
    * @return set of words that are NOT in the WWF dictionary.
    */
-  list<string> dictionaryLookup(1: string accessToken, 2: list<string> words)
+  list<string> dictionaryLookup(1: string accessToken, 2: list<string> words),
+
+  /**
+   * Gets the full game states for several games at once. The games are fetched concurrently. A
+   * failure to fetch one game doesn't fail the others; it's reported in that game's result.
+   *
+   * @param accessToken
+   * @param gameIds the IDs of the games being requested
+   * @return one result per game ID, in the same order
+   */
+  list<GameStateResult> getGameStates(1: string accessToken, 2: list<i64> gameIds),
+
+  /**
+   * Gets unseen chat messages for several games at once. The games are fetched concurrently, and
+   * failures are reported per game.
+   *
+   * @param accessToken
+   * @param gameIds
+   * @return one result per game ID, in the same order
+   */
+  list<UnseenChatsResult> getUnseenChatsForGames(1: string accessToken, 2: list<i64> gameIds),
+
+  /**
+   * Checks several lists of words against the WWF dictionary at once. The lookups are done
+   * concurrently, and failures are reported per list.
+   *
+   * @param accessToken
+   * @param wordLists lists of words to be checked
+   * @return one result per list of words, in the same order
+   */
+  list<DictionaryLookupResult> dictionaryLookups(1: string accessToken, 2: list<list<string>> wordLists),
+
+  /**
+   * Scores a play against the current board of a game without submitting it.
+   *
+   * @param accessToken
+   * @param gameId
+   * @param move the play to score. must be of type PLAY.
+   * @return the score and the words the play would form
+   */
+  ScoredPlay scorePlay(1: string accessToken, 2: i64 gameId, 3: MoveSubmission move),
+
+  /**
+   * Same as scorePlay, but uses the board from the provided state instead of fetching it.
+   *
+   * @param state
+   * @param move the play to score. must be of type PLAY.
+   * @return the score and the words the play would form
+   */
+  ScoredPlay scorePlayInState(1: GameState state, 2: MoveSubmission move),
+
+  /**
+   * Finds every way the provided words can be played on the current board of a game using tiles
+   * from a rack, and scores them. Words formed across the play aren't checked against a
+   * dictionary, but they're included in the results.
+   *
+   * @param accessToken
+   * @param gameId
+   * @param rack tiles that can be played. if empty, the rack of the player whose turn it is is used.
+   * @param words candidate words
+   * @param maxResults maximum number of plays to return. 0 means no limit.
+   * @return plays ordered by score, highest first
+   */
+  list<ScoredPlay> findPlays(1: string accessToken, 2: i64 gameId, 3: list<game_state.Tile> rack, 4: list<string> words, 5: i32 maxResults),
+
+  /**
+   * Same as findPlays, but uses the board from the provided state instead of fetching it.
+   *
+   * @param state
+   * @param rack tiles that can be played. if empty, the rack of the player whose turn it is is used.
+   * @param words candidate words
+   * @param maxResults maximum number of plays to return. 0 means no limit.
+   * @return plays ordered by score, highest first
+   */
+  list<ScoredPlay> findPlaysInState(1: GameState state, 2: list<game_state.Tile> rack, 3: list<string> words, 4: i32 maxResults),
+
+  /**
+   * Blocks until games visible to the user change, or until the timeout expires. The server polls
+   * Zynga once per access token no matter how many clients are waiting, and stops after nobody has
+   * asked about the token for a while.
+   *
+   * @param accessToken
+   * @param cursor the cursor from the previous call, or 0 for the first call. the first call
+   *               only sees changes made after it.
+   * @param timeoutMillis how long to wait. the server may cap this.
+   * @return the changed games, and the cursor to pass next time
+   */
+  GameUpdates waitForGameUpdates(1: string accessToken, 2: i64 cursor, 3: i32 timeoutMillis)
 }
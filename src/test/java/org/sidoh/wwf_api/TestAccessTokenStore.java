@@ -0,0 +1,223 @@
+package org.sidoh.wwf_api;
+
+import com.gargoylesoftware.htmlunit.WebClient;
+import com.google.common.base.Charsets;
+import com.google.common.io.BaseEncoding;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestAccessTokenStore extends WwfApiTestCase {
+  /**
+   * Hands out numbered tokens instead of logging in
+   */
+  private static class FakeRetriever extends AccessTokenRetriever {
+    private final AtomicInteger logins = new AtomicInteger();
+    private final long lifetimeMillis;
+
+    public FakeRetriever(long lifetimeMillis) {
+      this.lifetimeMillis = lifetimeMillis;
+    }
+
+    @Override
+    public AccessToken retrieve(WebClient client, String username, String password) {
+      return new AccessToken(username + "-" + logins.incrementAndGet(), System.currentTimeMillis() + lifetimeMillis);
+    }
+  }
+
+  /**
+   * Blocks each login until it's released
+   */
+  private static class BlockingRetriever extends FakeRetriever {
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    public BlockingRetriever() {
+      super(60 * 60 * 1000);
+    }
+
+    @Override
+    public AccessToken retrieve(WebClient client, String username, String password) {
+      started.countDown();
+      try {
+        release.await();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      return super.retrieve(client, username, password);
+    }
+  }
+
+  /**
+   * Fails to create the first browser
+   */
+  private static class BrokenBrowserRetriever extends FakeRetriever {
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    public BrokenBrowserRetriever() {
+      super(60 * 60 * 1000);
+    }
+
+    @Override
+    public WebClient createClient() {
+      if (attempts.incrementAndGet() == 1) {
+        throw new IllegalStateException("couldn't start browser");
+      }
+
+      return super.createClient();
+    }
+  }
+
+  private File file;
+
+  @Override
+  protected void setUp() throws IOException {
+    file = File.createTempFile("tokens", ".properties");
+    file.delete();
+  }
+
+  @Override
+  protected void tearDown() {
+    file.delete();
+  }
+
+  public void testTokensArePersisted() throws IOException {
+    FakeRetriever retriever = new FakeRetriever(60 * 60 * 1000);
+    AccessTokenStore store = new AccessTokenStore(file, retriever, 1, 1000);
+
+    store.register("alice", "secret");
+    assertEquals("alice-1", store.getAccessToken("alice"));
+    assertEquals("alice-1", store.getAccessToken("alice"));
+    store.close();
+
+    // A new store serves the persisted token without logging in again
+    AccessTokenStore reloaded = new AccessTokenStore(file, retriever, 1, 1000);
+    assertEquals("alice-1", reloaded.getAccessToken("alice"));
+    assertEquals("alice-1", reloaded.getProvider("alice", new ApiProvider()).getAccessToken());
+    assertEquals(1, retriever.logins.get());
+    reloaded.close();
+  }
+
+  public void testRefreshesBeforeExpiry() throws Exception {
+    FakeRetriever retriever = new FakeRetriever(1000);
+    AccessTokenStore store = new AccessTokenStore(null, retriever, 1, 800);
+
+    try {
+      store.register("bob", "secret");
+
+      long deadline = System.currentTimeMillis() + 10000;
+      while (retriever.logins.get() < 3 && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+
+      assertTrue("token should have been refreshed in the background", retriever.logins.get() >= 3);
+      assertFalse(store.getCachedToken("bob").expiresWithin(System.currentTimeMillis(), 0));
+    }
+    finally {
+      store.close();
+    }
+  }
+
+  public void testUnregisteredAccount() throws IOException {
+    AccessTokenStore store = new AccessTokenStore(null, new FakeRetriever(1000), 1, 0);
+
+    try {
+      store.getAccessToken("nobody");
+      fail("there are no credentials for this account");
+    }
+    catch (IllegalArgumentException e) {
+      // expected
+    }
+    finally {
+      store.close();
+    }
+  }
+
+  public void testUnregisterDuringRefresh() throws Exception {
+    final BlockingRetriever retriever = new BlockingRetriever();
+    AccessTokenStore store = new AccessTokenStore(file, retriever, 1, 1000);
+
+    try {
+      store.register("carol", "secret");
+      assertTrue(retriever.started.await(10, TimeUnit.SECONDS));
+
+      // unregister waits for the login in progress, so release it from another thread
+      new Thread() {
+        @Override
+        public void run() {
+          try {
+            Thread.sleep(100);
+          }
+          catch (InterruptedException e) {
+            // fall through and release
+          }
+          retriever.release.countDown();
+        }
+      }.start();
+      store.unregister("carol");
+
+      // the finished login must not bring the token back
+      Thread.sleep(200);
+      assertNull(store.getCachedToken("carol"));
+    }
+    finally {
+      store.close();
+    }
+
+    AccessTokenStore reloaded = new AccessTokenStore(file, retriever, 1, 1000);
+    assertNull(reloaded.getCachedToken("carol"));
+    reloaded.close();
+  }
+
+  public void testFailedBrowserFreesItsSlot() throws IOException {
+    BrokenBrowserRetriever retriever = new BrokenBrowserRetriever();
+    AccessTokenStore store = new AccessTokenStore(null, retriever, 1, 1000);
+
+    try {
+      // No background refreshes, so the logins below are the only ones
+      store.close();
+      store.register("dave", "secret");
+
+      try {
+        store.getAccessToken("dave");
+        fail("creating the browser should have failed");
+      }
+      catch (IllegalStateException e) {
+        // expected
+      }
+
+      // The only slot must be free again, or this waits forever
+      assertEquals("dave-1", store.getAccessToken("dave"));
+    }
+    finally {
+      store.close();
+    }
+  }
+
+  public void testDecodeSignedRequestPayload() {
+    String payload = "{\"oauth_token\":\"abc\",\"expires\":1366500000,\"user\":{\"locale\":\"en_US\"}}";
+    String encoded = BaseEncoding.base64Url().omitPadding().encode(payload.getBytes(Charsets.UTF_8));
+
+    assertEquals(payload, AccessTokenRetriever.decodeSignedRequestPayload(encoded));
+    assertEquals(payload, AccessTokenRetriever.decodeSignedRequestPayload(encoded + "=="));
+  }
+
+  public void testParseSignedRequestWithoutToken() {
+    assertNull(AccessTokenRetriever.parseSignedRequest("{\"expires\":1366500000}"));
+    assertNull(AccessTokenRetriever.parseSignedRequest("{\"oauth_token\":null}"));
+  }
+
+  public void testParseSignedRequest() {
+    AccessToken token = AccessTokenRetriever.parseSignedRequest("{\"oauth_token\":\"abc\",\"expires\":1366500000}");
+    assertEquals("abc", token.getToken());
+    assertEquals(1366500000000L, token.getExpiresAtMillis());
+
+    token = AccessTokenRetriever.parseSignedRequest("{\"oauth_token\":\"abc\",\"expires\":0}");
+    assertEquals(AccessToken.NEVER_EXPIRES, token.getExpiresAtMillis());
+  }
+}
@@ -0,0 +1,133 @@
+package org.sidoh.wwf_api;
+
+import org.apache.thrift.TException;
+import org.sidoh.wwf_api.types.api.ChatMessage;
+import org.sidoh.wwf_api.types.api.DictionaryLookupResult;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.types.api.GameStateResult;
+import org.sidoh.wwf_api.types.api.UnseenChatsResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class TestApiServer extends WwfApiTestCase {
+  /**
+   * Fails requests for odd game IDs. Game state requests wait until all of the expected requests
+   * have started, so they only finish if they're made concurrently.
+   */
+  private static class FlakyApiProvider extends ApiProvider {
+    private final CountDownLatch started;
+
+    public FlakyApiProvider(int expectedRequests) {
+      this.started = new CountDownLatch(expectedRequests);
+    }
+
+    @Override
+    public GameState getGameState(String accessToken, long gameId) {
+      started.countDown();
+
+      try {
+        if (!started.await(10, TimeUnit.SECONDS)) {
+          throw new ApiRequestException("requests weren't made concurrently");
+        }
+      }
+      catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+
+      if (gameId % 2 == 1) {
+        throw new ApiRequestException("no such game");
+      }
+
+      return new GameState().setId(gameId);
+    }
+
+    @Override
+    public List<ChatMessage> getUnreadChats(String accessToken, long gameId) {
+      if (gameId % 2 == 1) {
+        throw new ApiRequestException("no such game");
+      }
+
+      return Collections.singletonList(new ChatMessage().setGameId(gameId));
+    }
+
+    @Override
+    public List<String> dictionaryLookup(String accessToken, List<String> words) {
+      if (words.isEmpty()) {
+        throw new ApiRequestException("no words");
+      }
+
+      return words.subList(1, words.size());
+    }
+  }
+
+  public void testGetGameStates() throws TException {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      ApiServer.WwfApiHandler handler = new ApiServer.WwfApiHandler(new FlakyApiProvider(4), executor, null, 0);
+      List<GameStateResult> results = handler.getGameStates("a", Arrays.asList(1L, 2L, 3L, 4L));
+
+      assertEquals(4, results.size());
+
+      for (int i = 0; i < results.size(); i++) {
+        GameStateResult result = results.get(i);
+
+        assertEquals("results should be in request order", i + 1, result.getGameId());
+
+        if (result.getGameId() % 2 == 1) {
+          assertFalse(result.isSetState());
+          assertTrue("failures should be reported", result.isSetError());
+        }
+        else {
+          assertEquals(result.getGameId(), result.getState().getId());
+          assertFalse(result.isSetError());
+        }
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  public void testGetUnseenChatsForGames() throws TException {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      ApiServer.WwfApiHandler handler = new ApiServer.WwfApiHandler(new FlakyApiProvider(0), executor, null, 0);
+      List<UnseenChatsResult> results = handler.getUnseenChatsForGames("a", Arrays.asList(2L, 3L));
+
+      assertEquals(2, results.size());
+      assertEquals(2L, results.get(0).getChats().get(0).getGameId());
+      assertTrue(results.get(1).isSetError());
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  public void testDictionaryLookups() throws TException {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      ApiServer.WwfApiHandler handler = new ApiServer.WwfApiHandler(new FlakyApiProvider(0), executor, null, 0);
+      List<List<String>> wordLists = new ArrayList<List<String>>();
+      wordLists.add(Arrays.asList("cat", "xqz"));
+      wordLists.add(Collections.<String>emptyList());
+
+      List<DictionaryLookupResult> results = handler.dictionaryLookups("a", wordLists);
+
+      assertEquals(Arrays.asList("xqz"), results.get(0).getInvalidWords());
+      assertTrue(results.get(1).isSetError());
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+}
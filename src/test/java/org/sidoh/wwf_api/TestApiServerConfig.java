@@ -0,0 +1,112 @@
+package org.sidoh.wwf_api;
+
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+public class TestApiServerConfig extends WwfApiTestCase {
+  public void testDefaults() {
+    ApiServerConfig config = ApiServerConfig.fromProperties(new Properties());
+
+    assertEquals(ApiServerConfig.ServerType.HSHA, config.getServerType());
+    assertEquals(ApiServerConfig.LoadSheddingPolicy.REJECT, config.getLoadSheddingPolicy());
+    assertEquals(CachingApiProvider.DEFAULT_TTL_MILLIS, config.getCacheTtlMillis());
+  }
+
+  public void testFromProperties() {
+    Properties properties = new Properties();
+    properties.setProperty("wwf_api.server.type", "threaded_selector");
+    properties.setProperty("wwf_api.server.worker_threads", " 64 ");
+    properties.setProperty("wwf_api.server.queue_size", "10");
+    properties.setProperty("wwf_api.server.load_shedding", "block");
+    properties.setProperty("wwf_api.server.upstream_timeout_millis", "1000");
+
+    ApiServerConfig config = ApiServerConfig.fromProperties(properties);
+
+    assertEquals(ApiServerConfig.ServerType.THREADED_SELECTOR, config.getServerType());
+    assertEquals(64, config.getWorkerThreads());
+    assertEquals(10, config.getQueueSize());
+    assertEquals(ApiServerConfig.LoadSheddingPolicy.BLOCK, config.getLoadSheddingPolicy());
+    assertEquals(1000, config.getUpstreamTimeoutMillis());
+  }
+
+  public void testThreadPoolRejectsQueueSettings() {
+    Properties properties = new Properties();
+    properties.setProperty("wwf_api.server.type", "thread_pool");
+    properties.setProperty("wwf_api.server.worker_threads", "8");
+
+    assertEquals(ApiServerConfig.ServerType.THREAD_POOL, ApiServerConfig.fromProperties(properties).getServerType());
+
+    properties.setProperty("wwf_api.server.load_shedding", "block");
+
+    try {
+      ApiServerConfig.fromProperties(properties);
+      fail("load shedding can't be applied to thread pool servers");
+    }
+    catch (IllegalArgumentException e) {
+      // expected
+    }
+
+    // Even when it's the default, it's still a setting that won't be applied
+    properties.remove("wwf_api.server.load_shedding");
+    properties.setProperty("wwf_api.server.queue_size", String.valueOf(ApiServerConfig.DEFAULT_QUEUE_SIZE));
+
+    try {
+      ApiServerConfig.fromProperties(properties);
+      fail("queue_size can't be applied to thread pool servers");
+    }
+    catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  public void testLongSettings() {
+    Properties properties = new Properties();
+    properties.setProperty("wwf_api.server.cache_ttl_millis", "3000000000");
+    properties.setProperty("wwf_api.server.long_poll_timeout_millis", "2147483648");
+
+    ApiServerConfig config = ApiServerConfig.fromProperties(properties);
+
+    assertEquals(3000000000L, config.getCacheTtlMillis());
+    assertEquals(2147483648L, config.getLongPollTimeoutMillis());
+  }
+
+  public void testBlockingGivesUp() throws InterruptedException {
+    ExecutorService executor = ApiServer.buildExecutor(new ApiServerConfig()
+      .setWorkerThreads(1)
+      .setQueueSize(1)
+      .setLoadSheddingPolicy(ApiServerConfig.LoadSheddingPolicy.BLOCK)
+      .setBlockTimeoutMillis(50));
+    final CountDownLatch release = new CountDownLatch(1);
+    Runnable stuck = new Runnable() {
+      @Override
+      public void run() {
+        try {
+          release.await();
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+
+    try {
+      executor.execute(stuck);
+      executor.execute(stuck);
+
+      long start = System.currentTimeMillis();
+      try {
+        executor.execute(stuck);
+        fail("the queue is full, so the request should be shed");
+      }
+      catch (RejectedExecutionException e) {
+        assertTrue(System.currentTimeMillis() - start >= 40);
+      }
+    }
+    finally {
+      release.countDown();
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package org.sidoh.wwf_api;
+
+import org.sidoh.wwf_api.types.api.ChatMessage;
+import org.sidoh.wwf_api.types.api.GameState;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestCachingApiProvider extends WwfApiTestCase {
+  /**
+   * Counts upstream calls instead of making them
+   */
+  private static class CountingApiProvider extends ApiProvider {
+    private final AtomicInteger gameStateCalls = new AtomicInteger();
+    private volatile CountDownLatch gameStateLatch = new CountDownLatch(0);
+
+    @Override
+    public GameState getGameState(String accessToken, long gameId) {
+      gameStateCalls.incrementAndGet();
+
+      try {
+        gameStateLatch.await();
+      }
+      catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+
+      return new GameState().setId(gameId);
+    }
+
+    @Override
+    public ChatMessage submitChatMessage(String accessToken, long gameId, String message) {
+      return new ChatMessage().setGameId(gameId).setMessage(message);
+    }
+  }
+
+  public void testCachesPerTokenAndGame() {
+    CountingApiProvider upstream = new CountingApiProvider();
+    CachingApiProvider provider = new CachingApiProvider(upstream, 1, TimeUnit.MINUTES);
+
+    provider.getGameState("a", 1);
+    provider.getGameState("a", 1);
+    assertEquals("second call should be cached", 1, upstream.gameStateCalls.get());
+
+    provider.getGameState("a", 2);
+    provider.getGameState("b", 1);
+    assertEquals("different games and tokens shouldn't share entries", 3, upstream.gameStateCalls.get());
+  }
+
+  public void testChatInvalidatesGame() {
+    CountingApiProvider upstream = new CountingApiProvider();
+    CachingApiProvider provider = new CachingApiProvider(upstream, 1, TimeUnit.MINUTES);
+
+    provider.getGameState("a", 1);
+    provider.getGameState("a", 2);
+    provider.submitChatMessage("a", 1, "hi");
+    provider.getGameState("a", 1);
+    provider.getGameState("a", 2);
+
+    assertEquals("only the game that was chatted in should be refetched", 3, upstream.gameStateCalls.get());
+  }
+
+  public void testExpires() throws InterruptedException {
+    CountingApiProvider upstream = new CountingApiProvider();
+    CachingApiProvider provider = new CachingApiProvider(upstream, 1, TimeUnit.MILLISECONDS);
+
+    provider.getGameState("a", 1);
+    Thread.sleep(5);
+    provider.getGameState("a", 1);
+
+    assertEquals("expired entries should be refetched", 2, upstream.gameStateCalls.get());
+  }
+
+  public void testConcurrentRequestsShareUpstreamCall() throws InterruptedException {
+    final CountingApiProvider upstream = new CountingApiProvider();
+    final CachingApiProvider provider = new CachingApiProvider(upstream, 1, TimeUnit.MINUTES);
+    final CountDownLatch done = new CountDownLatch(8);
+
+    upstream.gameStateLatch = new CountDownLatch(1);
+
+    for (int i = 0; i < 8; i++) {
+      new Thread() {
+        @Override
+        public void run() {
+          provider.getGameState("a", 1);
+          done.countDown();
+        }
+      }.start();
+    }
+
+    // Give the threads a chance to pile up behind the first call
+    Thread.sleep(100);
+    upstream.gameStateLatch.countDown();
+
+    assertTrue("all requests should finish", done.await(10, TimeUnit.SECONDS));
+    assertEquals("should only call upstream once", 1, upstream.gameStateCalls.get());
+  }
+}
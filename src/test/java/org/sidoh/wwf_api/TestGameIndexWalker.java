@@ -0,0 +1,166 @@
+package org.sidoh.wwf_api;
+
+import org.sidoh.wwf_api.types.api.GameIndex;
+import org.sidoh.wwf_api.types.api.GameMeta;
+import org.sidoh.wwf_api.types.api.GameState;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestGameIndexWalker extends WwfApiTestCase {
+  private static final int NUM_GAMES = 40;
+  private static final long FAILING_GAME = 13;
+
+  /**
+   * Takes a random amount of time per game and tracks how many fetches run at once
+   */
+  private static class SlowApiProvider extends ApiProvider {
+    private final Random random = new Random(1);
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    @Override
+    public GameState getGameState(String accessToken, long gameId) {
+      int now = active.incrementAndGet();
+      maxActive.set(Math.max(maxActive.get(), now));
+
+      try {
+        int delay;
+        synchronized (random) {
+          delay = random.nextInt(10);
+        }
+        Thread.sleep(delay);
+      }
+      catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+      finally {
+        active.decrementAndGet();
+      }
+
+      if (gameId == FAILING_GAME) {
+        throw new ApiRequestException("couldn't fetch game");
+      }
+
+      return new GameState().setId(gameId);
+    }
+  }
+
+  /**
+   * Blocks every fetch until it's interrupted
+   */
+  private static class BlockingApiProvider extends ApiProvider {
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+
+    @Override
+    public GameState getGameState(String accessToken, long gameId) {
+      started.countDown();
+
+      try {
+        Thread.sleep(Long.MAX_VALUE);
+      }
+      catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+
+      throw new ApiRequestException("interrupted");
+    }
+  }
+
+  private static class RecordingCallback implements GameIndexWalker.Callback {
+    private final List<Long> delivered = new ArrayList<Long>();
+    private final List<Long> failed = new ArrayList<Long>();
+
+    @Override
+    public void onGame(GameMeta meta, GameState state) {
+      assertEquals(meta.getId(), state.getId());
+      delivered.add(state.getId());
+    }
+
+    @Override
+    public void onError(GameMeta meta, Exception e) {
+      failed.add(meta.getId());
+    }
+  }
+
+  private ExecutorService executor;
+  private SlowApiProvider upstream;
+  private GameIndex index;
+
+  @Override
+  protected void setUp() {
+    executor = Executors.newFixedThreadPool(8);
+    upstream = new SlowApiProvider();
+    index = new GameIndex().setGames(new ArrayList<GameMeta>());
+
+    for (int i = 0; i < NUM_GAMES; i++) {
+      index.addToGames(new GameMeta().setId(i));
+    }
+  }
+
+  @Override
+  protected void tearDown() {
+    executor.shutdownNow();
+  }
+
+  public void testIndexOrder() throws InterruptedException {
+    RecordingCallback callback = new RecordingCallback();
+    GameIndexWalker walker = new GameIndexWalker(executor, 4, GameIndexWalker.Order.INDEX);
+
+    assertEquals(NUM_GAMES - 1, walker.walk(new StatefulApiProvider("token", upstream), index, callback));
+
+    List<Long> expected = new ArrayList<Long>();
+    for (long i = 0; i < NUM_GAMES; i++) {
+      if (i != FAILING_GAME) {
+        expected.add(i);
+      }
+    }
+
+    assertEquals(expected, callback.delivered);
+    assertEquals(Collections.singletonList(FAILING_GAME), callback.failed);
+    assertTrue(upstream.maxActive.get() <= 4);
+  }
+
+  public void testCompletionOrder() throws InterruptedException {
+    RecordingCallback callback = new RecordingCallback();
+    GameIndexWalker walker = new GameIndexWalker(executor, 3, GameIndexWalker.Order.COMPLETION);
+
+    assertEquals(NUM_GAMES - 1, walker.walk(new StatefulApiProvider("token", upstream), index, callback));
+    assertEquals(NUM_GAMES - 1, callback.delivered.size());
+    assertEquals(Collections.singletonList(FAILING_GAME), callback.failed);
+    assertTrue(upstream.maxActive.get() <= 3);
+  }
+
+  public void testInterruptCancelsFetchBeingWaitedOn() throws InterruptedException {
+    final BlockingApiProvider blocking = new BlockingApiProvider();
+    final GameIndexWalker walker = new GameIndexWalker(executor, 1, GameIndexWalker.Order.INDEX);
+
+    Thread walking = new Thread() {
+      @Override
+      public void run() {
+        try {
+          walker.walk(new StatefulApiProvider("token", blocking), index, new RecordingCallback());
+        }
+        catch (InterruptedException e) {
+          // expected
+        }
+      }
+    };
+    walking.start();
+
+    assertTrue(blocking.started.await(10, TimeUnit.SECONDS));
+    walking.interrupt();
+
+    assertTrue(blocking.interrupted.await(10, TimeUnit.SECONDS));
+    walking.join(10000);
+    assertFalse(walking.isAlive());
+  }
+}
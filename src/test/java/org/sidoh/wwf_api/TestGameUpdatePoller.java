@@ -0,0 +1,132 @@
+package org.sidoh.wwf_api;
+
+import org.sidoh.wwf_api.polling.ActivityPollPolicy;
+import org.sidoh.wwf_api.polling.PollScheduler;
+import org.sidoh.wwf_api.types.api.GameIndex;
+import org.sidoh.wwf_api.types.api.GameMeta;
+import org.sidoh.wwf_api.types.api.GameUpdates;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestGameUpdatePoller extends WwfApiTestCase {
+  /**
+   * Returns whatever games it's told to
+   */
+  private static class ScriptedApiProvider extends ApiProvider {
+    private final AtomicInteger polls = new AtomicInteger();
+    private volatile List<GameMeta> games = Collections.emptyList();
+
+    @Override
+    public GameIndex getGameIndex(String accessToken) {
+      polls.incrementAndGet();
+      return new GameIndex().setGames(games);
+    }
+
+    @Override
+    public GameIndex getGamesWithUpdates(String accessToken, int timestamp) {
+      polls.incrementAndGet();
+      return new GameIndex().setGames(games);
+    }
+  }
+
+  private ExecutorService executor;
+  private PollScheduler scheduler;
+  private ScriptedApiProvider upstream;
+  private GameUpdatePoller poller;
+
+  @Override
+  protected void setUp() {
+    executor = Executors.newFixedThreadPool(2);
+    scheduler = new PollScheduler(executor, new ActivityPollPolicy(10, 20), 2);
+    scheduler.start();
+    upstream = new ScriptedApiProvider();
+    poller = new GameUpdatePoller(upstream, scheduler, 60000);
+  }
+
+  @Override
+  protected void tearDown() {
+    scheduler.shutdown();
+    executor.shutdownNow();
+  }
+
+  public void testWakesUpOnChange() throws InterruptedException {
+    // Subscribe first, so the change below comes after the cursor we wait with
+    GameUpdates first = poller.waitForUpdates("a", 0, 10);
+
+    new Thread() {
+      @Override
+      public void run() {
+        // The first poll only records what the games look like, so change them once it has finished
+        try {
+          while (upstream.polls.get() < 2) {
+            Thread.sleep(10);
+          }
+        }
+        catch (InterruptedException e) {
+          return;
+        }
+        upstream.games = Collections.singletonList(new GameMeta().setId(1));
+      }
+    }.start();
+
+    GameUpdates updates = poller.waitForUpdates("a", first.getCursor(), 5000);
+
+    assertEquals(1, updates.getGamesSize());
+    assertEquals(1, updates.getGames().get(0).getId());
+    assertEquals(1, updates.getCursor());
+  }
+
+  public void testUnchangedGamesAreNotReported() throws InterruptedException {
+    upstream.games = Collections.singletonList(new GameMeta().setId(1));
+    GameUpdates first = poller.waitForUpdates("a", 0, 100);
+
+    assertTrue("polls should have happened while waiting", upstream.polls.get() > 1);
+    assertEquals("nothing changed, so nothing should be returned", 0, first.getGamesSize());
+
+    List<GameMeta> games = new ArrayList<GameMeta>(upstream.games);
+    games.add(new GameMeta().setId(2));
+    upstream.games = games;
+
+    GameUpdates second = poller.waitForUpdates("a", first.getCursor(), 5000);
+    assertEquals("only the new game changed", 1, second.getGamesSize());
+    assertEquals(2, second.getGames().get(0).getId());
+  }
+
+  public void testClientsShareSubscription() throws InterruptedException {
+    poller.waitForUpdates("a", 0, 10);
+    poller.waitForUpdates("a", 0, 10);
+    poller.waitForUpdates("b", 0, 10);
+
+    assertEquals("should poll once per token", 2, poller.getNumSubscriptions());
+
+    poller.unsubscribe("a");
+    assertEquals(1, poller.getNumSubscriptions());
+  }
+
+  public void testResubscribesIfDroppedBeforeWaiting() throws InterruptedException {
+    final AtomicBoolean dropped = new AtomicBoolean();
+    poller = new GameUpdatePoller(upstream, scheduler, 60000) {
+      @Override
+      protected Subscription subscribe(String accessToken) {
+        Subscription subscription = super.subscribe(accessToken);
+
+        // Drop it the way onPoll does when it goes idle, before the caller gets to wait on it
+        if (dropped.compareAndSet(false, true)) {
+          unsubscribe(accessToken);
+        }
+
+        return subscription;
+      }
+    };
+
+    poller.waitForUpdates("a", 0, 10);
+
+    assertEquals("should have waited on a live subscription", 1, poller.getNumSubscriptions());
+  }
+}
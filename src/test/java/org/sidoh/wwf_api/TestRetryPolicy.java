@@ -0,0 +1,70 @@
+package org.sidoh.wwf_api;
+
+import org.sidoh.wwf_api.metrics.NoopMetricsRecorder;
+import org.sidoh.wwf_api.ratelimit.RequestRateLimiter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestRetryPolicy extends WwfApiTestCase {
+  private final RetryPolicy policy = new RetryPolicy(4, 100, 250, new Random(0));
+
+  public void testRetriesTransientErrors() {
+    assertTrue(policy.getRetryDelayMillis(1, new ApiRequestException(new IOException())) >= 0);
+    assertTrue(policy.getRetryDelayMillis(1, new ApiResponseException(503, null)) >= 0);
+    assertTrue(policy.getRetryDelayMillis(1, new ThrottledException(null, -1)) >= 0);
+  }
+
+  public void testDoesntRetryClientErrors() {
+    assertEquals(-1, policy.getRetryDelayMillis(1, new ApiResponseException(404, "not found")));
+    assertEquals(-1, policy.getRetryDelayMillis(1, new ApiResponseException(401, null)));
+    assertEquals(-1, policy.getRetryDelayMillis(1, new ApiRequestException("parse error")));
+  }
+
+  public void testDelaysAreCappedAndAttemptsLimited() {
+    for (int attempt = 1; attempt < 4; attempt++) {
+      long delay = policy.getRetryDelayMillis(attempt, new ApiResponseException(500, null));
+      long cap = Math.min(250, 100 << (attempt - 1));
+
+      assertTrue("delay " + delay + " should be under " + cap, delay >= 0 && delay <= cap);
+    }
+
+    assertEquals(-1, policy.getRetryDelayMillis(4, new ApiResponseException(500, null)));
+  }
+
+  public void testHonorsRetryAfter() {
+    assertTrue(policy.getRetryDelayMillis(1, new ThrottledException(null, 5000)) >= 5000);
+  }
+
+  public void testCommunicationRetriesGets() {
+    final AtomicInteger attempts = new AtomicInteger();
+    RetryPolicy retryPolicy = new RetryPolicy(3, 1, 1, new Random(0));
+    Communication comm = new Communication(NoopMetricsRecorder.getInstance(), 0, RequestRateLimiter.UNLIMITED, retryPolicy) {
+      @Override
+      protected InputStream sendGetRequest(URL url, String authToken) {
+        if (attempts.incrementAndGet() < 3) {
+          throw new ApiResponseException(502, null);
+        }
+
+        return new ByteArrayInputStream(new byte[0]);
+      }
+    };
+
+    assertNotNull(comm.getGameIndex("token"));
+    assertEquals(3, attempts.get());
+
+    attempts.set(-10);
+    try {
+      comm.getGameIndex("token");
+      fail("should give up after the last attempt");
+    }
+    catch (ApiResponseException e) {
+      assertEquals(502, e.getStatusCode());
+      assertEquals(-7, attempts.get());
+    }
+  }
+}
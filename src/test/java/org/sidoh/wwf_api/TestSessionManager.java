@@ -0,0 +1,91 @@
+package org.sidoh.wwf_api;
+
+import org.sidoh.wwf_api.types.api.GameIndex;
+import org.sidoh.wwf_api.types.api.User;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestSessionManager extends WwfApiTestCase {
+  /**
+   * Returns an index identifying the account, and counts calls per account
+   */
+  private static class CountingApiProvider extends ApiProvider {
+    private final ConcurrentMap<String, AtomicInteger> calls = new ConcurrentHashMap<String, AtomicInteger>();
+
+    @Override
+    public GameIndex getGameIndex(String accessToken) {
+      calls.putIfAbsent(accessToken, new AtomicInteger());
+      calls.get(accessToken).incrementAndGet();
+
+      return new GameIndex().setUser(new User().setName(accessToken));
+    }
+
+    public int getCalls(String accessToken) {
+      AtomicInteger count = calls.get(accessToken);
+      return count == null ? 0 : count.get();
+    }
+  }
+
+  private CountingApiProvider upstream;
+  private ExecutorService workers;
+  private SessionManager manager;
+
+  @Override
+  protected void setUp() {
+    upstream = new CountingApiProvider();
+    workers = Executors.newFixedThreadPool(4);
+    manager = new SessionManager(new CachingApiProvider(upstream, 1, TimeUnit.HOURS), workers);
+  }
+
+  @Override
+  protected void tearDown() {
+    manager.shutdown();
+    workers.shutdownNow();
+  }
+
+  public void testSessionsShareProvider() throws Exception {
+    SessionManager.Session a = manager.open("a");
+
+    assertSame(a, manager.open("a"));
+    assertNull(manager.get("b"));
+    assertEquals("a", a.getGameIndexAsync().get().getUser().getName());
+
+    // The second call is served by the shared cache
+    a.getGameIndex();
+    assertEquals(1, upstream.getCalls("a"));
+
+    manager.close("a");
+    assertTrue(a.isClosed());
+    assertEquals(0, manager.size());
+
+    // Closing drops the account's cached data
+    manager.open("a").getGameIndex();
+    assertEquals(2, upstream.getCalls("a"));
+  }
+
+  public void testRunForAll() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      manager.open("token" + i);
+    }
+
+    Map<String, Future<String>> results = manager.runForAll(new SessionManager.SessionTask<String>() {
+      @Override
+      public String run(SessionManager.Session session) {
+        return session.getGameIndex().getUser().getName();
+      }
+    });
+
+    assertEquals(100, results.size());
+    for (Map.Entry<String, Future<String>> result : results.entrySet()) {
+      assertEquals(result.getKey(), result.getValue().get());
+      assertEquals(1, upstream.getCalls(result.getKey()));
+    }
+  }
+}
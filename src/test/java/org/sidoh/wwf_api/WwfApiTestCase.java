@@ -1,5 +1,6 @@
 package org.sidoh.wwf_api;
 
+import com.google.common.io.Files;
 import junit.framework.TestCase;
 
 import org.apache.thrift.TDeserializer;
@@ -10,6 +11,8 @@ import org.sidoh.wwf_api.game_state.Move;
 import org.sidoh.wwf_api.game_state.TileBuilder;
 import org.sidoh.wwf_api.game_state.WordsWithFriendsBoard;
 import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.types.api.MoveData;
+import org.sidoh.wwf_api.types.api.MoveType;
 import org.sidoh.wwf_api.types.game_state.Letter;
 import org.sidoh.wwf_api.types.game_state.Rack;
 import org.sidoh.wwf_api.types.game_state.Tile;
@@ -28,6 +31,55 @@ public class WwfApiTestCase extends TestCase {
 
   protected static final GameStateHelper stateHelper = GameStateHelper.getInstance();
 
+  /**
+   * The game states in src/test/resources/game_states
+   */
+  protected static final String[] GAME_STATE_FIXTURES = { "4673715966.bin", "4683202983.bin", "4685541559.bin" };
+
+  private final List<File> tempFiles = new ArrayList<File>();
+
+  /**
+   * Deletes the files and directories made by createTempDir and createTempFile. Subclasses that
+   * override this should call it.
+   */
+  @Override
+  protected void tearDown() throws Exception {
+    for (File file : tempFiles) {
+      if (file.isDirectory()) {
+        for (File child : file.listFiles()) {
+          child.delete();
+        }
+      }
+      file.delete();
+    }
+    tempFiles.clear();
+
+    super.tearDown();
+  }
+
+  /**
+   * @return a new, empty directory that's deleted along with its files after the test
+   */
+  protected File createTempDir() {
+    File directory = Files.createTempDir();
+    tempFiles.add(directory);
+
+    return directory;
+  }
+
+  /**
+   * @param prefix
+   * @param suffix
+   * @return a new, empty file that's deleted after the test
+   * @throws IOException
+   */
+  protected File createTempFile(String prefix, String suffix) throws IOException {
+    File file = File.createTempFile(prefix, suffix);
+    tempFiles.add(file);
+
+    return file;
+  }
+
   public static void assertResultEquals(int score, List<String> words, Move.Result result) {
     assertEquals("score should match", score, result.getScore());
     assertEquals("words should match", words, result.getResultingWords());
@@ -125,6 +177,39 @@ public class WwfApiTestCase extends TestCase {
     return ThriftSerializationHelper.getInstance().deserialize(new File(filename), new GameState());
   }
 
+  /**
+   * Rebuild the state a game was in before any moves were made.
+   *
+   * @param state
+   * @return
+   */
+  public static GameState getInitialGameState(GameState state) {
+    GameState initial = state.deepCopy();
+    initial.setAllMoves(new ArrayList<MoveData>());
+    initial.getMeta().setCurrentMoveUserId(initial.getMeta().getCreatedByUserId());
+
+    return new StateReconstructor().reconstructState(initial);
+  }
+
+  /**
+   * Build a Move of any type from MoveData
+   *
+   * @param moveData
+   * @param board the board the move is being made on
+   * @return
+   */
+  public static Move buildGameStateMove(MoveData moveData, WordsWithFriendsBoard board) {
+    if (moveData.getMoveType() == MoveType.PLAY) {
+      return stateHelper.buildGameStateMove(moveData, board);
+    }
+    else if (moveData.getMoveType() == MoveType.SWAP) {
+      return Move.swap(moveData.getTiles());
+    }
+    else {
+      return Move.pass();
+    }
+  }
+
   public static Rack buildRack(String letters) {
     Rack rack = new Rack().setCapacity(7);
 
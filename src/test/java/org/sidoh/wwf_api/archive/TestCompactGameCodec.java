@@ -0,0 +1,70 @@
+package org.sidoh.wwf_api.archive;
+
+import org.apache.thrift.TException;
+import org.sidoh.wwf_api.WwfApiTestCase;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.types.api.MoveData;
+import org.sidoh.wwf_api.util.ThriftSerializationHelper;
+
+import java.io.File;
+import java.io.IOException;
+
+public class TestCompactGameCodec extends WwfApiTestCase {
+  private final CompactGameCodec codec = new CompactGameCodec();
+
+  public void testRoundTrip() throws IOException, TException {
+    ThriftSerializationHelper serializer = ThriftSerializationHelper.getInstance();
+
+    for (String fixture : GAME_STATE_FIXTURES) {
+      GameState state = loadGameState(fixture);
+      byte[] encoded = codec.encode(state);
+
+      assertEquals(fixture, state, codec.decode(encoded));
+      assertTrue(fixture + " should be much smaller than thrift",
+        encoded.length * 4 < serializer.serialize(state).length);
+    }
+  }
+
+  public void testUnusualValuesAreKept() throws IOException, TException {
+    GameState state = loadGameState(GAME_STATE_FIXTURES[0]);
+    MoveData move = state.getAllMoves().get(0);
+
+    // A leading zero is still a valid tile id, but the text can't be rebuilt from the tile ids
+    assertTrue(Character.isDigit(move.getText().charAt(0)));
+    move.setCreatedAt("not a timestamp");
+    move.setText("0" + move.getText());
+    move.getWords().add("notaword");
+    state.getMeta().getLastMove().setPoints(-1);
+
+    GameState decoded = codec.decode(codec.encode(state));
+    assertEquals(move, decoded.getAllMoves().get(0));
+    assertEquals(state.getMeta(), decoded.getMeta());
+  }
+
+  public void testArchiveStoresMoves() throws IOException, TException {
+    File directory = createTempDir();
+    GameState state = loadGameState(GAME_STATE_FIXTURES[1]);
+
+    // Racks that don't match the moves can't be rebuilt, so this one has to be stored as thrift
+    GameState tampered = loadGameState(GAME_STATE_FIXTURES[2]);
+    tampered.getRacks().values().iterator().next().remove(0);
+
+    GameArchiveWriter writer = new GameArchiveWriter(directory,
+      GameArchiveWriter.DEFAULT_MAX_SEGMENT_BYTES,
+      GameArchiveWriter.DEFAULT_INDEX_INTERVAL,
+      GameArchiveWriter.Encoding.MOVES);
+    writer.append(state);
+    writer.append(tampered);
+    writer.close();
+
+    GameArchive archive = new MappedGameArchive(directory);
+    try {
+      assertEquals(state, archive.get(state.getId()));
+      assertEquals(tampered, archive.get(tampered.getId()));
+      assertEquals(state, ThriftSerializationHelper.getInstance().deserialize(archive.getRecord(state.getId()), new GameState()));
+    }
+    finally {
+      archive.close();
+    }
+  }
+}
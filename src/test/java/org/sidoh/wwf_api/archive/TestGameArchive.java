@@ -0,0 +1,111 @@
+package org.sidoh.wwf_api.archive;
+
+import org.apache.thrift.TException;
+import org.sidoh.wwf_api.WwfApiTestCase;
+import org.sidoh.wwf_api.types.api.GameState;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestGameArchive extends WwfApiTestCase {
+  private File directory;
+
+  @Override
+  protected void setUp() {
+    directory = createTempDir();
+  }
+
+  public void testRandomReadsAcrossSegments() throws IOException, TException {
+    List<GameState> states = loadStates(30);
+    GameArchiveWriter writer = new GameArchiveWriter(directory, 8 * 1024, 4);
+
+    for (GameState state : states) {
+      writer.append(state);
+    }
+    writer.close();
+
+    assertTrue("segments should have rolled", ArchiveFormat.listSegments(directory).size() > 1);
+
+    GameArchive archive = new GameArchive(directory);
+    try {
+      assertEquals(states.size(), archive.size());
+
+      for (int i = states.size() - 1; i >= 0; i--) {
+        assertEquals(states.get(i), archive.get(states.get(i).getId()));
+      }
+
+      assertNull(archive.get(1));
+    }
+    finally {
+      archive.close();
+    }
+  }
+
+  public void testLaterCopiesWin() throws IOException, TException {
+    GameState original = loadGameState(GAME_STATE_FIXTURES[0]);
+    GameState updated = original.deepCopy();
+    updated.getMeta().setOver(true);
+
+    GameArchiveWriter writer = new GameArchiveWriter(directory);
+    writer.append(original);
+    writer.close();
+
+    writer = new GameArchiveWriter(directory);
+    writer.append(updated);
+    writer.close();
+
+    GameArchive archive = new GameArchive(directory);
+    try {
+      assertEquals(1, archive.size());
+      assertEquals(updated, archive.get(original.getId()));
+    }
+    finally {
+      archive.close();
+    }
+  }
+
+  public void testRecoversUnsealedSegment() throws IOException, TException {
+    List<GameState> states = loadStates(5);
+    GameArchiveWriter writer = new GameArchiveWriter(directory, GameArchiveWriter.DEFAULT_MAX_SEGMENT_BYTES, 2);
+
+    for (GameState state : states) {
+      writer.append(state);
+    }
+    writer.flush();
+
+    // Simulate a crash partway through writing the last record
+    File segment = ArchiveFormat.listSegments(directory).get(0);
+    RandomAccessFile file = new RandomAccessFile(segment, "rw");
+    file.setLength(file.length() - 10);
+    file.close();
+
+    GameArchive archive = new GameArchive(directory);
+    try {
+      assertEquals(4, archive.size());
+      assertEquals(states.get(3), archive.get(states.get(3).getId()));
+      assertFalse(archive.contains(states.get(4).getId()));
+    }
+    finally {
+      archive.close();
+    }
+  }
+
+  /**
+   * @param count
+   * @return copies of the fixtures with distinct ids
+   */
+  private static List<GameState> loadStates(int count) throws IOException, TException {
+    List<GameState> states = new ArrayList<GameState>();
+
+    for (int i = 0; i < count; i++) {
+      GameState state = loadGameState(GAME_STATE_FIXTURES[i % GAME_STATE_FIXTURES.length]);
+      state.setId(state.getId() + i);
+      states.add(state);
+    }
+
+    return states;
+  }
+}
@@ -0,0 +1,57 @@
+package org.sidoh.wwf_api.archive;
+
+import org.apache.thrift.TException;
+import org.sidoh.wwf_api.WwfApiTestCase;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.util.ThriftSerializationHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class TestMappedGameArchive extends WwfApiTestCase {
+  private File directory;
+
+  @Override
+  protected void setUp() {
+    directory = createTempDir();
+  }
+
+  public void testReadsFromMappedSegments() throws IOException, TException {
+    GameState first = loadGameState("4673715966.bin");
+    GameState second = loadGameState("4683202983.bin");
+
+    GameArchiveWriter writer = new GameArchiveWriter(directory, 1024, 1);
+    writer.append(first);
+    writer.append(second);
+    writer.close();
+
+    MappedGameArchive archive = new MappedGameArchive(directory);
+    try {
+      assertEquals(second, archive.get(second.getId()));
+      assertEquals(first, archive.get(first.getId()));
+      assertNull(archive.get(1));
+
+      byte[] expected = ThriftSerializationHelper.getInstance().serialize(first);
+      assertTrue(Arrays.equals(expected, archive.getRecord(first.getId())));
+    }
+    finally {
+      archive.close();
+    }
+  }
+
+  public void testDeserializeFromBuffer() throws IOException, TException {
+    ThriftSerializationHelper helper = ThriftSerializationHelper.getInstance();
+    GameState state = loadGameState("4685541559.bin");
+    byte[] bytes = helper.serialize(state);
+
+    ByteBuffer heap = ByteBuffer.wrap(bytes);
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes).flip();
+
+    assertEquals(state, helper.deserialize(heap, new GameState()));
+    assertEquals(state, helper.deserialize(direct, new GameState()));
+    assertEquals("the buffer's position shouldn't move", 0, heap.position());
+  }
+}
@@ -0,0 +1,99 @@
+package org.sidoh.wwf_api.archive;
+
+import org.apache.thrift.TException;
+import org.sidoh.wwf_api.WwfApiTestCase;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.types.api.MoveData;
+import org.sidoh.wwf_api.types.api.MoveType;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class TestMoveColumns extends WwfApiTestCase {
+  private File archiveDirectory;
+  private File columnDirectory;
+
+  @Override
+  protected void setUp() {
+    archiveDirectory = createTempDir();
+    columnDirectory = createTempDir();
+  }
+
+  public void testExportArchive() throws IOException, TException {
+    GameArchiveWriter writer = new GameArchiveWriter(archiveDirectory);
+    for (String fixture : GAME_STATE_FIXTURES) {
+      writer.append(loadGameState(fixture));
+    }
+    writer.close();
+
+    GameArchive archive = new GameArchive(archiveDirectory);
+    List<MoveData> moves = new ArrayList<MoveData>();
+    try {
+      for (long gameId : archive.getGameIds()) {
+        moves.addAll(archive.get(gameId).getAllMoves());
+      }
+
+      assertEquals(moves.size(), MoveColumnWriter.export(archive, columnDirectory));
+    }
+    finally {
+      archive.close();
+    }
+
+    MoveColumnReader reader = new MoveColumnReader(columnDirectory);
+    assertEquals(moves.size(), reader.size());
+
+    LongBuffer gameIds = reader.getLongColumn(MoveColumn.GAME_ID);
+    IntBuffer points = reader.getIntColumn(MoveColumn.POINTS);
+    ByteBuffer startX = reader.getByteColumn(MoveColumn.START_X);
+    MoveType[] types = reader.getMoveTypes();
+    long[] counts = reader.countMoveTypes();
+    long[] expectedCounts = new long[counts.length];
+    long totalPoints = 0;
+
+    for (int i = 0; i < moves.size(); i++) {
+      MoveData move = moves.get(i);
+
+      assertEquals(move.getGameId(), gameIds.get(i));
+      assertEquals(move.getPoints(), points.get(i));
+      assertEquals(move.getPlayStartPosition().getX(), startX.get(i));
+      assertEquals(move.getMoveType(), types[i]);
+      assertEquals(move.getWords(), reader.getWords(i));
+
+      totalPoints += move.getPoints();
+      expectedCounts[move.getMoveType().getValue()]++;
+    }
+
+    assertTrue(Arrays.equals(expectedCounts, counts));
+
+    // A scan only needs the one column
+    long scannedPoints = 0;
+    points.rewind();
+    while (points.hasRemaining()) {
+      scannedPoints += points.get();
+    }
+    assertEquals(totalPoints, scannedPoints);
+
+    assertTrue("move types should be run-length encoded", reader.getMoveTypeRuns().remaining() / 2 < moves.size());
+  }
+
+  public void testWrongWidth() throws IOException {
+    new MoveColumnWriter(columnDirectory).close();
+
+    MoveColumnReader reader = new MoveColumnReader(columnDirectory);
+    assertEquals(0, reader.size());
+
+    try {
+      reader.getIntColumn(MoveColumn.GAME_ID);
+      fail("game ids are longs");
+    }
+    catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package org.sidoh.wwf_api.archive;
+
+import org.apache.thrift.TException;
+import org.sidoh.wwf_api.WwfApiTestCase;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.types.api.MoveData;
+import org.sidoh.wwf_api.types.game_state.SlotModifier;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class TestWordIndex extends WwfApiTestCase {
+  private File file;
+
+  @Override
+  protected void setUp() throws IOException {
+    file = createTempFile("words", ".idx");
+  }
+
+  public void testLookups() throws IOException, TException {
+    // Small blocks so that lookups cross block boundaries
+    WordIndexWriter writer = new WordIndexWriter(4);
+    Map<String, List<MoveData>> expected = new TreeMap<String, List<MoveData>>();
+
+    for (String fixture : GAME_STATE_FIXTURES) {
+      GameState state = loadGameState(fixture);
+      writer.add(state);
+
+      for (MoveData move : state.getAllMoves()) {
+        for (String word : move.getWords()) {
+          if (!expected.containsKey(word)) {
+            expected.put(word, new ArrayList<MoveData>());
+          }
+          expected.get(word).add(move);
+        }
+      }
+    }
+
+    writer.write(file);
+    WordIndex index = new WordIndex(file);
+
+    assertEquals(expected.size(), index.size());
+
+    int numOnPremiumSquares = 0;
+    for (Map.Entry<String, List<MoveData>> entry : expected.entrySet()) {
+      WordIndex.WordStats stats = index.getStats(entry.getKey().toUpperCase());
+      List<WordIndex.Posting> postings = index.getPostings(entry.getKey());
+      long totalPoints = 0;
+
+      for (MoveData move : entry.getValue()) {
+        totalPoints += move.getPoints();
+      }
+
+      assertEquals(entry.getValue().size(), stats.getFrequency());
+      assertEquals(totalPoints, stats.getTotalPoints());
+      assertEquals(entry.getValue().size(), postings.size());
+
+      for (WordIndex.Posting posting : postings) {
+        MoveData move = findMove(entry.getValue(), posting.getGameId(), posting.getMoveIndex());
+        assertEquals(move.getPoints(), posting.getPoints());
+      }
+
+      for (SlotModifier modifier : SlotModifier.values()) {
+        numOnPremiumSquares += index.getPostings(entry.getKey(), modifier).size();
+      }
+    }
+
+    assertTrue(numOnPremiumSquares > 0);
+    assertNull(index.getStats("zzzzzz"));
+    assertNull(index.getStats("a"));
+    assertTrue(index.getPostings("zzzzzz").isEmpty());
+
+    String first = expected.keySet().iterator().next();
+    String prefix = first.substring(0, 1);
+    List<WordIndex.WordStats> withPrefix = index.getStatsWithPrefix(prefix);
+    int expectedWithPrefix = 0;
+
+    for (String word : expected.keySet()) {
+      if (word.startsWith(prefix)) {
+        expectedWithPrefix++;
+      }
+    }
+
+    assertEquals(expectedWithPrefix, withPrefix.size());
+    assertEquals(first, withPrefix.get(0).getWord());
+  }
+
+  private static MoveData findMove(List<MoveData> moves, long gameId, int moveIndex) {
+    for (MoveData move : moves) {
+      if (move.getGameId() == gameId && move.getMoveIndex() == moveIndex) {
+        return move;
+      }
+    }
+
+    fail("no move " + moveIndex + " in game " + gameId);
+    return null;
+  }
+}
@@ -0,0 +1,115 @@
+package org.sidoh.wwf_api.game_state;
+
+import org.apache.thrift.TException;
+import org.sidoh.wwf_api.WwfApiTestCase;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.types.api.MoveData;
+import org.sidoh.wwf_api.types.api.MoveType;
+import org.sidoh.wwf_api.types.game_state.Slot;
+import org.sidoh.wwf_api.types.game_state.Tile;
+import org.sidoh.wwf_api.types.game_state.WordOrientation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class TestGameSnapshot extends WwfApiTestCase {
+  public void testMatchesMutableGameState() throws IOException, TException {
+    for (String stateFile : GAME_STATE_FIXTURES) {
+      GameState fixture = loadGameState(stateFile);
+      GameState initial = getInitialGameState(fixture);
+      MutableGameState mutableState = new MutableGameState(initial);
+      GameSnapshot snapshot = GameSnapshot.of(initial);
+
+      for (MoveData moveData : fixture.getAllMoves()) {
+        mutableState.applyMove(buildGameStateMove(moveData, mutableState.getBoard()));
+        snapshot = snapshot.applyMove(buildGameStateMove(moveData, snapshot.toBoard()), moveData);
+      }
+
+      GameState expected = mutableState.toGameState();
+      GameState actual = snapshot.toGameState();
+
+      assertEquals("scores should match", expected.getScores(), actual.getScores());
+      assertEquals("racks should match", expected.getRacks(), actual.getRacks());
+      assertEquals("remaining tiles should match", expected.getRemainingTiles(), actual.getRemainingTiles());
+      assertEquals("boards should match", expected.getBoard(), actual.getBoard());
+      assertEquals("slots shouldn't be attached to a board", Slot.class, actual.getBoard().get(0).getClass());
+      assertEquals("current player should match",
+        expected.getMeta().getCurrentMoveUserId(),
+        actual.getMeta().getCurrentMoveUserId());
+      assertEquals("moves should match", fixture.getAllMoves(), actual.getAllMoves());
+    }
+  }
+
+  public void testPredecessorsAreUnchanged() throws IOException, TException {
+    GameState fixture = loadGameState("4673715966.bin");
+    List<GameSnapshot> snapshots = new ArrayList<GameSnapshot>();
+    List<GameState> expected = new ArrayList<GameState>();
+    GameSnapshot snapshot = GameSnapshot.of(getInitialGameState(fixture));
+
+    for (MoveData moveData : fixture.getAllMoves()) {
+      snapshots.add(snapshot);
+      expected.add(snapshot.toGameState());
+
+      snapshot = snapshot.applyMove(buildGameStateMove(moveData, snapshot.toBoard()), moveData);
+    }
+
+    for (int i = 0; i < snapshots.size(); i++) {
+      GameState actual = snapshots.get(i).toGameState();
+
+      assertEquals("snapshot " + i + " shouldn't change", expected.get(i), actual);
+    }
+  }
+
+  public void testApplyMove() throws IOException, TException {
+    GameState fixture = loadGameState("4673715966.bin");
+    GameSnapshot before = GameSnapshot.of(getInitialGameState(fixture));
+    Move move = buildGameStateMove(fixture.getAllMoves().get(0), before.toBoard());
+    GameSnapshot after = before.applyMove(move);
+
+    assertEquals("should place tiles", move.getTiles().get(0), after.getTile(move.getRow(), move.getCol()));
+    assertNull("predecessor should be empty", before.getTile(move.getRow(), move.getCol()));
+    assertFalse("next player should move", before.getCurrentMoveUserId() == after.getCurrentMoveUserId());
+    assertEquals("tiles should be pulled",
+      before.getNumRemainingTiles() - move.getTiles().size(),
+      after.getNumRemainingTiles());
+  }
+
+  public void testScoresUnscoredPlays() throws IOException, TException {
+    GameState fixture = loadGameState("4683202983.bin");
+    GameSnapshot snapshot = GameSnapshot.of(getInitialGameState(fixture));
+
+    for (MoveData moveData : fixture.getAllMoves()) {
+      Move move = buildGameStateMove(moveData, snapshot.toBoard());
+
+      if (move.getMoveType() == MoveType.PLAY) {
+        Move unscored = Move.play(move.getTiles(), move.getRow(), move.getCol(), move.getOrientation());
+        Move.Result expected = snapshot.toBoard().scoreMove(
+          Move.play(move.getTiles(), move.getRow(), move.getCol(), move.getOrientation()));
+
+        snapshot = snapshot.applyMove(unscored);
+
+        assertEquals("should score like the board", expected.getScore(), unscored.getResult().getScore());
+        assertEquals(expected.getResultingWords(), unscored.getResult().getResultingWords());
+      }
+      else {
+        snapshot = snapshot.applyMove(move);
+      }
+    }
+  }
+
+  public void testPlayOffTheBoardIsRejected() throws IOException, TException {
+    GameSnapshot snapshot = GameSnapshot.of(getInitialGameState(loadGameState("4673715966.bin")));
+    List<Tile> tiles = snapshot.getCurrentPlayerRack().subList(0, 3);
+
+    try {
+      snapshot.applyMove(Move.play(tiles, 7, 13, WordOrientation.HORIZONTAL)
+        .setResult(new Move.Result(0, 0, null, Collections.<String>emptyList())));
+      fail("play runs past the last column");
+    }
+    catch (InvalidGameStateException e) {
+      // expected
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package org.sidoh.wwf_api.game_state;
+
+import org.apache.thrift.TException;
+import org.sidoh.wwf_api.StateReconstructor;
+import org.sidoh.wwf_api.WwfApiTestCase;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.types.api.MoveData;
+import org.sidoh.wwf_api.types.game_state.Tile;
+
+import java.io.IOException;
+
+public class TestMutableGameState extends WwfApiTestCase {
+  public void testMatchesReconstructedState1() throws IOException, TException {
+    assertReplayMatchesReconstruction("4673715966.bin");
+  }
+
+  public void testMatchesReconstructedState2() throws IOException, TException {
+    assertReplayMatchesReconstruction("4683202983.bin");
+  }
+
+  public void testMatchesReconstructedState3() throws IOException, TException {
+    assertReplayMatchesReconstruction("4685541559.bin");
+  }
+
+  public void testCopyIsIndependent() throws IOException, TException {
+    GameState fixture = loadGameState("4673715966.bin");
+    MutableGameState original = new MutableGameState(getInitialGameState(fixture));
+    MutableGameState copy = original.copy();
+
+    MoveData firstMove = fixture.getAllMoves().get(0);
+    copy.applyMove(stateHelper.buildGameStateMove(firstMove, copy.getBoard()));
+
+    assertFalse("copy should have a different current player",
+      original.getCurrentMoveUserId() == copy.getCurrentMoveUserId());
+    assertFalse("original board should be empty", original.getBoard().hasTiles());
+    assertEquals("original bag should be untouched",
+      original.getNumRemainingTiles(),
+      copy.getNumRemainingTiles() + firstMove.getTilesSize());
+  }
+
+  /**
+   * Replays all of the moves in a fixture on a MutableGameState built from the empty game and
+   * checks that the result matches what StateReconstructor computes.
+   */
+  protected void assertReplayMatchesReconstruction(String stateFile) throws IOException, TException {
+    GameState fixture = loadGameState(stateFile);
+    GameState reconstructed = new StateReconstructor().reconstructState(fixture.deepCopy());
+    MutableGameState state = new MutableGameState(getInitialGameState(fixture));
+
+    for (MoveData moveData : fixture.getAllMoves()) {
+      state.applyMove(buildGameStateMove(moveData, state.getBoard()));
+    }
+
+    GameState actual = state.toGameState();
+
+    assertEquals("scores should match", reconstructed.getScores(), actual.getScores());
+    assertEquals("remaining tiles should match", reconstructed.getRemainingTiles(), actual.getRemainingTiles());
+
+    for (Long userId : reconstructed.getRacks().keySet()) {
+      assertEquals("racks should match", reconstructed.getRacks().get(userId), actual.getRacks().get(userId));
+    }
+
+    for (int i = 0; i < reconstructed.getBoardSize(); i++) {
+      Tile expected = reconstructed.getBoard().get(i).getTile();
+      Tile tile = actual.getBoard().get(i).getTile();
+
+      assertEquals("board should match", expected, tile);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package org.sidoh.wwf_api.game_state;
+
+import org.sidoh.wwf_api.WwfApiTestCase;
+import org.sidoh.wwf_api.types.game_state.Tile;
+import org.sidoh.wwf_api.types.game_state.WordOrientation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class TestPlayFinder extends WwfApiTestCase {
+  public void testFirstPlayCoversCenter() {
+    WordsWithFriendsBoard board = new WordsWithFriendsBoard();
+    List<Move> plays = new PlayFinder(board).findPlays(buildRack("CATS").getTiles(), Arrays.asList("cat"));
+
+    assertEquals("should have three placements in each orientation", 6, plays.size());
+
+    for (Move play : plays) {
+      assertEquals("CAT", play.getResult().getMainWord());
+      assertEquals("scores should match the board", board.scoreMove(play.clone()).getScore(), play.getResult().getScore());
+      assertTrue("plays should be ordered by score", play.getResult().getScore() <= plays.get(0).getResult().getScore());
+    }
+  }
+
+  public void testBuildsOffExistingTiles() {
+    WordsWithFriendsBoard board = new WordsWithFriendsBoard();
+    playInitialWord(board, "CAT", WordOrientation.HORIZONTAL);
+
+    List<Move> plays = new PlayFinder(board).findPlays(buildRack("AR*").getTiles(), Arrays.asList("CART", "CAT"));
+    Move play = null;
+
+    for (Move candidate : plays) {
+      if (candidate.getCol() == 7 && "CART".equals(candidate.getResult().getMainWord())) {
+        play = candidate;
+      }
+    }
+
+    assertNotNull("should find CART down from the C", play);
+    assertEquals(WordOrientation.VERTICAL, play.getOrientation());
+    assertEquals("play should start after the existing C", 8, play.getRow());
+    assertEquals(7, play.getCol());
+    assertEquals("CART", play.getResult().getMainWord());
+
+    Tile blank = play.getTiles().get(2);
+    assertEquals("blank should be assigned the missing letter", "T", blank.getLetter().getValue());
+    assertEquals(0, blank.getValue());
+  }
+
+  public void testNoPlaysWithoutTiles() {
+    WordsWithFriendsBoard board = new WordsWithFriendsBoard();
+    playInitialWord(board, "CAT", WordOrientation.HORIZONTAL);
+
+    List<Move> plays = new PlayFinder(board).findPlays(Collections.<Tile>emptyList(), Arrays.asList("CAT", "AT"));
+
+    assertTrue("words already on the board aren't plays", plays.isEmpty());
+  }
+}
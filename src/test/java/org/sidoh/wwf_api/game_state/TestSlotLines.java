@@ -0,0 +1,38 @@
+package org.sidoh.wwf_api.game_state;
+
+import org.sidoh.wwf_api.WwfApiTestCase;
+import org.sidoh.wwf_api.types.game_state.WordOrientation;
+
+public class TestSlotLines extends WwfApiTestCase {
+  private static final int DIMENSIONS = WordsWithFriendsBoard.DIMENSIONS;
+
+  public void testMatchesSlotIterator() {
+    SlotLines lines = WordsWithFriendsBoard.LINES;
+
+    for (WordOrientation orientation : WordOrientation.values()) {
+      for (Direction dir : Direction.values()) {
+        for (int index = 0; index < DIMENSIONS * DIMENSIONS; index++) {
+          int current = index;
+
+          for (Integer expected : new SlotIterator(index, DIMENSIONS, DIMENSIONS, orientation, dir)) {
+            assertEquals("should visit the same slots as SlotIterator", expected.intValue(), current);
+            current = lines.step(current, dir, orientation);
+          }
+
+          assertEquals("should stop at the edge of the board", SlotLines.NONE, current);
+        }
+      }
+    }
+  }
+
+  public void testRowsAndCols() {
+    for (int row = 0; row < DIMENSIONS; row++) {
+      for (int col = 0; col < DIMENSIONS; col++) {
+        int index = WordsWithFriendsBoard.getIndexFromRowAndCol(row, col);
+
+        assertEquals("row should match", row, WordsWithFriendsBoard.getRowFromIndex(index));
+        assertEquals("col should match", col, WordsWithFriendsBoard.getColFromIndex(index));
+      }
+    }
+  }
+}
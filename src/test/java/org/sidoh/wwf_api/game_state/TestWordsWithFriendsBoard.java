@@ -1,11 +1,15 @@
 package org.sidoh.wwf_api.game_state;
 
 import org.apache.thrift.TException;
+import org.sidoh.wwf_api.StateReconstructor;
 import org.sidoh.wwf_api.WwfApiTestCase;
+import org.sidoh.wwf_api.metrics.NoopMetricsRecorder;
 import org.sidoh.wwf_api.types.api.GameState;
 import org.sidoh.wwf_api.types.api.MoveData;
 import org.sidoh.wwf_api.types.api.MoveType;
+import org.sidoh.wwf_api.types.game_state.BoardStorage;
 import org.sidoh.wwf_api.types.game_state.Letter;
+import org.sidoh.wwf_api.types.game_state.Slot;
 import org.sidoh.wwf_api.types.game_state.SlotModifier;
 import org.sidoh.wwf_api.types.game_state.Tile;
 import org.sidoh.wwf_api.types.game_state.WordOrientation;
@@ -121,6 +125,124 @@ public class TestWordsWithFriendsBoard extends WwfApiTestCase {
     assertGameStateHasConsistentScores("4685541559.bin");
   }
 
+  public void testAnchorMasks() throws IOException, TException {
+    GameState state = loadGameState("4673715966.bin");
+    WordsWithFriendsBoard board = new WordsWithFriendsBoard();
+
+    assertEquals("empty board shouldn't have anchors", 0, board.getAnchorMasks()[7]);
+
+    for (MoveData moveData : state.getAllMoves()) {
+      if (moveData.getMoveType() == MoveType.PLAY) {
+        board.move(stateHelper.buildGameStateMove(moveData, board));
+      }
+
+      int[] anchors = board.getAnchorMasks();
+
+      for (int row = 0; row < WordsWithFriendsBoard.DIMENSIONS; row++) {
+        for (int col = 0; col < WordsWithFriendsBoard.DIMENSIONS; col++) {
+          boolean expected = board.getSlot(row, col).getTile() == null
+            && board.getAdjacentSlots(row, col).hasAnyTouching();
+
+          assertEquals("anchor mask should match adjacent slots", expected, (anchors[row] & (1 << col)) != 0);
+        }
+      }
+    }
+
+    // Occupancy follows tiles removed from slots and carries over to copies
+    board.getSlot(7, 7).unsetTile();
+    WordsWithFriendsBoard copy = board.clone();
+
+    for (WordsWithFriendsBoard b : Arrays.asList(board, copy, new WordsWithFriendsBoard(board.getStorage()))) {
+      assertEquals(0, b.getRowOccupancy(7) & (1 << 7));
+      assertTrue(b.hasTiles());
+
+      for (int row = 0; row < WordsWithFriendsBoard.DIMENSIONS; row++) {
+        for (int col = 0; col < WordsWithFriendsBoard.DIMENSIONS; col++) {
+          assertEquals("occupancy should match slots",
+            b.getSlot(row, col).getTile() != null, (b.getRowOccupancy(row) & (1 << col)) != 0);
+        }
+      }
+    }
+  }
+
+  public void testChecksum() throws IOException, TException {
+    assertChecksumsMatch("4673715966.bin");
+    assertChecksumsMatch("4683202983.bin");
+    assertChecksumsMatch("4685541559.bin");
+  }
+
+  public void testChecksumFollowsSlotChanges() throws IOException, TException {
+    GameState state = loadGameState("4673715966.bin");
+    WordsWithFriendsBoard board = new WordsWithFriendsBoard();
+    BoardStorage storage = new BoardStorage(state.getBoard());
+
+    // Fill the board the way callers did before placeTile existed
+    for (int i = 0; i < storage.getSlotsSize(); i++) {
+      board.getSlot(i).setTile(storage.getSlots().get(i).getTile());
+    }
+
+    assertEquals("checksum should see tiles set on slots", board.computeChecksum(), board.getChecksum());
+    assertEquals(state.getAllMoves().get(state.getAllMovesSize() - 1).getBoardChecksum(), board.getChecksum());
+
+    WordsWithFriendsBoard copy = new WordsWithFriendsBoard(storage);
+    storage.getSlots().get(112).unsetTile();
+    storage.getSlots().get(0).setTile(storage.getSlots().get(1).getTile());
+
+    assertEquals("board should be independent of the storage it was built from", board.getChecksum(), copy.getChecksum());
+    assertEquals(copy.computeChecksum(), copy.getChecksum());
+
+    copy.getSlot(112).unsetTile();
+    copy.getSlot(7, 8).setFieldValue(Slot._Fields.TILE, null);
+    copy.getStorage().getSlots().get(0).clear();
+
+    assertEquals("checksum should see tiles removed from slots", copy.computeChecksum(), copy.getChecksum());
+    assertFalse(board.getChecksum() == copy.getChecksum());
+  }
+
+  public void testReconstructionValidatesChecksums() throws IOException, TException {
+    GameState state = loadGameState("4683202983.bin");
+    StateReconstructor validating = new StateReconstructor(NoopMetricsRecorder.getInstance(), true);
+
+    validating.reconstructState(state.deepCopy());
+
+    GameState desynced = state.deepCopy();
+    MoveData move = desynced.getAllMoves().get(3);
+    move.setBoardChecksum(move.getBoardChecksum() + 1);
+
+    new StateReconstructor().reconstructState(desynced.deepCopy());
+
+    try {
+      validating.reconstructState(desynced);
+      fail("should've noticed that the checksums don't match");
+    }
+    catch (InvalidGameStateException e) {
+      // expected
+    }
+  }
+
+  /**
+   * Replays a game and checks the board's checksum against the one recorded with each move
+   */
+  protected void assertChecksumsMatch(String stateFile) throws IOException, TException {
+    GameState state = loadGameState(stateFile);
+    WordsWithFriendsBoard board = new WordsWithFriendsBoard();
+
+    assertEquals("empty board checksum should be up to date", board.computeChecksum(), board.getChecksum());
+
+    for (MoveData moveData : state.getAllMoves()) {
+      if (moveData.getMoveType() == MoveType.PLAY) {
+        board.move(stateHelper.buildGameStateMove(moveData, board));
+      }
+
+      assertEquals("checksum should be up to date", board.computeChecksum(), board.getChecksum());
+      assertEquals("checksum should match the server's", moveData.getBoardChecksum(), board.getChecksum());
+    }
+
+    assertEquals("copies should have the same checksum", board.getChecksum(), board.clone().getChecksum());
+    assertEquals("boards built from storage should have the same checksum",
+      board.getChecksum(), new WordsWithFriendsBoard(board.getStorage()).getChecksum());
+  }
+
   protected void assertGameStateHasConsistentScores(String stateFile) throws IOException, TException {
     GameState state = loadGameState(stateFile);
     WordsWithFriendsBoard board = new WordsWithFriendsBoard();
@@ -0,0 +1,54 @@
+package org.sidoh.wwf_api.metrics;
+
+import com.google.common.io.ByteStreams;
+import org.sidoh.wwf_api.WwfApiTestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+public class TestHistogramMetricsRecorder extends WwfApiTestCase {
+  public void testBucketsCoverValues() {
+    Random random = new Random(0);
+
+    for (int i = 0; i < 10000; i++) {
+      long value = Math.abs(random.nextLong()) >>> random.nextInt(63);
+      int index = Histogram.getBucketIndex(value);
+
+      assertTrue("value should be within its bucket", value <= Histogram.getBucketUpperBound(index));
+      assertTrue("bucket should be within 12.5% of value",
+        Histogram.getBucketUpperBound(index) - value <= value / 8);
+      assertTrue("value should be above the previous bucket",
+        index == 0 || value > Histogram.getBucketUpperBound(index - 1));
+    }
+  }
+
+  public void testPercentiles() {
+    Histogram histogram = new Histogram();
+
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i);
+    }
+
+    assertEquals(1000, histogram.getCount());
+    assertEquals(1, histogram.getMin());
+    assertEquals(1000, histogram.getMax());
+    assertEquals(500.5, histogram.getMean(), 0.001);
+    assertEquals(500, histogram.getValueAtPercentile(50), 500 / 8);
+    assertEquals(990, histogram.getValueAtPercentile(99), 990 / 8);
+    assertEquals(1000, histogram.getValueAtPercentile(100));
+  }
+
+  public void testMeteredInputStream() throws IOException {
+    HistogramMetricsRecorder metrics = new HistogramMetricsRecorder();
+    InputStream stream = new MeteredInputStream(new ByteArrayInputStream(new byte[1234]), metrics, "test", System.nanoTime());
+
+    ByteStreams.toByteArray(stream);
+    stream.close();
+
+    assertEquals("should record once", 1, metrics.getTimings("test").getCount());
+    assertEquals("should count bytes", 1234, metrics.getByteCount("test"));
+    assertEquals("shouldn't record errors", 0, metrics.getErrorCount("test"));
+  }
+}
@@ -0,0 +1,108 @@
+package org.sidoh.wwf_api.parser;
+
+import com.google.common.base.Charsets;
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+import net.minidev.json.JSONValue;
+import org.sidoh.wwf_api.WwfApiTestCase;
+import org.sidoh.wwf_api.metrics.MetricsRecorder;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+public class TestUtf8JsonParser extends WwfApiTestCase {
+  private static Object parse(String json) {
+    return Utf8JsonParser.parse(ByteBuffer.wrap(json.getBytes(Charsets.UTF_8)));
+  }
+
+  public void testMatchesJsonSmart() {
+    String json = "{\"game\": {\"id\": 4673715966, \"is_over\": false, \"opponent_present\": true, " +
+      "\"moves\": [{\"text\": \"caf\\u00e9 \\\"quoted\\\"\\n\", \"points\": 12, \"promoted\": null}], " +
+      "\"ratio\": 1.5, \"big\": 99999999999999999999, \"negative\": -5, \"name\": \"Zo\u00eb \ud83d\ude00\"}}";
+
+    assertEquals(JSONValue.parse(json), parse(json));
+  }
+
+  public void testNumberTypes() {
+    JSONArray array = (JSONArray) parse("[1, -2147483648, 2147483648, 99999999999999999999, 1.0, 2e3, -0]");
+
+    assertEquals(Integer.valueOf(1), array.get(0));
+    assertEquals(Integer.valueOf(Integer.MIN_VALUE), array.get(1));
+    assertEquals(Long.valueOf(2147483648L), array.get(2));
+    assertEquals(new BigInteger("99999999999999999999"), array.get(3));
+    assertEquals(Double.valueOf(1.0), array.get(4));
+    assertEquals(Double.valueOf(2000.0), array.get(5));
+    assertEquals(Integer.valueOf(0), array.get(6));
+  }
+
+  public void testMultibyteCharactersAcrossEscapes() {
+    JSONObject object = (JSONObject) parse("{\"message\": \"\u00e9\\t\u65e5\u672c\\u0041\ud83d\ude00\"}");
+
+    assertEquals("\u00e9\t\u65e5\u672cA\ud83d\ude00", object.get("message"));
+  }
+
+  public void testRejectsInvalidJson() {
+    String[] invalid = { "", "{", "[1,]", "{\"a\" 1}", "\"unterminated", "tru", "[1] 2", "{\"a\": -}" };
+
+    for (String json : invalid) {
+      try {
+        parse(json);
+        fail("should have rejected " + json);
+      }
+      catch (ParserException e) {
+        // expected
+      }
+    }
+  }
+
+  public void testPoolGrowsAndReusesBuffers() throws IOException {
+    ByteBufferPool pool = new ByteBufferPool(1, 4, 64);
+    byte[] data = "[\"a response longer than four bytes\"]".getBytes(Charsets.UTF_8);
+
+    ByteBuffer buffer = pool.readFully(new ByteArrayInputStream(data));
+    assertEquals(data.length, buffer.remaining());
+    assertEquals("a response longer than four bytes", ((JSONArray) Utf8JsonParser.parse(buffer)).get(0));
+
+    pool.release(buffer);
+    assertSame("buffers should be reused", buffer, pool.acquire());
+  }
+
+  public void testParseTimeExcludesReading() {
+    final long[] parseNanos = new long[1];
+    ResponseParser parser = new ResponseParser(new MetricsRecorder() {
+      @Override
+      public void recordTime(String name, long durationNanos) {
+        parseNanos[0] = durationNanos;
+      }
+
+      @Override
+      public void recordError(String name) {
+      }
+
+      @Override
+      public void recordBytes(String name, long bytes) {
+      }
+    });
+
+    // Stands in for a response that's still coming over the network
+    InputStream slow = new FilterInputStream(new ByteArrayInputStream("[]".getBytes(Charsets.UTF_8))) {
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        try {
+          Thread.sleep(100);
+        }
+        catch (InterruptedException e) {
+          throw new IOException(e);
+        }
+        return super.read(b, off, len);
+      }
+    };
+
+    assertTrue(parser.parseDictionaryLookupResponse(slow).isEmpty());
+    assertTrue("parse time shouldn't include reading the response", parseNanos[0] < 100 * 1000 * 1000);
+  }
+}
@@ -0,0 +1,88 @@
+package org.sidoh.wwf_api.polling;
+
+import org.sidoh.wwf_api.WwfApiTestCase;
+import org.sidoh.wwf_api.game_state.GameStateHelper;
+import org.sidoh.wwf_api.types.api.GameMeta;
+import org.sidoh.wwf_api.types.api.MoveData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class TestActivityPollPolicy extends WwfApiTestCase {
+  private static final long ME = 1;
+  private static final long OPPONENT = 2;
+
+  private final ActivityPollPolicy policy = new ActivityPollPolicy(1000, 60000, 0.1);
+
+  public void testChangesPollQuickly() {
+    assertEquals(1000, policy.getDelayMillis(ME, Collections.<GameMeta>emptyList(), true));
+  }
+
+  public void testGamesWaitingOnUsDontMatter() {
+    GameMeta meta = buildGame(ME, false, 5);
+
+    assertEquals(60000, policy.getDelayMillis(ME, Collections.singletonList(meta), false));
+  }
+
+  public void testPresentOpponentPollsQuickly() {
+    GameMeta meta = buildGame(OPPONENT, true, 3600);
+
+    assertEquals(1000, policy.getDelayMillis(ME, Collections.singletonList(meta), false));
+  }
+
+  public void testDelayScalesWithIdleTime() {
+    GameMeta recent = buildGame(OPPONENT, false, 100);
+    GameMeta old = buildGame(OPPONENT, false, 100000);
+
+    long delay = policy.getDelayMillis(ME, Arrays.asList(old, recent), false);
+
+    assertTrue("delay should be about a tenth of the most recent game's idle time: " + delay,
+      delay >= 9000 && delay <= 11000);
+    assertEquals("old games should be capped", 60000, policy.getDelayMillis(ME, Collections.singletonList(old), false));
+  }
+
+  public void testConcurrentPolicies() throws Exception {
+    final List<GameMeta> games = new ArrayList<GameMeta>();
+    for (int i = 0; i < 20; i++) {
+      games.add(buildGame(OPPONENT, false, 100 + i * 1000));
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Future<Long>> delays = new ArrayList<Future<Long>>();
+
+    try {
+      for (int i = 0; i < 200; i++) {
+        delays.add(executor.submit(new Callable<Long>() {
+          @Override
+          public Long call() {
+            return policy.getDelayMillis(ME, games, false);
+          }
+        }));
+      }
+
+      for (Future<Long> delay : delays) {
+        assertTrue("concurrent timestamp parsing should agree: " + delay.get(), delay.get() >= 9000 && delay.get() <= 11000);
+      }
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  private static GameMeta buildGame(long currentMoveUserId, boolean opponentPresent, int secondsSinceLastMove) {
+    String timestamp = GameStateHelper.getTimestampDateFormat().format(
+      new Date(System.currentTimeMillis() - secondsSinceLastMove * 1000L));
+
+    return new GameMeta()
+      .setCurrentMoveUserId(currentMoveUserId)
+      .setOpponentPresent(opponentPresent)
+      .setLastMove(new MoveData().setCreatedAt(timestamp));
+  }
+}
@@ -0,0 +1,130 @@
+package org.sidoh.wwf_api.polling;
+
+import org.sidoh.wwf_api.ApiProvider;
+import org.sidoh.wwf_api.StatefulApiProvider;
+import org.sidoh.wwf_api.WwfApiTestCase;
+import org.sidoh.wwf_api.types.api.GameIndex;
+import org.sidoh.wwf_api.types.api.GameMeta;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestPollScheduler extends WwfApiTestCase {
+  /**
+   * Tracks how many polls are in flight at once
+   */
+  private static class SlowApiProvider extends ApiProvider {
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private final CountDownLatch polls;
+
+    public SlowApiProvider(int expectedPolls) {
+      this.polls = new CountDownLatch(expectedPolls);
+    }
+
+    @Override
+    public GameIndex getGameIndex(String accessToken) {
+      int now = active.incrementAndGet();
+
+      while (true) {
+        int max = maxActive.get();
+        if (now <= max || maxActive.compareAndSet(max, now)) {
+          break;
+        }
+      }
+
+      try {
+        Thread.sleep(20);
+      }
+      catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+
+      active.decrementAndGet();
+      polls.countDown();
+
+      return new GameIndex().setGames(Collections.singletonList(new GameMeta().setId(1)));
+    }
+
+    @Override
+    public GameIndex getGamesWithUpdates(String accessToken, int timestamp) {
+      return getGameIndex(accessToken);
+    }
+  }
+
+  private static final PollListener NOOP_LISTENER = new PollListener() {
+    @Override
+    public void onPoll(PollScheduler.Account account, List<GameMeta> changed) {
+    }
+  };
+
+  /**
+   * Always waits the same amount of time
+   */
+  private static PollPolicy fixedDelay(final long delayMillis) {
+    return new PollPolicy() {
+      @Override
+      public long getDelayMillis(long userId, Collection<GameMeta> games, boolean changed) {
+        return delayMillis;
+      }
+    };
+  }
+
+  public void testLimitsConcurrentPollsPerHost() throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    SlowApiProvider upstream = new SlowApiProvider(16);
+    PollScheduler scheduler = new PollScheduler(executor, fixedDelay(1), 2, 0, new Random(0));
+
+    try {
+      scheduler.start();
+
+      for (int i = 0; i < 8; i++) {
+        scheduler.register(new StatefulApiProvider("token" + i, upstream), NOOP_LISTENER);
+      }
+
+      assertTrue("polls should happen", upstream.polls.await(10, TimeUnit.SECONDS));
+      assertEquals("no more than two polls should run at once", 2, upstream.maxActive.get());
+    }
+    finally {
+      scheduler.shutdown();
+      executor.shutdownNow();
+    }
+  }
+
+  public void testReportsOnlyChangedGames() throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(1);
+    SlowApiProvider upstream = new SlowApiProvider(0);
+    PollScheduler scheduler = new PollScheduler(executor, fixedDelay(1), 1);
+    final CountDownLatch polls = new CountDownLatch(3);
+    final AtomicInteger changes = new AtomicInteger();
+
+    try {
+      scheduler.start();
+      PollScheduler.Account account = scheduler.register(new StatefulApiProvider("a", upstream), new PollListener() {
+        @Override
+        public void onPoll(PollScheduler.Account account, List<GameMeta> changed) {
+          changes.addAndGet(changed.size());
+          polls.countDown();
+        }
+      });
+
+      assertTrue(polls.await(10, TimeUnit.SECONDS));
+      assertEquals("the same game keeps coming back unchanged", 0, changes.get());
+      assertEquals(1, account.getGames().size());
+
+      scheduler.unregister(account);
+      assertEquals(0, scheduler.getNumAccounts());
+    }
+    finally {
+      scheduler.shutdown();
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package org.sidoh.wwf_api.ratelimit;
+
+import com.google.common.base.Ticker;
+import org.sidoh.wwf_api.WwfApiTestCase;
+
+import java.util.concurrent.TimeUnit;
+
+public class TestTokenBucket extends WwfApiTestCase {
+  private static class FakeTicker extends Ticker {
+    private long nanos = 0;
+
+    @Override
+    public long read() {
+      return nanos;
+    }
+
+    public void advance(long millis) {
+      nanos += TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+  }
+
+  public void testBurstThenSteadyRate() {
+    FakeTicker ticker = new FakeTicker();
+    TokenBucket bucket = new TokenBucket(10, 3, ticker);
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals("a full bucket allows a burst", 0, bucket.reserve());
+    }
+
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(100), bucket.reserve());
+    assertEquals("waiting requests queue up behind each other", TimeUnit.MILLISECONDS.toNanos(200), bucket.reserve());
+
+    ticker.advance(200);
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(100), bucket.reserve());
+  }
+
+  public void testRefillIsCapped() {
+    FakeTicker ticker = new FakeTicker();
+    TokenBucket bucket = new TokenBucket(10, 2, ticker);
+
+    ticker.advance(60000);
+
+    assertEquals(0, bucket.reserve());
+    assertEquals(0, bucket.reserve());
+    assertTrue("the bucket can't hold more than its capacity", bucket.reserve() > 0);
+  }
+
+  public void testLimiterUsesBothBuckets() {
+    FakeTicker ticker = new FakeTicker();
+    RequestRateLimiter limiter = new RequestRateLimiter(1, 1, 100, 2, ticker);
+
+    assertEquals(0, limiter.reserve("host", "a"));
+    assertTrue("second request for a token waits for the token's bucket", limiter.reserve("host", "a") > 0);
+    assertTrue("the host's burst is used up", limiter.reserve("host", "b") > 0);
+    assertEquals(0, RequestRateLimiter.UNLIMITED.reserve("host", "a"));
+  }
+}
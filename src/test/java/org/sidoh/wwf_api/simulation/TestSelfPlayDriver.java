@@ -0,0 +1,100 @@
+package org.sidoh.wwf_api.simulation;
+
+import org.sidoh.wwf_api.StateReconstructor;
+import org.sidoh.wwf_api.WwfApiTestCase;
+import org.sidoh.wwf_api.types.api.GameState;
+import org.sidoh.wwf_api.types.api.MoveData;
+import org.sidoh.wwf_api.types.game_state.Slot;
+import org.sidoh.wwf_api.types.game_state.Tile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestSelfPlayDriver extends WwfApiTestCase {
+  private final SelfPlayDriver driver = new SelfPlayDriver(new RandomPlacementPolicy(), new RandomPlacementPolicy());
+
+  public void testGamesFinish() {
+    for (long seed = 0; seed < 20; seed++) {
+      GameState state = driver.playGame(seed);
+
+      assertTrue("game should be over", state.getMeta().isOver());
+      assertTrue("game should have moves", state.getAllMovesSize() > 0);
+    }
+  }
+
+  public void testDeterministic() {
+    GameState state1 = driver.playGame(1234);
+    GameState state2 = driver.playGame(1234);
+
+    assertEquals("same seed should produce the same game", state1, state2);
+    assertEquals("same seed should produce the same number of moves", state1.getAllMovesSize(), state2.getAllMovesSize());
+    assertEquals("same seed should produce the same scores", state1.getScores(), state2.getScores());
+
+    for (int i = 0; i < state1.getAllMovesSize(); i++) {
+      assertEquals("same seed should produce the same moves",
+        state1.getAllMoves().get(i).getText(),
+        state2.getAllMoves().get(i).getText());
+    }
+  }
+
+  public void testGamesAreReconstructable() {
+    for (long seed = 100; seed < 120; seed++) {
+      GameState played = driver.playGame(seed);
+      GameState stripped = played.deepCopy();
+
+      stripped.unsetRacks();
+      stripped.unsetBoard();
+      stripped.unsetScores();
+      stripped.unsetRemainingTiles();
+
+      for (MoveData move : stripped.getAllMoves()) {
+        move.unsetTiles();
+      }
+
+      GameState reconstructed = new StateReconstructor().reconstructState(stripped);
+
+      assertEquals("scores should match", played.getScores(), reconstructed.getScores());
+      assertEquals("remaining tiles should match", played.getRemainingTiles(), reconstructed.getRemainingTiles());
+
+      for (Long userId : played.getRacks().keySet()) {
+        assertEquals("racks should match",
+          tileIds(played.getRacks().get(userId)),
+          tileIds(reconstructed.getRacks().get(userId)));
+      }
+
+      for (int i = 0; i < played.getBoardSize(); i++) {
+        Slot expected = played.getBoard().get(i);
+        Slot actual = reconstructed.getBoard().get(i);
+
+        assertEquals("board should match", expected.getTile(), actual.getTile());
+      }
+    }
+  }
+
+  public void testPlayGamesInParallel() {
+    final AtomicInteger numGames = new AtomicInteger();
+
+    driver.playGames(0, 50, 4, new SelfPlayDriver.GameListener() {
+      @Override
+      public void gameFinished(GameState state) {
+        numGames.incrementAndGet();
+      }
+    });
+
+    assertEquals("should've played all of the games", 50, numGames.get());
+  }
+
+  private static List<Integer> tileIds(List<Tile> tiles) {
+    List<Integer> ids = new ArrayList<Integer>();
+
+    for (Tile tile : tiles) {
+      ids.add(tile.getId());
+    }
+
+    Collections.sort(ids);
+
+    return ids;
+  }
+}
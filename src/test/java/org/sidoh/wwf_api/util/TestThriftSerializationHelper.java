@@ -0,0 +1,74 @@
+package org.sidoh.wwf_api.util;
+
+import org.apache.thrift.TException;
+import org.sidoh.wwf_api.WwfApiTestCase;
+import org.sidoh.wwf_api.types.api.GameState;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class TestThriftSerializationHelper extends WwfApiTestCase {
+  private static final int ROUND_TRIPS_PER_THREAD = 50;
+
+  private final ThriftSerializationHelper helper = ThriftSerializationHelper.getInstance();
+
+  public void testStreamingMatchesBytes() throws IOException, TException {
+    GameState state = loadGameState(GAME_STATE_FIXTURES[0]);
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+    helper.serialize(state, stream);
+
+    assertTrue(Arrays.equals(helper.serialize(state), stream.toByteArray()));
+    assertEquals(state, helper.deserialize(stream.toByteArray(), new GameState()));
+  }
+
+  /**
+   * Every thread round trips the fixtures over and over without any locking. Throughput is
+   * measured by SerializationBenchmark in the benchmarks module.
+   */
+  public void testConcurrentRoundTrips() throws Exception {
+    final List<GameState> states = new ArrayList<GameState>();
+    for (String fixture : GAME_STATE_FIXTURES) {
+      states.add(loadGameState(fixture));
+    }
+
+    int numThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+
+    try {
+      for (int i = 0; i < numThreads; i++) {
+        results.add(executor.submit(new Callable<Integer>() {
+          @Override
+          public Integer call() throws TException {
+            int mismatches = 0;
+
+            for (int j = 0; j < ROUND_TRIPS_PER_THREAD; j++) {
+              GameState state = states.get(j % states.size());
+
+              if (!state.equals(helper.deserialize(helper.serialize(state), new GameState()))) {
+                mismatches++;
+              }
+            }
+
+            return mismatches;
+          }
+        }));
+      }
+
+      for (Future<Integer> result : results) {
+        assertEquals(0, result.get().intValue());
+      }
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+}